@@ -0,0 +1,41 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the shaded {@code benchmarks.jar}: JMH's own command line, with the GC profiler
+ * always attached so every result carries its allocation rate ({@code gc.alloc.rate.norm}) beside
+ * throughput and the sampled latency percentiles. Any JMH option passes through — a suite regex,
+ * {@code -p members=1000} to pin one scale, {@code -rf json} for a machine-readable report.
+ */
+public final class BenchmarkMain {
+  private BenchmarkMain() {}
+
+  /**
+   * Runs the selected suites.
+   *
+   * @param args JMH command-line options
+   * @throws CommandLineOptionException if an option is malformed
+   * @throws RunnerException if a benchmark fails to run
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
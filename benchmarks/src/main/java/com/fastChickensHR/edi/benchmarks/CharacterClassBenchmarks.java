@@ -0,0 +1,98 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import com.fastChickensHR.edi.x834.spec.CharacterClass;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link CharacterClass#firstViolation} over {@link SyntheticData#nameAndAddressValues}: upper-case
+ * as they are for {@code BASIC}, and in mixed case for {@code EXTENDED}, so every value is clean
+ * and scanned to its end. Each benchmark runs in a JVM of its own: {@code scalar} in a default one,
+ * {@code vector} in one started with {@code --add-modules=jdk.incubator.vector}, where the vector
+ * scan is chosen.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CharacterClassBenchmarks {
+
+  /** The character set the values are checked against. */
+  @Param({"BASIC", "EXTENDED"})
+  public CharacterClass characterClass;
+
+  /** How many members' values are checked per operation. */
+  @Param({"1000"})
+  public int members;
+
+  private List<String> values;
+
+  /** Creates the suite; JMH instantiates it once per trial. */
+  public CharacterClassBenchmarks() {}
+
+  /** Synthesizes the values, outside the measured region. */
+  @Setup
+  public void setUp() {
+    List<String> upperCase = SyntheticData.nameAndAddressValues(members);
+    values =
+        characterClass == CharacterClass.BASIC
+            ? upperCase
+            : upperCase.stream().map(CharacterClassBenchmarks::mixedCase).toList();
+  }
+
+  private static String mixedCase(String value) {
+    return value.isEmpty() ? value : value.charAt(0) + value.substring(1).toLowerCase(Locale.ROOT);
+  }
+
+  /**
+   * Checks every value with the scalar table scan.
+   *
+   * @return how many values have a violation — zero — so the scans are not dead code
+   */
+  @Benchmark
+  public int scalar() {
+    return check();
+  }
+
+  /**
+   * Checks every value with the vector scan.
+   *
+   * @return how many values have a violation — zero — so the scans are not dead code
+   */
+  @Benchmark
+  @Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+  public int vector() {
+    return check();
+  }
+
+  private int check() {
+    int violations = 0;
+    for (String value : values) {
+      if (characterClass.firstViolation(value).isPresent()) {
+        violations++;
+      }
+    }
+    return violations;
+  }
+}
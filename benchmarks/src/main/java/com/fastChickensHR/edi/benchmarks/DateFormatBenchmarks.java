@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import com.fastChickensHR.edi.x834.dates.DateFormat;
+import com.fastChickensHR.edi.x834.dates.TimeFormat;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link DateFormat#format} and {@link TimeFormat#format} over one distinct date-time per member,
+ * as 834 generation calls them for every birth, coverage and change date. {@code D8} and {@code
+ * TIME} are the formats a generated document uses; {@code RD5} and {@code TIME_WITH_SECONDS} stand
+ * for the rest, which render through a {@code DateTimeFormatter}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DateFormatBenchmarks {
+
+  /** Creates the suite; JMH instantiates it once per trial. */
+  public DateFormatBenchmarks() {}
+
+  /** The date-times to render, one per member. */
+  @State(Scope.Benchmark)
+  public static class Members {
+
+    /** How many date-times are formatted per operation. */
+    @Param({"1000"})
+    public int members;
+
+    LocalDateTime[] dateTimes;
+
+    /** Creates the state; JMH instantiates it once per trial. */
+    public Members() {}
+
+    /** Spreads the date-times over a few decades, minute by minute, outside the measured region. */
+    @Setup
+    public void setUp() {
+      LocalDateTime start = LocalDateTime.of(1950, 1, 1, 0, 0);
+      dateTimes = new LocalDateTime[members];
+      for (int i = 0; i < members; i++) {
+        dateTimes[i] = start.plusDays(i * 17L).plusMinutes(i * 7L);
+      }
+    }
+  }
+
+  /** The date format {@link #date} renders in. */
+  @State(Scope.Benchmark)
+  public static class Dates {
+
+    /** The date format each date-time is rendered in. */
+    @Param({"D8", "RD5"})
+    public DateFormat dateFormat;
+
+    /** Creates the state; JMH instantiates it once per trial. */
+    public Dates() {}
+  }
+
+  /** The time format {@link #time} renders in. */
+  @State(Scope.Benchmark)
+  public static class Times {
+
+    /** The time format each date-time is rendered in. */
+    @Param({"TIME", "TIME_WITH_SECONDS"})
+    public TimeFormat timeFormat;
+
+    /** Creates the state; JMH instantiates it once per trial. */
+    public Times() {}
+  }
+
+  /**
+   * Formats every date-time in the date format.
+   *
+   * @param members the date-times
+   * @param dates the format
+   * @return the total length of the rendered values, so the formatting is not dead code
+   */
+  @Benchmark
+  public int date(Members members, Dates dates) {
+    int length = 0;
+    for (LocalDateTime dateTime : members.dateTimes) {
+      length += dates.dateFormat.format(dateTime).length();
+    }
+    return length;
+  }
+
+  /**
+   * Formats every date-time in the time format.
+   *
+   * @param members the date-times
+   * @param times the format
+   * @return the total length of the rendered values, so the formatting is not dead code
+   */
+  @Benchmark
+  public int time(Members members, Times times) {
+    int length = 0;
+    for (LocalDateTime dateTime : members.dateTimes) {
+      length += times.timeFormat.format(dateTime).length();
+    }
+    return length;
+  }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.flatfile.delimited.DelimitedFileGenerator;
+import com.fastChickensHR.edi.flatfile.delimited.DelimitedFileParser;
+import com.fastChickensHR.edi.flatfile.delimited.DelimitedFormat;
+import com.fastChickensHR.edi.flatfile.delimited.RowFilter;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The delimited round trip in the pinned CSV format: parse a roster (also from a file, in parallel
+ * chunks), and generate one — each alongside a Commons CSV baseline doing the same work the way the
+ * module did before it tokenized and printed in-house, so the two paths can be compared on the same
+ * input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DelimitedBenchmarks {
+
+  /** Data rows per file. */
+  @Param({"1000", "100000", "1000000"})
+  public int rows;
+
+  private final DelimitedFileParser parser = new DelimitedFileParser();
+  private final DelimitedFileParser selectiveParser =
+      parser
+          .withColumns("memberId", "planCode")
+          .withRowFilter(RowFilter.columnEquals("state", "TX"));
+  private final DelimitedFileGenerator generator = new DelimitedFileGenerator();
+  private final DelimitedFileGenerator declaredGenerator =
+      new DelimitedFileGenerator(
+          DelimitedFormat.builder()
+              .columns(
+                  "memberId",
+                  "lastName",
+                  "firstName",
+                  "birthDate",
+                  "addressLine1",
+                  "city",
+                  "state",
+                  "zipCode",
+                  "planCode")
+              .build());
+  private FileContent roster;
+  private String csv;
+  private Path file;
+
+  /** Creates the suite; JMH instantiates it once per trial. */
+  public DelimitedBenchmarks() {}
+
+  /** Synthesizes the inputs once per trial, outside the measured region. */
+  @Setup
+  public void synthesize() {
+    roster = SyntheticData.roster(rows);
+    csv = generator.generate(roster);
+    try {
+      file = Files.writeString(Files.createTempFile("roster", ".csv"), csv);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Deletes the roster file written for {@link #parseParallel()}.
+   *
+   * @throws IOException if the file cannot be deleted
+   */
+  @TearDown
+  public void deleteFile() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Parses the CSV text into a {@link FileContent}.
+   *
+   * @return the parsed file, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public FileContent parse() {
+    return parser.parse(csv);
+  }
+
+  /**
+   * Parses two of the CSV's columns, for the rows of one state only — a selective ingest job.
+   *
+   * @return the parsed file, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public FileContent parseSelected() {
+    return selectiveParser.parse(csv);
+  }
+
+  /**
+   * Parses the same CSV, written to a file, in memory-mapped chunks on the common pool.
+   *
+   * @return the parsed file, returned so it is not dead-code eliminated
+   * @throws IOException if the file cannot be read
+   */
+  @Benchmark
+  public FileContent parseParallel() throws IOException {
+    return parser.parseParallel(file);
+  }
+
+  /**
+   * Baseline: reads the same text through Commons CSV's header-aware parser, one {@code CSVRecord}
+   * and one name-keyed lookup per cell, into the same Records.
+   *
+   * @return the parsed records, returned so they are not dead-code eliminated
+   * @throws IOException never, reading from a string
+   */
+  @Benchmark
+  public List<Record> commonsCsvParse() throws IOException {
+    List<Record> records = new ArrayList<>();
+    try (CSVParser rows =
+        CSVFormat.DEFAULT
+            .builder()
+            .setRecordSeparator("\n")
+            .setHeader()
+            .setSkipHeaderRecord(true)
+            .build()
+            .parse(new StringReader(csv))) {
+      List<String> headers = rows.getHeaderNames();
+      for (CSVRecord row : rows) {
+        List<Field> fields = new ArrayList<>();
+        for (String column : headers) {
+          String value = row.get(column);
+          if (!value.isEmpty()) {
+            fields.add(new Field(Location.of(RecordLevel.RECORD, column), value));
+          }
+        }
+        records.add(Record.of(fields));
+      }
+    }
+    return records;
+  }
+
+  /**
+   * Generates the CSV text from the roster.
+   *
+   * @return the CSV text, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public String generate() {
+    return generator.generate(roster);
+  }
+
+  /**
+   * Generates the same CSV text in a format that declares the roster's columns, so the header is
+   * written without first walking the records.
+   *
+   * @return the CSV text, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public String generateDeclared() {
+    return declaredGenerator.generate(roster);
+  }
+
+  /**
+   * Baseline: prints the roster's cells through a Commons CSV printer, laying each row out through
+   * a per-row map as the generator did before.
+   *
+   * @return the CSV text, returned so it is not dead-code eliminated
+   * @throws IOException never, writing to a string
+   */
+  @Benchmark
+  public String commonsCsvGenerate() throws IOException {
+    StringWriter out = new StringWriter();
+    CSVPrinter printer =
+        new CSVPrinter(out, CSVFormat.DEFAULT.builder().setRecordSeparator("\n").build());
+    List<String> header = new ArrayList<>();
+    for (Field field : roster.records().get(0).fields()) {
+      header.add(field.location().name());
+    }
+    printer.printRecord(header);
+    for (Record record : roster.records()) {
+      Map<String, String> values = new LinkedHashMap<>();
+      for (Field field : record.fields()) {
+        values.putIfAbsent(field.location().name(), field.value());
+      }
+      List<String> cells = new ArrayList<>(header.size());
+      for (String column : header) {
+        cells.add(values.getOrDefault(column, ""));
+      }
+      printer.printRecord(cells);
+    }
+    return out.toString();
+  }
+}
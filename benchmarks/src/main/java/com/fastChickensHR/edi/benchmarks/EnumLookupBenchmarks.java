@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import com.fastChickensHR.edi.x834.data.AcknowledgmentRequested;
+import com.fastChickensHR.edi.x834.data.ActionCode;
+import com.fastChickensHR.edi.x834.data.AuthorizationInformationQualifier;
+import com.fastChickensHR.edi.x834.data.CommunicationNumberQualifier;
+import com.fastChickensHR.edi.x834.data.CoordinationOfBenefitsCode;
+import com.fastChickensHR.edi.x834.data.DateTimeQualifier;
+import com.fastChickensHR.edi.x834.data.DisabilityTypeCode;
+import com.fastChickensHR.edi.x834.data.EntityIdentifierCode;
+import com.fastChickensHR.edi.x834.data.FrequencyCode;
+import com.fastChickensHR.edi.x834.data.FunctionalIdentifierCode;
+import com.fastChickensHR.edi.x834.data.HealthRelatedCode;
+import com.fastChickensHR.edi.x834.data.IdentificationCodeQualifier;
+import com.fastChickensHR.edi.x834.data.InterchangeControlVersionNumber;
+import com.fastChickensHR.edi.x834.data.InterchangeIdQualifier;
+import com.fastChickensHR.edi.x834.data.InterchangeUsageIndicator;
+import com.fastChickensHR.edi.x834.data.PayerResponsibilitySequenceCode;
+import com.fastChickensHR.edi.x834.data.ReferenceIdentificationQualifier;
+import com.fastChickensHR.edi.x834.data.ResponsibleAgencyCode;
+import com.fastChickensHR.edi.x834.data.SecurityInformationQualifier;
+import com.fastChickensHR.edi.x834.data.SecurityLevelCode;
+import com.fastChickensHR.edi.x834.data.TimeCode;
+import com.fastChickensHR.edi.x834.data.TransactionSetIdentifierCode;
+import com.fastChickensHR.edi.x834.data.TransactionSetPurposeCode;
+import com.fastChickensHR.edi.x834.data.TransactionTypeCode;
+import com.fastChickensHR.edi.x834.data.VersionCode;
+import com.fastChickensHR.edi.x834.loop2000.data.BenefitStatusCode;
+import com.fastChickensHR.edi.x834.loop2000.data.COBRAQualifyingEventCode;
+import com.fastChickensHR.edi.x834.loop2000.data.ConfidentialityCode;
+import com.fastChickensHR.edi.x834.loop2000.data.CoverageLevelCode;
+import com.fastChickensHR.edi.x834.loop2000.data.EmploymentStatusCode;
+import com.fastChickensHR.edi.x834.loop2000.data.GenderCode;
+import com.fastChickensHR.edi.x834.loop2000.data.HandicapIndicator;
+import com.fastChickensHR.edi.x834.loop2000.data.HealthCoverageDateQualifier;
+import com.fastChickensHR.edi.x834.loop2000.data.IndividualRelationshipCode;
+import com.fastChickensHR.edi.x834.loop2000.data.InsuranceLineCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MaintenanceReasonCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MaintenanceTypeCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MedicarePlanCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MemberDateQualifier;
+import com.fastChickensHR.edi.x834.loop2000.data.MemberIndicator;
+import com.fastChickensHR.edi.x834.loop2000.data.StudentStatusCode;
+import com.fastChickensHR.edi.x834.util.EdiCodeEnum;
+import com.fastChickensHR.edi.x834.util.EdiEnumLookup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link EdiEnumLookup#fromString} over every {@link EdiCodeEnum} in the 834 module: each constant
+ * resolved once per operation by its raw X12 code (the exact-spelling path) and once by its
+ * description upper-cased (the folding path).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EnumLookupBenchmarks {
+
+  /** Every code enum with its own {@code fromString}. */
+  private static final List<CodeList<?>> CODE_LISTS =
+      List.of(
+          lookup(AcknowledgmentRequested.class, AcknowledgmentRequested::fromString),
+          lookup(ActionCode.class, ActionCode::fromString),
+          lookup(
+              AuthorizationInformationQualifier.class,
+              AuthorizationInformationQualifier::fromString),
+          lookup(CommunicationNumberQualifier.class, CommunicationNumberQualifier::fromString),
+          lookup(CoordinationOfBenefitsCode.class, CoordinationOfBenefitsCode::fromString),
+          lookup(DateTimeQualifier.class, DateTimeQualifier::fromString),
+          lookup(DisabilityTypeCode.class, DisabilityTypeCode::fromString),
+          lookup(EntityIdentifierCode.class, EntityIdentifierCode::fromString),
+          lookup(FrequencyCode.class, FrequencyCode::fromString),
+          lookup(FunctionalIdentifierCode.class, FunctionalIdentifierCode::fromString),
+          lookup(HealthRelatedCode.class, HealthRelatedCode::fromString),
+          lookup(IdentificationCodeQualifier.class, IdentificationCodeQualifier::fromString),
+          lookup(
+              InterchangeControlVersionNumber.class, InterchangeControlVersionNumber::fromString),
+          lookup(InterchangeIdQualifier.class, InterchangeIdQualifier::fromString),
+          lookup(InterchangeUsageIndicator.class, InterchangeUsageIndicator::fromString),
+          lookup(
+              PayerResponsibilitySequenceCode.class, PayerResponsibilitySequenceCode::fromString),
+          lookup(
+              ReferenceIdentificationQualifier.class, ReferenceIdentificationQualifier::fromString),
+          lookup(ResponsibleAgencyCode.class, ResponsibleAgencyCode::fromString),
+          lookup(SecurityInformationQualifier.class, SecurityInformationQualifier::fromString),
+          lookup(SecurityLevelCode.class, SecurityLevelCode::fromString),
+          lookup(TimeCode.class, TimeCode::fromString),
+          lookup(TransactionSetIdentifierCode.class, TransactionSetIdentifierCode::fromString),
+          lookup(TransactionSetPurposeCode.class, TransactionSetPurposeCode::fromString),
+          lookup(TransactionTypeCode.class, TransactionTypeCode::fromString),
+          lookup(VersionCode.class, VersionCode::fromString),
+          lookup(BenefitStatusCode.class, BenefitStatusCode::fromString),
+          lookup(COBRAQualifyingEventCode.class, COBRAQualifyingEventCode::fromString),
+          lookup(ConfidentialityCode.class, ConfidentialityCode::fromString),
+          lookup(CoverageLevelCode.class, CoverageLevelCode::fromString),
+          lookup(EmploymentStatusCode.class, EmploymentStatusCode::fromString),
+          lookup(GenderCode.class, GenderCode::fromString),
+          lookup(HandicapIndicator.class, HandicapIndicator::fromString),
+          lookup(HealthCoverageDateQualifier.class, HealthCoverageDateQualifier::fromString),
+          lookup(IndividualRelationshipCode.class, IndividualRelationshipCode::fromString),
+          lookup(InsuranceLineCode.class, InsuranceLineCode::fromString),
+          lookup(MaintenanceReasonCode.class, MaintenanceReasonCode::fromString),
+          lookup(MaintenanceTypeCode.class, MaintenanceTypeCode::fromString),
+          lookup(MedicarePlanCode.class, MedicarePlanCode::fromString),
+          lookup(MemberDateQualifier.class, MemberDateQualifier::fromString),
+          lookup(MemberIndicator.class, MemberIndicator::fromString),
+          lookup(StudentStatusCode.class, StudentStatusCode::fromString));
+
+  private final List<Function<String, ? extends EdiCodeEnum>> lookups = new ArrayList<>();
+  private final List<String> codes = new ArrayList<>();
+  private final List<String> descriptions = new ArrayList<>();
+
+  /** Creates the suite; JMH instantiates it once per trial. */
+  public EnumLookupBenchmarks() {}
+
+  /** Collects every constant's code and description, outside the measured region. */
+  @Setup
+  public void collect() {
+    for (CodeList<?> codeList : CODE_LISTS) {
+      for (EdiCodeEnum constant : codeList.type().getEnumConstants()) {
+        lookups.add(codeList.fromString());
+        codes.add(constant.getCode());
+        descriptions.add(constant.getDescription().toUpperCase(Locale.ROOT));
+      }
+    }
+  }
+
+  private static <T extends EdiCodeEnum> CodeList<T> lookup(
+      Class<T> type, Function<String, T> fromString) {
+    return new CodeList<>(type, fromString);
+  }
+
+  /** An enum type and its lookup. */
+  private record CodeList<T extends EdiCodeEnum>(Class<T> type, Function<String, T> fromString) {}
+
+  /**
+   * Resolves every constant by its code, exactly as the 834 carries it.
+   *
+   * @param blackhole consumes each constant so no lookup is dead-code eliminated
+   */
+  @Benchmark
+  public void exactCodes(Blackhole blackhole) {
+    for (int i = 0; i < codes.size(); i++) {
+      blackhole.consume(lookups.get(i).apply(codes.get(i)));
+    }
+  }
+
+  /**
+   * Resolves every constant by its upper-cased description, which must be folded to match.
+   *
+   * @param blackhole consumes each constant so no lookup is dead-code eliminated
+   */
+  @Benchmark
+  public void foldedDescriptions(Blackhole blackhole) {
+    for (int i = 0; i < descriptions.size(); i++) {
+      blackhole.consume(lookups.get(i).apply(descriptions.get(i)));
+    }
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.RecordReader;
+import com.fastChickensHR.edi.flatfile.fixedwidth.FixedWidthFileGenerator;
+import com.fastChickensHR.edi.flatfile.fixedwidth.FixedWidthFileParser;
+import com.fastChickensHR.edi.flatfile.fixedwidth.FixedWidthFormat;
+import com.fastChickensHR.edi.flatfile.fixedwidth.Justification;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The fixed-width round trip over the synthetic roster: parse it from text and from a memory-mapped
+ * file, and generate it as text and as bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FixedWidthBenchmarks {
+
+  private static final FixedWidthFormat LAYOUT =
+      FixedWidthFormat.builder()
+          .column("memberId", 10)
+          .column("lastName", 20)
+          .column("firstName", 20)
+          .column("birthDate", 10)
+          .column("addressLine1", 30)
+          .column("city", 20)
+          .column("state", 2)
+          .column("zipCode", 9, Justification.RIGHT, '0')
+          .column("planCode", 10)
+          .build();
+
+  /** Data rows per file. */
+  @Param({"1000", "100000", "1000000"})
+  public int rows;
+
+  private final FixedWidthFileParser parser = new FixedWidthFileParser(LAYOUT);
+  private final FixedWidthFileGenerator generator = new FixedWidthFileGenerator(LAYOUT);
+  private FileContent roster;
+  private String text;
+  private Path file;
+
+  /** Creates the suite; JMH instantiates it once per trial. */
+  public FixedWidthBenchmarks() {}
+
+  /** Synthesizes the inputs once per trial, outside the measured region. */
+  @Setup
+  public void synthesize() {
+    roster = SyntheticData.roster(rows);
+    text = generator.generate(roster);
+    try {
+      file = Files.createTempFile("roster", ".txt");
+      Files.write(file, text.getBytes(StandardCharsets.ISO_8859_1));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Deletes the roster file written for {@link #parseMapped()}.
+   *
+   * @throws IOException if the file cannot be deleted
+   */
+  @TearDown
+  public void deleteFile() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  /**
+   * Parses the fixed-width text into a {@link FileContent}.
+   *
+   * @return the parsed file, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public FileContent parse() {
+    return parser.parse(text);
+  }
+
+  /**
+   * Reads the same roster from a memory-mapped file.
+   *
+   * @return the parsed file, returned so it is not dead-code eliminated
+   * @throws IOException if the file cannot be read
+   */
+  @Benchmark
+  public FileContent parseMapped() throws IOException {
+    try (RecordReader reader = parser.read(file)) {
+      return reader.readAll();
+    }
+  }
+
+  /**
+   * Generates the fixed-width text from the roster.
+   *
+   * @return the text, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public String generate() {
+    return generator.generate(roster);
+  }
+
+  /**
+   * Generates the roster as ISO-8859-1 bytes, straight from the reused line buffer.
+   *
+   * @return the bytes, returned so they are not dead-code eliminated
+   * @throws IOException never, writing to memory
+   */
+  @Benchmark
+  public byte[] generateBytes() throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(text.length());
+    generator.generate(roster, out);
+    return out.toByteArray();
+  }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import com.fastChickensHR.edi.core.Direction;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.flatfile.delimited.DelimitedFileGenerator;
+import com.fastChickensHR.edi.x834.X834Context;
+import com.fastChickensHR.edi.x834.X834Document;
+import com.fastChickensHR.edi.x834.exception.ValidationException;
+import com.fastChickensHR.edi.x834.generate.X834Location;
+import com.fastChickensHR.edi.x834.header.Header;
+import com.fastChickensHR.edi.x834.loop2000.Member;
+import com.fastChickensHR.edi.x834.loop2000.data.GenderCode;
+import com.fastChickensHR.edi.x834.loop2000.data.IndividualRelationshipCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MaintenanceTypeCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MemberIndicator;
+import com.fastChickensHR.edi.x834.loop2000.loop2300.HealthCoverage;
+import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic synthetic inputs for the benchmark suites. Record {@code i} is a pure function of
+ * {@code i} — no clock, no randomness — so two runs, or two machines, measure exactly the same
+ * bytes, and a regression can only come from the code under test.
+ *
+ * <p>Each member is a realistic subscriber: the INS/REF/DTP core, a name, birth date and gender, a
+ * residence address, and one health coverage — the shape nearly every production 834 carries.
+ */
+public final class SyntheticData {
+  private SyntheticData() {}
+
+  private static final String[] LAST_NAMES = {
+    "SMITH", "JOHNSON", "WILLIAMS", "BROWN", "JONES", "GARCIA", "MILLER", "DAVIS"
+  };
+  private static final String[] FIRST_NAMES = {
+    "JAMES", "MARY", "ROBERT", "PATRICIA", "JOHN", "JENNIFER", "MICHAEL", "LINDA"
+  };
+  private static final String[] CITIES = {"AUSTIN", "DENVER", "OMAHA", "TULSA", "BOISE"};
+  private static final String[] STATES = {"TX", "CO", "NE", "OK", "ID"};
+  private static final String[] COVERAGE_LEVELS = {"EMP", "ESP", "ECH", "FAM"};
+
+  private static final LocalDateTime DOCUMENT_DATE = LocalDateTime.of(2026, 1, 15, 0, 0);
+  private static final LocalDate FIRST_BIRTH_DATE = LocalDate.of(1950, 1, 1);
+  private static final LocalDate COVERAGE_START = LocalDate.of(2026, 1, 1);
+
+  /**
+   * The 834 envelope and header as file-level fields, pinned so generation is deterministic.
+   *
+   * @return the file fields {@link com.fastChickensHR.edi.x834.generate.X834FileGenerator} reads
+   */
+  public static List<Field> enrollmentEnvelope() {
+    return List.of(
+        file(X834Location.SENDER_ID, "SENDER01"),
+        file(X834Location.RECEIVER_ID, "RECEIVER1"),
+        file(X834Location.INTERCHANGE_CONTROL_NUMBER, "000000001"),
+        file(X834Location.GROUP_CONTROL_NUMBER, "1"),
+        file(X834Location.TRANSACTION_SET_CONTROL_NUMBER, "0001"),
+        file(X834Location.DOCUMENT_DATE, DOCUMENT_DATE.toLocalDate().toString()),
+        file(X834Location.REFERENCE_IDENTIFICATION, "BENCH001"),
+        file(X834Location.MASTER_POLICY_NUMBER, "POL-001"),
+        file(X834Location.PLAN_SPONSOR_NAME, "ACME INC"),
+        file(X834Location.PAYER_NAME, "BLUE CROSS"));
+  }
+
+  /**
+   * An outbound enrollment of {@code members} subscribers, as {@link
+   * com.fastChickensHR.edi.x834.generate.X834FileGenerator} consumes it.
+   *
+   * @param members how many member Records to synthesize
+   * @return the enrollment file
+   */
+  public static FileContent enrollment(int members) {
+    List<Record> records = new ArrayList<>(members);
+    for (int i = 0; i < members; i++) {
+      records.add(Record.of(memberFields(i)));
+    }
+    return new FileContent(Direction.OUTBOUND, enrollmentEnvelope(), records);
+  }
+
+  /**
+   * The same enrollment as {@link #enrollment(int)}, assembled directly on the x834 builders so
+   * {@link X834Document#generateDocument()} is measured without the seam's interpretation.
+   *
+   * @param members how many members to add
+   * @return the built document, ready to generate
+   * @throws ValidationException if the header fails to build (it cannot for these fixed values)
+   */
+  public static X834Document document(int members) throws ValidationException {
+    return documentBuilder(members).build();
+  }
+
+  /**
+   * The builder {@link #document(int)} builds, for a suite that configures it further.
+   *
+   * @param members how many members to add
+   * @return the populated builder
+   * @throws ValidationException if the header fails to build (it cannot for these fixed values)
+   */
+  public static X834Document.Builder documentBuilder(int members) throws ValidationException {
+    X834Context context =
+        new X834Context()
+            .setSenderID("SENDER01")
+            .setReceiverID("RECEIVER1")
+            .setDocumentDate(DOCUMENT_DATE)
+            .setInterchangeControlNumber("000000001")
+            .setGroupControlNumber("1");
+    X834Document.Builder document =
+        new X834Document.Builder(context)
+            .withHeader(
+                new Header.Builder(context)
+                    .setReferenceIdentification("BENCH001")
+                    .setMasterPolicyNumber("POL-001")
+                    .setPlanSponsorName("ACME INC")
+                    .setPayerName("BLUE CROSS")
+                    .build())
+            .withTrailer(new Trailer.Builder(context));
+    for (int i = 0; i < members; i++) {
+      document.addMember(member(i));
+    }
+    return document;
+  }
+
+  /**
+   * A flat member roster of {@code rows} Records, one column per field, as the delimited generator
+   * consumes it.
+   *
+   * @param rows how many rows to synthesize
+   * @return the roster
+   */
+  public static FileContent roster(int rows) {
+    List<Record> records = new ArrayList<>(rows);
+    for (int i = 0; i < rows; i++) {
+      records.add(
+          Record.of(
+              List.of(
+                  record("memberId", memberId(i)),
+                  record("lastName", pick(LAST_NAMES, i)),
+                  record("firstName", pick(FIRST_NAMES, i / LAST_NAMES.length)),
+                  record("birthDate", birthDate(i).toString()),
+                  record("addressLine1", street(i)),
+                  record("city", pick(CITIES, i)),
+                  record("state", pick(STATES, i)),
+                  record("zipCode", zipCode(i)),
+                  // Every eighth plan description carries the delimiter, so quoting is exercised.
+                  record("planCode", i % 8 == 0 ? "PPO, 500" : "PPO-500"))));
+    }
+    return new FileContent(Direction.OUTBOUND, List.of(), records);
+  }
+
+  /**
+   * The name and address element values of {@code members} members, as an 834 carries them in NM1,
+   * N3 and N4: last name, first name, street line, city, state and ZIP code, plus a full name and a
+   * longer second address line, so the values run from two characters to a few dozen.
+   *
+   * @param members how many members to synthesize
+   * @return eight values per member, all in the basic character set
+   */
+  public static List<String> nameAndAddressValues(int members) {
+    List<String> values = new ArrayList<>(members * 8);
+    for (int i = 0; i < members; i++) {
+      String last = pick(LAST_NAMES, i);
+      String first = pick(FIRST_NAMES, i / LAST_NAMES.length);
+      values.add(last);
+      values.add(first);
+      values.add(first + " Q " + last + "-" + pick(LAST_NAMES, i + 3));
+      values.add(street(i));
+      values.add("BUILDING " + (i % 12 + 1) + ", SUITE " + (200 + i % 50) + " (ATTN: BENEFITS)");
+      values.add(pick(CITIES, i));
+      values.add(pick(STATES, i));
+      values.add(zipCode(i));
+    }
+    return values;
+  }
+
+  /**
+   * {@link #roster(int)} rendered in the pinned CSV format, as the delimited parser reads it.
+   *
+   * @param rows how many data rows to synthesize
+   * @return the CSV text, header row first
+   */
+  public static String csv(int rows) {
+    return new DelimitedFileGenerator().generate(roster(rows));
+  }
+
+  /**
+   * A 999 acknowledging {@code transactionSets} transaction sets, every tenth one rejected.
+   *
+   * @param transactionSets how many AK2/IK5 pairs to synthesize
+   * @return the raw X12 text
+   */
+  public static String acknowledgment(int transactionSets) {
+    StringBuilder ack =
+        new StringBuilder(128 + 32 * transactionSets)
+            .append("ISA*00*          *00*          *ZZ*RECEIVER1      *ZZ*SENDER01       ")
+            .append("*260115*1200*^*00501*000000123*0*P*:~")
+            .append("GS*FA*RECEIVER1*SENDER01*20260115*1200*42*X*005010X231A1~")
+            .append("ST*999*0001*005010X231A1~")
+            .append("AK1*BE*1*005010X220A1~");
+    int rejected = 0;
+    for (int i = 0; i < transactionSets; i++) {
+      boolean reject = i % 10 == 9;
+      rejected += reject ? 1 : 0;
+      ack.append("AK2*834*").append(controlNumber(i)).append('~');
+      ack.append("IK5*").append(reject ? 'R' : 'A').append('~');
+    }
+    ack.append("AK9*")
+        .append(rejected == 0 ? 'A' : 'P')
+        .append('*')
+        .append(transactionSets)
+        .append('*')
+        .append(transactionSets)
+        .append('*')
+        .append(transactionSets - rejected)
+        .append('~')
+        .append("SE*")
+        .append(2 * transactionSets + 4)
+        .append("*0001~GE*1*42~IEA*1*000000123~");
+    return ack.toString();
+  }
+
+  private static List<Field> memberFields(int i) {
+    return List.of(
+        record(X834Location.MEMBER_INDICATOR, "Y"),
+        record(X834Location.RELATIONSHIP_CODE, "18"),
+        record(X834Location.MAINTENANCE_TYPE_CODE, "021"),
+        record(X834Location.POLICY_NUMBER, "POL-001"),
+        record(X834Location.SUBSCRIBER_NUMBER, memberId(i)),
+        record(X834Location.ENROLLMENT_DATE, COVERAGE_START.toString()),
+        record(X834Location.LAST_NAME, pick(LAST_NAMES, i)),
+        record(X834Location.FIRST_NAME, pick(FIRST_NAMES, i / LAST_NAMES.length)),
+        record(X834Location.BIRTH_DATE, birthDate(i).toString()),
+        record(X834Location.GENDER, i % 2 == 0 ? "F" : "M"),
+        record(X834Location.ADDRESS_LINE_1, street(i)),
+        record(X834Location.CITY, pick(CITIES, i)),
+        record(X834Location.STATE, pick(STATES, i)),
+        record(X834Location.ZIP_CODE, zipCode(i)),
+        record(X834Location.HD_MAINTENANCE_TYPE_CODE, "021"),
+        record(X834Location.HD_INSURANCE_LINE_CODE, "HLT"),
+        record(X834Location.HD_COVERAGE_LEVEL_CODE, pick(COVERAGE_LEVELS, i)),
+        record(X834Location.HD_BENEFIT_BEGIN_DATE, COVERAGE_START.toString()));
+  }
+
+  private static Member member(int i) {
+    Member member = new Member();
+    member.setMemberIndicator(MemberIndicator.INSURED);
+    member.setRelationshipCode(IndividualRelationshipCode.fromString("18"));
+    member.setMaintenanceTypeCode(MaintenanceTypeCode.fromString("021"));
+    member.setPolicyNumber("POL-001");
+    member.setSubscriberNumber(memberId(i));
+    member.setEnrollmentDate(COVERAGE_START.atStartOfDay());
+    member.setLastName(pick(LAST_NAMES, i));
+    member.setFirstName(pick(FIRST_NAMES, i / LAST_NAMES.length));
+    member.setBirthDate(birthDate(i).atStartOfDay());
+    member.setGender(i % 2 == 0 ? GenderCode.FEMALE : GenderCode.MALE);
+    member.setAddressLine1(street(i));
+    member.setCity(pick(CITIES, i));
+    member.setState(pick(STATES, i));
+    member.setZipCode(zipCode(i));
+    HealthCoverage coverage = new HealthCoverage("021", "HLT");
+    coverage.setCoverageLevelCode(pick(COVERAGE_LEVELS, i));
+    coverage.setStartDate(COVERAGE_START.atStartOfDay());
+    member.addHealthCoverage(coverage);
+    return member;
+  }
+
+  private static String memberId(int i) {
+    return "M" + String.format("%08d", i);
+  }
+
+  private static String controlNumber(int i) {
+    return String.format("%04d", i % 10_000);
+  }
+
+  private static LocalDate birthDate(int i) {
+    return FIRST_BIRTH_DATE.plusDays(i % 20_000);
+  }
+
+  private static String street(int i) {
+    return (100 + i % 9_900) + " MAIN ST";
+  }
+
+  private static String zipCode(int i) {
+    return String.format("%05d", 10_000 + i % 89_999);
+  }
+
+  private static String pick(String[] values, int i) {
+    return values[i % values.length];
+  }
+
+  private static Field file(String name, String value) {
+    return new Field(Location.of(RecordLevel.FILE, name), value);
+  }
+
+  private static Field record(String name, String value) {
+    return new Field(Location.of(RecordLevel.RECORD, name), value);
+  }
+}
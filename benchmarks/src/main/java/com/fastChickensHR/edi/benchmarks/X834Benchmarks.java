@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.x834.GenerationError;
+import com.fastChickensHR.edi.x834.GenerationResult;
+import com.fastChickensHR.edi.x834.X12ByteWriter;
+import com.fastChickensHR.edi.x834.X834Document;
+import com.fastChickensHR.edi.x834.exception.ValidationException;
+import com.fastChickensHR.edi.x834.generate.X834FileGenerator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 834 generation, through the {@link X834FileGenerator} seam (location interpretation included) and
+ * through {@link X834Document#generateDocument()} on pre-built members (rendering and validation
+ * only). The gap between the two is what the seam's interpretation costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class X834Benchmarks {
+
+  /** A channel that takes every byte and keeps none. */
+  private static final WritableByteChannel DISCARD =
+      new WritableByteChannel() {
+        @Override
+        public int write(ByteBuffer source) {
+          int length = source.remaining();
+          source.position(source.limit());
+          return length;
+        }
+
+        @Override
+        public boolean isOpen() {
+          return true;
+        }
+
+        @Override
+        public void close() {}
+      };
+
+  /** Members per file. */
+  @Param({"1000", "100000", "1000000"})
+  public int members;
+
+  private final X834FileGenerator generator = new X834FileGenerator();
+  private FileContent enrollment;
+  private X834Document document;
+  private X834Document parallelDocument;
+
+  /** Creates the suite; JMH instantiates it once per trial. */
+  public X834Benchmarks() {}
+
+  /**
+   * Synthesizes the inputs once per trial, outside the measured region.
+   *
+   * @throws ValidationException if the synthetic document fails to build
+   */
+  @Setup
+  public void synthesize() throws ValidationException {
+    enrollment = SyntheticData.enrollment(members);
+    document = SyntheticData.document(members);
+    parallelDocument = SyntheticData.documentBuilder(members).withParallelRendering().build();
+  }
+
+  /**
+   * The seam end to end: interpret every Record, build, validate and render.
+   *
+   * @return the 834 text, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public String fileGeneratorGenerate() {
+    return generator.generate(enrollment);
+  }
+
+  /**
+   * Validation and rendering of an already-built document.
+   *
+   * @return the generation result, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public GenerationResult documentGenerate() {
+    return document.generateDocument();
+  }
+
+  /**
+   * {@link #documentGenerate()} with members rendered concurrently on the common pool.
+   *
+   * @return the generation result, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public GenerationResult documentGenerateParallel() {
+    return parallelDocument.generateDocument();
+  }
+
+  /**
+   * The document streamed through a UTF-8 {@link Writer}, as the seam's file overloads used to
+   * encode it.
+   *
+   * @return the generation errors, returned so they are not dead-code eliminated
+   * @throws IOException never; the stream discards what it is given
+   */
+  @Benchmark
+  public List<GenerationError> documentWriteEncoded() throws IOException {
+    try (Writer out =
+        new BufferedWriter(
+            new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8),
+            1 << 16)) {
+      return document.writeDocument(out);
+    }
+  }
+
+  /**
+   * The document streamed as ASCII bytes through an {@link X12ByteWriter}.
+   *
+   * @return the generation errors, returned so they are not dead-code eliminated
+   * @throws IOException never; the channel discards what it is given
+   */
+  @Benchmark
+  public List<GenerationError> documentWriteBytes() throws IOException {
+    try (X12ByteWriter out = new X12ByteWriter(DISCARD)) {
+      return document.writeDocument(out);
+    }
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.benchmarks;
+
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.x999.X999FileParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** 999 acknowledgment parsing, one Record per acknowledged transaction set. */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class X999Benchmarks {
+
+  /** Acknowledged transaction sets per file. */
+  @Param({"1000", "100000", "1000000"})
+  public int transactionSets;
+
+  private final X999FileParser parser = new X999FileParser();
+  private String acknowledgment;
+
+  /** Creates the suite; JMH instantiates it once per trial. */
+  public X999Benchmarks() {}
+
+  /** Synthesizes the input once per trial, outside the measured region. */
+  @Setup
+  public void synthesize() {
+    acknowledgment = SyntheticData.acknowledgment(transactionSets);
+  }
+
+  /**
+   * Parses the acknowledgment into a {@link FileContent}.
+   *
+   * @return the parsed file, returned so it is not dead-code eliminated
+   */
+  @Benchmark
+  public FileContent parse() {
+    return parser.parse(acknowledgment);
+  }
+}
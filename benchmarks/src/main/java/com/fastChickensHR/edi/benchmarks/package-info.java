@@ -0,0 +1,19 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+/**
+ * JMH suites for the library's hot paths — 834 generation, delimited and fixed-width parse and
+ * generate, and 999 parsing — each at 1k, 100k and 1M records over {@link
+ * com.fastChickensHR.edi.benchmarks.SyntheticData}'s deterministic inputs. Run them with {@link
+ * com.fastChickensHR.edi.benchmarks.BenchmarkMain}, which attaches the GC profiler so every result
+ * reports allocation rate beside throughput and sampled latency percentiles. {@link
+ * com.fastChickensHR.edi.benchmarks.EnumLookupBenchmarks} times the 834 code-list lookups instead,
+ * across every code enum, {@link com.fastChickensHR.edi.benchmarks.DateFormatBenchmarks} the 834
+ * date and time formats, and {@link com.fastChickensHR.edi.benchmarks.CharacterClassBenchmarks}
+ * character-set validation with and without the Vector API.
+ */
+package com.fastChickensHR.edi.benchmarks;
@@ -0,0 +1,248 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * A flat file's records stored column by column: one shared list of column {@link Location}s and,
+ * per column, the cell values of every row. It is an immutable {@code List<Record>} that {@link
+ * FileContent} keeps as-is; each {@link #get(int) Record} (and its {@link Field}s) is assembled
+ * when asked for and not retained, so a wide file costs its values rather than a {@code Record}, a
+ * field list and a {@code Field} per cell.
+ *
+ * <p>A column with few distinct values — a state, a gender, a relationship code — is stored as one
+ * byte per row indexing a small dictionary of its values; a column that outgrows the dictionary
+ * falls back to one reference per row. Every row is flat (no children), and an absent cell yields
+ * no field, as a parser reports an empty one.
+ */
+public final class ColumnarRecords extends AbstractList<Record> implements RandomAccess {
+  private final List<Location> columns;
+  private final Column[] values;
+  private final int size;
+
+  private ColumnarRecords(List<Location> columns, Column[] values, int size) {
+    this.columns = columns;
+    this.values = values;
+    this.size = size;
+  }
+
+  /**
+   * Starts a columnar table over {@code columns}, in the order each row's fields are reported.
+   *
+   * @param columns each column's location
+   * @return an empty builder
+   * @throws IllegalArgumentException if {@code columns} is null or holds a null
+   */
+  public static Builder builder(List<Location> columns) {
+    if (columns == null || columns.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException("columns are required");
+    }
+    return new Builder(List.copyOf(columns));
+  }
+
+  /**
+   * The columns every row's fields are laid out under.
+   *
+   * @return the column locations, in order
+   */
+  public List<Location> columns() {
+    return columns;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Assembles row {@code index}: a flat Record with one field per present cell, in column order.
+   *
+   * @param index the row, from 0
+   * @return a new Record equal to the one the row was built from
+   * @throws IndexOutOfBoundsException if {@code index} is not a row
+   */
+  @Override
+  public Record get(int index) {
+    Objects.checkIndex(index, size);
+    List<Field> fields = new ArrayList<>(values.length);
+    for (int column = 0; column < values.length; column++) {
+      String value = value(index, column);
+      if (value != null) {
+        fields.add(new Field(columns.get(column), value));
+      }
+    }
+    return Record.of(fields);
+  }
+
+  /**
+   * One cell, read without assembling its Record.
+   *
+   * @param row the row, from 0
+   * @param column the column's position in {@link #columns()}
+   * @return the cell's value, or {@code null} when the cell is absent
+   * @throws IndexOutOfBoundsException if {@code row} or {@code column} is out of range
+   */
+  public String value(int row, int column) {
+    if (row < 0 || row >= size) {
+      throw new IndexOutOfBoundsException("row " + row + " of " + size);
+    }
+    return values[column].get(row);
+  }
+
+  /**
+   * Collects rows for a {@link ColumnarRecords}. A builder may keep adding rows after {@link
+   * #build()}; what it has built is unaffected.
+   */
+  public static final class Builder {
+    private final List<Location> columns;
+    private final Column[] values;
+    private int size;
+
+    private Builder(List<Location> columns) {
+      this.columns = columns;
+      this.values = new Column[columns.size()];
+      for (int i = 0; i < values.length; i++) {
+        values[i] = new Column();
+      }
+    }
+
+    /**
+     * Appends a row. {@code cells[i]} is the value under column {@code i}; a null or empty cell, or
+     * one past the end of a short array, is absent.
+     *
+     * @param cells the row's values, by column
+     * @return this builder
+     * @throws IllegalArgumentException if {@code cells} is null or longer than the columns
+     */
+    public Builder addRow(String... cells) {
+      if (cells == null) {
+        throw new IllegalArgumentException("cells are required");
+      }
+      if (cells.length > values.length) {
+        throw new IllegalArgumentException(
+            "row has " + cells.length + " cells but there are " + values.length + " columns");
+      }
+      for (int i = 0; i < values.length; i++) {
+        String cell = i < cells.length ? cells[i] : null;
+        values[i].set(size, cell == null || cell.isEmpty() ? null : cell);
+      }
+      size++;
+      return this;
+    }
+
+    /**
+     * Freezes the rows added so far.
+     *
+     * @return the columnar records
+     */
+    public ColumnarRecords build() {
+      Column[] frozen = new Column[values.length];
+      for (int i = 0; i < values.length; i++) {
+        frozen[i] = values[i].copy(size);
+      }
+      return new ColumnarRecords(columns, frozen, size);
+    }
+  }
+
+  /**
+   * One column's cells. Starts dictionary-encoded — a byte per row, {@code 0} for absent and {@code
+   * n} for the {@code n}th distinct value — and switches to a plain reference per row once it has
+   * seen more distinct values than a byte can index.
+   */
+  private static final class Column {
+    private static final int DICTIONARY_LIMIT = 255;
+    private static final int INITIAL_ROWS = 16;
+
+    private byte[] codes;
+    private String[] dictionary;
+    private String[] plain;
+
+    /** Building only: each dictionary value's code. */
+    private Map<String, Integer> lookup;
+
+    Column() {
+      this(new byte[INITIAL_ROWS], new String[DICTIONARY_LIMIT + 1], null);
+      this.lookup = new HashMap<>();
+    }
+
+    private Column(byte[] codes, String[] dictionary, String[] plain) {
+      this.codes = codes;
+      this.dictionary = dictionary;
+      this.plain = plain;
+    }
+
+    String get(int row) {
+      return plain != null ? plain[row] : dictionary[Byte.toUnsignedInt(codes[row])];
+    }
+
+    void set(int row, String value) {
+      if (plain != null) {
+        plain = ensure(plain, row);
+        plain[row] = value;
+        return;
+      }
+      int code = value == null ? 0 : code(value);
+      if (code < 0) {
+        spill(row);
+        plain[row] = value;
+        return;
+      }
+      if (row >= codes.length) {
+        codes = Arrays.copyOf(codes, codes.length * 2);
+      }
+      codes[row] = (byte) code;
+    }
+
+    /** The value's dictionary code, adding it if there is room; {@code -1} when full. */
+    private int code(String value) {
+      Integer code = lookup.get(value);
+      if (code != null) {
+        return code;
+      }
+      if (lookup.size() == DICTIONARY_LIMIT) {
+        return -1;
+      }
+      int next = lookup.size() + 1;
+      lookup.put(value, next);
+      dictionary[next] = value;
+      return next;
+    }
+
+    /** Rewrites the first {@code rows} cells as plain references and drops the dictionary. */
+    private void spill(int rows) {
+      plain = new String[Math.max(codes.length, rows + 1)];
+      for (int row = 0; row < rows; row++) {
+        plain[row] = dictionary[Byte.toUnsignedInt(codes[row])];
+      }
+      codes = null;
+      dictionary = null;
+      lookup = null;
+    }
+
+    /** An immutable copy of the first {@code rows} cells, trimmed to fit. */
+    Column copy(int rows) {
+      if (plain != null) {
+        return new Column(null, null, Arrays.copyOf(plain, rows));
+      }
+      return new Column(
+          Arrays.copyOf(codes, rows), Arrays.copyOf(dictionary, lookup.size() + 1), null);
+    }
+
+    private static String[] ensure(String[] cells, int row) {
+      return row < cells.length ? cells : Arrays.copyOf(cells, cells.length * 2);
+    }
+  }
+}
@@ -0,0 +1,359 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.ServiceLoader;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Transparent compression for the {@link FileParser} and {@link FileGenerator} entry points: a
+ * compressed input is recognised by its leading bytes and decompressed as it is read, and an output
+ * whose file name ends in a codec's extension ({@code .gz}, {@code .zz}, …) is compressed as it is
+ * written — in both directions through a fixed 64 KiB buffer at each stage, never a copy of the
+ * whole file.
+ *
+ * <p>gzip ({@link #GZIP}) and zlib-wrapped deflate ({@link #DEFLATE}) are built in; further {@link
+ * CompressionCodec}s are discovered through {@link java.util.ServiceLoader}. Input that no codec
+ * recognises is read as it is.
+ */
+public final class Compression {
+
+  /** How many leading bytes a codec is shown to recognise its format by. */
+  public static final int SIGNATURE_BYTES = 8;
+
+  /** The buffer each stage of a compressed stream reads or writes through. */
+  static final int BUFFER_BYTES = 1 << 16;
+
+  /** gzip (RFC 1952): magic number {@code 1F 8B}, extension {@code .gz}. */
+  public static final CompressionCodec GZIP = new Gzip();
+
+  /**
+   * Deflate in the zlib wrapper (RFC 1950), as HTTP's {@code deflate} encoding sends it: a {@code
+   * 78} header byte with a valid check byte and no preset dictionary, extensions {@code .zz} and
+   * {@code .deflate}. Raw deflate has no header to recognise and is not detected.
+   */
+  public static final CompressionCodec DEFLATE = new Deflate();
+
+  private Compression() {}
+
+  /**
+   * Every codec in detection order: the built-in ones, then those discovered on the class path.
+   *
+   * @return the codecs, unmodifiable
+   */
+  public static List<CompressionCodec> codecs() {
+    return Codecs.ALL;
+  }
+
+  /**
+   * The codec whose extension {@code file}'s name ends in, ignoring case.
+   *
+   * @param file the file about to be written
+   * @return the codec, or {@code null} to write the file uncompressed
+   */
+  public static CompressionCodec forExtension(Path file) {
+    Path name = file.getFileName();
+    String lower = name == null ? "" : name.toString().toLowerCase(Locale.ROOT);
+    for (CompressionCodec codec : codecs()) {
+      for (String extension : codec.extensions()) {
+        if (lower.endsWith(extension)) {
+          return codec;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The codec {@code file}'s leading bytes are compressed in.
+   *
+   * @param file the file to look at
+   * @return the codec, or {@code null} if the file is not compressed in a known format
+   * @throws IOException if the file cannot be read
+   */
+  public static CompressionCodec detect(Path file) throws IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      byte[] head = new byte[SIGNATURE_BYTES];
+      return detect(head, in.readNBytes(head, 0, head.length));
+    }
+  }
+
+  private static CompressionCodec detect(byte[] head, int length) {
+    for (CompressionCodec codec : codecs()) {
+      if (codec.matches(head, length)) {
+        return codec;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Wraps {@code in} in a stream of its decompressed bytes if it starts in a known compressed
+   * format, or of its bytes as they are otherwise. Closing the returned stream closes {@code in}.
+   *
+   * @param in the possibly compressed bytes
+   * @return the decompressed bytes
+   * @throws IOException if {@code in} cannot be read or its compression header is corrupt
+   */
+  public static InputStream decompressing(InputStream in) throws IOException {
+    InputStream buffered = in.markSupported() ? in : new BufferedInputStream(in, BUFFER_BYTES);
+    byte[] head = new byte[SIGNATURE_BYTES];
+    buffered.mark(head.length);
+    int length = buffered.readNBytes(head, 0, head.length);
+    buffered.reset();
+    CompressionCodec codec = detect(head, length);
+    return codec == null ? buffered : codec.decompress(buffered);
+  }
+
+  /**
+   * Wraps {@code out} in a stream that compresses with {@code codec} and, when closed, finishes the
+   * compressed data and flushes it into {@code out} — which it leaves open.
+   *
+   * @param out the caller's sink, left open
+   * @param codec the compression to apply, or {@code null} for none
+   * @return the stream to write the uncompressed bytes to
+   * @throws IOException if the codec's header cannot be written
+   */
+  public static OutputStream compressing(OutputStream out, CompressionCodec codec)
+      throws IOException {
+    OutputStream unclosed = new Unclosed(out);
+    return codec == null ? unclosed : codec.compress(unclosed);
+  }
+
+  /**
+   * Opens {@code file} for reading, decompressing it if it is compressed in a known format.
+   *
+   * @param file the file to read
+   * @return the file's decompressed bytes
+   * @throws IOException if the file cannot be opened or its compression header is corrupt
+   */
+  public static InputStream newInputStream(Path file) throws IOException {
+    InputStream in = Files.newInputStream(file);
+    try {
+      return decompressing(in);
+    } catch (IOException | RuntimeException e) {
+      in.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Creates (or truncates) {@code file} for writing, compressing with the codec its extension
+   * names, if any.
+   *
+   * @param file the file to write
+   * @return the stream to write the uncompressed bytes to; closing it finishes the file
+   * @throws IOException if the file cannot be created
+   */
+  public static OutputStream newOutputStream(Path file) throws IOException {
+    CompressionCodec codec = forExtension(file);
+    OutputStream out = Files.newOutputStream(file);
+    try {
+      return codec == null ? out : codec.compress(out);
+    } catch (IOException | RuntimeException e) {
+      out.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Opens {@code file} as text in {@code charset}, decompressing it if it is compressed. Bytes that
+   * are not valid in the charset fail the read, as with {@link Files#newBufferedReader}.
+   *
+   * @param file the file to read
+   * @param charset the text's encoding
+   * @return the file's text
+   * @throws IOException if the file cannot be opened
+   */
+  public static BufferedReader newBufferedReader(Path file, Charset charset) throws IOException {
+    return reader(newInputStream(file), charset);
+  }
+
+  /**
+   * Wraps the possibly compressed {@code in} as text in {@code charset}; see {@link
+   * #decompressing(InputStream)}.
+   *
+   * @param in the bytes to read
+   * @param charset the text's encoding
+   * @return the decompressed text; closing it closes {@code in}
+   * @throws IOException if {@code in} cannot be read or its compression header is corrupt
+   */
+  public static BufferedReader newBufferedReader(InputStream in, Charset charset)
+      throws IOException {
+    return reader(decompressing(in), charset);
+  }
+
+  private static BufferedReader reader(InputStream in, Charset charset) {
+    Reader text = new InputStreamReader(in, charset.newDecoder());
+    return new BufferedReader(text, BUFFER_BYTES);
+  }
+
+  /**
+   * Creates (or truncates) {@code file} for text in {@code charset}, compressing with the codec its
+   * extension names, if any.
+   *
+   * @param file the file to write
+   * @param charset the text's encoding
+   * @return the writer; closing it finishes the file
+   * @throws IOException if the file cannot be created
+   */
+  public static BufferedWriter newBufferedWriter(Path file, Charset charset) throws IOException {
+    return writer(newOutputStream(file), charset);
+  }
+
+  /**
+   * Wraps {@code out} as a text sink in {@code charset}, compressing with {@code codec}; see {@link
+   * #compressing(OutputStream, CompressionCodec)}.
+   *
+   * @param out the caller's sink, left open when the writer is closed
+   * @param codec the compression to apply, or {@code null} for none
+   * @param charset the text's encoding
+   * @return the writer; closing it finishes the compressed data
+   * @throws IOException if the codec's header cannot be written
+   */
+  public static BufferedWriter newBufferedWriter(
+      OutputStream out, CompressionCodec codec, Charset charset) throws IOException {
+    return writer(compressing(out, codec), charset);
+  }
+
+  private static BufferedWriter writer(OutputStream out, Charset charset) {
+    Writer text = new OutputStreamWriter(out, charset.newEncoder());
+    return new BufferedWriter(text, BUFFER_BYTES);
+  }
+
+  /** The codecs, looked up on first use. */
+  private static final class Codecs {
+    private static final List<CompressionCodec> ALL = load();
+
+    private static List<CompressionCodec> load() {
+      List<CompressionCodec> codecs = new ArrayList<>(List.of(GZIP, DEFLATE));
+      for (CompressionCodec codec : ServiceLoader.load(CompressionCodec.class)) {
+        codecs.add(codec);
+      }
+      return List.copyOf(codecs);
+    }
+  }
+
+  private static final class Gzip implements CompressionCodec {
+    @Override
+    public String name() {
+      return "gzip";
+    }
+
+    @Override
+    public List<String> extensions() {
+      return List.of(".gz");
+    }
+
+    @Override
+    public boolean matches(byte[] head, int length) {
+      return length >= 2 && head[0] == (byte) 0x1F && head[1] == (byte) 0x8B;
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) throws IOException {
+      return new GZIPInputStream(in, BUFFER_BYTES);
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out) throws IOException {
+      return new GZIPOutputStream(out, BUFFER_BYTES);
+    }
+  }
+
+  private static final class Deflate implements CompressionCodec {
+    @Override
+    public String name() {
+      return "deflate";
+    }
+
+    @Override
+    public List<String> extensions() {
+      return List.of(".zz", ".deflate");
+    }
+
+    /** A 32K-window deflate header whose check bits hold and which asks for no dictionary. */
+    @Override
+    public boolean matches(byte[] head, int length) {
+      if (length < 2 || head[0] != 0x78) {
+        return false;
+      }
+      int flags = head[1] & 0xFF;
+      return (0x7800 | flags) % 31 == 0 && (flags & 0x20) == 0;
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) {
+      Inflater inflater = new Inflater();
+      return new InflaterInputStream(in, inflater, BUFFER_BYTES) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            inflater.end();
+          }
+        }
+      };
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out) {
+      Deflater deflater = new Deflater();
+      return new DeflaterOutputStream(out, deflater, BUFFER_BYTES) {
+        @Override
+        public void close() throws IOException {
+          try {
+            super.close();
+          } finally {
+            deflater.end();
+          }
+        }
+      };
+    }
+  }
+
+  /** Passes writes through to the caller's stream, and only flushes it on close. */
+  private static final class Unclosed extends FilterOutputStream {
+    Unclosed(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+      out.write(bytes, offset, length);
+    }
+
+    @Override
+    public void close() throws IOException {
+      out.flush();
+    }
+  }
+}
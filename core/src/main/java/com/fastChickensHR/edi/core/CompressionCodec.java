@@ -0,0 +1,73 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * A compression format the {@link FileParser} and {@link FileGenerator} path and stream entry
+ * points apply transparently: recognised on read by the file's leading bytes, chosen on write by
+ * the file's extension. {@link Compression#GZIP} and {@link Compression#DEFLATE} are built in.
+ *
+ * <p>This is a service provider interface: a codec for another format (zstd, say, backed by a
+ * library this project does not depend on) is picked up by {@link java.util.ServiceLoader} when its
+ * jar names the implementation in {@code
+ * META-INF/services/com.fastChickensHR.edi.core.CompressionCodec}. An implementation needs a public
+ * no-argument constructor and must be safe to share between threads.
+ */
+public interface CompressionCodec {
+
+  /**
+   * The format's name, for messages (e.g. {@code "gzip"}).
+   *
+   * @return the name
+   */
+  String name();
+
+  /**
+   * The file extensions that mean this format, dot included and in lower case (e.g. {@code ".gz"});
+   * a generated file whose name ends in one is written compressed.
+   *
+   * @return the extensions, possibly empty
+   */
+  List<String> extensions();
+
+  /**
+   * Whether a stream starting with {@code head} is in this format — typically a check of its magic
+   * number. Only the first {@code length} bytes are valid; {@code length} is at most {@link
+   * Compression#SIGNATURE_BYTES}, and less only for a shorter stream.
+   *
+   * @param head the stream's leading bytes
+   * @param length how many of them were read
+   * @return {@code true} if the stream is compressed in this format
+   */
+  boolean matches(byte[] head, int length);
+
+  /**
+   * Wraps {@code in}, positioned at the start of compressed data, in a stream of the data it
+   * decompresses to. Closing the returned stream closes {@code in}.
+   *
+   * @param in the compressed bytes
+   * @return the decompressed bytes
+   * @throws IOException if the format's header cannot be read
+   */
+  InputStream decompress(InputStream in) throws IOException;
+
+  /**
+   * Wraps {@code out} in a stream that compresses what is written to it. Closing the returned
+   * stream writes the format's trailer and closes {@code out}.
+   *
+   * @param out where the compressed bytes go
+   * @return the compressing stream
+   * @throws IOException if the format's header cannot be written
+   */
+  OutputStream compress(OutputStream out) throws IOException;
+}
@@ -21,12 +21,18 @@ import java.util.List;
  * @param records one {@link Record} per subject, in file order
  */
 public record FileContent(Direction direction, List<Field> fileFields, List<Record> records) {
-  /** Rejects a null direction and normalizes null lists to empty immutable copies. */
+  /**
+   * Rejects a null direction and normalizes null lists to empty immutable copies. {@link
+   * ColumnarRecords}, already immutable, is kept as-is rather than copied into a list of Records.
+   */
   public FileContent {
     if (direction == null) {
       throw new IllegalArgumentException("direction is required");
     }
     fileFields = fileFields == null ? List.of() : List.copyOf(fileFields);
-    records = records == null ? List.of() : List.copyOf(records);
+    records =
+        records == null
+            ? List.of()
+            : records instanceof ColumnarRecords ? records : List.copyOf(records);
   }
 }
@@ -7,6 +7,12 @@
  */
 package com.fastChickensHR.edi.core;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
 /**
  * The outbound seam: a format's pure serializer. Given a fully-resolved {@link FileContent},
  * produce the file's text in that format's dialect — interpreting each {@link Location} into its
@@ -14,6 +20,16 @@ package com.fastChickensHR.edi.core;
  * Implementations hold no domain logic; all resolution happened upstream in the consuming
  * application. The kernel <em>programs to</em> this interface; the format modules (x834, flatfile)
  * implement it.
+ *
+ * <p>Two shapes of the same serialization: {@link #generate(FileContent)} hands back the whole file
+ * as a {@code String}, while {@link #generate(FileContent, Writer)} streams it into a caller-owned
+ * sink (a file, a socket, an upload), so a large file never has to exist in memory a second time as
+ * one string. Both produce identical text.
+ *
+ * <p>The byte-level entry points write UTF-8 and compress on the way out: {@link
+ * #generate(FileContent, Path)} with the codec the file's extension names ({@code archive.834.gz}
+ * is gzip), {@link #generate(FileContent, OutputStream, CompressionCodec)} with the codec given —
+ * see {@link Compression}.
  */
 public interface FileGenerator {
   /**
@@ -23,4 +39,53 @@ public interface FileGenerator {
    * @return the file's complete text in this format's dialect
    */
   String generate(FileContent file);
+
+  /**
+   * Serializes the fully-resolved content into this format's text, writing it to {@code out} rather
+   * than returning it. The writer is neither flushed nor closed — it stays the caller's.
+   *
+   * <p>The default renders through {@link #generate(FileContent)} and writes the result, so every
+   * generator supports the streaming shape; a format overrides it to write as it goes. Failures
+   * surface exactly as they do from {@link #generate(FileContent)}; what was written before one is
+   * not a valid file and should be discarded.
+   *
+   * @param file the format-neutral content to serialize
+   * @param out the sink receiving the file's text
+   * @throws IOException if writing to {@code out} fails
+   */
+  default void generate(FileContent file, Writer out) throws IOException {
+    out.write(generate(file));
+  }
+
+  /**
+   * Writes the file's text to {@code target} as UTF-8, created or truncated, compressed with the
+   * {@link CompressionCodec} its extension names (if any) as the text is produced. On failure the
+   * partly written file is left behind and should be discarded.
+   *
+   * @param file the format-neutral content to serialize
+   * @param target the file to write
+   * @throws IOException if {@code target} cannot be written
+   */
+  default void generate(FileContent file, Path target) throws IOException {
+    try (Writer out = Compression.newBufferedWriter(target, StandardCharsets.UTF_8)) {
+      generate(file, out);
+    }
+  }
+
+  /**
+   * Writes the file's text to {@code out} as UTF-8, compressed with {@code codec} as it is
+   * produced. The compressed data is finished and {@code out} flushed, but not closed — it stays
+   * the caller's.
+   *
+   * @param file the format-neutral content to serialize
+   * @param out the sink receiving the file's bytes
+   * @param codec the compression to apply, or {@code null} for none
+   * @throws IOException if writing to {@code out} fails
+   */
+  default void generate(FileContent file, OutputStream out, CompressionCodec codec)
+      throws IOException {
+    try (Writer text = Compression.newBufferedWriter(out, codec, StandardCharsets.UTF_8)) {
+      generate(file, text);
+    }
+  }
 }
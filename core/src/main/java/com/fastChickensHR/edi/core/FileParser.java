@@ -7,9 +7,25 @@
  */
 package com.fastChickensHR.edi.core;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
 /**
  * The inbound seam: a format's parser — the dual of {@link FileGenerator}. Reads a file's text in a
  * format's dialect into a format-neutral {@link FileContent}, keeping the kernel bidirectional.
+ *
+ * <p>Two shapes of the same reading: {@link #parse(String)} takes the whole file and returns the
+ * whole tree, while {@link #read(Reader)} pulls {@link Record}s one at a time through a {@link
+ * RecordReader}, so a multi-gigabyte feed is read in memory bounded by its largest record rather
+ * than its size. Both see the same records and file-level fields.
+ *
+ * <p>The byte-level entry points, {@link #read(Path)} and {@link #read(InputStream)}, take the file
+ * compressed or not: gzip, zlib deflate and any discovered {@link CompressionCodec} are recognised
+ * by their leading bytes and decompressed as the records are read — see {@link Compression}.
  */
 public interface FileParser {
   /**
@@ -19,4 +35,63 @@ public interface FileParser {
    * @return the parsed content, direction {@link Direction#INBOUND}
    */
   FileContent parse(String raw);
+
+  /**
+   * Opens a pull-based reader over this format's text. The returned reader owns {@code in}: closing
+   * it closes {@code in}.
+   *
+   * <p>The default reads {@code in} to its end and parses the text through {@link #parse(String)},
+   * so every parser supports the streaming shape; a format overrides it to read as records are
+   * pulled.
+   *
+   * @param in the file's text in this format's dialect
+   * @return a reader positioned before the first record
+   * @throws IOException if reading {@code in} fails while opening
+   */
+  default RecordReader read(Reader in) throws IOException {
+    StringWriter text = new StringWriter();
+    in.transferTo(text);
+    return new MaterializedRecordReader(parse(text.toString()), in);
+  }
+
+  /**
+   * Opens a pull-based reader over the UTF-8 file at {@code file}, decompressing it as it is read
+   * if it is compressed; see {@link #read(Reader)}.
+   *
+   * @param file the file to read
+   * @return a reader positioned before the first record, owning the opened file
+   * @throws IOException if the file cannot be opened or read while opening
+   */
+  default RecordReader read(Path file) throws IOException {
+    return readOwning(Compression.newBufferedReader(file, StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Opens a pull-based reader over UTF-8 text in {@code in}, decompressing it as it is read if it
+   * is compressed; see {@link #read(Reader)}. The returned reader owns {@code in}.
+   *
+   * @param in the file's bytes, compressed or not
+   * @return a reader positioned before the first record
+   * @throws IOException if reading {@code in} fails while opening
+   */
+  default RecordReader read(InputStream in) throws IOException {
+    Reader text;
+    try {
+      text = Compression.newBufferedReader(in, StandardCharsets.UTF_8);
+    } catch (IOException | RuntimeException e) {
+      in.close();
+      throw e;
+    }
+    return readOwning(text);
+  }
+
+  /** {@link #read(Reader)}, closing {@code in} if the reader cannot be opened. */
+  private RecordReader readOwning(Reader in) throws IOException {
+    try {
+      return read(in);
+    } catch (IOException | RuntimeException e) {
+      in.close();
+      throw e;
+    }
+  }
 }
@@ -13,12 +13,26 @@ package com.fastChickensHR.edi.core;
  * <b>configurable</b> token(s) — an 834 REF qualifier, a CSV column — interpreted by the format's
  * own dialect below the kernel. {@code level} is the tree depth the address sits at.
  *
+ * <p>Parsers hand out {@link #of interned} instances, so every cell of a column (or every element
+ * at one position) shares a single {@code Location}; a consumer that keeps the instances it has
+ * seen can dispatch on them by identity instead of hashing names.
+ *
  * @param level the tree depth this address sits at
  * @param name the configurable token(s) the format's dialect interprets at that depth
  */
 public record Location(RecordLevel level, String name) {
+  /** How many distinct names are interned per level; further names get fresh instances. */
+  private static final int INTERN_LIMIT = 8192;
+
+  private static final LocationTable INTERNED = new LocationTable(INTERN_LIMIT);
+
   /** Rejects a null level and a null or blank name. */
   public Location {
+    check(level, name);
+  }
+
+  /** The constructor's validation, for {@link LocationTable} to run before it looks a name up. */
+  static void check(RecordLevel level, String name) {
     if (level == null) {
       throw new IllegalArgumentException("level is required");
     }
@@ -26,4 +40,17 @@ public record Location(RecordLevel level, String name) {
       throw new IllegalArgumentException("name is required");
     }
   }
+
+  /**
+   * The shared instance for {@code level} and {@code name}. Calls with the same arguments return
+   * the same object while the interning table has room, and an equal one after it fills.
+   *
+   * @param level the tree depth this address sits at
+   * @param name the configurable token(s) the format's dialect interprets at that depth
+   * @return the interned location
+   * @throws IllegalArgumentException if {@code level} is null or {@code name} is null or blank
+   */
+  public static Location of(RecordLevel level, String name) {
+    return INTERNED.intern(level, name);
+  }
 }
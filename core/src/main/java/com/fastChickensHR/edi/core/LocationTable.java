@@ -0,0 +1,47 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The interning table behind {@link Location#of}: one canonical {@link Location} per level and
+ * name, shared by every thread. The table is bounded — once it holds {@code limit} locations at a
+ * level, further names at that level are handed out as fresh (equal, but not identical) instances
+ * rather than grown without end on a file with unbounded column names.
+ */
+final class LocationTable {
+  private final int limit;
+  private final Map<RecordLevel, Map<String, Location>> byLevel = new EnumMap<>(RecordLevel.class);
+
+  LocationTable(int limit) {
+    this.limit = limit;
+    // Filled once here and only read afterwards, so the EnumMap itself needs no guarding.
+    for (RecordLevel level : RecordLevel.values()) {
+      byLevel.put(level, new ConcurrentHashMap<>());
+    }
+  }
+
+  /**
+   * The canonical location for {@code level} and {@code name}; validated as the constructor does.
+   */
+  Location intern(RecordLevel level, String name) {
+    Location.check(level, name);
+    Map<String, Location> names = byLevel.get(level);
+    Location location = names.get(name);
+    if (location != null) {
+      return location;
+    }
+    if (names.size() >= limit) {
+      return new Location(level, name);
+    }
+    return names.computeIfAbsent(name, key -> new Location(level, key));
+  }
+}
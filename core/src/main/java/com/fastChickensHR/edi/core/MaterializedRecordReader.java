@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * A {@link RecordReader} over an already-parsed {@link FileContent} — what {@link
+ * FileParser#read(java.io.Reader)} hands back for a format that has no streaming parser of its own.
+ * Every field is known up front; closing releases the source the content was read from.
+ */
+final class MaterializedRecordReader implements RecordReader {
+  private final List<Field> fileFields;
+  private final Iterator<Record> records;
+  private final Closeable source;
+
+  MaterializedRecordReader(FileContent file, Closeable source) {
+    this.fileFields = file.fileFields();
+    this.records = file.records().iterator();
+    this.source = source;
+  }
+
+  @Override
+  public List<Field> fileFields() {
+    return fileFields;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return records.hasNext();
+  }
+
+  @Override
+  public Record next() {
+    return records.next();
+  }
+
+  @Override
+  public void close() throws IOException {
+    source.close();
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A pull-based view of an inbound file: its {@link Record}s one at a time, in file order, read from
+ * the source only as they are asked for — the streaming shape of {@link FileParser#parse(String)},
+ * for files too large to hold as one {@link FileContent}. Obtain one from {@link
+ * FileParser#read(java.io.Reader)}; close it to release the source.
+ *
+ * <p>File-level fields arrive <em>up front</em>: everything a format places before its first record
+ * (an envelope, a header) is in {@link #fileFields()} as soon as the reader is returned. A format
+ * that also carries file-level fields after its records (a 999's closing group verdict) adds them
+ * as it reads past them, so the list is complete once {@link #hasNext()} has returned {@code
+ * false}.
+ *
+ * <p>Iteration cannot throw a checked exception, so a failed read of the source surfaces from
+ * {@link #hasNext()} or {@link #next()} as an {@link UncheckedIOException}; malformed content
+ * surfaces as the same {@link IllegalArgumentException} the format's {@code parse} throws.
+ */
+public interface RecordReader extends Iterator<Record>, Closeable {
+
+  /**
+   * The file-level fields read so far, in file order — see the class comment for when the list is
+   * complete.
+   *
+   * @return an immutable snapshot of the file-level fields read so far
+   */
+  List<Field> fileFields();
+
+  /**
+   * The remaining records as a sequential, ordered {@link Stream}; closing the stream closes this
+   * reader.
+   *
+   * @return a stream over the records not yet read
+   */
+  default Stream<Record> stream() {
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(
+            () -> {
+              try {
+                close();
+              } catch (IOException e) {
+                throw new UncheckedIOException(e);
+              }
+            });
+  }
+
+  /**
+   * Reads every remaining record and returns them, with the file-level fields, as one {@link
+   * FileContent} — materializing the rest of the file, which is what the streaming shape exists to
+   * avoid, so reserve it for sources known to be small. Does not close the reader.
+   *
+   * @return the remaining content, direction {@link Direction#INBOUND}
+   */
+  default FileContent readAll() {
+    List<Record> records = new ArrayList<>();
+    forEachRemaining(records::add);
+    return new FileContent(Direction.INBOUND, fileFields(), records);
+  }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * A discovered codec that recognises nothing and fails to write its {@code .broken} files, so the
+ * entry points' clean-up on a codec failure can be seen.
+ */
+public final class BrokenCodec implements CompressionCodec {
+
+  /** Created by the service loader. */
+  public BrokenCodec() {}
+
+  @Override
+  public String name() {
+    return "broken";
+  }
+
+  @Override
+  public List<String> extensions() {
+    return List.of(".broken");
+  }
+
+  @Override
+  public boolean matches(byte[] head, int length) {
+    return false;
+  }
+
+  @Override
+  public InputStream decompress(InputStream in) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public OutputStream compress(OutputStream out) throws IOException {
+    throw new IOException("cannot write broken files");
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ColumnarRecordsTest {
+
+  private static final Location ID = Location.of(RecordLevel.RECORD, "id");
+  private static final Location STATE = Location.of(RecordLevel.RECORD, "state");
+
+  @Test
+  void rowsReadBackAsTheFlatRecordsTheyDescribe() {
+    ColumnarRecords records =
+        ColumnarRecords.builder(List.of(ID, STATE))
+            .addRow("1", "OH")
+            .addRow("2", "")
+            .addRow("3")
+            .addRow(null, "TX")
+            .build();
+
+    assertEquals(
+        List.of(
+            Record.of(List.of(new Field(ID, "1"), new Field(STATE, "OH"))),
+            Record.of(List.of(new Field(ID, "2"))),
+            Record.of(List.of(new Field(ID, "3"))),
+            Record.of(List.of(new Field(STATE, "TX")))),
+        records);
+    assertEquals(List.of(ID, STATE), records.columns());
+    assertEquals("OH", records.value(0, 1));
+    assertNull(records.value(1, 1));
+    assertSame(STATE, records.get(3).fields().get(0).location());
+  }
+
+  @Test
+  void aColumnPastTheDictionaryKeepsEveryValue() {
+    ColumnarRecords.Builder builder = ColumnarRecords.builder(List.of(ID, STATE));
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      ids.add(String.valueOf(i));
+      builder.addRow(ids.get(i), i % 3 == 0 ? null : "S" + i % 7);
+    }
+    ColumnarRecords records = builder.build();
+
+    assertEquals(1000, records.size());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(ids.get(i), records.value(i, 0));
+      assertEquals(i % 3 == 0 ? null : "S" + i % 7, records.value(i, 1));
+    }
+  }
+
+  @Test
+  void fileContentKeepsColumnarRecordsWithoutCopying() {
+    ColumnarRecords records = ColumnarRecords.builder(List.of(ID)).addRow("1").build();
+
+    assertSame(records, new FileContent(Direction.INBOUND, List.of(), records).records());
+  }
+
+  @Test
+  void aBuiltTableIsUnaffectedByLaterRows() {
+    ColumnarRecords.Builder builder = ColumnarRecords.builder(List.of(ID)).addRow("1");
+    ColumnarRecords first = builder.build();
+    builder.addRow("2");
+
+    assertEquals(1, first.size());
+    assertEquals(2, builder.build().size());
+    assertThrows(UnsupportedOperationException.class, () -> first.add(Record.of(List.of())));
+  }
+
+  @Test
+  void rejectsMissingColumnsAndOverlongRowsAndReadsOutsideTheTable() {
+    assertThrows(IllegalArgumentException.class, () -> ColumnarRecords.builder(null));
+    assertThrows(
+        IllegalArgumentException.class, () -> ColumnarRecords.builder(Arrays.asList(ID, null)));
+
+    ColumnarRecords.Builder builder = ColumnarRecords.builder(List.of(ID));
+    assertThrows(IllegalArgumentException.class, () -> builder.addRow((String[]) null));
+    assertThrows(IllegalArgumentException.class, () -> builder.addRow("1", "2"));
+
+    ColumnarRecords records = builder.addRow("1").build();
+    assertThrows(IndexOutOfBoundsException.class, () -> records.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> records.value(-1, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> records.value(0, 1));
+  }
+
+  @Test
+  void aTableWithoutColumnsStillHasOnlyItsRows() {
+    ColumnarRecords records = ColumnarRecords.builder(List.of()).addRow().addRow().build();
+
+    assertEquals(2, records.size());
+    assertEquals(Record.of(List.of()), records.get(1));
+    assertThrows(IndexOutOfBoundsException.class, () -> records.get(2));
+    assertThrows(IndexOutOfBoundsException.class, () -> records.get(-1));
+  }
+}
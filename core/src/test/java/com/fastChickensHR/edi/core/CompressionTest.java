@@ -0,0 +1,177 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.ZipException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CompressionTest {
+
+  private static final String TEXT = "ISA*00*ü~\n".repeat(5_000);
+
+  @TempDir Path dir;
+
+  private static byte[] gzip(byte[] bytes) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (OutputStream gzip = new GZIPOutputStream(out)) {
+      gzip.write(bytes);
+    }
+    return out.toByteArray();
+  }
+
+  private static byte[] deflate(byte[] bytes) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try (OutputStream deflate = new DeflaterOutputStream(out)) {
+      deflate.write(bytes);
+    }
+    return out.toByteArray();
+  }
+
+  /** A stream without mark support, as a socket or file stream is. */
+  private static InputStream unmarkable(byte[] bytes) {
+    return new ByteArrayInputStream(bytes) {
+      @Override
+      public boolean markSupported() {
+        return false;
+      }
+    };
+  }
+
+  @Test
+  void theBuiltInCodecsComeFirstAndProvidersAreDiscovered() {
+    List<CompressionCodec> codecs = Compression.codecs();
+
+    assertSame(Compression.GZIP, codecs.get(0));
+    assertSame(Compression.DEFLATE, codecs.get(1));
+    assertEquals("gzip", codecs.get(0).name());
+    assertEquals("deflate", codecs.get(1).name());
+    assertTrue(codecs.stream().anyMatch(TaggedCodec.class::isInstance));
+    assertThrows(UnsupportedOperationException.class, () -> codecs.add(Compression.GZIP));
+  }
+
+  @Test
+  void compressedStreamsAreRecognisedByTheirLeadingBytes() throws IOException {
+    byte[] text = TEXT.getBytes(StandardCharsets.UTF_8);
+
+    for (byte[] compressed : List.of(gzip(text), deflate(text), text)) {
+      assertArrayEquals(
+          text, Compression.decompressing(new ByteArrayInputStream(compressed)).readAllBytes());
+      assertArrayEquals(text, Compression.decompressing(unmarkable(compressed)).readAllBytes());
+    }
+    assertEquals(0, Compression.decompressing(unmarkable(new byte[0])).readAllBytes().length);
+  }
+
+  @Test
+  void onlyAValidDictionaryFreeZlibHeaderReadsAsDeflate() {
+    CompressionCodec deflate = Compression.DEFLATE;
+
+    assertTrue(deflate.matches(new byte[] {0x78, (byte) 0x9C}, 2));
+    assertTrue(deflate.matches("x^".getBytes(StandardCharsets.US_ASCII), 2));
+    assertFalse(deflate.matches("x ".getBytes(StandardCharsets.US_ASCII), 2));
+    assertFalse(deflate.matches("xy".getBytes(StandardCharsets.US_ASCII), 2));
+    assertFalse(deflate.matches("ab".getBytes(StandardCharsets.US_ASCII), 2));
+    assertFalse(deflate.matches(new byte[] {0x78, (byte) 0x9C}, 1));
+    assertFalse(Compression.GZIP.matches(new byte[] {0x1F, 0x00}, 2));
+    assertFalse(Compression.GZIP.matches(new byte[] {0x1F, (byte) 0x8B}, 1));
+  }
+
+  @Test
+  void aFileIsCompressedByItsExtensionAndReadBackTransparently() throws IOException {
+    for (String name : List.of("a.txt.gz", "b.TXT.ZZ", "c.deflate", "d.tag", "e.txt")) {
+      Path file = dir.resolve(name);
+      try (Writer out = Compression.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+        out.write(TEXT);
+      }
+      try (BufferedReader in = Compression.newBufferedReader(file, StandardCharsets.UTF_8)) {
+        assertEquals(TEXT.length(), in.transferTo(Writer.nullWriter()), name);
+      }
+      assertSame(Compression.forExtension(file), Compression.detect(file), name);
+    }
+    assertTrue(Files.size(dir.resolve("a.txt.gz")) < TEXT.length() / 10);
+    assertInstanceOf(TaggedCodec.class, Compression.detect(dir.resolve("d.tag")));
+    assertNull(Compression.forExtension(dir.getRoot()));
+  }
+
+  @Test
+  void aCompressingStreamFinishesItsDataButLeavesTheSinkOpen() throws IOException {
+    boolean[] closed = {false};
+    ByteArrayOutputStream sink =
+        new ByteArrayOutputStream() {
+          @Override
+          public void close() {
+            closed[0] = true;
+          }
+        };
+
+    try (Writer out =
+        Compression.newBufferedWriter(sink, Compression.GZIP, StandardCharsets.UTF_8)) {
+      out.write(TEXT);
+    }
+    assertFalse(closed[0]);
+    sink.write('!');
+    try (OutputStream plain = Compression.compressing(sink, null)) {
+      plain.write('?');
+      plain.write(new byte[] {'a', 'b'}, 1, 1);
+    }
+
+    byte[] bytes = sink.toByteArray();
+    byte[] gzip = Arrays.copyOf(bytes, bytes.length - 3);
+    assertEquals(
+        TEXT,
+        new String(
+            Compression.decompressing(new ByteArrayInputStream(gzip)).readAllBytes(),
+            StandardCharsets.UTF_8));
+    assertEquals("!?b", new String(bytes, bytes.length - 3, 3, StandardCharsets.US_ASCII));
+  }
+
+  @Test
+  void textThatIsNotInTheCharsetFailsTheRead() throws IOException {
+    Path file = Files.write(dir.resolve("latin1.txt.gz"), gzip(new byte[] {'J', (byte) 0xE9}));
+
+    try (BufferedReader in = Compression.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      assertThrows(MalformedInputException.class, in::readLine);
+    }
+  }
+
+  @Test
+  void aCodecFailureOnOpeningClosesTheFile() throws IOException {
+    Path corrupt = Files.write(dir.resolve("corrupt.gz"), new byte[] {0x1F, (byte) 0x8B, 1, 2});
+    assertThrows(ZipException.class, () -> Compression.newInputStream(corrupt));
+    Files.delete(corrupt);
+
+    Path broken = dir.resolve("out.broken");
+    IOException e = assertThrows(IOException.class, () -> Compression.newOutputStream(broken));
+    assertEquals("cannot write broken files", e.getMessage());
+    Files.delete(broken);
+  }
+}
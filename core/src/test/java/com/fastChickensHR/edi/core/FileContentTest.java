@@ -9,6 +9,9 @@ package com.fastChickensHR.edi.core;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -46,6 +49,40 @@ class FileContentTest {
     assertThrows(IllegalArgumentException.class, () -> new Location(RecordLevel.FILE, "  "));
   }
 
+  @Test
+  void ofInternsOneInstancePerLevelAndName() {
+    Location first = Location.of(RecordLevel.RECORD, "REF*0F");
+
+    assertSame(first, Location.of(RecordLevel.RECORD, "REF*0F"));
+    assertTrue(first.equals(first));
+    assertNotSame(first, Location.of(RecordLevel.SUBRECORD, "REF*0F"));
+    assertEquals(first, new Location(RecordLevel.RECORD, "REF*0F"));
+    assertEquals(first.hashCode(), new Location(RecordLevel.RECORD, "REF*0F").hashCode());
+    assertNotEquals(first, new Location(RecordLevel.FILE, "REF*0F"));
+    assertNotEquals(first, new Location(RecordLevel.RECORD, "REF*1L"));
+    assertNotEquals(first, (Object) "REF*0F");
+  }
+
+  @Test
+  void ofValidatesLikeTheConstructor() {
+    assertThrows(IllegalArgumentException.class, () -> Location.of(null, "x"));
+    assertThrows(IllegalArgumentException.class, () -> Location.of(RecordLevel.FILE, null));
+    assertThrows(IllegalArgumentException.class, () -> Location.of(RecordLevel.FILE, "  "));
+  }
+
+  @Test
+  void aFullTableHandsOutEqualButFreshInstances() {
+    LocationTable table = new LocationTable(1);
+    Location kept = table.intern(RecordLevel.FILE, "ISA*13");
+
+    assertSame(kept, table.intern(RecordLevel.FILE, "ISA*13"));
+    Location overflow = table.intern(RecordLevel.FILE, "GS*06");
+    assertEquals(overflow, table.intern(RecordLevel.FILE, "GS*06"));
+    assertNotSame(overflow, table.intern(RecordLevel.FILE, "GS*06"));
+    assertSame(
+        table.intern(RecordLevel.RECORD, "GS*06"), table.intern(RecordLevel.RECORD, "GS*06"));
+  }
+
   @Test
   void rejectsNullDirectionAndNullFieldLocation() {
     assertThrows(IllegalArgumentException.class, () -> new FileContent(null, List.of(), List.of()));
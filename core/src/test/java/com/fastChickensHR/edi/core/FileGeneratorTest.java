@@ -0,0 +1,68 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileGeneratorTest {
+
+  @Test
+  void streamingDefaultWritesWhatTheStringFormProduces() throws IOException {
+    FileGenerator generator = file -> "records=" + file.records().size();
+    FileContent file =
+        new FileContent(
+            Direction.OUTBOUND,
+            List.of(),
+            List.of(Record.of(List.of(new Field(new Location(RecordLevel.RECORD, "id"), "1")))));
+
+    StringWriter out = new StringWriter();
+    out.write("prefix|");
+    generator.generate(file, out);
+
+    assertEquals("prefix|records=1", out.toString());
+  }
+
+  @Test
+  void aFileOrStreamIsWrittenAsUtf8CompressedAsAsked(@TempDir Path dir) throws IOException {
+    FileGenerator generator = file -> "é".repeat(file.records().size());
+    FileContent file =
+        new FileContent(Direction.OUTBOUND, List.of(), List.of(Record.of(List.of())));
+
+    Path gz = dir.resolve("out.txt.gz");
+    generator.generate(file, gz);
+    assertSame(Compression.GZIP, Compression.detect(gz));
+    try (InputStream in = Compression.newInputStream(gz)) {
+      assertEquals("é", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+    }
+
+    ByteArrayOutputStream plain = new ByteArrayOutputStream();
+    generator.generate(file, plain, null);
+    assertEquals("é", plain.toString(StandardCharsets.UTF_8));
+
+    ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+    generator.generate(file, deflated, Compression.DEFLATE);
+    assertEquals(
+        "é",
+        new String(
+            Compression.decompressing(new ByteArrayInputStream(deflated.toByteArray()))
+                .readAllBytes(),
+            StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileParserTest {
+
+  /** One record per line, one field per record; a line reading "!" is malformed. */
+  private static final FileParser LINES =
+      raw -> {
+        if (raw.contains("!")) {
+          throw new IllegalArgumentException("malformed");
+        }
+        return new FileContent(
+            Direction.INBOUND,
+            List.of(new Field(new Location(RecordLevel.FILE, "lines"), "n")),
+            raw.lines()
+                .map(
+                    line ->
+                        Record.of(List.of(new Field(new Location(RecordLevel.RECORD, "v"), line))))
+                .toList());
+      };
+
+  private static String value(Record record) {
+    return record.fields().get(0).value();
+  }
+
+  @Test
+  void defaultReaderYieldsTheParsedRecordsInOrderWithFileFieldsUpFront() throws IOException {
+    try (RecordReader reader = LINES.read(new StringReader("a\nb"))) {
+      assertEquals("lines", reader.fileFields().get(0).location().name());
+      assertEquals("a", value(reader.next()));
+      assertEquals("b", value(reader.next()));
+      assertFalse(reader.hasNext());
+      assertThrows(NoSuchElementException.class, reader::next);
+    }
+  }
+
+  @Test
+  void readAllMaterializesTheRemainingRecordsAsInboundContent() throws IOException {
+    try (RecordReader reader = LINES.read(new StringReader("a\nb\nc"))) {
+      reader.next();
+      FileContent rest = reader.readAll();
+
+      assertEquals(Direction.INBOUND, rest.direction());
+      assertEquals(List.of("b", "c"), rest.records().stream().map(FileParserTest::value).toList());
+      assertEquals(1, rest.fileFields().size());
+    }
+  }
+
+  @Test
+  void readsAUtf8FileFromAPath(@TempDir Path dir) throws IOException {
+    Path file = Files.writeString(dir.resolve("in.txt"), "é\nü", StandardCharsets.UTF_8);
+
+    try (Stream<Record> records = LINES.read(file).stream()) {
+      assertEquals("é,ü", records.map(FileParserTest::value).collect(Collectors.joining(",")));
+    }
+  }
+
+  @Test
+  void readsACompressedFileOrStreamAsItsText(@TempDir Path dir) throws IOException {
+    Path file = dir.resolve("in.txt.gz");
+    try (Writer out = Compression.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      out.write("é\nü");
+    }
+
+    try (Stream<Record> records = LINES.read(file).stream()) {
+      assertEquals("é,ü", records.map(FileParserTest::value).collect(Collectors.joining(",")));
+    }
+    try (RecordReader reader = LINES.read(Files.newInputStream(file))) {
+      assertEquals("é", value(reader.next()));
+    }
+  }
+
+  @Test
+  void aStreamThatCannotBeOpenedIsClosed() {
+    boolean[] closed = {false};
+    InputStream corrupt =
+        new ByteArrayInputStream(new byte[] {0x1F, (byte) 0x8B, 0}) {
+          @Override
+          public void close() {
+            closed[0] = true;
+          }
+        };
+
+    assertThrows(IOException.class, () -> LINES.read(corrupt));
+    assertTrue(closed[0]);
+  }
+
+  @Test
+  void aPathThatFailsToParsePropagatesTheParsersFailure(@TempDir Path dir) throws IOException {
+    Path file = Files.writeString(dir.resolve("bad.txt"), "!");
+
+    IllegalArgumentException thrown =
+        assertThrows(IllegalArgumentException.class, () -> LINES.read(file));
+
+    assertEquals("malformed", thrown.getMessage());
+  }
+
+  @Test
+  void closingTheStreamClosesTheReaderAndRethrowsUnchecked() {
+    boolean[] closed = {false};
+    RecordReader failing =
+        new RecordReader() {
+          @Override
+          public List<Field> fileFields() {
+            return List.of();
+          }
+
+          @Override
+          public boolean hasNext() {
+            return false;
+          }
+
+          @Override
+          public Record next() {
+            throw new NoSuchElementException();
+          }
+
+          @Override
+          public void close() throws IOException {
+            closed[0] = true;
+            throw new IOException("disk gone");
+          }
+        };
+
+    Stream<Record> records = failing.stream();
+    UncheckedIOException thrown = assertThrows(UncheckedIOException.class, records::close);
+
+    assertTrue(closed[0]);
+    assertEquals("disk gone", thrown.getCause().getMessage());
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A stand-in third-party codec, registered for {@link java.util.ServiceLoader} in the test
+ * resources: "compresses" by prefixing the bytes with a tag and "decompresses" by skipping it.
+ */
+public final class TaggedCodec implements CompressionCodec {
+  static final byte[] TAG = "TAGGED:".getBytes(StandardCharsets.US_ASCII);
+
+  /** Created by the service loader. */
+  public TaggedCodec() {}
+
+  @Override
+  public String name() {
+    return "tagged";
+  }
+
+  @Override
+  public List<String> extensions() {
+    return List.of(".tag");
+  }
+
+  @Override
+  public boolean matches(byte[] head, int length) {
+    return length >= TAG.length && Arrays.equals(head, 0, TAG.length, TAG, 0, TAG.length);
+  }
+
+  @Override
+  public InputStream decompress(InputStream in) throws IOException {
+    in.skipNBytes(TAG.length);
+    return in;
+  }
+
+  @Override
+  public OutputStream compress(OutputStream out) throws IOException {
+    out.write(TAG);
+    return out;
+  }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * {@link DelimitedRows} read through Commons CSV, for the formats {@link DelimitedTokenizer} does
+ * not speak (an escape character).
+ */
+final class CommonsCsvRows implements DelimitedRows {
+  private final CSVParser parser;
+  private final Iterator<CSVRecord> rows;
+  private CSVRecord row;
+
+  CommonsCsvRows(Reader in, CSVFormat format) throws IOException {
+    this.parser = format.parse(in);
+    this.rows = parser.iterator();
+  }
+
+  @Override
+  public boolean next() throws IOException {
+    try {
+      if (!rows.hasNext()) {
+        return false;
+      }
+      row = rows.next();
+      return true;
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Override
+  public int size() {
+    return row.size();
+  }
+
+  @Override
+  public String get(int index) {
+    return row.get(index);
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+}
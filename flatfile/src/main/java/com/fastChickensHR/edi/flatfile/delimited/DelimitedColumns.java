@@ -0,0 +1,290 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.RecordLevel;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * What a delimited file's header makes of each row: which cell feeds which column {@link Location},
+ * and — in a linked-row file — which cell carries the row's level. A headerless file names each
+ * cell by its 1-based position instead.
+ *
+ * <p>Each column's location is resolved once, up front, so every cell in a column carries the same
+ * instance instead of a fresh one per row.
+ */
+final class DelimitedColumns {
+  /** The selected header columns' names, or {@code null} for a headerless (positional) file. */
+  private final List<String> headers;
+
+  /** Every header name's position: the last column of a repeated name. */
+  private final Map<String, Integer> byName;
+
+  /** The {@code RECORD}-level location of each selected column; null when headerless. */
+  private final Location[] recordColumns;
+
+  /** Linked rows only: the {@code SUBRECORD}-level location of each selected column. */
+  private final Location[] subrecordColumns;
+
+  /** Where each selected column's cell is read from. */
+  private final int[] positions;
+
+  /** Headerless files only: which positions are projected, or {@code null} for all of them. */
+  private final boolean[] projectedPositions;
+
+  /** Linked rows only: the position the {@code recordLevel} cell is read from. */
+  private final int levelPosition;
+
+  private final boolean nested;
+
+  /**
+   * The layout {@code headers} describes, every column selected.
+   *
+   * @param headers the header's column names, or {@code null} for a headerless file
+   */
+  DelimitedColumns(List<String> headers) {
+    this(headers, null);
+  }
+
+  /**
+   * The layout {@code headers} describes, cut down to the {@code projection}: a column outside it
+   * is never read into a field, and a projected column the file lacks yields no fields. The
+   * linked-row level column is read whatever the projection.
+   *
+   * @param headers the header's column names, or {@code null} for a headerless file
+   * @param projection the column names to read, or {@code null} for all of them
+   */
+  DelimitedColumns(List<String> headers, Set<String> projection) {
+    this.byName = headers == null ? Map.of() : lastPositions(headers);
+    this.headers = headers == null ? null : selected(headers, projection);
+    this.nested = byName.containsKey(LinkedRows.RECORD_LEVEL_COLUMN);
+    this.recordColumns = headers == null ? null : columns(this.headers, RecordLevel.RECORD);
+    this.subrecordColumns = nested ? columns(this.headers, RecordLevel.SUBRECORD) : null;
+    this.positions = headers == null ? null : positions(this.headers, byName);
+    this.projectedPositions = headers == null ? projectedPositions(projection) : null;
+    this.levelPosition = nested ? byName.get(LinkedRows.RECORD_LEVEL_COLUMN) : -1;
+  }
+
+  /**
+   * Reads the header row: the first row's cells, as column names; none for an empty file.
+   *
+   * @throws IllegalArgumentException if a header name is blank
+   */
+  static List<String> header(DelimitedRows rows) throws IOException {
+    if (!rows.next()) {
+      return List.of();
+    }
+    String[] names = new String[rows.size()];
+    for (int i = 0; i < names.length; i++) {
+      names[i] = rows.get(i);
+    }
+    for (String name : names) {
+      if (name.isBlank()) {
+        throw new IllegalArgumentException("A header name is missing in " + Arrays.toString(names));
+      }
+    }
+    return List.of(names);
+  }
+
+  private static Map<String, Integer> lastPositions(List<String> headers) {
+    Map<String, Integer> byName = new HashMap<>();
+    for (int i = 0; i < headers.size(); i++) {
+      byName.put(headers.get(i), i);
+    }
+    return byName;
+  }
+
+  /** The header names in the projection, in header order; all of them without one. */
+  private static List<String> selected(List<String> headers, Set<String> projection) {
+    if (projection == null) {
+      return headers;
+    }
+    List<String> selected = new ArrayList<>();
+    for (String header : headers) {
+      if (projection.contains(header)) {
+        selected.add(header);
+      }
+    }
+    return selected;
+  }
+
+  /** The 0-based positions a headerless projection names, or {@code null} for all of them. */
+  private static boolean[] projectedPositions(Set<String> projection) {
+    if (projection == null) {
+      return null;
+    }
+    int width = 0;
+    for (String column : projection) {
+      width = Math.max(width, positionOf(column) + 1);
+    }
+    boolean[] projected = new boolean[width];
+    for (String column : projection) {
+      int position = positionOf(column);
+      if (position >= 0) {
+        projected[position] = true;
+      }
+    }
+    return projected;
+  }
+
+  /** The 0-based position a positional column name means: {@code "1"} is 0; {@code -1} if none. */
+  private static int positionOf(String column) {
+    if (column.isEmpty() || column.length() > 9 || column.charAt(0) == '0') {
+      return -1;
+    }
+    int number = 0;
+    for (int i = 0; i < column.length(); i++) {
+      char c = column.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      number = number * 10 + (c - '0');
+    }
+    return number - 1;
+  }
+
+  private static int[] positions(List<String> headers, Map<String, Integer> byName) {
+    int[] positions = new int[headers.size()];
+    for (int i = 0; i < positions.length; i++) {
+      positions[i] = byName.get(headers.get(i));
+    }
+    return positions;
+  }
+
+  /**
+   * The interned location of each column at {@code level}; {@code null} for the linked-row level
+   * column, which never becomes a field. Blank header names were rejected with the header.
+   */
+  private static Location[] columns(List<String> headers, RecordLevel level) {
+    Location[] columns = new Location[headers.size()];
+    for (int i = 0; i < columns.length; i++) {
+      String column = headers.get(i);
+      if (!column.equals(LinkedRows.RECORD_LEVEL_COLUMN)) {
+        columns[i] = Location.of(level, column);
+      }
+    }
+    return columns;
+  }
+
+  /** Whether the file has no header, so cells are named by position. */
+  boolean positional() {
+    return headers == null;
+  }
+
+  /** Whether the header carries the linked-row level column. */
+  boolean nested() {
+    return nested;
+  }
+
+  /**
+   * Where the cell of the column named {@code column} sits in a row — any header column, selected
+   * or not; {@code -1} if the file has no such column.
+   */
+  int position(String column) {
+    return headers == null ? positionOf(column) : byName.getOrDefault(column, -1);
+  }
+
+  /** A flat header file's selected column locations, in header order. */
+  List<Location> recordColumns() {
+    return Arrays.asList(recordColumns);
+  }
+
+  /**
+   * The current row's fields at {@code level}: one per non-empty projected cell, named by its
+   * header column or, in a headerless file, by its position.
+   */
+  List<Field> fields(DelimitedRows row, RecordLevel level) {
+    if (headers == null) {
+      return positionalFields(row);
+    }
+    Location[] columns = level == RecordLevel.SUBRECORD ? subrecordColumns : recordColumns;
+    List<Field> fields = new ArrayList<>();
+    for (int i = 0; i < columns.length; i++) {
+      if (columns[i] == null) {
+        continue;
+      }
+      String value = cell(row, i);
+      if (!value.isEmpty()) {
+        fields.add(new Field(columns[i], value));
+      }
+    }
+    return fields;
+  }
+
+  /**
+   * A headerless row's fields, each cell named by its 1-based column position. Rows need not be the
+   * same width — each cell is named by where it actually sits.
+   */
+  private List<Field> positionalFields(DelimitedRows row) {
+    List<Field> fields = new ArrayList<>();
+    for (int i = 0; i < row.size(); i++) {
+      if (projectedPositions != null
+          && (i >= projectedPositions.length || !projectedPositions[i])) {
+        continue;
+      }
+      String value = row.get(i);
+      if (!value.isEmpty()) {
+        fields.add(new Field(Location.of(RecordLevel.RECORD, columnName(i)), value));
+      }
+    }
+    return fields;
+  }
+
+  /** The positional column name for a 0-based index: {@code "1"} for the first column. */
+  private static String columnName(int index) {
+    return String.valueOf(index + 1);
+  }
+
+  /** Fills {@code into} with the current row's cell for each selected header column. */
+  void cells(DelimitedRows row, String[] into) {
+    for (int i = 0; i < into.length; i++) {
+      into[i] = cell(row, i);
+    }
+  }
+
+  /** The row's linked-row level: {@code RECORD} or {@code SUBRECORD}, anything else rejected. */
+  RecordLevel level(DelimitedRows row) {
+    String level = cellAt(row, levelPosition, LinkedRows.RECORD_LEVEL_COLUMN);
+    if (RecordLevel.SUBRECORD.name().equals(level)) {
+      return RecordLevel.SUBRECORD;
+    }
+    if (RecordLevel.RECORD.name().equals(level)) {
+      return RecordLevel.RECORD;
+    }
+    throw new IllegalArgumentException(
+        "unknown " + LinkedRows.RECORD_LEVEL_COLUMN + " value: '" + level + "'");
+  }
+
+  /** Selected header column {@code i}'s cell in the current row. */
+  private String cell(DelimitedRows row, int i) {
+    return cellAt(row, positions[i], headers.get(i));
+  }
+
+  /**
+   * The current row's cell at {@code position}, which the header names {@code column}.
+   *
+   * @throws IllegalArgumentException if the row is too short to reach it
+   */
+  private static String cellAt(DelimitedRows row, int position, String column) {
+    if (position >= row.size()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Index for header '%s' is %d but the row only has %d values",
+              column, position, row.size()));
+    }
+    return row.get(position);
+  }
+}
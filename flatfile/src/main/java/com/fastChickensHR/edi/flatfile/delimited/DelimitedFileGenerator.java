@@ -10,16 +10,18 @@ package com.fastChickensHR.edi.flatfile.delimited;
 import com.fastChickensHR.edi.core.Field;
 import com.fastChickensHR.edi.core.FileContent;
 import com.fastChickensHR.edi.core.FileGenerator;
+import com.fastChickensHR.edi.core.Location;
 import com.fastChickensHR.edi.core.Record;
 import com.fastChickensHR.edi.core.RecordLevel;
 import java.io.IOException;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import org.apache.commons.csv.CSVPrinter;
 
 /**
  * The delimited flat-file implementation of the {@link FileGenerator} seam: writes a format-neutral
@@ -53,46 +55,77 @@ public final class DelimitedFileGenerator implements FileGenerator {
 
   @Override
   public String generate(FileContent file) {
+    StringWriter out = new StringWriter();
+    try {
+      generate(file, out);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to generate delimited file: " + e.getMessage(), e);
+    }
+    return out.toString();
+  }
+
+  /**
+   * Streams the file row by row into {@code out}: each row is printed as soon as it is laid out, so
+   * no copy of the whole file is held. Unless the format {@linkplain
+   * DelimitedFormat.Builder#columns(String...) declares its columns}, the column set is gathered up
+   * front, since the header row names every column before the first data row; with declared columns
+   * the header is written at once and the records are walked a single time.
+   */
+  @Override
+  public void generate(FileContent file, Writer out) throws IOException {
     if (!file.fileFields().isEmpty()) {
       throw new IllegalArgumentException(
           "a delimited file has no file-level row; FileContent.fileFields must be empty");
     }
-    if (file.records().isEmpty()) {
-      return "";
+    List<String> header = format.columns();
+    boolean nested;
+    if (header != null) {
+      nested = header.contains(LinkedRows.RECORD_LEVEL_COLUMN);
+    } else {
+      if (file.records().isEmpty()) {
+        return;
+      }
+      nested = file.records().stream().anyMatch(r -> !r.children().isEmpty());
+      header = collectHeader(file.records(), nested);
     }
 
-    boolean nested = file.records().stream().anyMatch(r -> !r.children().isEmpty());
+    // The printer writes straight through to the caller's writer and never closes it.
+    DelimitedPrinter printer = new DelimitedPrinter(out, format);
+    if (format.hasHeader()) {
+      printer.printRecord(header.toArray(new String[0]));
+    }
+    ColumnIndex index = new ColumnIndex(header);
+    boolean ignoreUnknown = format.unknownColumns() == UnknownColumnPolicy.IGNORE;
+    for (Record record : file.records()) {
+      if (!nested && !record.children().isEmpty()) {
+        throw new IllegalArgumentException(
+            "a record has children but the declared columns have no '"
+                + LinkedRows.RECORD_LEVEL_COLUMN
+                + "' column to link them by");
+      }
+      printRow(printer, index, ignoreUnknown, record, RecordLevel.RECORD);
+      for (Record child : record.children()) {
+        if (!child.children().isEmpty()) {
+          throw new IllegalArgumentException(
+              "a delimited file supports one level of nesting; a SUBRECORD cannot have children");
+        }
+        printRow(printer, index, ignoreUnknown, child, RecordLevel.SUBRECORD);
+      }
+    }
+  }
 
+  /** Every column the records fill, in first-seen order, after the level column when they nest. */
+  private static List<String> collectHeader(List<Record> records, boolean nested) {
     LinkedHashSet<String> columns = new LinkedHashSet<>();
-    for (Record record : file.records()) {
+    for (Record record : records) {
       collectColumns(record, columns);
     }
-
     List<String> header = new ArrayList<>();
     if (nested) {
       header.add(LinkedRows.RECORD_LEVEL_COLUMN);
     }
     header.addAll(columns);
-
-    StringWriter out = new StringWriter();
-    try (CSVPrinter printer = new CSVPrinter(out, format.generateFormat())) {
-      if (format.hasHeader()) {
-        printer.printRecord(header);
-      }
-      for (Record record : file.records()) {
-        printRow(printer, header, record, RecordLevel.RECORD);
-        for (Record child : record.children()) {
-          if (!child.children().isEmpty()) {
-            throw new IllegalArgumentException(
-                "a delimited file supports one level of nesting; a SUBRECORD cannot have children");
-          }
-          printRow(printer, header, child, RecordLevel.SUBRECORD);
-        }
-      }
-    } catch (IOException e) {
-      throw new IllegalStateException("Failed to generate delimited file: " + e.getMessage(), e);
-    }
-    return out.toString();
+    return header;
   }
 
   private static void collectColumns(Record record, LinkedHashSet<String> columns) {
@@ -106,28 +139,87 @@ public final class DelimitedFileGenerator implements FileGenerator {
     }
   }
 
+  /**
+   * Lays the record's fields out by column position; the first value for a column wins. A field
+   * with no column (possible only with declared columns) is skipped or rejected.
+   */
   private static void printRow(
-      CSVPrinter printer, List<String> header, Record record, RecordLevel level)
+      DelimitedPrinter printer,
+      ColumnIndex index,
+      boolean ignoreUnknown,
+      Record record,
+      RecordLevel level)
       throws IOException {
-    Map<String, String> values = fieldValues(record);
-    List<String> cells = new ArrayList<>(header.size());
-    for (String column : header) {
-      if (column.equals(LinkedRows.RECORD_LEVEL_COLUMN)) {
-        cells.add(level.name());
-      } else {
-        cells.add(values.getOrDefault(column, ""));
+    String[] cells = new String[index.width()];
+    for (Field field : record.fields()) {
+      if (!field.isOmitted()) {
+        int column = index.of(field.location());
+        if (column < 0) {
+          if (ignoreUnknown) {
+            continue;
+          }
+          throw new IllegalArgumentException(
+              "Column '" + field.location().name() + "' is not declared in the format");
+        }
+        if (cells[column] == null) {
+          cells[column] = field.value();
+        }
+      }
+    }
+    for (int i = 0; i < cells.length; i++) {
+      if (index.isLevelColumn(i)) {
+        cells[i] = level.name();
+      } else if (cells[i] == null) {
+        cells[i] = "";
       }
     }
     printer.printRecord(cells);
   }
 
-  private static Map<String, String> fieldValues(Record record) {
-    Map<String, String> values = new LinkedHashMap<>();
-    for (Field field : record.fields()) {
-      if (!field.isOmitted()) {
-        values.putIfAbsent(field.location().name(), field.value());
+  /**
+   * The header's column positions. A field's location is looked up by name the first time that
+   * {@link Location} instance is seen and by identity after that — parsed and {@link Location#of
+   * interned} locations repeat the same instance for every row, so a row costs no name hashing.
+   * Records built with a fresh {@code Location} per field stop being remembered past {@code
+   * IDENTITY_LIMIT} instances and are looked up by name.
+   */
+  private static final class ColumnIndex {
+    private static final int IDENTITY_LIMIT = 4096;
+
+    private final Map<String, Integer> byName = new HashMap<>();
+    private final IdentityHashMap<Location, Integer> byInstance = new IdentityHashMap<>();
+    private final boolean[] levelColumns;
+
+    ColumnIndex(List<String> header) {
+      levelColumns = new boolean[header.size()];
+      for (int i = 0; i < header.size(); i++) {
+        String column = header.get(i);
+        byName.putIfAbsent(column, i);
+        levelColumns[i] = column.equals(LinkedRows.RECORD_LEVEL_COLUMN);
+      }
+    }
+
+    int width() {
+      return levelColumns.length;
+    }
+
+    boolean isLevelColumn(int column) {
+      return levelColumns[column];
+    }
+
+    /**
+     * The position of the column {@code location} names, or {@code -1} if the header lacks it (a
+     * collected header never does; a declared one may).
+     */
+    int of(Location location) {
+      Integer column = byInstance.get(location);
+      if (column == null) {
+        column = byName.getOrDefault(location.name(), -1);
+        if (byInstance.size() < IDENTITY_LIMIT) {
+          byInstance.put(location, column);
+        }
       }
+      return column;
     }
-    return values;
   }
 }
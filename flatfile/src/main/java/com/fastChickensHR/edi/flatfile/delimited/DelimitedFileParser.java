@@ -7,18 +7,21 @@
  */
 package com.fastChickensHR.edi.flatfile.delimited;
 
-import com.fastChickensHR.edi.core.Direction;
 import com.fastChickensHR.edi.core.Field;
 import com.fastChickensHR.edi.core.FileContent;
 import com.fastChickensHR.edi.core.FileParser;
 import com.fastChickensHR.edi.core.Location;
 import com.fastChickensHR.edi.core.Record;
 import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import org.apache.commons.csv.CSVParser;
-import org.apache.commons.csv.CSVRecord;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The delimited flat-file implementation of the {@link FileParser} seam: reads a header-row
@@ -39,10 +42,21 @@ import org.apache.commons.csv.CSVRecord;
  * "1"}, the second {@code "2"}, and so on — 1-based, matching the element numbering the rest of
  * this library speaks. A headerless file carries no {@link LinkedRows#RECORD_LEVEL_COLUMN} to
  * recognise either, so it always parses flat; reconstructing nesting requires a header row.
+ *
+ * <p><b>Large files</b> can be parsed in parallel with {@link #parseParallel(Path, Executor)}: the
+ * file is memory-mapped, cut into chunks on row boundaries (never inside a quoted cell), and the
+ * chunks are parsed concurrently and stitched back together in file order, linked-row groups
+ * spanning a cut included.
+ *
+ * <p><b>Selective reads</b> skip what a job does not need. {@link #withColumns(String...)} projects
+ * the file onto a few columns — cells of any other column are passed over without becoming strings
+ * — and {@link #withRowFilter(RowFilter)} judges each row on its raw cells, so a rejected row is
+ * dropped before a single {@link Field} is built for it.
  */
 public final class DelimitedFileParser implements FileParser {
 
   private final DelimitedFormat format;
+  private final RowSelection selection;
 
   /** Reads plain flat CSV ({@link DelimitedFormat#csv()}). */
   public DelimitedFileParser() {
@@ -55,100 +69,110 @@ public final class DelimitedFileParser implements FileParser {
    * @param format the delimiter/quote/header convention to expect
    */
   public DelimitedFileParser(DelimitedFormat format) {
+    this(format, RowSelection.ALL);
+  }
+
+  private DelimitedFileParser(DelimitedFormat format, RowSelection selection) {
     this.format = format;
+    this.selection = selection;
   }
 
-  @Override
-  public FileContent parse(String raw) {
-    try (CSVParser parser = CSVParser.parse(raw == null ? "" : raw, format.parseFormat())) {
-      List<Record> records;
-      if (format.hasHeader()) {
-        List<String> headers = parser.getHeaderNames();
-        boolean nested = headers.contains(LinkedRows.RECORD_LEVEL_COLUMN);
-        records = nested ? parseNested(parser, headers) : parseFlat(parser, headers);
-      } else {
-        records = parsePositional(parser);
+  /**
+   * A parser like this one that reads only the named columns: each record holds fields for these
+   * columns alone, in file order, and every other cell is skipped without being made a {@code
+   * String}. A named column the file lacks yields no fields, as an empty one would. In a headerless
+   * file the names are 1-based positions ({@code "1"}, {@code "2"}, …). The linked-row level column
+   * is still read to rebuild nesting.
+   *
+   * @param columns the column names to keep
+   * @return the projecting parser; this one is unchanged
+   * @throws IllegalArgumentException if no column is named, or a name is blank
+   */
+  public DelimitedFileParser withColumns(String... columns) {
+    if (columns == null || columns.length == 0) {
+      throw new IllegalArgumentException("At least one column is required");
+    }
+    for (String column : columns) {
+      if (column == null || column.isBlank()) {
+        throw new IllegalArgumentException("Column name is required");
       }
-      return new FileContent(Direction.INBOUND, List.of(), records);
-    } catch (IOException e) {
-      throw new IllegalArgumentException("Failed to parse delimited file: " + e.getMessage(), e);
     }
+    return new DelimitedFileParser(
+        format, selection.withColumns(Set.copyOf(Arrays.asList(columns))));
   }
 
   /**
-   * Reads a headerless file, naming each cell by its 1-based column position. Rows need not be the
-   * same width — each cell is named by where it actually sits.
+   * A parser like this one that keeps only the rows {@code filter} accepts. The filter sees each
+   * data row's raw cells — every column, projected or not — before any field is built, so a
+   * rejected row costs its tokenizing alone. In a linked-row file the filter judges each {@code
+   * RECORD} row, and the {@code SUBRECORD} rows after it are kept or dropped with it.
+   *
+   * @param filter which rows to keep
+   * @return the filtering parser; this one is unchanged
+   * @throws IllegalArgumentException if {@code filter} is {@code null}
    */
-  private static List<Record> parsePositional(CSVParser parser) {
-    List<Record> records = new ArrayList<>();
-    for (CSVRecord row : parser) {
-      List<Field> fields = new ArrayList<>();
-      for (int i = 0; i < row.size(); i++) {
-        String value = row.get(i);
-        if (value != null && !value.isEmpty()) {
-          fields.add(new Field(new Location(RecordLevel.RECORD, columnName(i)), value));
-        }
-      }
-      records.add(Record.of(fields));
+  public DelimitedFileParser withRowFilter(RowFilter filter) {
+    if (filter == null) {
+      throw new IllegalArgumentException("Row filter cannot be null");
     }
-    return records;
+    return new DelimitedFileParser(format, selection.withFilter(filter));
   }
 
-  /** The positional column name for a 0-based index: {@code "1"} for the first column. */
-  private static String columnName(int index) {
-    return String.valueOf(index + 1);
+  @Override
+  public FileContent parse(String raw) {
+    try (RecordReader reader = read(new StringReader(raw == null ? "" : raw))) {
+      return reader.readAll();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to parse delimited file: " + e.getMessage(), e);
+    }
   }
 
-  private static List<Record> parseFlat(CSVParser parser, List<String> headers) {
-    List<Record> records = new ArrayList<>();
-    for (CSVRecord row : parser) {
-      records.add(Record.of(rowFields(row, headers, RecordLevel.RECORD)));
-    }
-    return records;
+  /**
+   * Streams the file a record at a time: rows are pulled from {@code in} as records are asked for,
+   * so memory stays bounded by one record (a linked-row group) however large the file. A delimited
+   * file has no file-level fields.
+   *
+   * @throws IOException if the header row cannot be read
+   */
+  @Override
+  public RecordReader read(Reader in) throws IOException {
+    return new DelimitedRecordReader(in, format, selection);
   }
 
-  private static List<Record> parseNested(CSVParser parser, List<String> headers) {
-    List<Record> records = new ArrayList<>();
-    List<Field> openFields = null;
-    List<Record> openChildren = null;
-    for (CSVRecord row : parser) {
-      String level =
-          row.isMapped(LinkedRows.RECORD_LEVEL_COLUMN)
-              ? row.get(LinkedRows.RECORD_LEVEL_COLUMN)
-              : "";
-      if (RecordLevel.SUBRECORD.name().equals(level)) {
-        if (openChildren == null) {
-          throw new IllegalArgumentException("SUBRECORD row has no preceding RECORD row");
-        }
-        openChildren.add(Record.of(rowFields(row, headers, RecordLevel.SUBRECORD)));
-      } else if (RecordLevel.RECORD.name().equals(level)) {
-        if (openFields != null) {
-          records.add(new Record(openFields, openChildren));
-        }
-        openFields = rowFields(row, headers, RecordLevel.RECORD);
-        openChildren = new ArrayList<>();
-      } else {
-        throw new IllegalArgumentException(
-            "unknown " + LinkedRows.RECORD_LEVEL_COLUMN + " value: '" + level + "'");
-      }
-    }
-    if (openFields != null) {
-      records.add(new Record(openFields, openChildren));
-    }
-    return records;
+  /**
+   * Parses a UTF-8 {@code file} in parallel on the common {@link ForkJoinPool}; see {@link
+   * #parseParallel(Path, Executor)}.
+   *
+   * @param file the delimited file to read
+   * @return the same content reading the file with {@link #read(Reader)} yields
+   * @throws IOException if the file cannot be read or is not UTF-8
+   */
+  public FileContent parseParallel(Path file) throws IOException {
+    return parseParallel(file, ForkJoinPool.commonPool());
   }
 
-  private static List<Field> rowFields(CSVRecord row, List<String> headers, RecordLevel level) {
-    List<Field> fields = new ArrayList<>();
-    for (String column : headers) {
-      if (column.equals(LinkedRows.RECORD_LEVEL_COLUMN) || !row.isMapped(column)) {
-        continue;
-      }
-      String value = row.get(column);
-      if (value != null && !value.isEmpty()) {
-        fields.add(new Field(new Location(level, column), value));
-      }
+  /**
+   * Parses a UTF-8 {@code file} in parallel on {@code executor}: the file is memory-mapped and cut
+   * into chunks of several megabytes, each starting on a row boundary, which are parsed
+   * concurrently and stitched back together in file order. The result — and any row error — is
+   * exactly what reading the file with {@link #read(Reader)} yields. A format with an escape
+   * character, or a non-ASCII delimiter or quote, a file with malformed quoting, and a compressed
+   * file are read sequentially.
+   *
+   * @param file the delimited file to read
+   * @param executor where the chunks are scanned and parsed
+   * @return the file's content
+   * @throws IOException if the file cannot be read or is not UTF-8
+   * @throws IllegalArgumentException if {@code file} or {@code executor} is {@code null}, or a row
+   *     does not fit the header
+   */
+  public FileContent parseParallel(Path file, Executor executor) throws IOException {
+    if (file == null) {
+      throw new IllegalArgumentException("File cannot be null");
+    }
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor cannot be null");
     }
-    return fields;
+    return ParallelDelimitedParser.parse(file, format, selection, executor);
   }
 }
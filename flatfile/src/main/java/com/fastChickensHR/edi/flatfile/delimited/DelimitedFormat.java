@@ -7,6 +7,9 @@
  */
 package com.fastChickensHR.edi.flatfile.delimited;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.QuoteMode;
 
@@ -16,10 +19,17 @@ import org.apache.commons.csv.QuoteMode;
  * <em>wraps</em> Apache Commons CSV's {@link CSVFormat} — the wrap is deliberate: callers configure
  * a curated set of knobs (delimiter, quote, escape, quoting policy, record separator, header
  * handling) and never touch the underlying engine, so the dependency stays an implementation detail
- * the module can swap or extend without breaking consumers.
+ * the module can swap or extend without breaking consumers. Most formats are read and written by
+ * the module's own tokenizer and printer, which follow Commons CSV's rules exactly; Commons CSV
+ * handles the rest — a format with an escape character on read, and one with no quote character or
+ * {@link QuoteMode#NONE} on write.
  *
  * <p>Build one with a preset factory such as {@link #csv()} for a known convention, or with {@link
  * #builder()} to match a foreign system's file exactly.
+ *
+ * <p>A format may also declare its columns ({@link Builder#columns(String...)}): the fixed, ordered
+ * column list every generated file has, so the generator writes the header at once and each row in
+ * a single pass instead of first walking the whole file to learn its columns.
  */
 public final class DelimitedFormat {
 
@@ -29,6 +39,8 @@ public final class DelimitedFormat {
   private final QuoteMode quoteMode;
   private final String recordSeparator;
   private final boolean header;
+  private final List<String> columns;
+  private final UnknownColumnPolicy unknownColumns;
 
   private DelimitedFormat(Builder builder) {
     this.delimiter = builder.delimiter;
@@ -37,6 +49,8 @@ public final class DelimitedFormat {
     this.quoteMode = builder.quoteMode;
     this.recordSeparator = builder.recordSeparator;
     this.header = builder.header;
+    this.columns = builder.columns;
+    this.unknownColumns = builder.unknownColumns;
   }
 
   /**
@@ -72,28 +86,65 @@ public final class DelimitedFormat {
     return header;
   }
 
-  /** The Commons CSV format for reading — header-aware when {@link #hasHeader()}. */
-  CSVFormat parseFormat() {
-    CSVFormat.Builder builder = base();
-    if (header) {
-      builder.setHeader().setSkipHeaderRecord(true);
-    }
-    return builder.build();
+  /** The declared columns in file order, or {@code null} when the generator collects them. */
+  List<String> columns() {
+    return columns;
+  }
+
+  /** What the generator does with a field outside the declared columns. */
+  UnknownColumnPolicy unknownColumns() {
+    return unknownColumns;
+  }
+
+  char delimiter() {
+    return delimiter;
+  }
+
+  /** The quote character, or {@code null} for an unquoted format. */
+  Character quote() {
+    return quote;
+  }
+
+  /** The escape character, or {@code null} for quote-doubling. */
+  Character escape() {
+    return escape;
+  }
+
+  /** The quoting policy, {@link QuoteMode#MINIMAL} when none was set (as Commons CSV reads it). */
+  QuoteMode quoteMode() {
+    return quoteMode == null ? QuoteMode.MINIMAL : quoteMode;
   }
 
-  /** The Commons CSV format for writing; the header row (when any) is printed by the generator. */
-  CSVFormat generateFormat() {
-    return base().build();
+  /** The record separator, or {@code null} to write none. */
+  String recordSeparator() {
+    return recordSeparator;
   }
 
-  private CSVFormat.Builder base() {
+  /**
+   * The Commons CSV format, for reading and writing alike. The header row (when any) is not part of
+   * it: {@link DelimitedRecordReader} gives the first row read its meaning, and the generator
+   * prints it.
+   */
+  CSVFormat csvFormat() {
     return CSVFormat.DEFAULT
         .builder()
         .setDelimiter(delimiter)
         .setQuote(quote)
         .setEscape(escape)
         .setQuoteMode(quoteMode)
-        .setRecordSeparator(recordSeparator);
+        .setRecordSeparator(recordSeparator)
+        .build();
+  }
+
+  /**
+   * Rejects settings that do not fit together — a delimiter that is also the quote or escape
+   * character, say — as building the Commons CSV format does, so every read path fails the same way
+   * whichever tokenizer it ends up using.
+   *
+   * @throws IllegalArgumentException if the settings are inconsistent
+   */
+  void validate() {
+    csvFormat();
   }
 
   /**
@@ -107,6 +158,8 @@ public final class DelimitedFormat {
     private QuoteMode quoteMode = QuoteMode.MINIMAL;
     private String recordSeparator = "\n";
     private boolean header = true;
+    private List<String> columns = null;
+    private UnknownColumnPolicy unknownColumns = UnknownColumnPolicy.REJECT;
 
     private Builder() {}
 
@@ -179,6 +232,56 @@ public final class DelimitedFormat {
       return this;
     }
 
+    /**
+     * Declares the columns every generated file has, in order, instead of the generator collecting
+     * them from the records: the header is written before the first record is looked at, and each
+     * record is laid out by column position as it is reached. No columns are declared by default.
+     *
+     * <p>A field in a column not listed here is handled by {@link
+     * #unknownColumns(UnknownColumnPolicy)}; a listed column a record has no field for is an empty
+     * cell. Nested records are written as linked rows only if the reserved {@code "recordLevel"}
+     * column is declared (wherever the level should appear); without it a record with children is
+     * rejected. Parsing is unaffected: the parser still reads the column names from the header row.
+     *
+     * @param columns the column names in file order, or {@code null} to collect them again
+     * @return this builder
+     * @throws IllegalArgumentException if a name is blank or declared twice
+     */
+    public Builder columns(String... columns) {
+      if (columns == null) {
+        this.columns = null;
+        return this;
+      }
+      Set<String> seen = new HashSet<>();
+      for (String column : columns) {
+        if (column == null || column.isBlank()) {
+          throw new IllegalArgumentException("Column name is required");
+        }
+        if (!seen.add(column)) {
+          throw new IllegalArgumentException("Column '" + column + "' is declared twice");
+        }
+      }
+      this.columns = List.of(columns);
+      return this;
+    }
+
+    /**
+     * What the generator does with a field whose column was not {@linkplain #columns(String...)
+     * declared}, {@link UnknownColumnPolicy#REJECT} by default. Without declared columns every
+     * field has a column and the policy is moot.
+     *
+     * @param unknownColumns whether an undeclared field is an error or left out
+     * @return this builder
+     * @throws IllegalArgumentException if the policy is {@code null}
+     */
+    public Builder unknownColumns(UnknownColumnPolicy unknownColumns) {
+      if (unknownColumns == null) {
+        throw new IllegalArgumentException("Unknown-column policy is required");
+      }
+      this.unknownColumns = unknownColumns;
+      return this;
+    }
+
     /**
      * Finishes the format.
      *
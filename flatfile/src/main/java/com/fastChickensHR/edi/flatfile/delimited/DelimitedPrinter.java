@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import java.io.IOException;
+import java.io.Writer;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
+
+/**
+ * Writes rows of cells in a {@link DelimitedFormat}, quoting each cell as Commons CSV's printer
+ * would: under {@link QuoteMode#MINIMAL}, a cell is quoted when it is empty and first in its row,
+ * starts with a character at or below {@code '#'}, ends with one at or below a space, or holds a
+ * line break, the delimiter, the quote or the escape character; every other quoting mode quotes
+ * every cell, since every cell is text. Inside quotes the quote (and escape) character is preceded
+ * by the escape character, or doubled when there is none.
+ *
+ * <p>A format with no quote character, or {@link QuoteMode#NONE}, is printed through Commons CSV.
+ * Nothing here closes or flushes {@code out}: the sink stays the caller's.
+ */
+final class DelimitedPrinter {
+  private final Writer out;
+  private final CSVPrinter fallback;
+  private final char delimiter;
+  private final char quote;
+  private final char escape;
+  private final boolean minimal;
+  private final String recordSeparator;
+
+  DelimitedPrinter(Writer out, DelimitedFormat format) throws IOException {
+    CSVFormat csv = format.csvFormat();
+    this.out = out;
+    this.delimiter = format.delimiter();
+    this.recordSeparator = format.recordSeparator();
+    this.minimal = format.quoteMode() == QuoteMode.MINIMAL;
+    if (format.quote() == null || format.quoteMode() == QuoteMode.NONE) {
+      this.fallback = new CSVPrinter(out, csv);
+      this.quote = 0;
+      this.escape = 0;
+    } else {
+      this.fallback = null;
+      this.quote = format.quote();
+      this.escape = format.escape() == null ? quote : format.escape();
+    }
+  }
+
+  /** Writes one row and the record separator. */
+  void printRecord(String... cells) throws IOException {
+    if (fallback != null) {
+      fallback.printRecord((Object[]) cells);
+      return;
+    }
+    for (int i = 0; i < cells.length; i++) {
+      if (i > 0) {
+        out.write(delimiter);
+      }
+      print(cells[i], i == 0);
+    }
+    if (recordSeparator != null) {
+      out.write(recordSeparator);
+    }
+  }
+
+  private void print(String cell, boolean first) throws IOException {
+    int length = cell.length();
+    int from = minimal ? quoteFrom(cell, first) : 0;
+    if (from < 0) {
+      out.write(cell);
+      return;
+    }
+    out.write(quote);
+    int start = 0;
+    for (int i = from; i < length; i++) {
+      char c = cell.charAt(i);
+      if (c == quote || c == escape) {
+        out.write(cell, start, i - start);
+        out.write(escape);
+        start = i;
+      }
+    }
+    out.write(cell, start, length - start);
+    out.write(quote);
+  }
+
+  /**
+   * Where a {@link QuoteMode#MINIMAL} cell needs quoting from — the first character that calls for
+   * it, from which on quote and escape characters are escaped — or {@code -1} to write it bare.
+   */
+  private int quoteFrom(String cell, boolean first) {
+    int length = cell.length();
+    if (length == 0) {
+      return first ? 0 : -1;
+    }
+    if (cell.charAt(0) <= '#') {
+      return 0;
+    }
+    for (int i = 0; i < length; i++) {
+      char c = cell.charAt(i);
+      if (c == '\n' || c == '\r' || c == quote || c == escape || c == delimiter) {
+        return i;
+      }
+    }
+    return cell.charAt(length - 1) <= ' ' ? length - 1 : -1;
+  }
+}
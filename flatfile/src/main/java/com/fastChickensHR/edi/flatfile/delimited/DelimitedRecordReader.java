@@ -0,0 +1,168 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import com.fastChickensHR.edi.core.ColumnarRecords;
+import com.fastChickensHR.edi.core.Direction;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The streaming reader behind {@link DelimitedFileParser}: pulls rows from {@link DelimitedRows}
+ * only as records are asked for. A flat or headerless file yields one record per row; a linked-row
+ * file yields a {@code RECORD} row together with the {@code SUBRECORD} rows that follow it, reading
+ * exactly one row past the group to find where it ends. {@link DelimitedColumns} turns each row
+ * into fields.
+ *
+ * <p>A {@link RowSelection} narrows what is read: rows its filter rejects are skipped before any
+ * field is built — in a linked-row file the filter judges each {@code RECORD} row, and its {@code
+ * SUBRECORD} rows are kept or skipped with it — and only the projected columns become fields.
+ *
+ * <p>Reading a flat header file whole ({@link #readAll()}) skips the per-row Records altogether and
+ * stores the cells column by column in a {@link ColumnarRecords}.
+ */
+final class DelimitedRecordReader implements RecordReader {
+  private final DelimitedRows rows;
+  private final DelimitedColumns columns;
+  private final RowSelection.Rows filter;
+
+  /** Linked rows only: the current row is the next group's {@code RECORD} row, not yet judged. */
+  private boolean pendingParent;
+
+  /** Linked rows only: whether a {@code RECORD} row has been read. */
+  private boolean started;
+
+  private Record next;
+
+  DelimitedRecordReader(Reader in, DelimitedFormat format, RowSelection selection)
+      throws IOException {
+    this.rows = DelimitedRows.open(in, format);
+    this.columns =
+        new DelimitedColumns(
+            format.hasHeader() ? DelimitedColumns.header(rows) : null, selection.columns());
+    this.filter = selection.bind(columns);
+  }
+
+  /** A delimited file has no file-level row. */
+  @Override
+  public List<Field> fileFields() {
+    return List.of();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = advance();
+    }
+    return next != null;
+  }
+
+  @Override
+  public Record next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Record record = next;
+    next = null;
+    return record;
+  }
+
+  /**
+   * A flat header file's remaining rows as {@link ColumnarRecords}, equal to the Records {@link
+   * #next()} would have returned; a headerless or linked-row file, or one whose next record is
+   * already read, is collected Record by Record.
+   */
+  @Override
+  public FileContent readAll() {
+    if (columns.positional() || columns.nested() || next != null) {
+      return RecordReader.super.readAll();
+    }
+    List<Location> locations = columns.recordColumns();
+    ColumnarRecords.Builder records = ColumnarRecords.builder(locations);
+    String[] cells = new String[locations.size()];
+    while (nextRow()) {
+      if (filter.test(rows)) {
+        columns.cells(rows, cells);
+        records.addRow(cells);
+      }
+    }
+    return new FileContent(Direction.INBOUND, List.of(), records.build());
+  }
+
+  @Override
+  public void close() throws IOException {
+    rows.close();
+  }
+
+  private Record advance() {
+    if (columns.nested()) {
+      return nextGroup();
+    }
+    while (nextRow()) {
+      if (filter.test(rows)) {
+        return Record.of(columns.fields(rows, RecordLevel.RECORD));
+      }
+    }
+    return null;
+  }
+
+  /**
+   * One linked-row group: a {@code RECORD} row the filter keeps and every {@code SUBRECORD} row
+   * after it. A rejected {@code RECORD} row's {@code SUBRECORD} rows are skipped with it.
+   */
+  private Record nextGroup() {
+    List<Field> fields = null;
+    while (fields == null) {
+      if (!pendingParent) {
+        if (!nextRow()) {
+          return null;
+        }
+        if (columns.level(rows) == RecordLevel.SUBRECORD) {
+          if (!started) {
+            throw new IllegalArgumentException("SUBRECORD row has no preceding RECORD row");
+          }
+          continue; // a child of a rejected RECORD row
+        }
+      }
+      pendingParent = false;
+      started = true;
+      if (filter.test(rows)) {
+        fields = columns.fields(rows, RecordLevel.RECORD);
+      }
+    }
+
+    List<Record> children = new ArrayList<>();
+    while (nextRow()) {
+      if (columns.level(rows) == RecordLevel.RECORD) {
+        pendingParent = true;
+        break;
+      }
+      children.add(Record.of(columns.fields(rows, RecordLevel.SUBRECORD)));
+    }
+    return new Record(fields, children);
+  }
+
+  /** Moves to the next row; a read or quoting failure surfaces unchecked, as iteration requires. */
+  private boolean nextRow() {
+    try {
+      return rows.next();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import org.apache.commons.csv.CSVFormat;
+
+/**
+ * A delimited file's rows, one at a time, with the current row's cells addressed by position. The
+ * header row, when the format has one, is just the first row: {@link DelimitedRecordReader} gives
+ * it its meaning.
+ */
+interface DelimitedRows extends Closeable {
+
+  /**
+   * Opens the rows of {@code in}: {@link DelimitedTokenizer} when it speaks {@code format}, Commons
+   * CSV otherwise. Either way the format is first checked as Commons CSV would check it.
+   */
+  static DelimitedRows open(Reader in, DelimitedFormat format) throws IOException {
+    CSVFormat csv = format.csvFormat();
+    return format.escape() == null
+        ? new DelimitedTokenizer(in, format)
+        : new CommonsCsvRows(in, csv);
+  }
+
+  /**
+   * Moves to the next row, skipping empty lines.
+   *
+   * @return {@code false} at the end of the input
+   * @throws IOException if the input cannot be read or a quoted cell is malformed
+   */
+  boolean next() throws IOException;
+
+  /** How many cells the current row has. */
+  int size();
+
+  /** The current row's cell at {@code index}, from 0; {@code ""} for an empty cell. */
+  String get(int index);
+
+  /**
+   * Whether the current row's cell at {@code index} holds exactly {@code value}; an implementation
+   * that buffers the row compares in place, without making the cell a {@code String}.
+   */
+  default boolean contentEquals(int index, CharSequence value) {
+    return get(index).contentEquals(value);
+  }
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Splits delimited text into rows of cells the way Commons CSV reads a {@link DelimitedFormat}
+ * without an escape character: CR, LF and CRLF all end a row, empty lines are skipped, a cell that
+ * opens with the quote character runs to the matching quote (a doubled quote standing for one, line
+ * breaks kept), whitespace between a closing quote and the next delimiter is dropped, and a row
+ * ending in a delimiter has a final empty cell.
+ *
+ * <p>The input is read through a fixed {@code char[]} window and each row's cells are copied, in
+ * runs, into one reused buffer; a cell becomes a {@code String} only when {@link #get(int)} asks
+ * for it, so a row costs no per-cell objects until its values are used — and a cell {@link
+ * #contentEquals(int, CharSequence) compared} to a value never becomes one.
+ */
+final class DelimitedTokenizer implements DelimitedRows {
+  private static final int WINDOW = 1 << 16;
+  private static final int END = -1;
+
+  /** Stands in for the quote character in an unquoted format; never matches a {@code char}. */
+  private static final int NO_QUOTE = -2;
+
+  private final Reader in;
+  private final char delimiter;
+  private final int quote;
+
+  private final char[] window = new char[WINDOW];
+  private int position;
+  private int limit;
+
+  /** The current row's cells, back to back, with where each one ends. */
+  private char[] cells = new char[256];
+
+  private int length;
+  private int[] ends = new int[16];
+  private int size;
+
+  /** The 1-based line being read, for error messages. */
+  private long line = 1;
+
+  DelimitedTokenizer(Reader in, DelimitedFormat format) {
+    this.in = in;
+    this.delimiter = format.delimiter();
+    this.quote = format.quote() == null ? NO_QUOTE : format.quote();
+  }
+
+  @Override
+  public boolean next() throws IOException {
+    size = 0;
+    length = 0;
+    int c = read();
+    while (endOfLine(c)) {
+      c = read();
+    }
+    if (c == END) {
+      return false;
+    }
+    while (true) {
+      int terminator;
+      if (c == delimiter || c == END) {
+        terminator = c;
+      } else if (endOfLine(c)) {
+        terminator = '\n';
+      } else if (c == quote) {
+        terminator = quoted();
+      } else {
+        append((char) c);
+        terminator = simple();
+      }
+      endCell();
+      if (terminator != delimiter) {
+        return true;
+      }
+      c = read();
+    }
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public String get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("cell " + index + " of " + size);
+    }
+    int start = index == 0 ? 0 : ends[index - 1];
+    return start == ends[index] ? "" : new String(cells, start, ends[index] - start);
+  }
+
+  @Override
+  public boolean contentEquals(int index, CharSequence value) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("cell " + index + " of " + size);
+    }
+    int start = index == 0 ? 0 : ends[index - 1];
+    if (ends[index] - start != value.length()) {
+      return false;
+    }
+    for (int i = 0; i < value.length(); i++) {
+      if (cells[start + i] != value.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * The rest of an unquoted cell, copied a run at a time up to the delimiter or line break.
+   *
+   * @return the delimiter, {@code '\n'} for a line break, or {@link #END}
+   */
+  private int simple() throws IOException {
+    while (true) {
+      int start = position;
+      while (position < limit) {
+        char ch = window[position];
+        if (ch == delimiter || ch == '\n' || ch == '\r') {
+          break;
+        }
+        position++;
+      }
+      append(window, start, position - start);
+      if (position < limit) {
+        int c = read();
+        return c == delimiter ? c : lineBreak(c);
+      }
+      if (!fill()) {
+        return END;
+      }
+    }
+  }
+
+  /**
+   * A quoted cell, its opening quote already read: everything up to the closing quote, with a
+   * doubled quote read as one, then only whitespace before the delimiter or line break.
+   *
+   * @return the delimiter, {@code '\n'} for a line break, or {@link #END}
+   * @throws IOException if the input ends inside the quotes or text follows the closing quote
+   */
+  private int quoted() throws IOException {
+    long startLine = line;
+    while (true) {
+      int start = position;
+      while (position < limit && window[position] != quote) {
+        if (window[position] == '\n') {
+          line++;
+        }
+        position++;
+      }
+      append(window, start, position - start);
+      if (position == limit) {
+        if (!fill()) {
+          throw new IOException(
+              String.format(
+                  "(startline %,d) EOF reached before encapsulated token finished", startLine));
+        }
+        continue;
+      }
+      position++; // the quote
+      if (peek() == quote) {
+        position++;
+        append((char) quote);
+        continue;
+      }
+      return afterClosingQuote();
+    }
+  }
+
+  private int afterClosingQuote() throws IOException {
+    while (true) {
+      int c = read();
+      if (c == delimiter || c == END) {
+        return c;
+      }
+      if (endOfLine(c)) {
+        return '\n';
+      }
+      if (!Character.isWhitespace((char) c)) {
+        throw new IOException(
+            String.format(
+                "Invalid character between encapsulated token and delimiter at line: %,d", line));
+      }
+    }
+  }
+
+  /** {@code c} as a row's end: {@code '\n'} for a line break, {@link #END} at end of input. */
+  private int lineBreak(int c) throws IOException {
+    return endOfLine(c) ? '\n' : END;
+  }
+
+  /** Whether {@code c} ends a line, consuming the LF of a CRLF so the pair reads as one break. */
+  private boolean endOfLine(int c) throws IOException {
+    if (c == '\r') {
+      if (peek() == '\n') {
+        position++;
+      }
+      line++;
+      return true;
+    }
+    if (c == '\n') {
+      line++;
+      return true;
+    }
+    return false;
+  }
+
+  private int read() throws IOException {
+    if (position == limit && !fill()) {
+      return END;
+    }
+    return window[position++];
+  }
+
+  private int peek() throws IOException {
+    if (position == limit && !fill()) {
+      return END;
+    }
+    return window[position];
+  }
+
+  /** Refills the window once it is used up; {@code false} at end of input. */
+  private boolean fill() throws IOException {
+    int read = in.read(window, 0, WINDOW);
+    position = 0;
+    limit = Math.max(read, 0);
+    return read > 0;
+  }
+
+  private void append(char c) {
+    if (length == cells.length) {
+      cells = Arrays.copyOf(cells, cells.length * 2);
+    }
+    cells[length++] = c;
+  }
+
+  private void append(char[] from, int start, int count) {
+    if (length + count > cells.length) {
+      cells = Arrays.copyOf(cells, Math.max(cells.length * 2, length + count));
+    }
+    System.arraycopy(from, start, cells, length, count);
+    length += count;
+  }
+
+  private void endCell() {
+    if (size == ends.length) {
+      ends = Arrays.copyOf(ends, ends.length * 2);
+    }
+    ends[size++] = length;
+  }
+}
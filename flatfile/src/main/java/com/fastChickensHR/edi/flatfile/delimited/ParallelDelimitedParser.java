@@ -0,0 +1,536 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import com.fastChickensHR.edi.core.ColumnarRecords;
+import com.fastChickensHR.edi.core.Compression;
+import com.fastChickensHR.edi.core.Direction;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+/**
+ * Parses a UTF-8 delimited file by cutting it into chunks that each start on a row boundary,
+ * parsing the chunks concurrently and stitching the results back together in file order — the same
+ * {@link FileContent} {@link DelimitedFileParser#read} produces over the file, errors included.
+ *
+ * <p>A row boundary is a line break outside quotes, and whether a byte is inside quotes depends on
+ * everything before it. So the file is mapped a region at a time and each region is first scanned,
+ * concurrently, from every state the quoting scanner could be in at its start; a short sequential
+ * pass then threads the true state through the regions, which picks each region's first row
+ * boundary as the next chunk's start. Quoted line breaks spanning a region's edge are thereby never
+ * cut, and a linked-row group spanning a chunk's edge is regrouped when the chunks are stitched.
+ *
+ * <p>The scan works on bytes, so formats it cannot read that way — an escape character, or a
+ * delimiter or quote outside ASCII — are parsed sequentially, as is a file the scan finds malformed
+ * (text after a closing quote, or a quote left open), so the sequential reader reports the error. A
+ * file no bigger than one region is read sequentially too: there is nothing to split. So is a
+ * compressed file, which has no byte offsets to cut at; it is decompressed as it is read.
+ */
+final class ParallelDelimitedParser {
+  /** How many bytes each region scanned in parallel spans. */
+  static final int REGION_BYTES = 8 << 20;
+
+  // The quoting scanner's states: where in a cell the byte before left it.
+  private static final byte START = 0;
+  private static final byte UNQUOTED = 1;
+  private static final byte QUOTED = 2;
+  private static final byte CLOSING = 3;
+  private static final byte AFTER = 4;
+  private static final byte ERROR = 5;
+
+  /** The states a region can start in; {@link #ERROR} never needs scanning from. */
+  private static final int STARTS = 5;
+
+  // What the scanner makes of a byte.
+  private static final byte OTHER = 0;
+  private static final byte DELIMITER = 1;
+  private static final byte QUOTE = 2;
+  private static final byte LINE_BREAK = 3;
+  private static final byte SPACE = 4;
+
+  /** The state after each state (row) on each kind of byte (column). */
+  private static final byte[][] NEXT = {
+    {UNQUOTED, START, QUOTED, START, UNQUOTED},
+    {UNQUOTED, START, UNQUOTED, START, UNQUOTED},
+    {QUOTED, QUOTED, CLOSING, QUOTED, QUOTED},
+    {ERROR, START, QUOTED, START, AFTER},
+    {ERROR, START, ERROR, START, AFTER},
+    {ERROR, ERROR, ERROR, ERROR, ERROR},
+  };
+
+  private ParallelDelimitedParser() {}
+
+  /**
+   * Parses the {@code selection} of {@code file} in chunks of {@link #REGION_BYTES} or more on
+   * {@code executor}.
+   */
+  static FileContent parse(
+      Path file, DelimitedFormat format, RowSelection selection, Executor executor)
+      throws IOException {
+    return parse(file, format, selection, executor, REGION_BYTES);
+  }
+
+  /** Parses all of {@code file} in chunks of at least {@code regionBytes} on {@code executor}. */
+  static FileContent parse(Path file, DelimitedFormat format, Executor executor, int regionBytes)
+      throws IOException {
+    return parse(file, format, RowSelection.ALL, executor, regionBytes);
+  }
+
+  /**
+   * Parses the {@code selection} of {@code file} in chunks of at least {@code regionBytes} on
+   * {@code executor}.
+   *
+   * @throws IOException if the file cannot be read or is not UTF-8
+   * @throws IllegalArgumentException if a row does not fit the header, as when reading it
+   */
+  static FileContent parse(
+      Path file, DelimitedFormat format, RowSelection selection, Executor executor, int regionBytes)
+      throws IOException {
+    // Before any fallback, so an inconsistent format fails here as it would on every other path.
+    format.validate();
+    if (!scannable(format) || Compression.detect(file) != null) {
+      return sequential(file, format, selection);
+    }
+    byte[] kinds = kinds(format);
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      if (size <= regionBytes) {
+        return sequential(file, format, selection);
+      }
+      long start = 0;
+      DelimitedColumns columns = new DelimitedColumns(null, selection.columns());
+      if (format.hasHeader()) {
+        start = headerEnd(channel, size, kinds, regionBytes);
+        if (start < 0) {
+          return sequential(file, format, selection);
+        }
+        try (DelimitedRows rows = rows(channel, 0, start, format)) {
+          columns = new DelimitedColumns(DelimitedColumns.header(rows), selection.columns());
+        }
+      }
+      long[] cuts = cuts(channel, start, size, kinds, regionBytes, executor);
+      if (cuts == null) {
+        return sequential(file, format, selection);
+      }
+      return new FileContent(
+          Direction.INBOUND,
+          List.of(),
+          parseChunks(channel, cuts, format, columns, selection, executor));
+    }
+  }
+
+  /** Whether every byte the scanner must recognise is a single ASCII byte in UTF-8. */
+  private static boolean scannable(DelimitedFormat format) {
+    return format.escape() == null
+        && format.delimiter() < 0x80
+        && (format.quote() == null || format.quote() < 0x80);
+  }
+
+  private static FileContent sequential(Path file, DelimitedFormat format, RowSelection selection)
+      throws IOException {
+    try (RecordReader reader =
+        new DelimitedRecordReader(
+            Compression.newBufferedReader(file, StandardCharsets.UTF_8), format, selection)) {
+      return reader.readAll();
+    } catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
+  /** What the scanner makes of each byte value under {@code format}. */
+  private static byte[] kinds(DelimitedFormat format) {
+    byte[] kinds = new byte[256];
+    Arrays.fill(kinds, OTHER);
+    for (char c = 0; c < 0x80; c++) {
+      if (Character.isWhitespace(c)) {
+        kinds[c] = SPACE;
+      }
+    }
+    kinds['\n'] = LINE_BREAK;
+    kinds['\r'] = LINE_BREAK;
+    if (format.quote() != null) {
+      kinds[format.quote()] = QUOTE;
+    }
+    kinds[format.delimiter()] = DELIMITER;
+    return kinds;
+  }
+
+  /**
+   * Where the header row ends: just past the line break closing the first row, or the end of a file
+   * with only a header; {@code -1} if the header is malformed.
+   */
+  private static long headerEnd(FileChannel channel, long size, byte[] kinds, int regionBytes)
+      throws IOException {
+    byte state = START;
+    boolean blank = true;
+    for (long from = 0; from < size; from += regionBytes) {
+      ByteBuffer bytes = map(channel, from, Math.min(regionBytes, size - from));
+      for (int i = 0; i < bytes.limit(); i++) {
+        byte kind = kinds[bytes.get(i) & 0xFF];
+        if (kind == LINE_BREAK && state != QUOTED && !blank) {
+          return from + i + 1;
+        }
+        blank &= kind == LINE_BREAK;
+        state = NEXT[state][kind];
+        if (state == ERROR) {
+          return -1;
+        }
+      }
+    }
+    return state == QUOTED ? -1 : size;
+  }
+
+  /**
+   * Scans {@code [start, size)} a region at a time and picks the chunk boundaries: {@code start},
+   * each region's first row boundary, then {@code size}; {@code null} if the file is malformed.
+   */
+  private static long[] cuts(
+      FileChannel channel, long start, long size, byte[] kinds, int regionBytes, Executor executor)
+      throws IOException {
+    List<CompletableFuture<Scan>> scans = new ArrayList<>();
+    for (long from = start; from < size; from += regionBytes) {
+      long at = from;
+      int length = (int) Math.min(regionBytes, size - from);
+      scans.add(CompletableFuture.supplyAsync(() -> scan(channel, at, length, kinds), executor));
+    }
+    long[] cuts = new long[scans.size() + 2];
+    int count = 0;
+    cuts[count++] = start;
+    byte state = START;
+    for (int r = 0; r < scans.size(); r++) {
+      Scan scan = join(scans.get(r));
+      if (state == ERROR) {
+        return null;
+      }
+      long cut = start + (long) r * regionBytes + scan.boundaries[state];
+      if (r > 0 && scan.boundaries[state] >= 0 && cut < size) {
+        cuts[count++] = cut;
+      }
+      state = scan.ends[state];
+    }
+    if (state == QUOTED || state == ERROR) {
+      return null;
+    }
+    if (size > start) {
+      cuts[count++] = size;
+    }
+    return Arrays.copyOf(cuts, count);
+  }
+
+  /**
+   * Runs the scanner over one region from every start state at once. Runs that reach the same state
+   * at a line break go on as one — past the first row boundary, usually just the run outside quotes
+   * and the run inside them are left.
+   */
+  private static Scan scan(FileChannel channel, long from, int length, byte[] kinds) {
+    ByteBuffer bytes;
+    try {
+      bytes = map(channel, from, length);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    byte[] states = {START, UNQUOTED, QUOTED, CLOSING, AFTER};
+    int[] boundaries = {-1, -1, -1, -1, -1};
+    int[] leaders = {0, 1, 2, 3, 4};
+    int[] runs = {0, 1, 2, 3, 4};
+    int count = STARTS;
+    for (int i = 0; i < length; i++) {
+      byte kind = kinds[bytes.get(i) & 0xFF];
+      for (int r = 0; r < count; r++) {
+        int s = runs[r];
+        if (kind == LINE_BREAK && boundaries[s] < 0 && states[s] != QUOTED && states[s] != ERROR) {
+          boundaries[s] = i + 1;
+        }
+        states[s] = NEXT[states[s]][kind];
+      }
+      if (kind == LINE_BREAK && count > 1) {
+        count = merge(states, boundaries, leaders, runs, count);
+      }
+    }
+    byte[] ends = new byte[STARTS];
+    for (int s = 0; s < STARTS; s++) {
+      int leader = s;
+      while (leaders[leader] != leader) {
+        leader = leaders[leader];
+        if (boundaries[s] < 0) {
+          boundaries[s] = boundaries[leader];
+        }
+      }
+      ends[s] = states[leader];
+    }
+    return new Scan(ends, boundaries);
+  }
+
+  /**
+   * Folds runs in the same state into one, keeping the run still looking for its first row boundary
+   * (if either is), since from here on both would find the same one.
+   *
+   * @return how many runs are left
+   */
+  private static int merge(byte[] states, int[] boundaries, int[] leaders, int[] runs, int count) {
+    int kept = 0;
+    for (int r = 0; r < count; r++) {
+      int s = runs[r];
+      int k = 0;
+      while (k < kept && states[runs[k]] != states[s]) {
+        k++;
+      }
+      if (k == kept) {
+        runs[kept++] = s;
+      } else if (boundaries[s] < 0 && boundaries[runs[k]] >= 0) {
+        leaders[runs[k]] = s;
+        runs[k] = s;
+      } else {
+        leaders[s] = runs[k];
+      }
+    }
+    return kept;
+  }
+
+  /** Parses each chunk on {@code executor} and stitches their records together in file order. */
+  private static List<Record> parseChunks(
+      FileChannel channel,
+      long[] cuts,
+      DelimitedFormat format,
+      DelimitedColumns columns,
+      RowSelection selection,
+      Executor executor)
+      throws IOException {
+    for (int c = 1; c < cuts.length; c++) {
+      if (cuts[c] - cuts[c - 1] > Integer.MAX_VALUE) {
+        throw new IOException("A row spans more than " + Integer.MAX_VALUE + " bytes");
+      }
+    }
+    boolean flat = !columns.positional() && !columns.nested();
+    List<CompletableFuture<List<Row>>> chunks = new ArrayList<>();
+    for (int c = 1; c < cuts.length; c++) {
+      long from = cuts[c - 1];
+      long to = cuts[c];
+      boolean first = c == 1;
+      chunks.add(
+          CompletableFuture.supplyAsync(
+              () -> chunk(channel, from, to, format, columns, selection, flat, first), executor));
+    }
+    if (flat) {
+      ColumnarRecords.Builder records = ColumnarRecords.builder(columns.recordColumns());
+      for (CompletableFuture<List<Row>> chunk : chunks) {
+        for (Row row : join(chunk)) {
+          records.addRow(row.cells());
+        }
+      }
+      return records.build();
+    }
+    List<Record> records = new ArrayList<>();
+    List<Field> parent = null;
+    List<Record> children = new ArrayList<>();
+    for (CompletableFuture<List<Row>> chunk : chunks) {
+      for (Row row : join(chunk)) {
+        if (!columns.nested()) {
+          records.add(Record.of(row.fields()));
+        } else if (row.level() == RecordLevel.SUBRECORD) {
+          if (parent != null) {
+            children.add(Record.of(row.fields()));
+          }
+        } else {
+          if (parent != null) {
+            records.add(new Record(parent, children));
+          }
+          parent = row.fields();
+          children = new ArrayList<>();
+        }
+      }
+    }
+    if (parent != null) {
+      records.add(new Record(parent, children));
+    }
+    return records;
+  }
+
+  /**
+   * One chunk's rows the filter keeps: each row's cells in a flat header file, its level and fields
+   * otherwise. Rows are checked in file order, and the first bad one ends the chunk with a row
+   * holding its failure, which the stitching rethrows where the reader would have thrown it. A
+   * linked-row chunk also keeps a row for each rejected {@code RECORD} row, and its leading {@code
+   * SUBRECORD} rows, whose parent is judged in an earlier chunk, hold any failure building their
+   * fields until the stitching knows whether they are kept.
+   */
+  private static List<Row> chunk(
+      FileChannel channel,
+      long from,
+      long to,
+      DelimitedFormat format,
+      DelimitedColumns columns,
+      RowSelection selection,
+      boolean flat,
+      boolean first) {
+    List<Row> rows = new ArrayList<>();
+    RowSelection.Rows filter = selection.bind(columns);
+    // Linked rows only: whether the last RECORD row was kept; null before this chunk's first one.
+    Boolean kept = first ? Boolean.FALSE : null;
+    try (DelimitedRows chunk = rows(channel, from, to, format)) {
+      while (chunk.next()) {
+        if (flat) {
+          if (filter.test(chunk)) {
+            String[] cells = new String[columns.recordColumns().size()];
+            columns.cells(chunk, cells);
+            rows.add(new Row(RecordLevel.RECORD, null, cells));
+          }
+          continue;
+        }
+        if (!columns.nested()) {
+          if (filter.test(chunk)) {
+            rows.add(new Row(RecordLevel.RECORD, columns.fields(chunk, RecordLevel.RECORD), null));
+          }
+          continue;
+        }
+        RecordLevel level = columns.level(chunk);
+        if (level == RecordLevel.RECORD) {
+          kept = filter.test(chunk);
+          rows.add(new Row(RecordLevel.RECORD, kept ? columns.fields(chunk, level) : null, null));
+        } else if (first && rows.isEmpty()) {
+          throw new IllegalArgumentException("SUBRECORD row has no preceding RECORD row");
+        } else if (kept == null) {
+          rows.add(Row.deferred(columns, chunk));
+        } else if (kept) {
+          rows.add(new Row(level, columns.fields(chunk, level), null));
+        }
+      }
+    } catch (IOException e) {
+      rows.add(Row.failed(new UncheckedIOException(e)));
+    } catch (RuntimeException e) {
+      rows.add(Row.failed(e));
+    }
+    return rows;
+  }
+
+  /** The rows of {@code [from, to)}, decoded as UTF-8 and rejected if it is not. */
+  private static DelimitedRows rows(FileChannel channel, long from, long to, DelimitedFormat format)
+      throws IOException {
+    CharBuffer text = StandardCharsets.UTF_8.newDecoder().decode(map(channel, from, to - from));
+    return DelimitedRows.open(
+        new CharArrayReader(text.array(), text.arrayOffset(), text.limit()), format);
+  }
+
+  private static ByteBuffer map(FileChannel channel, long from, long length) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_ONLY, from, length);
+  }
+
+  /** A task's result, rethrowing its failure as reading the file sequentially would. */
+  private static <T> T join(CompletableFuture<T> future) throws IOException {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException cause) {
+        throw cause.getCause();
+      }
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * A region's scan, by the state it started in: where it ended up, and just past its first row
+   * boundary ({@code -1} for none).
+   */
+  private static final class Scan {
+    private final byte[] ends;
+    private final int[] boundaries;
+
+    Scan(byte[] ends, int[] boundaries) {
+      this.ends = ends;
+      this.boundaries = boundaries;
+    }
+  }
+
+  /**
+   * One parsed row: its cells in a flat header file, its level and fields otherwise — no fields for
+   * a rejected {@code RECORD} row. A row may instead hold a failure, rethrown when its content is
+   * asked for: the error ending a chunk, or one building a deferred {@code SUBRECORD} row's fields.
+   */
+  private static final class Row {
+    private final RecordLevel level;
+    private final List<Field> fields;
+    private final String[] cells;
+    private final RuntimeException failure;
+
+    Row(RecordLevel level, List<Field> fields, String[] cells) {
+      this(level, fields, cells, null);
+    }
+
+    private Row(RecordLevel level, List<Field> fields, String[] cells, RuntimeException failure) {
+      this.level = level;
+      this.fields = fields;
+      this.cells = cells;
+      this.failure = failure;
+    }
+
+    /** A {@code SUBRECORD} row whose parent is not yet known to be kept. */
+    static Row deferred(DelimitedColumns columns, DelimitedRows row) {
+      try {
+        return new Row(RecordLevel.SUBRECORD, columns.fields(row, RecordLevel.SUBRECORD), null);
+      } catch (IllegalArgumentException e) {
+        return new Row(RecordLevel.SUBRECORD, null, null, e);
+      }
+    }
+
+    /** The error that ended a chunk, as a row. */
+    static Row failed(RuntimeException failure) {
+      return new Row(null, null, null, failure);
+    }
+
+    RecordLevel level() throws IOException {
+      if (level == null) {
+        check();
+      }
+      return level;
+    }
+
+    List<Field> fields() throws IOException {
+      check();
+      return fields;
+    }
+
+    String[] cells() throws IOException {
+      check();
+      return cells;
+    }
+
+    /** Rethrows the row's failure as reading the file sequentially would. */
+    private void check() throws IOException {
+      if (failure instanceof UncheckedIOException e) {
+        throw e.getCause();
+      }
+      if (failure != null) {
+        throw failure;
+      }
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+/**
+ * The raw cells of the row a {@link RowFilter} is judging, addressed by column name — the header
+ * name, or in a headerless file the 1-based position ({@code "1"}, {@code "2"}, …). Cells are read
+ * straight from the tokenizer's buffer, before the row is made into fields; every column of the
+ * file can be read, whichever columns the parser projects.
+ *
+ * <p>The view is only valid during the {@link RowFilter#test(RowCells)} call it is passed to.
+ */
+public interface RowCells {
+
+  /**
+   * The cell under {@code column}.
+   *
+   * @param column the column name
+   * @return the cell's text; {@code ""} if it is empty, or the row or file has no such column
+   */
+  String get(String column);
+
+  /**
+   * Whether the cell under {@code column} holds exactly {@code value}, compared in place without
+   * making the cell a {@code String}.
+   *
+   * @param column the column name
+   * @param value the text to compare the cell to; {@code ""} matches an empty or missing cell
+   * @return {@code true} if the cell equals {@code value}
+   */
+  boolean contentEquals(String column, CharSequence value);
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+/**
+ * Decides, from a row's raw cells, whether {@link DelimitedFileParser} keeps the row — see {@link
+ * DelimitedFileParser#withRowFilter(RowFilter)}. A rejected row is dropped as soon as it is
+ * tokenized: no {@code Field} or {@code Record} is ever built for it.
+ */
+@FunctionalInterface
+public interface RowFilter {
+
+  /**
+   * Judges one row.
+   *
+   * @param row the row's cells, valid only during this call
+   * @return {@code true} to keep the row
+   */
+  boolean test(RowCells row);
+
+  /**
+   * Keeps the rows whose cell under {@code column} is exactly {@code value} (e.g. one plan code),
+   * compared without allocating.
+   *
+   * @param column the column name to look at
+   * @param value the text the cell must hold
+   * @return the filter
+   * @throws IllegalArgumentException if {@code column} is blank or {@code value} is {@code null}
+   */
+  static RowFilter columnEquals(String column, String value) {
+    if (column == null || column.isBlank()) {
+      throw new IllegalArgumentException("Column name is required");
+    }
+    if (value == null) {
+      throw new IllegalArgumentException("Value cannot be null");
+    }
+    return row -> row.contentEquals(column, value);
+  }
+}
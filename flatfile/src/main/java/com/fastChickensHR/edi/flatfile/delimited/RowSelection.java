@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Which part of a delimited file a {@link DelimitedFileParser} reads: the projected columns (cells
+ * of any other column never become strings) and the {@link RowFilter} rows must pass (rejected rows
+ * never become fields). Both default to everything.
+ */
+final class RowSelection {
+  /** Every column of every row. */
+  static final RowSelection ALL = new RowSelection(null, null);
+
+  private final Set<String> columns;
+  private final RowFilter filter;
+
+  private RowSelection(Set<String> columns, RowFilter filter) {
+    this.columns = columns;
+    this.filter = filter;
+  }
+
+  /** The projected column names, or {@code null} for every column. */
+  Set<String> columns() {
+    return columns;
+  }
+
+  RowSelection withColumns(Set<String> columns) {
+    return new RowSelection(columns, filter);
+  }
+
+  RowSelection withFilter(RowFilter filter) {
+    return new RowSelection(columns, filter);
+  }
+
+  /**
+   * The filter bound to one file's layout. Not thread-safe: each reader, or each chunk parsed in
+   * parallel, binds its own.
+   */
+  Rows bind(DelimitedColumns layout) {
+    return new Rows(layout);
+  }
+
+  /** Judges the current row of a {@link DelimitedRows}, showing it to the filter by column name. */
+  final class Rows implements RowCells {
+    private final DelimitedColumns layout;
+
+    /** Each column name the filter asked for, resolved to its position once. */
+    private final Map<String, Integer> positions = new HashMap<>();
+
+    private DelimitedRows row;
+
+    private Rows(DelimitedColumns layout) {
+      this.layout = layout;
+    }
+
+    /** Whether the filter keeps {@code row}'s current row; always, without a filter. */
+    boolean test(DelimitedRows row) {
+      if (filter == null) {
+        return true;
+      }
+      this.row = row;
+      try {
+        return filter.test(this);
+      } finally {
+        this.row = null;
+      }
+    }
+
+    @Override
+    public String get(String column) {
+      int position = position(column);
+      return position < 0 ? "" : row.get(position);
+    }
+
+    @Override
+    public boolean contentEquals(String column, CharSequence value) {
+      int position = position(column);
+      return position < 0 ? value.length() == 0 : row.contentEquals(position, value);
+    }
+
+    /** Where {@code column}'s cell is in the current row; {@code -1} if the row is too short. */
+    private int position(String column) {
+      int position = positions.computeIfAbsent(column, layout::position);
+      return position < row.size() ? position : -1;
+    }
+  }
+}
@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+/**
+ * What the generator does with a field whose column a {@link DelimitedFormat} with declared columns
+ * does not list — see {@link DelimitedFormat.Builder#columns(String...)}.
+ */
+public enum UnknownColumnPolicy {
+  /** The field is an error: the record does not fit the declared layout. */
+  REJECT,
+
+  /** The field is left out of the row, as if the record did not carry it. */
+  IGNORE
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import com.fastChickensHR.edi.core.Compression;
+import com.fastChickensHR.edi.core.CompressionCodec;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.FileGenerator;
+import com.fastChickensHR.edi.core.Record;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The fixed-width flat-file implementation of the {@link FileGenerator} seam: writes each {@link
+ * Record} of a format-neutral {@link FileContent} as one line laid out by a {@link
+ * FixedWidthFormat}. The inverse of {@link FixedWidthFileParser}.
+ *
+ * <p>Each {@link Field} fills the column its location names, aligned by the column's {@link
+ * Justification}; an omitted field or a column no field names is all padding, and the first value
+ * for a column wins. A column padded with anything but spaces cannot tell an omitted field from a
+ * value of pad characters: both read back as one pad character, so a zero amount survives. Every
+ * line starts as a copy of a pre-padded template in one reused byte buffer, so writing a record is
+ * copying its values into place.
+ */
+public final class FixedWidthFileGenerator implements FileGenerator {
+
+  /** The buffer lines are gathered in before they reach a file or compressor. */
+  private static final int BUFFER = 1 << 16;
+
+  private final FixedWidthFormat format;
+
+  /**
+   * Writes files laid out by {@code format}.
+   *
+   * @param format the columns to lay each record out in
+   * @throws IllegalArgumentException if {@code format} is {@code null}
+   */
+  public FixedWidthFileGenerator(FixedWidthFormat format) {
+    if (format == null) {
+      throw new IllegalArgumentException("format is required");
+    }
+    this.format = format;
+  }
+
+  @Override
+  public String generate(FileContent file) {
+    StringWriter out = new StringWriter();
+    try {
+      generate(file, out);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to generate fixed-width file: " + e.getMessage(), e);
+    }
+    return out.toString();
+  }
+
+  /** Streams the file line by line into {@code out}; nothing beyond one line is held. */
+  @Override
+  public void generate(FileContent file, Writer out) throws IOException {
+    Lines lines = new Lines(format, file);
+    char[] chars = new char[format.recordLength()];
+    for (Record record : file.records()) {
+      byte[] line = lines.layOut(record);
+      for (int i = 0; i < chars.length; i++) {
+        chars[i] = (char) (line[i] & 0xFF);
+      }
+      out.write(chars);
+      out.write(format.recordSeparator());
+    }
+  }
+
+  /**
+   * Streams the file line by line into {@code out} as ISO-8859-1 bytes, each line written straight
+   * from the reused line buffer. The stream is neither flushed nor closed — it stays the caller's.
+   *
+   * @param file the format-neutral content to serialize
+   * @param out the sink receiving the file's bytes
+   * @throws IOException if writing to {@code out} fails
+   * @throws IllegalArgumentException if the content does not fit the layout
+   */
+  public void generate(FileContent file, OutputStream out) throws IOException {
+    Lines lines = new Lines(format, file);
+    byte[] separator = format.recordSeparator().getBytes(StandardCharsets.ISO_8859_1);
+    for (Record record : file.records()) {
+      out.write(lines.layOut(record));
+      out.write(separator);
+    }
+  }
+
+  /**
+   * Writes the file to {@code target} as ISO-8859-1 bytes, compressed with the codec its extension
+   * names, if any.
+   *
+   * @throws IllegalArgumentException if the content does not fit the layout
+   */
+  @Override
+  public void generate(FileContent file, Path target) throws IOException {
+    try (OutputStream out = new BufferedOutputStream(Compression.newOutputStream(target), BUFFER)) {
+      generate(file, out);
+    }
+  }
+
+  /**
+   * Writes the file to {@code out} as ISO-8859-1 bytes, compressed with {@code codec}; {@code out}
+   * is flushed but not closed.
+   *
+   * @throws IllegalArgumentException if the content does not fit the layout
+   */
+  @Override
+  public void generate(FileContent file, OutputStream out, CompressionCodec codec)
+      throws IOException {
+    try (OutputStream bytes =
+        new BufferedOutputStream(Compression.compressing(out, codec), BUFFER)) {
+      generate(file, bytes);
+    }
+  }
+
+  /** Lays records out, one at a time, in a reused line buffer. */
+  private static final class Lines {
+    private final List<FixedWidthFormat.Column> columns;
+    private final Map<String, Integer> byName = new HashMap<>();
+    private final boolean strict;
+    private final byte[] template;
+    private final byte[] line;
+    private final boolean[] filled;
+
+    Lines(FixedWidthFormat format, FileContent file) {
+      if (!file.fileFields().isEmpty()) {
+        throw new IllegalArgumentException(
+            "a fixed-width file has no file-level row; FileContent.fileFields must be empty");
+      }
+      this.columns = format.columns();
+      this.strict = format.strict();
+      this.template = new byte[format.recordLength()];
+      Arrays.fill(template, (byte) ' ');
+      for (int i = 0; i < columns.size(); i++) {
+        FixedWidthFormat.Column column = columns.get(i);
+        byName.put(column.name(), i);
+        Arrays.fill(
+            template, column.offset(), column.offset() + column.width(), (byte) column.pad());
+      }
+      this.line = new byte[template.length];
+      this.filled = new boolean[columns.size()];
+    }
+
+    /**
+     * The record's line, in the reused buffer.
+     *
+     * @throws IllegalArgumentException if the record nests, a strict format has no column for a
+     *     field or a value too wide for its column, or a value holds a line break or a character
+     *     outside ISO-8859-1
+     */
+    byte[] layOut(Record record) {
+      if (!record.children().isEmpty()) {
+        throw new IllegalArgumentException(
+            "a fixed-width file is flat; a record cannot have children");
+      }
+      System.arraycopy(template, 0, line, 0, line.length);
+      Arrays.fill(filled, false);
+      for (Field field : record.fields()) {
+        if (field.isOmitted()) {
+          continue;
+        }
+        Integer column = byName.get(field.location().name());
+        if (column == null) {
+          if (strict) {
+            throw new IllegalArgumentException(
+                "No column '" + field.location().name() + "' in the fixed-width layout");
+          }
+        } else if (!filled[column]) {
+          filled[column] = true;
+          put(columns.get(column), field.value());
+        }
+      }
+      return line;
+    }
+
+    private void put(FixedWidthFormat.Column column, String value) {
+      int length = value.length();
+      if (length > column.width()) {
+        if (strict) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Value for column '%s' is %d characters; the column holds %d",
+                  column.name(), length, column.width()));
+        }
+        length = column.width();
+      }
+      int at =
+          column.justification() == Justification.LEFT
+              ? column.offset()
+              : column.offset() + column.width() - length;
+      for (int i = 0; i < length; i++) {
+        char c = value.charAt(i);
+        if (c > 0xFF || c == '\n' || c == '\r') {
+          throw new IllegalArgumentException(
+              "Value for column '"
+                  + column.name()
+                  + "' holds a character a fixed-width line cannot");
+        }
+        line[at + i] = (byte) c;
+      }
+    }
+  }
+}
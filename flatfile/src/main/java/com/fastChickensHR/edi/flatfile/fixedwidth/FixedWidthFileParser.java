@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import com.fastChickensHR.edi.core.Compression;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.FileParser;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The fixed-width flat-file implementation of the {@link FileParser} seam: reads a file laid out by
+ * a {@link FixedWidthFormat} into a format-neutral {@link FileContent}. Each line becomes one
+ * {@link Record}, and each column whose cell is not all spaces becomes a {@link Field} at {@link
+ * RecordLevel#RECORD}, its {@link Location} named by the column and its value trimmed of the pad on
+ * the side opposite its {@link Justification}. A cell of nothing but a non-space pad keeps one pad
+ * character, so {@code "00000"} in a {@code '0'}-padded column is {@code "0"}. A fixed-width file
+ * is flat and headerless: there is no file-level row and no nesting.
+ *
+ * <p>Cells are sliced out of each line by offset — a line is never split into strings, and a cell
+ * becomes one only after trimming, so padding costs nothing. {@link #read(Path)} slices a
+ * memory-mapped file in place; {@link #parse(String)} and whole-file reads store the cells column
+ * by column in a {@link com.fastChickensHR.edi.core.ColumnarRecords}.
+ */
+public final class FixedWidthFileParser implements FileParser {
+
+  private final FixedWidthFormat format;
+
+  /**
+   * Reads files laid out by {@code format}.
+   *
+   * @param format the columns to slice each line into
+   * @throws IllegalArgumentException if {@code format} is {@code null}
+   */
+  public FixedWidthFileParser(FixedWidthFormat format) {
+    if (format == null) {
+      throw new IllegalArgumentException("format is required");
+    }
+    this.format = format;
+  }
+
+  /**
+   * Parses the whole text.
+   *
+   * @throws IllegalArgumentException if a strict format's line is not the record length
+   */
+  @Override
+  public FileContent parse(String raw) {
+    try (RecordReader reader = read(new StringReader(raw == null ? "" : raw))) {
+      return reader.readAll();
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Failed to parse fixed-width file: " + e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Streams the text a line at a time: memory stays bounded by one line however large the input.
+   */
+  @Override
+  public RecordReader read(Reader in) {
+    return new FixedWidthRecordReader(new ReaderLines(in), format);
+  }
+
+  /**
+   * Streams ISO-8859-1 text from {@code in} a line at a time, decompressing it first if it is
+   * compressed.
+   *
+   * @throws IOException if {@code in} cannot be read or its compression header is corrupt
+   */
+  @Override
+  public RecordReader read(InputStream in) throws IOException {
+    return read(Compression.newBufferedReader(in, StandardCharsets.ISO_8859_1));
+  }
+
+  /**
+   * Streams the file a line at a time straight out of a memory mapping, reading it as ISO-8859-1 —
+   * one byte per character, so columns sit at their byte offsets — rather than the UTF-8 the other
+   * parsers assume. A compressed file cannot be mapped; it is decompressed and read as a stream.
+   *
+   * @throws IOException if the file cannot be opened or mapped
+   */
+  @Override
+  public RecordReader read(Path file) throws IOException {
+    if (Compression.detect(file) != null) {
+      return read(Compression.newBufferedReader(file, StandardCharsets.ISO_8859_1));
+    }
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      return new FixedWidthRecordReader(new MappedLines(channel), format);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.RecordLevel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The layout of a fixed-width flat file: the columns every line is sliced into, each with a name, a
+ * width, a {@link Justification} and a pad character, laid end to end from offset 0 in the order
+ * they are declared ({@link Builder#filler(int)} leaves a gap nobody reads). A line is exactly
+ * {@link #recordLength()} characters; lines end in a line break.
+ *
+ * <p>Positions count characters, and files are read and written as ISO-8859-1, one byte per
+ * character — so a column's offset in the text is also its byte offset on disk, which is what lets
+ * {@link FixedWidthFileParser#read(java.nio.file.Path)} slice a memory-mapped file directly.
+ *
+ * <p>A format is <em>strict</em> by default: a line of any other length, a value too wide for its
+ * column, or a field no column names is an error. {@link Builder#strict(boolean) strict(false)}
+ * reads short lines (the missing columns are absent), truncates wide values and skips unknown
+ * fields instead.
+ */
+public final class FixedWidthFormat {
+
+  private final List<Column> columns;
+  private final int recordLength;
+  private final String recordSeparator;
+  private final boolean strict;
+
+  private FixedWidthFormat(Builder builder) {
+    this.columns = List.copyOf(builder.columns);
+    this.recordLength = builder.offset;
+    this.recordSeparator = builder.recordSeparator;
+    this.strict = builder.strict;
+  }
+
+  /**
+   * Starts a layout: no columns yet, LF record separator, strict.
+   *
+   * @return an empty builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * How many characters every line holds: the end of the last column or filler.
+   *
+   * @return the line length, record separator excluded
+   */
+  public int recordLength() {
+    return recordLength;
+  }
+
+  /** The named columns, in offset order. */
+  List<Column> columns() {
+    return columns;
+  }
+
+  /** What ends each written line. */
+  String recordSeparator() {
+    return recordSeparator;
+  }
+
+  /** Whether a misfit line, value or field is an error rather than tolerated. */
+  boolean strict() {
+    return strict;
+  }
+
+  /**
+   * One named column: where it sits on the line, how values are aligned and padded in it, and the
+   * interned location its cells are read as.
+   */
+  record Column(
+      String name,
+      Location location,
+      int offset,
+      int width,
+      Justification justification,
+      char pad) {
+
+    /**
+     * The column's cell in {@code line}, padding trimmed. A cell that is all padding reads as one
+     * pad character when the pad is not a space — a zero amount in a {@code '0'}-padded column is
+     * {@code "0"}, not absent — and as {@code ""}, absent, when it is spaces or past a short line.
+     */
+    String read(FixedWidthLines line) {
+      int from = Math.min(offset, line.length());
+      int to = Math.min(offset + width, line.length());
+      if (from < to && pad != ' ' && allPad(line, from, to)) {
+        return String.valueOf(pad);
+      }
+      if (justification == Justification.LEFT) {
+        while (to > from && line.charAt(to - 1) == pad) {
+          to--;
+        }
+      } else {
+        while (from < to && line.charAt(from) == pad) {
+          from++;
+        }
+      }
+      return from == to ? "" : line.slice(from, to);
+    }
+
+    private boolean allPad(FixedWidthLines line, int from, int to) {
+      for (int i = from; i < to; i++) {
+        if (line.charAt(i) != pad) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /** Builds a {@link FixedWidthFormat}, one column after another. */
+  public static final class Builder {
+    private final List<Column> columns = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+    private int offset;
+    private String recordSeparator = "\n";
+    private boolean strict = true;
+
+    private Builder() {}
+
+    /**
+     * Adds a left-justified, space-padded column after the last one — the usual text column.
+     *
+     * @param name the column name, which parsed fields are located by
+     * @param width how many characters the column spans
+     * @return this builder
+     * @throws IllegalArgumentException if the name is blank or taken, or the width is not positive
+     */
+    public Builder column(String name, int width) {
+      return column(name, width, Justification.LEFT, ' ');
+    }
+
+    /**
+     * Adds a column after the last one.
+     *
+     * @param name the column name, which parsed fields are located by
+     * @param width how many characters the column spans
+     * @param justification which side values sit against
+     * @param pad what fills the rest of the column (e.g. {@code '0'} for a right-justified amount);
+     *     a cell of nothing but a pad other than space reads back as that one character
+     * @return this builder
+     * @throws IllegalArgumentException if the name is blank or taken, the width is not positive,
+     *     the justification is missing, or the pad is a line break or outside ISO-8859-1
+     */
+    public Builder column(String name, int width, Justification justification, char pad) {
+      if (name == null || name.isBlank()) {
+        throw new IllegalArgumentException("Column name is required");
+      }
+      if (justification == null) {
+        throw new IllegalArgumentException("Justification is required");
+      }
+      if (pad == '\n' || pad == '\r' || pad > 0xFF) {
+        throw new IllegalArgumentException(
+            "Pad must be an ISO-8859-1 character other than a line break");
+      }
+      checkWidth(width);
+      if (!names.add(name)) {
+        throw new IllegalArgumentException("Column '" + name + "' is already in the layout");
+      }
+      columns.add(
+          new Column(
+              name, Location.of(RecordLevel.RECORD, name), offset, width, justification, pad));
+      offset += width;
+      return this;
+    }
+
+    /**
+     * Leaves {@code width} characters unnamed after the last column: written as spaces, never read.
+     *
+     * @param width how many characters to skip
+     * @return this builder
+     * @throws IllegalArgumentException if the width is not positive
+     */
+    public Builder filler(int width) {
+      checkWidth(width);
+      offset += width;
+      return this;
+    }
+
+    /**
+     * What ends each written line: {@code "\n"} (the default), {@code "\r\n"} or {@code "\r"}.
+     * Reading accepts any of them.
+     *
+     * @param recordSeparator the line break to write
+     * @return this builder
+     * @throws IllegalArgumentException if it is not one of the three line breaks
+     */
+    public Builder recordSeparator(String recordSeparator) {
+      if (!Arrays.asList("\n", "\r\n", "\r").contains(recordSeparator)) {
+        throw new IllegalArgumentException("Record separator must be a line break");
+      }
+      this.recordSeparator = recordSeparator;
+      return this;
+    }
+
+    /**
+     * Whether misfits are errors (the default) or tolerated; see {@link FixedWidthFormat}.
+     *
+     * @param strict {@code false} to read short lines, truncate wide values and skip unknown fields
+     * @return this builder
+     */
+    public Builder strict(boolean strict) {
+      this.strict = strict;
+      return this;
+    }
+
+    /**
+     * Freezes the layout.
+     *
+     * @return the format
+     * @throws IllegalArgumentException if no column was added
+     */
+    public FixedWidthFormat build() {
+      if (columns.isEmpty()) {
+        throw new IllegalArgumentException("At least one column is required");
+      }
+      return new FixedWidthFormat(this);
+    }
+
+    private void checkWidth(int width) {
+      if (width < 1) {
+        throw new IllegalArgumentException("Column width must be positive, not " + width);
+      }
+    }
+  }
+}
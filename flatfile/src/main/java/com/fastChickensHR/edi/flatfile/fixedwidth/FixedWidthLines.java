@@ -0,0 +1,39 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * A fixed-width file's lines, one at a time, with the current line addressed by position so a
+ * column is sliced out of it in place — no line is ever split, and only the trimmed cells become
+ * strings. CR, LF and CRLF all end a line; empty lines are skipped.
+ */
+interface FixedWidthLines extends Closeable {
+
+  /**
+   * Moves to the next non-empty line.
+   *
+   * @return {@code false} at the end of the input
+   * @throws IOException if the input cannot be read
+   */
+  boolean next() throws IOException;
+
+  /** The 1-based line number of the current line, empty lines counted, for error messages. */
+  long number();
+
+  /** How many characters the current line has, its line break excluded. */
+  int length();
+
+  /** The current line's character at {@code index}. */
+  char charAt(int index);
+
+  /** The current line's characters {@code [from, to)} as a string. */
+  String slice(int from, int to);
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import com.fastChickensHR.edi.core.ColumnarRecords;
+import com.fastChickensHR.edi.core.Direction;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The streaming reader behind {@link FixedWidthFileParser}: one record per line, one field per
+ * column whose trimmed cell is not empty. Reading the file whole ({@link #readAll()}) stores the
+ * cells column by column in a {@link ColumnarRecords} instead of building a Record per line.
+ */
+final class FixedWidthRecordReader implements RecordReader {
+  private final FixedWidthLines lines;
+  private final FixedWidthFormat format;
+  private final List<FixedWidthFormat.Column> columns;
+  private Record next;
+
+  FixedWidthRecordReader(FixedWidthLines lines, FixedWidthFormat format) {
+    this.lines = lines;
+    this.format = format;
+    this.columns = format.columns();
+  }
+
+  /** A fixed-width file has no file-level row. */
+  @Override
+  public List<Field> fileFields() {
+    return List.of();
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && nextLine()) {
+      List<Field> fields = new ArrayList<>(columns.size());
+      for (FixedWidthFormat.Column column : columns) {
+        String value = column.read(lines);
+        if (!value.isEmpty()) {
+          fields.add(new Field(column.location(), value));
+        }
+      }
+      next = Record.of(fields);
+    }
+    return next != null;
+  }
+
+  @Override
+  public Record next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Record record = next;
+    next = null;
+    return record;
+  }
+
+  /**
+   * The remaining lines as {@link ColumnarRecords}, equal to the Records {@link #next()} would have
+   * returned; a reader whose next record is already read collects Record by Record.
+   */
+  @Override
+  public FileContent readAll() {
+    if (next != null) {
+      return RecordReader.super.readAll();
+    }
+    List<Location> locations = new ArrayList<>(columns.size());
+    for (FixedWidthFormat.Column column : columns) {
+      locations.add(column.location());
+    }
+    ColumnarRecords.Builder records = ColumnarRecords.builder(locations);
+    String[] cells = new String[columns.size()];
+    while (nextLine()) {
+      for (int i = 0; i < cells.length; i++) {
+        cells[i] = columns.get(i).read(lines);
+      }
+      records.addRow(cells);
+    }
+    return new FileContent(Direction.INBOUND, List.of(), records.build());
+  }
+
+  @Override
+  public void close() throws IOException {
+    lines.close();
+  }
+
+  /**
+   * Moves to the next line, checking a strict format's line length; a read failure surfaces
+   * unchecked, as iteration requires.
+   *
+   * @throws IllegalArgumentException if a strict format's line is not the record length
+   */
+  private boolean nextLine() {
+    try {
+      if (!lines.next()) {
+        return false;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    if (format.strict() && lines.length() != format.recordLength()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Line %,d is %d characters long; the layout needs %d",
+              lines.number(), lines.length(), format.recordLength()));
+    }
+    return true;
+  }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+/**
+ * Which side of a fixed-width column a value sits against; the rest of the column is padding. On
+ * read the padding is trimmed from the other side only, so a value's own leading (left-justified)
+ * or trailing (right-justified) characters survive even when they equal the pad.
+ */
+public enum Justification {
+  /** The value starts at the column's first position and is padded on the right (text). */
+  LEFT,
+
+  /** The value ends at the column's last position and is padded on the left (numbers). */
+  RIGHT
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link FixedWidthLines} sliced straight out of a memory-mapped ISO-8859-1 file: a line is a range
+ * of the mapping, a character is a byte, and a cell is copied out only when it is sliced. The file
+ * is mapped a window at a time, the next window starting at the line the last one cut off.
+ */
+final class MappedLines implements FixedWidthLines {
+  /** How much of the file is mapped at once; no line may be longer. */
+  static final int WINDOW = 1 << 26;
+
+  private final FileChannel channel;
+  private final long size;
+  private final int windowBytes;
+
+  private ByteBuffer window;
+  private long windowStart;
+
+  /** Where the next line starts in the window. */
+  private int position;
+
+  private int start;
+  private int length;
+  private byte[] cell = new byte[64];
+  private long breaks;
+  private long number;
+
+  MappedLines(FileChannel channel) throws IOException {
+    this(channel, WINDOW);
+  }
+
+  MappedLines(FileChannel channel, int windowBytes) throws IOException {
+    this.channel = channel;
+    this.size = channel.size();
+    this.windowBytes = windowBytes;
+    map(0);
+  }
+
+  @Override
+  public boolean next() throws IOException {
+    while (windowStart + position < size) {
+      number = breaks + 1;
+      int end = lineEnd();
+      start = position;
+      length = end - start;
+      position = end;
+      if (end < window.limit()) {
+        breaks++;
+        position +=
+            window.get(end) == '\r' && end + 1 < window.limit() && window.get(end + 1) == '\n'
+                ? 2
+                : 1;
+      }
+      if (length > 0) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public long number() {
+    return number;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    return (char) (window.get(start + index) & 0xFF);
+  }
+
+  @Override
+  public String slice(int from, int to) {
+    int count = to - from;
+    if (count > cell.length) {
+      cell = new byte[Math.max(cell.length * 2, count)];
+    }
+    window.get(start + from, cell, 0, count);
+    return new String(cell, 0, count, StandardCharsets.ISO_8859_1);
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  /**
+   * Where the line starting at {@link #position} ends: its line break, or the end of the file. A
+   * line the window cuts off — a CR included, whose LF may follow — is found again in a window
+   * mapped from its start.
+   *
+   * @throws IOException if the line is longer than a window
+   */
+  private int lineEnd() throws IOException {
+    while (true) {
+      int end = position;
+      int limit = window.limit();
+      while (end < limit && window.get(end) != '\n' && window.get(end) != '\r') {
+        end++;
+      }
+      boolean cut = end == limit || (window.get(end) == '\r' && end + 1 == limit);
+      if (!cut || windowStart + limit == size) {
+        return end;
+      }
+      if (position == 0) {
+        throw new IOException(
+            String.format("Line %,d is longer than %,d bytes", breaks + 1, windowBytes));
+      }
+      map(windowStart + position);
+    }
+  }
+
+  private void map(long from) throws IOException {
+    windowStart = from;
+    position = 0;
+    window = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(windowBytes, size - from));
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * {@link FixedWidthLines} read from a {@link Reader} through a fixed {@code char[]} window, each
+ * line copied in runs into one reused buffer.
+ */
+final class ReaderLines implements FixedWidthLines {
+  private static final int WINDOW = 1 << 16;
+
+  private final Reader in;
+  private final char[] window = new char[WINDOW];
+  private int position;
+  private int limit;
+
+  private char[] line = new char[256];
+  private int length;
+
+  /** Line breaks read so far. */
+  private long breaks;
+
+  private long number;
+
+  ReaderLines(Reader in) {
+    this.in = in;
+  }
+
+  @Override
+  public boolean next() throws IOException {
+    while (true) {
+      length = 0;
+      number = breaks + 1;
+      boolean ended = readLine();
+      if (length > 0) {
+        return true;
+      }
+      if (!ended) {
+        return false;
+      }
+    }
+  }
+
+  @Override
+  public long number() {
+    return number;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    return line[index];
+  }
+
+  @Override
+  public String slice(int from, int to) {
+    return new String(line, from, to - from);
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  /**
+   * Copies characters up to the next line break into the line buffer, consuming the break (CRLF as
+   * one).
+   *
+   * @return {@code true} if a line break ended the line, {@code false} at the end of the input
+   */
+  private boolean readLine() throws IOException {
+    while (true) {
+      int start = position;
+      while (position < limit && window[position] != '\n' && window[position] != '\r') {
+        position++;
+      }
+      append(start, position - start);
+      if (position < limit) {
+        char c = window[position++];
+        breaks++;
+        if (c == '\r' && (position < limit || fill()) && window[position] == '\n') {
+          position++;
+        }
+        return true;
+      }
+      if (!fill()) {
+        return false;
+      }
+    }
+  }
+
+  /** Refills the window once it is used up; {@code false} at end of input. */
+  private boolean fill() throws IOException {
+    int read = in.read(window, 0, WINDOW);
+    position = 0;
+    limit = Math.max(read, 0);
+    return read > 0;
+  }
+
+  private void append(int start, int count) {
+    if (length + count > line.length) {
+      line = Arrays.copyOf(line, Math.max(line.length * 2, length + count));
+    }
+    System.arraycopy(window, start, line, length, count);
+    length += count;
+  }
+}
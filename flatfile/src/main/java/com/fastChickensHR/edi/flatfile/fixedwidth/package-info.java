@@ -7,15 +7,16 @@
  */
 
 /**
- * Reserved for the fixed-width flat-file variant — a sibling of {@code flatfile.delimited} over the
+ * Fixed-width flat files over the core kernel — a sibling of {@code flatfile.delimited} over the
  * same {@code core} {@code FileParser}/{@code FileGenerator} seam, differing in how a line becomes
  * cells: slicing by column position instead of splitting on a delimiter. The two variants share
  * only that seam — no base class, and nothing below it (fixed-width is positional and headerless,
  * so it has no equivalent of the delimited variant's header-column conventions).
  *
- * <p>Designed-for, not built: it graduates when a real fixed-width feed + fixture appears. The v1
- * shape is settled in edi #136 — a single-layout, flat variant with an edi-owned {@code
- * FixedWidthFormat} (explicit per-field width/alignment/pad; strict by default). See #136 and the
- * closed family map #127.
+ * <p>The v1 shape is the one settled in edi #136: a single-layout, flat variant. {@link
+ * com.fastChickensHR.edi.flatfile.fixedwidth.FixedWidthFormat} pins the layout (explicit per-column
+ * width, justification and pad; strict by default); {@link
+ * com.fastChickensHR.edi.flatfile.fixedwidth.FixedWidthFileGenerator} writes it and {@link
+ * com.fastChickensHR.edi.flatfile.fixedwidth.FixedWidthFileParser} reads it back.
  */
 package com.fastChickensHR.edi.flatfile.fixedwidth;
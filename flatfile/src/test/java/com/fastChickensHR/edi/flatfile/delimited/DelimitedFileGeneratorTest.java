@@ -19,6 +19,9 @@ import com.fastChickensHR.edi.core.FileContent;
 import com.fastChickensHR.edi.core.Location;
 import com.fastChickensHR.edi.core.Record;
 import com.fastChickensHR.edi.core.RecordLevel;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 
@@ -47,6 +50,33 @@ class DelimitedFileGeneratorTest {
     assertFalse(csv.contains(LinkedRows.RECORD_LEVEL_COLUMN));
   }
 
+  @Test
+  void streamsTheSameTextIntoAWriterAndLeavesItOpen() throws IOException {
+    FileContent file =
+        new FileContent(
+            Direction.OUTBOUND,
+            List.of(),
+            List.of(
+                new Record(
+                    List.of(f(RECORD, "first", "Jane")),
+                    List.of(Record.of(List.of(f(SUBRECORD, "first", "Kid")))))));
+
+    StringWriter out = new StringWriter();
+    generator.generate(file, out);
+    out.write("after");
+
+    assertEquals(generator.generate(file) + "after", out.toString());
+  }
+
+  @Test
+  void streamingAnEmptyFileWritesNothing() throws IOException {
+    StringWriter out = new StringWriter();
+
+    generator.generate(new FileContent(Direction.OUTBOUND, List.of(), List.of()), out);
+
+    assertEquals("", out.toString());
+  }
+
   @Test
   void nestedFileFlattensToLinkedRows() {
     Record subscriber =
@@ -157,4 +187,29 @@ class DelimitedFileGeneratorTest {
     assertEquals("id,name\n1,\"Doe, Jane\"\n", csv);
     assertEquals(records, parser.parse(csv).records());
   }
+
+  @Test
+  void theFirstValueForAColumnWinsWhetherLocationsAreSharedOrFresh() {
+    Location shared = Location.of(RECORD, "id");
+    List<Record> records =
+        List.of(
+            Record.of(List.of(new Field(shared, "1"), new Field(shared, "ignored"))),
+            Record.of(List.of(f(RECORD, "id", "2"), f(RECORD, "id", "ignored"))));
+
+    String csv = generator.generate(new FileContent(Direction.OUTBOUND, List.of(), records));
+
+    assertEquals("id\n1\n2\n", csv);
+  }
+
+  @Test
+  void rowsOfFreshLocationsBeyondTheIdentityCacheStillFindTheirColumns() {
+    List<Record> records = new ArrayList<>();
+    for (int i = 0; i < 5000; i++) {
+      records.add(Record.of(List.of(f(RECORD, "id", String.valueOf(i)))));
+    }
+
+    String csv = generator.generate(new FileContent(Direction.OUTBOUND, List.of(), records));
+
+    assertEquals(parser.parse(csv).records(), records);
+  }
 }
@@ -9,15 +9,33 @@ package com.fastChickensHR.edi.flatfile.delimited;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fastChickensHR.edi.core.ColumnarRecords;
+import com.fastChickensHR.edi.core.Compression;
 import com.fastChickensHR.edi.core.Direction;
 import com.fastChickensHR.edi.core.Field;
 import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Location;
 import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class DelimitedFileParserTest {
 
@@ -55,11 +73,263 @@ class DelimitedFileParserTest {
     assertEquals("Springfield", row.get("city"));
   }
 
+  @Test
+  void everyCellOfAColumnSharesOneInternedLocation() {
+    FileContent file = parser.parse("recordLevel,first\nRECORD,Jane\nSUBRECORD,Kid\nRECORD,John\n");
+
+    Record jane = file.records().get(0);
+    Record john = file.records().get(1);
+    assertSame(jane.fields().get(0).location(), john.fields().get(0).location());
+    assertSame(Location.of(RecordLevel.RECORD, "first"), jane.fields().get(0).location());
+    assertSame(
+        Location.of(RecordLevel.SUBRECORD, "first"),
+        jane.children().get(0).fields().get(0).location());
+  }
+
+  @Test
+  void aFlatHeaderFileParsesIntoColumnarRecordsEqualToTheStreamedOnes() throws IOException {
+    String csv = "id,state,note\n1,OH,\n2,TX,\"a, b\"\n3,,x\n";
+
+    FileContent file = parser.parse(csv);
+
+    assertInstanceOf(ColumnarRecords.class, file.records());
+    try (RecordReader reader = parser.read(new StringReader(csv))) {
+      assertEquals(reader.stream().toList(), file.records());
+    }
+  }
+
+  @Test
+  void readAllAfterAPeekCollectsTheRemainingRecordsInOrder() throws IOException {
+    try (RecordReader reader = parser.read(new StringReader("id\n1\n2\n3\n"))) {
+      reader.next();
+      assertTrue(reader.hasNext());
+      FileContent rest = reader.readAll();
+      assertEquals(2, rest.records().size());
+      assertEquals("2", byColumn(rest.records().get(0)).get("id"));
+    }
+  }
+
+  @Test
+  void aBlankHeaderNameOrARowShortOfItsColumnsIsRejected() throws IOException {
+    IllegalArgumentException blank =
+        assertThrows(IllegalArgumentException.class, () -> parser.parse("id,,name\n1,2,3\n"));
+    assertEquals("A header name is missing in [id, , name]", blank.getMessage());
+
+    try (RecordReader reader = parser.read(new StringReader("id,name\n1\n"))) {
+      assertThrows(IllegalArgumentException.class, reader::next);
+    }
+  }
+
+  @Test
+  void malformedQuotingSurfacesUncheckedWhileStreamingWithEitherEngine() throws IOException {
+    DelimitedFormat escaped = DelimitedFormat.builder().escape('\\').build();
+    for (DelimitedFileParser each : List.of(parser, new DelimitedFileParser(escaped))) {
+      try (RecordReader reader = each.read(new StringReader("id\n1\n\"open\n"))) {
+        assertEquals("1", byColumn(reader.next()).get("id"));
+        assertThrows(UncheckedIOException.class, reader::hasNext);
+      }
+    }
+  }
+
   @Test
   void emptyInputYieldsNoRecords() {
     assertEquals(0, parser.parse("").records().size());
   }
 
+  @Test
+  void streamsFlatRowsOneRecordAtATime() throws IOException {
+    try (RecordReader reader = parser.read(new StringReader("id,name\n1,Jane\n2,John\n"))) {
+      assertTrue(reader.fileFields().isEmpty());
+      assertEquals("Jane", byColumn(reader.next()).get("name"));
+      assertEquals("John", byColumn(reader.next()).get("name"));
+      assertFalse(reader.hasNext());
+      assertThrows(NoSuchElementException.class, reader::next);
+    }
+  }
+
+  @Test
+  void streamsEachLinkedRowGroupAsOneRecordWithItsChildren() throws IOException {
+    String csv = "recordLevel,first\nRECORD,Jane\nSUBRECORD,Kid\nSUBRECORD,Kid2\nRECORD,John\n";
+
+    try (RecordReader reader = parser.read(new StringReader(csv))) {
+      Record jane = reader.next();
+      assertEquals("Jane", byColumn(jane).get("first"));
+      assertEquals(2, jane.children().size());
+      assertEquals("Kid2", byColumn(jane.children().get(1)).get("first"));
+
+      Record john = reader.next();
+      assertEquals("John", byColumn(john).get("first"));
+      assertTrue(john.children().isEmpty());
+      assertFalse(reader.hasNext());
+    }
+  }
+
+  @Test
+  void streamedAndWholeFileParsesAgree() throws IOException {
+    String csv = "recordLevel,first,last\nRECORD,Jane,Doe\nSUBRECORD,Kid,\nRECORD,John,Roe\n";
+
+    try (RecordReader reader = parser.read(new StringReader(csv))) {
+      assertEquals(parser.parse(csv).records(), reader.stream().toList());
+    }
+  }
+
+  @Test
+  void streamingRejectsAnUnknownRecordLevelWhenItsRowIsReached() throws IOException {
+    try (RecordReader reader =
+        parser.read(new StringReader("recordLevel,first\nRECORD,Jane\nPARENT,John\n"))) {
+      IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, reader::next);
+      assertTrue(thrown.getMessage().contains("'PARENT'"), thrown.getMessage());
+    }
+  }
+
+  @Test
+  void streamingRejectsALeadingSubrecordRow() throws IOException {
+    try (RecordReader reader =
+        parser.read(new StringReader("recordLevel,first\nSUBRECORD,Kid\n"))) {
+      assertThrows(IllegalArgumentException.class, reader::hasNext);
+    }
+  }
+
+  @Test
+  void aFileParsedInParallelEqualsTheSameTextParsedWhole(@TempDir Path dir) throws IOException {
+    String csv = "recordLevel,first,last\nRECORD,Jane,Doe\nSUBRECORD,Kid,\nRECORD,John,Roe\n";
+    Path file = Files.writeString(dir.resolve("linked.csv"), csv);
+
+    assertEquals(parser.parse(csv), parser.parseParallel(file));
+  }
+
+  @Test
+  void aCompressedFileReadsAsItsTextWhetherStreamedOrParsedInParallel(@TempDir Path dir)
+      throws IOException {
+    String csv = "recordLevel,first,last\nRECORD,Jane,Doe\nSUBRECORD,Kid,\nRECORD,José,Roe\n";
+    Path file = dir.resolve("linked.csv.gz");
+    try (Writer out = Compression.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      out.write(csv);
+    }
+
+    FileContent expected = parser.parse(csv);
+    try (RecordReader reader = parser.read(file)) {
+      assertEquals(expected, reader.readAll());
+    }
+    assertEquals(expected, parser.parseParallel(file));
+  }
+
+  @Test
+  void parsingInParallelRequiresAFileAndAnExecutor(@TempDir Path dir) {
+    Path file = dir.resolve("any.csv");
+    assertThrows(IllegalArgumentException.class, () -> parser.parseParallel(null));
+    assertThrows(IllegalArgumentException.class, () -> parser.parseParallel(file, null));
+  }
+
+  @Test
+  void aProjectionKeepsOnlyTheNamedColumnsInFileOrder() {
+    String csv = "id,name,plan,ssn\n1,Jane,PPO,111\n2,John,,222\n";
+
+    FileContent file = parser.withColumns("plan", "id", "missing").parse(csv);
+
+    assertInstanceOf(ColumnarRecords.class, file.records());
+    assertEquals(
+        List.of(
+            Record.of(
+                List.of(
+                    new Field(Location.of(RecordLevel.RECORD, "id"), "1"),
+                    new Field(Location.of(RecordLevel.RECORD, "plan"), "PPO"))),
+            Record.of(List.of(new Field(Location.of(RecordLevel.RECORD, "id"), "2")))),
+        file.records());
+  }
+
+  @Test
+  void aRowFilterSeesEveryColumnAndDropsRejectedRows() throws IOException {
+    String csv = "id,name,plan\n1,Jane,PPO\n2,John,HMO\n3,Ann,PPO\n4,Short\n";
+    DelimitedFileParser ppo =
+        parser.withRowFilter(RowFilter.columnEquals("plan", "PPO")).withColumns("name");
+
+    assertEquals(
+        List.of(Map.of("name", "Jane"), Map.of("name", "Ann")),
+        ppo.parse(csv).records().stream().map(DelimitedFileParserTest::byColumn).toList());
+    try (RecordReader reader = ppo.read(new StringReader(csv))) {
+      assertEquals("Jane", byColumn(reader.next()).get("name"));
+      assertEquals("Ann", byColumn(reader.next()).get("name"));
+      assertFalse(reader.hasNext());
+    }
+
+    DelimitedFileParser unplanned =
+        parser
+            .withColumns("id")
+            .withRowFilter(row -> row.get("plan").isEmpty() && row.get("nope").isEmpty());
+    assertEquals("4", byColumn(unplanned.parse(csv).records().get(0)).get("id"));
+    assertEquals(
+        1,
+        parser.withRowFilter(RowFilter.columnEquals("nope", "")).parse("a\nx\n").records().size());
+  }
+
+  @Test
+  void aRejectedRecordRowTakesItsSubrecordRowsWithIt() throws IOException {
+    String csv =
+        """
+        recordLevel,name,plan
+        RECORD,Jane,PPO
+        SUBRECORD,Kid,PPO
+        RECORD,John,HMO
+        SUBRECORD,Kid2,PPO
+        SUBRECORD,Kid3,
+        RECORD,Ann,PPO
+        """;
+    DelimitedFileParser ppo =
+        parser.withRowFilter(RowFilter.columnEquals("plan", "PPO")).withColumns("name");
+
+    try (RecordReader reader = ppo.read(new StringReader(csv))) {
+      List<Record> records = reader.stream().toList();
+      assertEquals(2, records.size());
+      assertEquals(Map.of("name", "Jane"), byColumn(records.get(0)));
+      assertEquals(Map.of("name", "Kid"), byColumn(records.get(0).children().get(0)));
+      assertEquals(Map.of("name", "Ann"), byColumn(records.get(1)));
+      assertTrue(records.get(1).children().isEmpty());
+    }
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> ppo.parse("recordLevel,name,plan\nSUBRECORD,Kid,PPO\n"));
+  }
+
+  @Test
+  void aHeaderlessFileIsProjectedAndFilteredByPosition() {
+    DelimitedFileParser headerless =
+        new DelimitedFileParser(DelimitedFormat.builder().header(false).build())
+            .withColumns("3", "1", "name", "0", "01")
+            .withRowFilter(row -> !row.contentEquals("2", "skip"));
+
+    FileContent file = headerless.parse("a,b,c,d\nx,skip,z\ne\n");
+
+    assertEquals(
+        List.of(Map.of("1", "a", "3", "c"), Map.of("1", "e")),
+        file.records().stream().map(DelimitedFileParserTest::byColumn).toList());
+  }
+
+  @Test
+  void anEscapedFormatIsFilteredByTheSameRules() {
+    DelimitedFileParser escaped =
+        new DelimitedFileParser(DelimitedFormat.builder().escape('\\').build())
+            .withRowFilter(RowFilter.columnEquals("note", "a\"b"));
+
+    FileContent file = escaped.parse("id,note\n1,\"a\\\"b\"\n2,ab\n");
+
+    assertEquals(
+        List.of(Map.of("id", "1", "note", "a\"b")),
+        file.records().stream().map(DelimitedFileParserTest::byColumn).toList());
+  }
+
+  @Test
+  void aSelectionNeedsColumnsAndAFilter() {
+    assertThrows(IllegalArgumentException.class, () -> parser.withColumns());
+    assertThrows(IllegalArgumentException.class, () -> parser.withColumns((String[]) null));
+    assertThrows(IllegalArgumentException.class, () -> parser.withColumns("id", " "));
+    assertThrows(IllegalArgumentException.class, () -> parser.withColumns("id", null));
+    assertThrows(IllegalArgumentException.class, () -> parser.withRowFilter(null));
+    assertThrows(IllegalArgumentException.class, () -> RowFilter.columnEquals(" ", "x"));
+    assertThrows(IllegalArgumentException.class, () -> RowFilter.columnEquals(null, "x"));
+    assertThrows(IllegalArgumentException.class, () -> RowFilter.columnEquals("id", null));
+  }
+
   private static Map<String, String> byColumn(Record record) {
     Map<String, String> map = new LinkedHashMap<>();
     for (Field field : record.fields()) {
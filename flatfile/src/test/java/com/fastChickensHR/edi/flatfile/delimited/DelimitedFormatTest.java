@@ -9,6 +9,7 @@ package com.fastChickensHR.edi.flatfile.delimited;
 
 import static com.fastChickensHR.edi.core.RecordLevel.RECORD;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fastChickensHR.edi.core.Direction;
 import com.fastChickensHR.edi.core.Field;
@@ -150,4 +151,83 @@ class DelimitedFormatTest {
 
     assertEquals("id,name\r\n1,Jane\r\n2,John\r\n", out);
   }
+
+  @Test
+  void declaredColumnsFixTheHeaderAndTheCellOrder() {
+    DelimitedFormat declared = DelimitedFormat.builder().columns("name", "plan", "id").build();
+
+    String out = new DelimitedFileGenerator(declared).generate(content());
+
+    assertEquals("name,plan,id\nJane,,1\nJohn,,2\n", out);
+    assertEquals(
+        List.of(
+            Record.of(List.of(f(RECORD, "name", "Jane"), f(RECORD, "id", "1"))),
+            Record.of(List.of(f(RECORD, "name", "John"), f(RECORD, "id", "2")))),
+        new DelimitedFileParser(declared).parse(out).records());
+  }
+
+  @Test
+  void declaredColumnsWriteTheHeaderEvenForAnEmptyFile() {
+    DelimitedFormat declared = DelimitedFormat.builder().columns("id", "name").build();
+
+    String out =
+        new DelimitedFileGenerator(declared)
+            .generate(new FileContent(Direction.OUTBOUND, List.of(), List.of()));
+
+    assertEquals("id,name\n", out);
+  }
+
+  @Test
+  void anUndeclaredFieldIsRejectedUnlessThePolicyIgnoresIt() {
+    DelimitedFormat.Builder builder = DelimitedFormat.builder().columns("id");
+
+    IllegalArgumentException e =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> new DelimitedFileGenerator(builder.build()).generate(content()));
+    assertEquals("Column 'name' is not declared in the format", e.getMessage());
+
+    DelimitedFormat ignoring = builder.unknownColumns(UnknownColumnPolicy.IGNORE).build();
+    assertEquals("id\n1\n2\n", new DelimitedFileGenerator(ignoring).generate(content()));
+  }
+
+  @Test
+  void nestedRecordsNeedTheRecordLevelColumnDeclared() {
+    Record subscriber =
+        new Record(
+            List.of(f(RECORD, "id", "1")),
+            List.of(Record.of(List.of(f(RecordLevel.SUBRECORD, "id", "1a")))));
+    FileContent nested = new FileContent(Direction.OUTBOUND, List.of(), List.of(subscriber));
+
+    DelimitedFormat linked = DelimitedFormat.builder().columns("id", "recordLevel").build();
+    String out = new DelimitedFileGenerator(linked).generate(nested);
+    assertEquals("id,recordLevel\n1,RECORD\n1a,SUBRECORD\n", out);
+    assertEquals(List.of(subscriber), new DelimitedFileParser(linked).parse(out).records());
+
+    DelimitedFormat flat = DelimitedFormat.builder().columns("id").build();
+    assertThrows(
+        IllegalArgumentException.class, () -> new DelimitedFileGenerator(flat).generate(nested));
+  }
+
+  @Test
+  void headerlessDeclaredColumnsOnlyOrderTheCells() {
+    DelimitedFormat declared =
+        DelimitedFormat.builder().header(false).columns("name", "id").build();
+
+    assertEquals("Jane,1\nJohn,2\n", new DelimitedFileGenerator(declared).generate(content()));
+  }
+
+  @Test
+  void malformedColumnDeclarationsAreRejected() {
+    DelimitedFormat.Builder builder = DelimitedFormat.builder();
+
+    assertThrows(IllegalArgumentException.class, () -> builder.columns("id", " "));
+    assertThrows(IllegalArgumentException.class, () -> builder.columns("id", null));
+    assertThrows(IllegalArgumentException.class, () -> builder.columns("id", "id"));
+    assertThrows(IllegalArgumentException.class, () -> builder.unknownColumns(null));
+    assertEquals(
+        "id,name\n1,Jane\n2,John\n",
+        new DelimitedFileGenerator(builder.columns("id").columns((String[]) null).build())
+            .generate(content()));
+  }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.QuoteMode;
+import org.junit.jupiter.api.Test;
+
+class DelimitedPrinterTest {
+
+  private static final List<DelimitedFormat> FORMATS =
+      List.of(
+          DelimitedFormat.csv(),
+          DelimitedFormat.builder().quoteMode(QuoteMode.ALL).build(),
+          DelimitedFormat.builder().quoteMode(QuoteMode.ALL_NON_NULL).build(),
+          DelimitedFormat.builder().quoteMode(QuoteMode.NON_NUMERIC).build(),
+          DelimitedFormat.builder().quoteMode(null).recordSeparator(null).build(),
+          DelimitedFormat.builder().escape('\\').build(),
+          DelimitedFormat.builder().delimiter(';').quote('\'').recordSeparator("\r\n").build(),
+          DelimitedFormat.builder().quote(null).escape('\\').build(),
+          DelimitedFormat.builder().escape('\\').quoteMode(QuoteMode.NONE).build());
+
+  @Test
+  void quotesEveryCellExactlyAsCommonsCsvDoes() throws IOException {
+    Random random = new Random(999);
+    char[] alphabet = {'a', '1', ' ', '\t', ',', ';', '"', '\'', '\\', '\n', '\r', '#', '!', '-'};
+    for (int run = 0; run < 5_000; run++) {
+      String[] cells = new String[1 + random.nextInt(4)];
+      for (int c = 0; c < cells.length; c++) {
+        StringBuilder cell = new StringBuilder();
+        int length = random.nextInt(6);
+        for (int i = 0; i < length; i++) {
+          cell.append(alphabet[random.nextInt(alphabet.length)]);
+        }
+        cells[c] = cell.toString();
+      }
+      for (DelimitedFormat format : FORMATS) {
+        assertEquals(commons(cells, format), ours(cells, format), () -> String.join("|", cells));
+      }
+    }
+  }
+
+  private static String ours(String[] cells, DelimitedFormat format) throws IOException {
+    StringWriter out = new StringWriter();
+    DelimitedPrinter printer = new DelimitedPrinter(out, format);
+    printer.printRecord(cells);
+    printer.printRecord(cells);
+    return out.toString();
+  }
+
+  private static String commons(String[] cells, DelimitedFormat format) throws IOException {
+    StringWriter out = new StringWriter();
+    CSVPrinter printer = new CSVPrinter(out, format.csvFormat());
+    printer.printRecord((Object[]) cells);
+    printer.printRecord((Object[]) cells);
+    return out.toString();
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.junit.jupiter.api.Test;
+
+class DelimitedTokenizerTest {
+
+  private static final List<DelimitedFormat> FORMATS =
+      List.of(
+          DelimitedFormat.csv(),
+          DelimitedFormat.builder().delimiter(';').quote('\'').build(),
+          DelimitedFormat.builder().quote(null).build(),
+          DelimitedFormat.builder().delimiter('\t').build());
+
+  @Test
+  void splitsRowsExactlyAsCommonsCsvDoesOnArbitraryText() throws IOException {
+    Random random = new Random(834);
+    char[] alphabet = {'a', 'b', ' ', '\t', ',', ';', '"', '\'', '\n', '\r', '#'};
+    for (int run = 0; run < 20_000; run++) {
+      StringBuilder text = new StringBuilder();
+      int length = random.nextInt(24);
+      for (int i = 0; i < length; i++) {
+        text.append(alphabet[random.nextInt(alphabet.length)]);
+      }
+      for (DelimitedFormat format : FORMATS) {
+        assertEquals(
+            commons(text.toString(), format), ours(text.toString(), format), () -> show(text));
+      }
+    }
+  }
+
+  @Test
+  void cellsSpanningWindowRefillsReadWhole() throws IOException {
+    String wide = "x".repeat(200_000);
+    String text = "a," + wide + ",\"" + wide + "\"\"" + wide + "\"\r\nb\r\n";
+
+    assertEquals(commons(text, DelimitedFormat.csv()), ours(text, DelimitedFormat.csv()));
+  }
+
+  @Test
+  void rejectsTextAfterAClosingQuoteAndAnUnclosedQuote() throws IOException {
+    try (DelimitedTokenizer rows = tokenizer("\"a\"b,c\n", DelimitedFormat.csv())) {
+      IOException thrown = assertThrows(IOException.class, rows::next);
+      assertTrue(thrown.getMessage().contains("Invalid character"));
+    }
+    try (DelimitedTokenizer rows = tokenizer("ok\n\"a,\nb", DelimitedFormat.csv())) {
+      assertTrue(rows.next());
+      IOException thrown = assertThrows(IOException.class, rows::next);
+      assertTrue(thrown.getMessage().contains("(startline 2)"));
+    }
+  }
+
+  @Test
+  void emptyCellsCostNothingAndOutOfRangeCellsAreRefused() throws IOException {
+    try (DelimitedTokenizer rows = tokenizer(",\n", DelimitedFormat.csv())) {
+      assertTrue(rows.next());
+      assertEquals(2, rows.size());
+      assertEquals("", rows.get(0));
+      assertThrows(IndexOutOfBoundsException.class, () -> rows.get(2));
+      assertThrows(IndexOutOfBoundsException.class, () -> rows.get(-1));
+      assertFalse(rows.next());
+    }
+  }
+
+  private static DelimitedTokenizer tokenizer(String text, DelimitedFormat format) {
+    return new DelimitedTokenizer(new StringReader(text), format);
+  }
+
+  /** The rows the tokenizer reads, then {@code "!"} if it stopped on malformed input. */
+  private static List<List<String>> ours(String text, DelimitedFormat format) {
+    List<List<String>> rows = new ArrayList<>();
+    try (DelimitedTokenizer tokenizer = tokenizer(text, format)) {
+      while (tokenizer.next()) {
+        List<String> row = new ArrayList<>();
+        for (int i = 0; i < tokenizer.size(); i++) {
+          row.add(tokenizer.get(i));
+        }
+        rows.add(row);
+      }
+    } catch (IOException e) {
+      rows.add(List.of("!"));
+    }
+    return rows;
+  }
+
+  /** The rows Commons CSV reads, then {@code "!"} if it stopped on malformed input. */
+  private static List<List<String>> commons(String text, DelimitedFormat format)
+      throws IOException {
+    List<List<String>> rows = new ArrayList<>();
+    try (Reader in = new StringReader(text);
+        CSVParser parser = format.csvFormat().parse(in)) {
+      for (CSVRecord record : parser) {
+        rows.add(record.toList());
+      }
+    } catch (UncheckedIOException e) {
+      rows.add(List.of("!"));
+    }
+    return rows;
+  }
+
+  private static String show(CharSequence text) {
+    return text.toString().replace("\r", "\\r").replace("\n", "\\n").replace("\t", "\\t");
+  }
+}
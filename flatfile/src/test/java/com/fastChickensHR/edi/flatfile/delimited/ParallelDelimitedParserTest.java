@@ -0,0 +1,201 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.delimited;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fastChickensHR.edi.core.ColumnarRecords;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ParallelDelimitedParserTest {
+
+  private static final Executor POOL = ForkJoinPool.commonPool();
+
+  private static final List<DelimitedFormat> FORMATS =
+      List.of(
+          DelimitedFormat.csv(),
+          DelimitedFormat.builder().delimiter(';').quote('\'').build(),
+          DelimitedFormat.builder().quote(null).build(),
+          DelimitedFormat.builder().header(false).build());
+
+  @TempDir Path dir;
+
+  @Test
+  void arbitraryTextParsesAsTheSequentialReaderParsesItWhereverTheCutsFall() throws IOException {
+    Random random = new Random(15);
+    String[] alphabet = {"a", "b", " ", "\t", ",", ";", "\"", "'", "\n", "\r", "é", "\r\n"};
+    for (int run = 0; run < 3_000; run++) {
+      StringBuilder text = new StringBuilder();
+      int length = random.nextInt(40);
+      for (int i = 0; i < length; i++) {
+        text.append(alphabet[random.nextInt(alphabet.length)]);
+      }
+      Path file = write(text.toString());
+      for (DelimitedFormat format : FORMATS) {
+        Object expected = sequential(file, format);
+        for (int regionBytes : new int[] {1, 3, 8, 64}) {
+          assertEquals(expected, parallel(file, format, regionBytes), text::toString);
+        }
+      }
+    }
+  }
+
+  @Test
+  void linkedRowGroupsAndQuotedLineBreaksSpanningCutsAreKeptWhole() throws IOException {
+    StringBuilder text = new StringBuilder("recordLevel,name,note\r\n");
+    for (int i = 0; i < 200; i++) {
+      text.append("RECORD,P").append(i).append(",\"line one\nline \"\"two\"\"\"\r\n");
+      for (int k = 0; k < i % 4; k++) {
+        text.append("SUBRECORD,C").append(k).append(",\"a,\r\nb\"  \n");
+      }
+    }
+    Path file = write(text.toString());
+
+    FileContent expected = (FileContent) sequential(file, DelimitedFormat.csv());
+    assertEquals(200, expected.records().size());
+    for (int regionBytes : new int[] {1, 7, 50, 4096}) {
+      assertEquals(expected, parallel(file, DelimitedFormat.csv(), regionBytes));
+    }
+  }
+
+  @Test
+  void aFlatHeaderFileParsesIntoOneColumnarRecordsInFileOrder() throws IOException {
+    StringBuilder text = new StringBuilder("id,name\n");
+    for (int i = 0; i < 500; i++) {
+      text.append(i).append(",\"N\n").append(i).append("\"\n");
+    }
+    Path file = write(text.toString());
+
+    FileContent content = ParallelDelimitedParser.parse(file, DelimitedFormat.csv(), POOL, 100);
+
+    assertInstanceOf(ColumnarRecords.class, content.records());
+    assertEquals(sequential(file, DelimitedFormat.csv()), content);
+  }
+
+  @Test
+  void escapedFormatsAndMalformedQuotingAreReadSequentially() throws IOException {
+    DelimitedFormat escaped = DelimitedFormat.builder().escape('\\').build();
+    Path file = write("a,b\n\"x\\\"y\",z\n");
+    assertEquals(sequential(file, escaped), parallel(file, escaped, 2));
+
+    Path open = write("a,b\n1,\"never closed\n2,3\n");
+    assertEquals(sequential(open, DelimitedFormat.csv()), parallel(open, DelimitedFormat.csv(), 4));
+
+    Path trailing = write("a,b\n1,2\n3,\"x\"y\n");
+    assertEquals(
+        sequential(trailing, DelimitedFormat.csv()), parallel(trailing, DelimitedFormat.csv(), 4));
+  }
+
+  @Test
+  void aRowErrorIsTheFirstOneTheSequentialReaderWouldHit() throws IOException {
+    Path file = write("recordLevel,name\nSUBRECORD,orphan\nRECORD,P\nNOPE,x\n");
+
+    IllegalArgumentException e =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> ParallelDelimitedParser.parse(file, DelimitedFormat.csv(), POOL, 8));
+    assertEquals("SUBRECORD row has no preceding RECORD row", e.getMessage());
+
+    Path later = write("recordLevel,name\nRECORD,P\nSUBRECORD,c\nRECORD,Q\nNOPE,x\n");
+    assertEquals(
+        sequential(later, DelimitedFormat.csv()), parallel(later, DelimitedFormat.csv(), 8));
+  }
+
+  @Test
+  void aSelectionKeepsTheSameRowsAndColumnsWhereverTheCutsFall() throws IOException {
+    Random random = new Random(18);
+    String[] levels = {"RECORD", "RECORD", "SUBRECORD", "SUBRECORD", "OTHER"};
+    String[] plans = {"PPO", "HMO", "", "\"PPO\""};
+    RowSelection selection =
+        RowSelection.ALL
+            .withColumns(Set.of("name", "plan", "3"))
+            .withFilter(RowFilter.columnEquals("plan", "PPO"));
+    for (int run = 0; run < 500; run++) {
+      StringBuilder text = new StringBuilder("recordLevel,name,plan\n");
+      for (int i = random.nextInt(12); i > 0; i--) {
+        String level = levels[random.nextInt(run % 2 == 0 ? 4 : levels.length)];
+        text.append(level).append(",n").append(i);
+        if (random.nextInt(12) > 0) {
+          text.append(',').append(plans[random.nextInt(plans.length)]);
+        }
+        text.append('\n');
+      }
+      Path file = write(text.toString());
+      for (DelimitedFormat format : FORMATS) {
+        Object expected = sequential(file, format, selection);
+        for (int regionBytes : new int[] {1, 5, 16, 64}) {
+          assertEquals(expected, parallel(file, format, selection, regionBytes), text::toString);
+        }
+      }
+    }
+  }
+
+  @Test
+  void textThatIsNotUtf8IsRejectedAsTheSequentialReaderRejectsIt() throws IOException {
+    Path file = dir.resolve("latin1.csv");
+    Files.write(file, "id,name\n1,José\n".getBytes(StandardCharsets.ISO_8859_1));
+
+    assertThrows(
+        CharacterCodingException.class,
+        () -> ParallelDelimitedParser.parse(file, DelimitedFormat.csv(), POOL, 4));
+  }
+
+  private Path write(String text) throws IOException {
+    Path file = Files.createTempFile(dir, "rows", ".csv");
+    return Files.writeString(file, text);
+  }
+
+  private static Object sequential(Path file, DelimitedFormat format) {
+    return sequential(file, format, RowSelection.ALL);
+  }
+
+  /** What reading {@code file} a record at a time yields: its content, or the failure. */
+  private static Object sequential(Path file, DelimitedFormat format, RowSelection selection) {
+    try (RecordReader reader =
+        new DelimitedRecordReader(Files.newBufferedReader(file), format, selection)) {
+      return reader.readAll();
+    } catch (UncheckedIOException e) {
+      return failure(e.getCause());
+    } catch (IOException | RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  private static Object parallel(Path file, DelimitedFormat format, int regionBytes) {
+    return parallel(file, format, RowSelection.ALL, regionBytes);
+  }
+
+  private static Object parallel(
+      Path file, DelimitedFormat format, RowSelection selection, int regionBytes) {
+    try {
+      return ParallelDelimitedParser.parse(file, format, selection, POOL, regionBytes);
+    } catch (IOException | RuntimeException e) {
+      return failure(e);
+    }
+  }
+
+  private static String failure(Exception e) {
+    return e.getClass().getName() + ": " + e.getMessage();
+  }
+}
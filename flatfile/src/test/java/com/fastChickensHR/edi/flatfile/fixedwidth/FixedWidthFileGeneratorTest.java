@@ -0,0 +1,203 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fastChickensHR.edi.core.Compression;
+import com.fastChickensHR.edi.core.Direction;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FixedWidthFileGeneratorTest {
+
+  private static final FixedWidthFormat ROSTER =
+      FixedWidthFormat.builder()
+          .column("memberId", 5, Justification.RIGHT, '0')
+          .filler(1)
+          .column("lastName", 6)
+          .column("plan", 3)
+          .build();
+
+  private final FixedWidthFileGenerator generator = new FixedWidthFileGenerator(ROSTER);
+
+  private static Field f(String name, String value) {
+    return new Field(new Location(RecordLevel.RECORD, name), value);
+  }
+
+  private static FileContent file(Record... records) {
+    return new FileContent(Direction.OUTBOUND, List.of(), List.of(records));
+  }
+
+  @Test
+  void padsEachValueIntoItsColumn() {
+    String text =
+        generator.generate(
+            file(
+                Record.of(List.of(f("lastName", "DOE"), f("memberId", "1001"), f("plan", "PPO"))),
+                Record.of(List.of(f("memberId", "20"), f("plan", null)))));
+
+    assertEquals("01001 DOE   PPO\n00020          \n", text);
+  }
+
+  @Test
+  void theFirstValueForAColumnWins() {
+    String text = generator.generate(file(Record.of(List.of(f("plan", "HMO"), f("plan", "PPO")))));
+
+    assertEquals("00000       HMO\n", text);
+  }
+
+  @Test
+  void roundTripsThroughTheParser() {
+    FileContent roster =
+        file(
+            Record.of(List.of(f("memberId", "1001"), f("lastName", "DOE"), f("plan", "PPO"))),
+            Record.of(List.of(f("memberId", "20"), f("lastName", "RÖE"))));
+
+    FileContent parsed = new FixedWidthFileParser(ROSTER).parse(generator.generate(roster));
+
+    assertEquals(roster.records(), parsed.records());
+  }
+
+  @Test
+  void aZeroInAZeroPaddedColumnRoundTripsAsZero() {
+    FixedWidthFormat amounts =
+        FixedWidthFormat.builder()
+            .column("premium", 5, Justification.RIGHT, '0')
+            .column("code", 3, Justification.LEFT, '*')
+            .column("note", 4)
+            .build();
+    FileContent file =
+        file(
+            Record.of(List.of(f("premium", "0"), f("code", "*"), f("note", "X"))),
+            Record.of(List.of(f("premium", "120"), f("code", "A"))));
+
+    String text = new FixedWidthFileGenerator(amounts).generate(file);
+    FileContent parsed = new FixedWidthFileParser(amounts).parse(text);
+
+    assertEquals("00000***X   \n00120A**    \n", text);
+    assertEquals(file.records(), parsed.records());
+    assertEquals(
+        List.of(f("premium", "0"), f("code", "*")),
+        new FixedWidthFileParser(amounts).parse("00000***    \n").records().get(0).fields());
+  }
+
+  @Test
+  void streamsTheSameLinesIntoAWriterOrAStream() throws IOException {
+    FixedWidthFormat crlf =
+        FixedWidthFormat.builder()
+            .column("a", 2)
+            .column("b", 3, Justification.RIGHT, ' ')
+            .recordSeparator("\r\n")
+            .build();
+    FixedWidthFileGenerator generator = new FixedWidthFileGenerator(crlf);
+    FileContent file = file(Record.of(List.of(f("a", "é"), f("b", "7"))), Record.of(List.of()));
+
+    StringWriter chars = new StringWriter();
+    generator.generate(file, chars);
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    generator.generate(file, bytes);
+
+    assertEquals("é   7\r\n     \r\n", chars.toString());
+    assertEquals(chars.toString(), bytes.toString(StandardCharsets.ISO_8859_1));
+  }
+
+  @Test
+  void writesACompressedFileOrStreamOfTheSameLines(@TempDir Path dir) throws IOException {
+    FileContent roster =
+        file(Record.of(List.of(f("memberId", "1001"), f("lastName", "JOSÉ"), f("plan", "PPO"))));
+    String text = generator.generate(roster);
+
+    Path gz = dir.resolve("roster.txt.gz");
+    generator.generate(roster, gz);
+    assertSame(Compression.GZIP, Compression.detect(gz));
+    try (InputStream in = Compression.newInputStream(gz)) {
+      assertEquals(text, new String(in.readAllBytes(), StandardCharsets.ISO_8859_1));
+    }
+
+    Path plain = dir.resolve("roster.txt");
+    generator.generate(roster, plain);
+    assertEquals(text, Files.readString(plain, StandardCharsets.ISO_8859_1));
+
+    ByteArrayOutputStream deflated = new ByteArrayOutputStream();
+    generator.generate(roster, deflated, Compression.DEFLATE);
+    try (InputStream in =
+        Compression.decompressing(new ByteArrayInputStream(deflated.toByteArray()))) {
+      assertEquals(text, new String(in.readAllBytes(), StandardCharsets.ISO_8859_1));
+    }
+  }
+
+  @Test
+  void aStrictFormatRejectsMisfits() {
+    IllegalArgumentException wide =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> generator.generate(file(Record.of(List.of(f("plan", "DENTAL"))))));
+    assertEquals("Value for column 'plan' is 6 characters; the column holds 3", wide.getMessage());
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> generator.generate(file(Record.of(List.of(f("ssn", "123"))))));
+  }
+
+  @Test
+  void aLenientFormatTruncatesWideValuesAndSkipsUnknownFields() {
+    FixedWidthFormat lenient =
+        FixedWidthFormat.builder()
+            .column("a", 3)
+            .column("b", 3, Justification.RIGHT, '0')
+            .strict(false)
+            .build();
+
+    String text =
+        new FixedWidthFileGenerator(lenient)
+            .generate(file(Record.of(List.of(f("a", "ABCDE"), f("b", "12345"), f("c", "x")))));
+
+    assertEquals("ABC123\n", text);
+  }
+
+  @Test
+  void contentAFixedWidthFileCannotHoldIsRejected() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> generator.generate(file(Record.of(List.of(f("plan", "A\nB"))))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> generator.generate(file(Record.of(List.of(f("plan", "A\rB"))))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> generator.generate(file(Record.of(List.of(f("plan", "☃"))))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            generator.generate(
+                file(new Record(List.of(), List.of(Record.of(List.of(f("plan", "X"))))))));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            generator.generate(
+                new FileContent(Direction.OUTBOUND, List.of(f("batch", "1")), List.of())));
+    assertThrows(IllegalArgumentException.class, () -> new FixedWidthFileGenerator(null));
+  }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fastChickensHR.edi.core.ColumnarRecords;
+import com.fastChickensHR.edi.core.Compression;
+import com.fastChickensHR.edi.core.Direction;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FixedWidthFileParserTest {
+
+  private static final FixedWidthFormat ROSTER =
+      FixedWidthFormat.builder()
+          .column("memberId", 5, Justification.RIGHT, '0')
+          .filler(1)
+          .column("lastName", 6)
+          .column("plan", 3)
+          .build();
+
+  private final FixedWidthFileParser parser = new FixedWidthFileParser(ROSTER);
+
+  @TempDir Path dir;
+
+  private static Field f(String name, String value) {
+    return new Field(Location.of(RecordLevel.RECORD, name), value);
+  }
+
+  @Test
+  void slicesEachLineIntoTrimmedColumnFields() {
+    FileContent file = parser.parse("01001 DOE   PPO\n00020 ROE      \n");
+
+    assertEquals(Direction.INBOUND, file.direction());
+    assertTrue(file.fileFields().isEmpty());
+    assertEquals(
+        List.of(
+            Record.of(List.of(f("memberId", "1001"), f("lastName", "DOE"), f("plan", "PPO"))),
+            Record.of(List.of(f("memberId", "20"), f("lastName", "ROE")))),
+        file.records());
+    assertInstanceOf(ColumnarRecords.class, file.records());
+  }
+
+  @Test
+  void onlyThePaddingSideIsTrimmed() {
+    FileContent file = parser.parse("10000   DOE 000\n");
+
+    assertEquals(
+        List.of(
+            Record.of(List.of(f("memberId", "10000"), f("lastName", "  DOE"), f("plan", "000")))),
+        file.records());
+  }
+
+  @Test
+  void everyLineBreakEndsALineAndEmptyLinesAreSkipped() {
+    FileContent file = parser.parse("\n00001 A     X  \r\n\r00002 B     Y  \r00003 C     Z  ");
+
+    assertEquals(3, file.records().size());
+    assertEquals("Z", file.records().get(2).fields().get(2).value());
+  }
+
+  @Test
+  void aStrictFormatRejectsALineOfTheWrongLength() {
+    IllegalArgumentException e =
+        assertThrows(
+            IllegalArgumentException.class, () -> parser.parse("00001 A     X  \n\n00002 B\n"));
+
+    assertEquals("Line 3 is 7 characters long; the layout needs 15", e.getMessage());
+  }
+
+  @Test
+  void aLenientFormatReadsShortLinesAsMissingColumns() {
+    FixedWidthFormat lenient =
+        FixedWidthFormat.builder().column("a", 2).column("b", 2).strict(false).build();
+
+    FileContent file = new FixedWidthFileParser(lenient).parse("x\nxyzw  extra\n");
+
+    assertEquals(
+        List.of(Record.of(List.of(f("a", "x"))), Record.of(List.of(f("a", "xy"), f("b", "zw")))),
+        file.records());
+  }
+
+  @Test
+  void streamsOneRecordPerLine() throws IOException {
+    try (RecordReader reader = parser.read(new StringReader("00001 A     X  \n00002 B     Y  "))) {
+      assertTrue(reader.fileFields().isEmpty());
+      assertEquals("1", reader.next().fields().get(0).value());
+      assertTrue(reader.hasNext());
+      FileContent rest = reader.readAll();
+      assertEquals(
+          List.of(Record.of(List.of(f("memberId", "2"), f("lastName", "B"), f("plan", "Y")))),
+          rest.records());
+      assertFalse(reader.hasNext());
+      assertThrows(NoSuchElementException.class, reader::next);
+    }
+  }
+
+  @Test
+  void emptyInputYieldsNoRecords() {
+    assertTrue(parser.parse("").records().isEmpty());
+    assertTrue(parser.parse(null).records().isEmpty());
+  }
+
+  @Test
+  void aMappedFileReadsAsTheSameTextDoes() throws IOException {
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 300; i++) {
+      text.append(
+          String.format(
+              "%05d NAME%02d%s%s",
+              i, i % 100, i % 3 == 0 ? "   " : "HMO", i % 2 == 0 ? "\r\n" : "\n"));
+    }
+    text.append("99999 LAST  Ü  ");
+    Path file = dir.resolve("roster.txt");
+    Files.write(file, text.toString().getBytes(StandardCharsets.ISO_8859_1));
+
+    FileContent expected = parser.parse(text.toString());
+    try (RecordReader reader = parser.read(file)) {
+      assertEquals(expected, reader.readAll());
+    }
+    for (int window : new int[] {17, 18, 64}) {
+      try (RecordReader reader =
+          new FixedWidthRecordReader(new MappedLines(FileChannel.open(file), window), ROSTER)) {
+        assertEquals(expected.records(), reader.stream().toList());
+      }
+    }
+  }
+
+  @Test
+  void aCompressedFileOrStreamReadsAsItsText() throws IOException {
+    String text = "00001 JOSÉ  PPO\n00002 ROE   HMO\n";
+    Path file = dir.resolve("roster.txt.gz");
+    try (Writer out = Compression.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+      out.write(text);
+    }
+
+    FileContent expected = parser.parse(text);
+    try (RecordReader reader = parser.read(file)) {
+      assertEquals(expected, reader.readAll());
+    }
+    try (RecordReader reader = parser.read(Files.newInputStream(file))) {
+      assertEquals(expected, reader.readAll());
+    }
+  }
+
+  @Test
+  void aMappedLineLongerThanTheWindowIsRejected() throws IOException {
+    Path file = Files.writeString(dir.resolve("long.txt"), "00001 A     X  \n00002 B     Y  \n");
+
+    try (RecordReader reader =
+        new FixedWidthRecordReader(new MappedLines(FileChannel.open(file), 8), ROSTER)) {
+      assertThrows(java.io.UncheckedIOException.class, reader::hasNext);
+    }
+  }
+
+  @Test
+  void aMappedMisfitIsReportedByItsLineNumber() throws IOException {
+    Path file = Files.writeString(dir.resolve("short.txt"), "00001 A     X  \n\n\r\n00002\n");
+
+    try (RecordReader reader = parser.read(file)) {
+      reader.next();
+      IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::next);
+      assertEquals("Line 4 is 5 characters long; the layout needs 15", e.getMessage());
+    }
+  }
+
+  @Test
+  void wideCellsReadWholeFromTextOrAMappedFile() throws IOException {
+    FixedWidthFormat wide = FixedWidthFormat.builder().column("note", 1000).build();
+    String note = "n".repeat(999) + "!";
+    Path file = Files.writeString(dir.resolve("wide.txt"), note + "\n");
+
+    FixedWidthFileParser parser = new FixedWidthFileParser(wide);
+    try (RecordReader reader = parser.read(file)) {
+      assertEquals(List.of(Record.of(List.of(f("note", note)))), reader.stream().toList());
+    }
+    assertEquals(note, parser.parse(note).records().get(0).fields().get(0).value());
+  }
+
+  @Test
+  void anEmptyMappedFileYieldsNoRecords() throws IOException {
+    Path file = Files.writeString(dir.resolve("empty.txt"), "");
+
+    try (RecordReader reader = parser.read(file)) {
+      assertFalse(reader.hasNext());
+    }
+  }
+
+  @Test
+  void aParserNeedsAFormat() {
+    assertThrows(IllegalArgumentException.class, () -> new FixedWidthFileParser(null));
+  }
+}
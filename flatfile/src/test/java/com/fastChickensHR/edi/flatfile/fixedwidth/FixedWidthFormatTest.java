@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.flatfile.fixedwidth;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.RecordLevel;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FixedWidthFormatTest {
+
+  @Test
+  void columnsAndFillersAreLaidOutEndToEnd() {
+    FixedWidthFormat format =
+        FixedWidthFormat.builder()
+            .column("memberId", 6, Justification.RIGHT, '0')
+            .filler(2)
+            .column("lastName", 10)
+            .build();
+
+    List<FixedWidthFormat.Column> columns = format.columns();
+    assertEquals(18, format.recordLength());
+    assertEquals(0, columns.get(0).offset());
+    assertEquals(8, columns.get(1).offset());
+    assertEquals(Justification.LEFT, columns.get(1).justification());
+    assertEquals(' ', columns.get(1).pad());
+    assertSame(Location.of(RecordLevel.RECORD, "lastName"), columns.get(1).location());
+    assertEquals("\n", format.recordSeparator());
+    assertTrue(format.strict());
+  }
+
+  @Test
+  void theSeparatorAndStrictnessCanBeChosen() {
+    FixedWidthFormat format =
+        FixedWidthFormat.builder().column("a", 1).recordSeparator("\r\n").strict(false).build();
+
+    assertEquals("\r\n", format.recordSeparator());
+    assertFalse(format.strict());
+  }
+
+  @Test
+  void malformedLayoutsAreRejected() {
+    FixedWidthFormat.Builder builder = FixedWidthFormat.builder().column("a", 1);
+
+    assertThrows(IllegalArgumentException.class, () -> builder.column(null, 1));
+    assertThrows(IllegalArgumentException.class, () -> builder.column(" ", 1));
+    assertThrows(IllegalArgumentException.class, () -> builder.column("a", 1));
+    assertThrows(IllegalArgumentException.class, () -> builder.column("b", 0));
+    assertThrows(IllegalArgumentException.class, () -> builder.column("b", 1, null, ' '));
+    assertThrows(
+        IllegalArgumentException.class, () -> builder.column("b", 1, Justification.LEFT, '\n'));
+    assertThrows(
+        IllegalArgumentException.class, () -> builder.column("b", 1, Justification.LEFT, '\r'));
+    assertThrows(
+        IllegalArgumentException.class, () -> builder.column("b", 1, Justification.LEFT, '☃'));
+    assertThrows(IllegalArgumentException.class, () -> builder.filler(-1));
+    assertThrows(IllegalArgumentException.class, () -> builder.recordSeparator(";"));
+    assertThrows(IllegalArgumentException.class, () -> builder.recordSeparator(null));
+    assertThrows(IllegalArgumentException.class, () -> FixedWidthFormat.builder().build());
+    assertThrows(
+        IllegalArgumentException.class, () -> FixedWidthFormat.builder().filler(3).build());
+  }
+
+  @Test
+  void aRejectedColumnLeavesItsNameFree() {
+    FixedWidthFormat.Builder builder = FixedWidthFormat.builder();
+    assertThrows(IllegalArgumentException.class, () -> builder.column("a", 0));
+
+    assertEquals(2, builder.column("a", 2).build().recordLength());
+  }
+}
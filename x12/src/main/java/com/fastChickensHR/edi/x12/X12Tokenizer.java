@@ -0,0 +1,316 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x12;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+
+/**
+ * Scans an X12 interchange a segment at a time without allocating per segment or per element.
+ * Delimiters come from the {@code ISA} envelope's fixed width — the element separator at position
+ * 3, the segment terminator at position 105 — defaulting to {@code *} and {@code ~} when the source
+ * does not open with one.
+ *
+ * <p>Each {@link #next()} copies one segment from the source buffer into a reusable {@code char[]}
+ * and records where its elements start; the segment id and elements are then compared as offsets
+ * into it ({@link #isSegment}, {@link #elementEquals}), and a {@code String} is created only for an
+ * element a caller actually asks for ({@link #element}). A file of any size is scanned with a fixed
+ * source buffer plus one segment's worth of scratch, so the elements a reader skips — the
+ * error-detail segments of a 999, the positions an 834 reader has no location for — cost nothing
+ * beyond the scan.
+ *
+ * <p>Whitespace between segments (a line break after each terminator) is skipped, and the
+ * unterminated remainder at the end of the source counts as a segment. A tokenizer is
+ * single-threaded and owns its source: closing it closes the source.
+ */
+public final class X12Tokenizer implements Closeable {
+  private static final char DEFAULT_ELEMENT_SEPARATOR = '*';
+  private static final char DEFAULT_SEGMENT_TERMINATOR = '~';
+  private static final int ISA_LENGTH = 106;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Reader in;
+  private final char[] buffer = new char[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private boolean exhausted;
+
+  private final char elementSeparator;
+  private final char segmentTerminator;
+
+  /** The current segment's characters, and where each of its elements starts within them. */
+  private char[] segment = new char[256];
+
+  private int length;
+  private int[] starts = new int[32];
+  private int elementCount;
+
+  private X12Tokenizer(Reader in) {
+    this.in = in;
+    // Fill at least the ISA's fixed width (or the whole source, if shorter) before choosing
+    // delimiters; those characters stay in the buffer and are scanned like any others.
+    while (limit < ISA_LENGTH && fill(limit)) {}
+    if (limit >= ISA_LENGTH && buffer[0] == 'I' && buffer[1] == 'S' && buffer[2] == 'A') {
+      elementSeparator = buffer[3];
+      segmentTerminator = buffer[ISA_LENGTH - 1];
+    } else {
+      elementSeparator = DEFAULT_ELEMENT_SEPARATOR;
+      segmentTerminator = DEFAULT_SEGMENT_TERMINATOR;
+    }
+  }
+
+  /**
+   * Opens a tokenizer reading {@code in} as segments are asked for. The first {@value #ISA_LENGTH}
+   * characters are read immediately, to find the delimiters.
+   *
+   * @param in the interchange's text
+   * @return a tokenizer positioned before the first segment, owning {@code in}
+   * @throws UncheckedIOException if reading the delimiters from {@code in} fails
+   */
+  public static X12Tokenizer of(Reader in) {
+    return new X12Tokenizer(in);
+  }
+
+  /**
+   * Opens a tokenizer over text already in memory — a {@code String}, a {@code StringBuilder}, or a
+   * {@link CharBuffer} such as a decoded mapped file. The text is copied into the scan buffer a
+   * block at a time, never as a whole.
+   *
+   * @param text the interchange's text; {@code null} reads as empty
+   * @return a tokenizer positioned before the first segment
+   */
+  public static X12Tokenizer of(CharSequence text) {
+    return new X12Tokenizer(new CharSequenceReader(text == null ? "" : text));
+  }
+
+  /**
+   * The element separator in force: the {@code ISA}'s, or {@code *}.
+   *
+   * @return the element separator
+   */
+  public char elementSeparator() {
+    return elementSeparator;
+  }
+
+  /**
+   * The segment terminator in force: the {@code ISA}'s, or {@code ~}.
+   *
+   * @return the segment terminator
+   */
+  public char segmentTerminator() {
+    return segmentTerminator;
+  }
+
+  /**
+   * Advances to the next segment, skipping blank ones.
+   *
+   * @return {@code true} if there is a current segment, {@code false} once the source is exhausted
+   * @throws UncheckedIOException if reading the source fails
+   */
+  public boolean next() {
+    length = 0;
+    elementCount = 1;
+    starts[0] = 0;
+    boolean started = false;
+    while (true) {
+      if (position == limit && !fill(0)) {
+        return started;
+      }
+      char c = buffer[position++];
+      if (c == segmentTerminator) {
+        if (started) {
+          return true;
+        }
+        continue;
+      }
+      if (!started && Character.isWhitespace(c)) {
+        continue;
+      }
+      started = true;
+      if (length == segment.length) {
+        segment = Arrays.copyOf(segment, length * 2);
+      }
+      segment[length++] = c;
+      if (c == elementSeparator) {
+        if (elementCount == starts.length) {
+          starts = Arrays.copyOf(starts, elementCount * 2);
+        }
+        starts[elementCount++] = length;
+      }
+    }
+  }
+
+  /**
+   * Whether the current segment's id is {@code id}, compared in place.
+   *
+   * @param id a segment id such as {@code "ISA"} or {@code "AK5"}
+   * @return {@code true} if the current segment is one
+   */
+  public boolean isSegment(String id) {
+    return elementEquals(0, id);
+  }
+
+  /**
+   * The first of {@code ids} that is the current segment's id, compared in place — the
+   * allocation-free way to {@code switch} on a segment: pass a constant array and switch on the
+   * returned constant.
+   *
+   * @param ids the segment ids the caller acts on
+   * @return the matching element of {@code ids}, or {@code null} for any other segment
+   */
+  public String segmentIdAmong(String... ids) {
+    for (String id : ids) {
+      if (elementEquals(0, id)) {
+        return id;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * The number of elements in the current segment, counting the segment id as element 0 and
+   * trailing empty elements.
+   *
+   * @return the element count
+   */
+  public int elementCount() {
+    return elementCount;
+  }
+
+  /**
+   * Whether the element at index {@code i}, trimmed, is exactly {@code value}, compared in place.
+   *
+   * @param i the element index; 0 is the segment id
+   * @param value the value to compare with
+   * @return {@code true} if the element is present and equal to {@code value}
+   */
+  public boolean elementEquals(int i, String value) {
+    if (i >= elementCount) {
+      return false;
+    }
+    int start = trimmedStart(i);
+    int end = trimmedEnd(i, start);
+    if (end - start != value.length()) {
+      return false;
+    }
+    for (int c = 0; c < value.length(); c++) {
+      if (segment[start + c] != value.charAt(c)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * The element at index {@code i}, trimmed; {@code null} when absent or blank (absence, not a
+   * blank value). The only call that allocates.
+   *
+   * @param i the element index; 0 is the segment id
+   * @return the element's value, or {@code null}
+   */
+  public String element(int i) {
+    if (i >= elementCount) {
+      return null;
+    }
+    int start = trimmedStart(i);
+    int end = trimmedEnd(i, start);
+    return start == end ? null : new String(segment, start, end - start);
+  }
+
+  @Override
+  public void close() throws IOException {
+    in.close();
+  }
+
+  private int trimmedStart(int i) {
+    int start = starts[i];
+    int end = elementEnd(i);
+    while (start < end && Character.isWhitespace(segment[start])) {
+      start++;
+    }
+    return start;
+  }
+
+  private int trimmedEnd(int i, int start) {
+    int end = elementEnd(i);
+    while (end > start && Character.isWhitespace(segment[end - 1])) {
+      end--;
+    }
+    return end;
+  }
+
+  /** Where element {@code i} ends: just before the next separator, or at the segment's end. */
+  private int elementEnd(int i) {
+    return i + 1 < elementCount ? starts[i + 1] - 1 : length;
+  }
+
+  /**
+   * Reads more of the source into the buffer at {@code offset}, resetting the scan position when
+   * refilling from the start; {@code false} once the source is exhausted.
+   */
+  private boolean fill(int offset) {
+    if (exhausted) {
+      return false;
+    }
+    try {
+      int read = in.read(buffer, offset, buffer.length - offset);
+      if (read < 0) {
+        exhausted = true;
+        return false;
+      }
+      if (offset == 0) {
+        position = 0;
+      }
+      limit = offset + read;
+      return true;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * A {@link Reader} over in-memory text that copies in bulk where the sequence type allows —
+   * {@code String.getChars}, {@code CharBuffer.get} — rather than character by character.
+   */
+  private static final class CharSequenceReader extends Reader {
+    private final CharSequence text;
+    private int next;
+
+    private CharSequenceReader(CharSequence text) {
+      this.text = text;
+    }
+
+    @Override
+    public int read(char[] into, int offset, int length) {
+      int count = Math.min(length, text.length() - next);
+      if (count <= 0) {
+        return length == 0 ? 0 : -1;
+      }
+      if (text instanceof String string) {
+        string.getChars(next, next + count, into, offset);
+      } else if (text instanceof StringBuilder builder) {
+        builder.getChars(next, next + count, into, offset);
+      } else if (text instanceof CharBuffer chars) {
+        chars.get(chars.position() + next, into, offset, count);
+      } else {
+        for (int c = 0; c < count; c++) {
+          into[offset + c] = text.charAt(next + c);
+        }
+      }
+      next += count;
+      return count;
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -0,0 +1,14 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+
+/**
+ * X12 syntax shared by the transaction-set modules: {@link com.fastChickensHR.edi.x12.X12Tokenizer}
+ * scans an interchange's segments and elements in place, for the 834 and 999 readers to map into
+ * the core kernel.
+ */
+package com.fastChickensHR.edi.x12;
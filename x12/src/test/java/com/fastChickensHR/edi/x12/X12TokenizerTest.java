@@ -0,0 +1,195 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x12;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class X12TokenizerTest {
+
+  private static final String ISA =
+      "ISA|00|          |00|          |ZZ|SENDER         |ZZ|RECEIVER       |260115|1200|^|00501"
+          + "|000000001|0|T|:!";
+
+  @Test
+  void takesTheDelimitersFromTheIsa() {
+    X12Tokenizer tokenizer = X12Tokenizer.of(ISA + "\nGS|FA|S|R!\n");
+
+    assertEquals('|', tokenizer.elementSeparator());
+    assertEquals('!', tokenizer.segmentTerminator());
+    assertTrue(tokenizer.next());
+    assertTrue(tokenizer.isSegment("ISA"));
+    assertEquals("SENDER", tokenizer.element(6));
+    assertEquals(":", tokenizer.element(16));
+    assertTrue(tokenizer.next());
+    assertTrue(tokenizer.isSegment("GS"));
+    assertEquals("R", tokenizer.element(3));
+    assertFalse(tokenizer.next());
+  }
+
+  @Test
+  void defaultsToStarAndTildeWithoutAnIsa() {
+    X12Tokenizer tokenizer = X12Tokenizer.of("AK1*BE*1~AK9*A");
+
+    assertEquals('*', tokenizer.elementSeparator());
+    assertEquals('~', tokenizer.segmentTerminator());
+    assertTrue(tokenizer.next());
+    assertEquals("BE", tokenizer.element(1));
+    assertTrue(tokenizer.next());
+    assertTrue(tokenizer.isSegment("AK9"), "the unterminated tail is a segment");
+    assertFalse(tokenizer.next());
+  }
+
+  @Test
+  void blankAndAbsentElementsReadAsNullAndValuesAreTrimmed() {
+    X12Tokenizer tokenizer = X12Tokenizer.of("  \n~\r\nINS* Y ** \t*N~");
+
+    assertTrue(tokenizer.next());
+    assertEquals(5, tokenizer.elementCount());
+    assertEquals("Y", tokenizer.element(1));
+    assertTrue(tokenizer.elementEquals(1, "Y"));
+    assertFalse(tokenizer.elementEquals(1, "N"));
+    assertFalse(tokenizer.elementEquals(1, "YY"));
+    assertNull(tokenizer.element(2));
+    assertNull(tokenizer.element(3));
+    assertEquals("N", tokenizer.element(4));
+    assertNull(tokenizer.element(5));
+    assertFalse(tokenizer.elementEquals(5, "N"));
+    assertFalse(tokenizer.next());
+  }
+
+  @Test
+  void segmentIdAmongReturnsTheMatchingConstantOrNull() {
+    X12Tokenizer tokenizer = X12Tokenizer.of("IK5*A~IK3*REF*3~");
+    String[] ids = {"AK5", "IK5"};
+
+    tokenizer.next();
+    assertEquals("IK5", tokenizer.segmentIdAmong(ids));
+    tokenizer.next();
+    assertNull(tokenizer.segmentIdAmong(ids));
+    assertFalse(tokenizer.isSegment("IK"));
+  }
+
+  @Test
+  void readsEveryKindOfInMemoryText() {
+    CharBuffer sliced = CharBuffer.wrap("xxAK2*834*0001~");
+    sliced.position(2);
+    StringBuilder built = new StringBuilder("AK2*834");
+    built.append("*0001~");
+    List<CharSequence> sources =
+        List.of("AK2*834*0001~", built, sliced.slice(), sliced, new Text("AK2*834*0001~"));
+
+    for (CharSequence source : sources) {
+      X12Tokenizer tokenizer = X12Tokenizer.of(source);
+      assertTrue(tokenizer.next(), source.getClass().getName());
+      assertTrue(tokenizer.isSegment("AK2"), source.getClass().getName());
+      assertEquals("0001", tokenizer.element(2), source.getClass().getName());
+    }
+    assertFalse(X12Tokenizer.of((CharSequence) null).next());
+  }
+
+  @Test
+  void segmentsLongerThanTheScratchAndSourcesLongerThanTheBufferScanWhole() {
+    StringBuilder text = new StringBuilder(ISA.replace('|', '*').replace('!', '~'));
+    StringBuilder wide = new StringBuilder("REF");
+    for (int i = 1; i <= 100; i++) {
+      wide.append('*').append("VALUE").append(i);
+    }
+    for (int i = 0; i < 200; i++) {
+      text.append(wide).append("~\n");
+    }
+
+    X12Tokenizer tokenizer = X12Tokenizer.of(new StringReader(text.toString()));
+    tokenizer.next();
+    int segments = 0;
+    while (tokenizer.next()) {
+      assertEquals(101, tokenizer.elementCount());
+      assertEquals("VALUE100", tokenizer.element(100));
+      segments++;
+    }
+    assertEquals(200, segments);
+  }
+
+  @Test
+  void closingTheTokenizerClosesItsSource() throws IOException {
+    List<String> events = new ArrayList<>();
+    Reader source =
+        new StringReader("ST*834~") {
+          @Override
+          public void close() {
+            events.add("closed");
+            super.close();
+          }
+        };
+
+    X12Tokenizer.of(source).close();
+    X12Tokenizer.of("ST*834~").close();
+
+    assertEquals(List.of("closed"), events);
+  }
+
+  @Test
+  void aFailingSourceSurfacesAsAnUncheckedIoException() {
+    Reader failing =
+        new Reader() {
+          @Override
+          public int read(char[] into, int offset, int length) throws IOException {
+            throw new IOException("disk gone");
+          }
+
+          @Override
+          public void close() {}
+        };
+
+    assertThrows(UncheckedIOException.class, () -> X12Tokenizer.of(failing));
+  }
+
+  @Test
+  void anExhaustedSourceStaysExhausted() {
+    X12Tokenizer tokenizer = X12Tokenizer.of("ST*834~");
+
+    assertTrue(tokenizer.next());
+    assertFalse(tokenizer.next());
+    assertFalse(tokenizer.next());
+  }
+
+  /** A {@link CharSequence} that is none of the types the tokenizer copies in bulk. */
+  private record Text(String value) implements CharSequence {
+    @Override
+    public int length() {
+      return value.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+      return value.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+      return value.subSequence(start, end);
+    }
+
+    @Override
+    public String toString() {
+      return value;
+    }
+  }
+}
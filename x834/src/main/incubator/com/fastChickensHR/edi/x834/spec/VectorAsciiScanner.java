@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.spec;
+
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Checks a vector of characters per step with the incubating Vector API: 16 on AVX2, 32 on AVX-512.
+ * Each lane's character picks its sixteen-bit word of the table with a lane-wise table lookup, and
+ * its low four bits pick the bit; a character from 128 up is outside outright. A value shorter than
+ * one vector, the tail after the last whole vector, and a {@link CharSequence} that is not a {@link
+ * String} go through {@link ScalarAsciiScanner}.
+ *
+ * <p>{@link AsciiSet} loads this class by name, and only when {@code jdk.incubator.vector} is in
+ * the boot layer. It is compiled from a source root of its own, the only one built against that
+ * module.
+ */
+final class VectorAsciiScanner implements AsciiScanner {
+  private static final VectorSpecies<Short> SPECIES = ShortVector.SPECIES_PREFERRED;
+
+  /** The table's eight words each cover sixteen characters; fewer lanes cannot hold it. */
+  private static final int MIN_LANES = 8;
+
+  /** Each thread's copy of the value being scanned, grown as longer values come by. */
+  private static final ThreadLocal<char[]> SCRATCH =
+      ThreadLocal.withInitial(() -> new char[AsciiScanner.MAX_LANES * 4]);
+
+  VectorAsciiScanner() {
+    int lanes = SPECIES.length();
+    if (lanes < MIN_LANES || lanes > AsciiScanner.MAX_LANES) {
+      throw new UnsupportedOperationException(
+          "%d-lane vectors cannot hold the character table".formatted(lanes));
+    }
+  }
+
+  @Override
+  public int firstOutside(CharSequence value, int from, AsciiSet set) {
+    int count = value.length() - from;
+    if (count < SPECIES.length() || !(value instanceof String text)) {
+      return ScalarAsciiScanner.scan(value, from, set.low(), set.high());
+    }
+    char[] chars = scratch(count);
+    text.getChars(from, from + count, chars, 0);
+
+    ShortVector table = ShortVector.fromArray(SPECIES, set.words(), 0);
+    int bound = SPECIES.loopBound(count);
+    int i = 0;
+    for (; i < bound; i += SPECIES.length()) {
+      ShortVector c = ShortVector.fromCharArray(SPECIES, chars, i);
+      ShortVector word = c.lanewise(VectorOperators.LSHR, 4).and((short) 7);
+      ShortVector bit =
+          word.selectFrom(table).lanewise(VectorOperators.LSHR, c.and((short) 15)).and((short) 1);
+      VectorMask<Short> outside =
+          bit.compare(VectorOperators.EQ, (short) 0)
+              .or(c.compare(VectorOperators.UNSIGNED_GE, (short) 128));
+      if (outside.anyTrue()) {
+        return from + i + outside.firstTrue();
+      }
+    }
+    return ScalarAsciiScanner.scan(value, from + i, set.low(), set.high());
+  }
+
+  private static char[] scratch(int count) {
+    char[] chars = SCRATCH.get();
+    if (chars.length < count) {
+      chars = new char[Math.max(count, chars.length * 2)];
+      SCRATCH.set(chars);
+    }
+    return chars;
+  }
+}
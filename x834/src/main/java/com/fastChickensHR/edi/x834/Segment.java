@@ -7,6 +7,9 @@
  */
 package com.fastChickensHR.edi.x834;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 /**
  * Base class for all X12 EDI segments (e.g. ISA, GS, ST, NM1) in the 834 Benefit Enrollment and
  * Maintenance transaction.
@@ -67,39 +70,62 @@ public abstract class Segment {
    * @return The formatted segment string
    */
   public String render() {
+    StringBuilder builder = new StringBuilder(64);
+    render(builder);
+    return builder.toString();
+  }
+
+  /**
+   * Renders the segment onto the end of {@code out}, a buffer the caller may reuse across segments
+   * and documents; see {@link #render(Appendable)}.
+   *
+   * @param out the buffer receiving the formatted segment
+   */
+  public void render(StringBuilder out) {
+    try {
+      render((Appendable) out);
+    } catch (IOException e) {
+      // Appending to a StringBuilder cannot fail.
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Writes the segment — identifier, each element up to the last non-null one behind its separator,
+   * terminator and line terminator — straight into {@code out}, without building it as a string
+   * first. Nothing is written if the segment cannot be rendered.
+   *
+   * @param out the sink receiving the formatted segment
+   * @throws IOException if appending to {@code out} fails
+   * @throws IllegalStateException if no context has been set, or the segment has no element values
+   */
+  public void render(Appendable out) throws IOException {
     if (context == null) {
       throw new IllegalStateException("Context must be set before rendering segment");
     }
 
-    StringBuilder builder = new StringBuilder();
-    builder.append(getSegmentIdentifier());
-
     String[] elements = getElementValues();
 
     if (elements == null || elements.length == 0) {
       throw new IllegalStateException("Element values array cannot be null or empty");
     }
 
-    // Find the last non-null value's index
-    int lastNonNullIndex = -1;
-    for (int i = elements.length - 1; i >= 0; i--) {
-      if (elements[i] != null) {
-        lastNonNullIndex = i;
-        break;
-      }
+    // Render only up to the last non-null element
+    int lastNonNullIndex = elements.length - 1;
+    while (lastNonNullIndex >= 0 && elements[lastNonNullIndex] == null) {
+      lastNonNullIndex--;
     }
 
-    // Render only up to the last non-null element
+    char separator = context.getElementSeparator();
+    out.append(getSegmentIdentifier());
     for (int i = 0; i <= lastNonNullIndex; i++) {
-      builder.append(context.getElementSeparator());
+      out.append(separator);
       if (elements[i] != null) {
-        builder.append(elements[i]);
+        out.append(elements[i]);
       }
     }
 
-    builder.append(context.getSegmentTerminator());
-    builder.append(context.getLineTerminator());
-
-    return builder.toString();
+    out.append(context.getSegmentTerminator());
+    out.append(context.getLineTerminator());
   }
 }
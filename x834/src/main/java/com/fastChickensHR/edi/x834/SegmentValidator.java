@@ -0,0 +1,240 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834;
+
+import com.fastChickensHR.edi.x834.GenerationError.Phase;
+import com.fastChickensHR.edi.x834.spec.CharacterClass;
+import com.fastChickensHR.edi.x834.spec.ElementSpec;
+import com.fastChickensHR.edi.x834.spec.X834Spec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The render-time checks every emitted segment passes before it is written: delimiter safety and
+ * conformance to {@link X834Spec}, both read from the same {@link Segment#getElementValues()} that
+ * {@code render()} concatenates. Shared by {@link X834Document}, which checks a whole document at
+ * once, and {@link X834StreamWriter}, which checks a member at a time — so the two output paths
+ * cannot disagree about what is emittable.
+ *
+ * <p><strong>Delimiter safety.</strong> X12 has no in-band escape mechanism (X12 RFI 2611), so a
+ * delimiter appearing inside an element value can only silently corrupt the interchange — {@code
+ * render()} would concatenate it verbatim, splitting one element or terminating a segment early.
+ * Rather than emit a malformed 834, every offending value is reported (each as its own error,
+ * located by segment identifier) so the source data can be fixed in a single round-trip. Note: no
+ * segment currently emits a composite (sub-element-delimited) element; if one is ever added, this
+ * guard must be taught to allow the sub-element separator inside that composite value.
+ *
+ * <p><strong>Spec conformance.</strong> Three checks, all driven from the published {@link
+ * ElementSpec} rather than hand-written per segment, so a position is enforced because the standard
+ * describes it and not because its builder happened to take an enum:
+ *
+ * <ul>
+ *   <li><strong>Character set</strong> — every value must draw from the interchange's {@link
+ *       X834Context#getCharacterClass() character set}. Applies to every value, including the
+ *       positions this library publishes no spec for, since the set is the partner's agreement
+ *       about the whole interchange.
+ *   <li><strong>Length</strong> — the element's own bounds. A value that has been padded to width
+ *       (the fixed-width ISA elements) satisfies them by construction; one that overruns is
+ *       reported rather than silently truncated at render.
+ *   <li><strong>Code membership</strong> — for a coded position, strictly, via {@link
+ *       ElementSpec#permitsCode}. This is the only enforcement the raw-string positions (DMG03,
+ *       HD03, HD05, NM101) have ever had.
+ * </ul>
+ *
+ * <p>This is a backstop, not a front line: a caller that pre-checks its data per member and holds
+ * the bad record never reaches here. What it guarantees is that a non-conformant 834 is never
+ * emitted silently — the last possible moment to notice, which is exactly where a guarantee
+ * belongs. A position the library publishes no spec for is character-set checked and otherwise
+ * skipped; see {@link X834Spec} for what is unpublished and why.
+ *
+ * <p><strong>Clean values are cheap.</strong> {@link CharacterClass#firstViolation} finds the first
+ * character outside the set, and each delimiter is looked for only ahead of it with {@link
+ * String#indexOf(int, int, int)}. A clean value is done after those scans; only from the first
+ * offender on is each character looked at again — against the delimiters, then against the
+ * character set. Each segment's element array is fetched once.
+ */
+final class SegmentValidator {
+  private final CharacterClass characterClass;
+
+  /** The reserved delimiter characters, in the order their violations are reported. */
+  private final char[] reserved;
+
+  /** What each {@link #reserved} character is, for the message: "element separator", etc. */
+  private final String[] reservedNames;
+
+  SegmentValidator(X834Context context) {
+    this.characterClass = context.getCharacterClass();
+
+    // A repeated character keeps its first place but takes the later name; the line terminator
+    // never renames a separator.
+    Map<Character, String> names = new LinkedHashMap<>();
+    names.put(context.getElementSeparator(), "element separator");
+    names.put(context.getSegmentTerminator(), "segment terminator");
+    names.put(context.getSubElementSeparator(), "sub-element separator");
+    for (char terminatorChar : context.getLineTerminator().toCharArray()) {
+      names.putIfAbsent(terminatorChar, "line terminator");
+    }
+    this.reserved = new char[names.size()];
+    this.reservedNames = new String[names.size()];
+    int r = 0;
+    for (Map.Entry<Character, String> entry : names.entrySet()) {
+      reserved[r] = entry.getKey();
+      reservedNames[r++] = entry.getValue();
+    }
+  }
+
+  /**
+   * Collects a {@link GenerationError} for every element value that breaks either rule: first every
+   * delimiter violation across {@code segments}, then every spec violation, each group in segment
+   * and element order.
+   *
+   * @param segments the ordered segments about to be rendered
+   * @return one {@link GenerationError} per violation, empty if every value is safe and conforms
+   */
+  List<GenerationError> violations(List<Segment> segments) {
+    List<GenerationError> delimiterViolations = new ArrayList<>();
+    List<GenerationError> specViolations = new ArrayList<>();
+    collect(segments, delimiterViolations, specViolations);
+    delimiterViolations.addAll(specViolations);
+    return delimiterViolations;
+  }
+
+  /**
+   * The two groups {@link #violations} concatenates, kept apart so runs of segments checked
+   * separately — a document's member chunks, checked concurrently — can be merged back into the
+   * order one call over all of them reports.
+   *
+   * @param segments the ordered segments about to be rendered
+   * @param delimiterViolations receives each delimiter violation, in segment and element order
+   * @param specViolations receives each spec violation, in segment and element order
+   */
+  void collect(
+      List<Segment> segments,
+      List<GenerationError> delimiterViolations,
+      List<GenerationError> specViolations) {
+    for (Segment segment : segments) {
+      String[] values = segment.getElementValues();
+      if (values == null) {
+        continue;
+      }
+      for (int i = 0; i < values.length; i++) {
+        String value = values[i];
+        if (value != null) {
+          check(segment, i + 1, value, delimiterViolations, specViolations);
+        }
+      }
+    }
+  }
+
+  /** Scans one value once, then reports what the scan found and what its spec says about it. */
+  private void check(
+      Segment segment,
+      int ordinal,
+      String value,
+      List<GenerationError> delimiterViolations,
+      List<GenerationError> specViolations) {
+    int[] firstReserved = null;
+    int firstOutsideSet = -1;
+    int start = characterClass.firstViolation(value).orElse(value.length());
+    for (char delimiter : reserved) {
+      int at = value.indexOf(delimiter, 0, start);
+      if (at >= 0) {
+        start = at;
+      }
+    }
+    for (int i = start; i < value.length(); i++) {
+      char c = value.charAt(i);
+      int r = reservedIndex(c);
+      if (r >= 0) {
+        if (firstReserved == null) {
+          firstReserved = new int[reserved.length];
+          Arrays.fill(firstReserved, -1);
+        }
+        if (firstReserved[r] < 0) {
+          firstReserved[r] = i;
+        }
+      }
+      if (firstOutsideSet < 0 && !characterClass.permits(c)) {
+        firstOutsideSet = i;
+      }
+    }
+
+    if (firstReserved != null) {
+      for (int r = 0; r < reserved.length; r++) {
+        if (firstReserved[r] >= 0) {
+          delimiterViolations.add(
+              new GenerationError(
+                  Phase.RENDER,
+                  segment.getSegmentIdentifier(),
+                  String.format(
+                      "element %02d (\"%s\") contains the %s '%c' at position %d",
+                      ordinal, value, reservedNames[r], reserved[r], firstReserved[r])));
+        }
+      }
+    }
+
+    if (value.isEmpty()) {
+      return;
+    }
+    if (firstOutsideSet >= 0) {
+      specViolations.add(
+          error(
+              segment,
+              ordinal,
+              value,
+              "contains '%c' at position %d, which the %s character set does not permit"
+                  .formatted(value.charAt(firstOutsideSet), firstOutsideSet, characterClass)));
+    }
+
+    Optional<ElementSpec> published = X834Spec.atSegment(segment.getSegmentIdentifier(), ordinal);
+    if (published.isEmpty()) {
+      return;
+    }
+    ElementSpec spec = published.get();
+    if (value.length() < spec.minLength() || value.length() > spec.maxLength()) {
+      specViolations.add(
+          error(
+              segment,
+              ordinal,
+              value,
+              "is %d characters, outside element %s's %d/%d"
+                  .formatted(
+                      value.length(), spec.elementId(), spec.minLength(), spec.maxLength())));
+    }
+    if (spec.isCoded() && !spec.permitsCode(value)) {
+      specViolations.add(
+          error(
+              segment,
+              ordinal,
+              value,
+              "is not a code element %s permits".formatted(spec.elementId())));
+    }
+  }
+
+  /** The index of {@code c} among the reserved delimiters, or -1. */
+  private int reservedIndex(char c) {
+    for (int r = 0; r < reserved.length; r++) {
+      if (reserved[r] == c) {
+        return r;
+      }
+    }
+    return -1;
+  }
+
+  /** One violation, located by segment and element the way the delimiter pass locates its own. */
+  private static GenerationError error(Segment segment, int ordinal, String value, String problem) {
+    return new GenerationError(
+        Phase.RENDER,
+        segment.getSegmentIdentifier(),
+        "element %02d (\"%s\") %s".formatted(ordinal, value, problem));
+  }
+}
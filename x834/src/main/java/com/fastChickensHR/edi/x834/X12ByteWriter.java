@@ -0,0 +1,183 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.UnmappableCharacterException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * An {@link Appendable} that encodes X12 text straight to bytes in a channel. X12's basic and
+ * extended character sets are both 7-bit, so each character is one ASCII byte: it goes directly
+ * into a direct {@link ByteBuffer}, and the buffer is drained to the channel in large writes. No
+ * charset encoder and no intermediate byte array sits between the segment and the channel.
+ *
+ * <p>A character outside 7-bit ASCII cannot be in an X12 document and fails the append with an
+ * {@link UnmappableCharacterException}, as a US-ASCII encoder would. Everything appended before it
+ * is still written.
+ *
+ * <p>Hand it to {@link X834Document#writeDocument(Appendable)}, {@link X834StreamWriter} or {@link
+ * X834Interchange#writeInterchange(Appendable)}:
+ *
+ * <pre>{@code
+ * try (FileChannel channel = FileChannel.open(file, CREATE, TRUNCATE_EXISTING, WRITE);
+ *     X12ByteWriter out = new X12ByteWriter(channel)) {
+ *   List<GenerationError> errors = document.writeDocument(out);
+ * }
+ * }</pre>
+ *
+ * <p>The buffers come from a small pool shared by every writer. Closing a writer drains it and
+ * returns its buffer to the pool. The channel must be blocking, and it stays the caller's. A writer
+ * is not thread-safe.
+ */
+public final class X12ByteWriter implements Appendable, Flushable, Closeable {
+  /** Bytes buffered between writes to the channel. */
+  static final int BUFFER_BYTES = 1 << 18;
+
+  /** How many idle buffers the pool keeps; a writer beyond them allocates its own. */
+  static final int POOLED_BUFFERS = 8;
+
+  private static final BlockingQueue<ByteBuffer> POOL = new ArrayBlockingQueue<>(POOLED_BUFFERS);
+
+  private final WritableByteChannel channel;
+  private ByteBuffer buffer;
+
+  /**
+   * Creates a writer over {@code channel}, taking a buffer from the pool.
+   *
+   * @param channel the blocking channel receiving the bytes — neither forced nor closed by the
+   *     writer
+   * @throws IllegalArgumentException if {@code channel} is null
+   */
+  public X12ByteWriter(WritableByteChannel channel) {
+    if (channel == null) {
+      throw new IllegalArgumentException("Channel cannot be null");
+    }
+    this.channel = channel;
+    ByteBuffer pooled = POOL.poll();
+    this.buffer = pooled != null ? pooled : ByteBuffer.allocateDirect(BUFFER_BYTES);
+  }
+
+  /**
+   * Encodes one character.
+   *
+   * @throws UnmappableCharacterException if {@code c} is not 7-bit ASCII
+   * @throws IOException if draining the buffer to the channel fails
+   * @throws IllegalStateException if the writer has been closed
+   */
+  @Override
+  public X12ByteWriter append(char c) throws IOException {
+    ensureOpen();
+    if (c >= 0x80) {
+      throw new UnmappableCharacterException(1);
+    }
+    if (!buffer.hasRemaining()) {
+      drain();
+    }
+    buffer.put((byte) c);
+    return this;
+  }
+
+  /**
+   * Encodes every character of {@code csq}, or {@code "null"} if it is null.
+   *
+   * @throws UnmappableCharacterException if a character is not 7-bit ASCII; those before it are
+   *     written
+   * @throws IOException if draining the buffer to the channel fails
+   * @throws IllegalStateException if the writer has been closed
+   */
+  @Override
+  public X12ByteWriter append(CharSequence csq) throws IOException {
+    CharSequence text = csq == null ? "null" : csq;
+    return append(text, 0, text.length());
+  }
+
+  /**
+   * Encodes {@code csq}'s characters from {@code start} up to {@code end}, or those of {@code
+   * "null"} if it is null.
+   *
+   * @throws UnmappableCharacterException if a character is not 7-bit ASCII; those before it are
+   *     written
+   * @throws IOException if draining the buffer to the channel fails
+   * @throws IndexOutOfBoundsException if the range is not within {@code csq}
+   * @throws IllegalStateException if the writer has been closed
+   */
+  @Override
+  public X12ByteWriter append(CharSequence csq, int start, int end) throws IOException {
+    CharSequence text = csq == null ? "null" : csq;
+    Objects.checkFromToIndex(start, end, text.length());
+    ensureOpen();
+    int i = start;
+    while (i < end) {
+      if (!buffer.hasRemaining()) {
+        drain();
+      }
+      int stop = Math.min(end, i + buffer.remaining());
+      for (; i < stop; i++) {
+        char c = text.charAt(i);
+        if (c >= 0x80) {
+          throw new UnmappableCharacterException(1);
+        }
+        buffer.put((byte) c);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Writes everything buffered to the channel.
+   *
+   * @throws IOException if writing to the channel fails
+   * @throws IllegalStateException if the writer has been closed
+   */
+  @Override
+  public void flush() throws IOException {
+    ensureOpen();
+    drain();
+  }
+
+  /**
+   * Writes everything buffered to the channel and returns the buffer to the pool, even if the write
+   * fails. The channel is left open. Closing a closed writer does nothing.
+   *
+   * @throws IOException if writing to the channel fails
+   */
+  @Override
+  public void close() throws IOException {
+    if (buffer == null) {
+      return;
+    }
+    try {
+      drain();
+    } finally {
+      buffer.clear();
+      POOL.offer(buffer);
+      buffer = null;
+    }
+  }
+
+  private void drain() throws IOException {
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+    buffer.clear();
+  }
+
+  private void ensureOpen() {
+    if (buffer == null) {
+      throw new IllegalStateException("the writer has been closed");
+    }
+  }
+}
@@ -11,15 +11,14 @@ import com.fastChickensHR.edi.x834.GenerationError.Phase;
 import com.fastChickensHR.edi.x834.exception.ValidationException;
 import com.fastChickensHR.edi.x834.header.Header;
 import com.fastChickensHR.edi.x834.loop2000.Member;
-import com.fastChickensHR.edi.x834.spec.CharacterClass;
-import com.fastChickensHR.edi.x834.spec.ElementSpec;
-import com.fastChickensHR.edi.x834.spec.X834Spec;
 import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Represents an EDI 834 document for benefit enrollment and maintenance.
@@ -32,14 +31,26 @@ import java.util.Optional;
  * GenerationError}s in the {@code Failure}. The only checked failure in the contract sits upstream
  * of this boundary — a component builder that cannot construct its component throws {@link
  * ValidationException} at its own {@code build()}; from the document inward, nothing throws.
+ *
+ * <p>Members render one after another by default. {@link Builder#withParallelRendering(Executor)}
+ * opts in to assembling, checking and rendering them a chunk of members at a time, concurrently;
+ * the chunks are stitched back together in member order, so the document and the errors — their
+ * content and their order — are exactly what the sequential path produces.
  */
 public class X834Document {
+  /**
+   * Members per concurrently rendered chunk: enough work per task to amortize its scheduling, few
+   * enough that a large document spreads across every worker.
+   */
+  private static final int MEMBERS_PER_CHUNK = 256;
+
   private final Header header;
   private final List<Member> members;
   private final List<Segment> additionalSegments;
   private final List<GenerationError> buildErrors;
   private final X834Context context;
   private final Trailer.Builder trailerBuilder;
+  private final Executor executor;
 
   /**
    * Private constructor used by the Builder class
@@ -53,6 +64,7 @@ public class X834Document {
     this.additionalSegments = builder.additionalSegments;
     this.buildErrors = List.copyOf(builder.buildErrors);
     this.trailerBuilder = builder.trailerBuilder;
+    this.executor = builder.executor;
   }
 
   /**
@@ -71,14 +83,79 @@ public class X834Document {
    *     GenerationResult.Failure} listing every {@link GenerationError}
    */
   public GenerationResult generateDocument() {
+    List<GenerationError> errors = new ArrayList<>();
+    if (executor != null) {
+      List<String> parts = assembleInParallel(errors);
+      return errors.isEmpty()
+          ? new GenerationResult.Success(String.join("", parts))
+          : new GenerationResult.Failure(errors);
+    }
+    List<Segment> segments = assemble(errors);
+    if (!errors.isEmpty()) {
+      return new GenerationResult.Failure(errors);
+    }
+
+    StringBuilder document = new StringBuilder();
+    for (Segment segment : segments) {
+      segment.setContext(context);
+      segment.render(document);
+    }
+
+    return new GenerationResult.Success(document.toString());
+  }
+
+  /**
+   * Generates the complete EDI 834 document straight into {@code out}, or reports why it could not
+   * be produced — the streaming shape of {@link #generateDocument()}, for a caller writing to a
+   * file or socket that has no use for the whole document as one {@code String}.
+   *
+   * <p>Validation is unchanged and still precedes output: every segment is assembled and checked
+   * before the first character is written, so on failure {@code out} is left untouched and the
+   * returned list holds exactly the errors {@link #generateDocument()} would put in its {@link
+   * GenerationResult.Failure}. On success each segment is rendered and appended in turn; {@code
+   * out} is neither flushed nor closed.
+   *
+   * @param out the sink receiving the formatted 834
+   * @return every {@link GenerationError}, or an empty list when the document was written
+   * @throws IOException if appending to {@code out} fails
+   */
+  public List<GenerationError> writeDocument(Appendable out) throws IOException {
+    List<GenerationError> errors = new ArrayList<>();
+    if (executor != null) {
+      List<String> parts = assembleInParallel(errors);
+      if (!errors.isEmpty()) {
+        return List.copyOf(errors);
+      }
+      for (String part : parts) {
+        out.append(part);
+      }
+      return List.of();
+    }
+    List<Segment> segments = assemble(errors);
+    if (!errors.isEmpty()) {
+      return List.copyOf(errors);
+    }
+
+    for (Segment segment : segments) {
+      segment.setContext(context);
+      segment.render(out);
+    }
+    return List.of();
+  }
+
+  /**
+   * Assembles and checks the ordered segment list both output shapes render, adding every problem
+   * found to {@code errors}. The list is only meaningful — and only rendered — when {@code errors}
+   * stayed empty.
+   */
+  private List<Segment> assemble(List<GenerationError> errors) {
     // Build-time (structure/config) problems short-circuit render: a document whose structure
     // never validated cannot be serialized to surface further problems.
     if (!buildErrors.isEmpty()) {
-      return new GenerationResult.Failure(buildErrors);
+      errors.addAll(buildErrors);
+      return List.of();
     }
 
-    List<GenerationError> errors = new ArrayList<>();
-
     // Assemble the ordered segment list, collecting — never throwing on — each failure so one
     // pass reports every problem. Per-member assembly accumulates independently, so a bad
     // Member[3] and a bad Member[7] both surface from a single generateDocument() call.
@@ -91,15 +168,7 @@ public class X834Document {
       }
     }
 
-    X834MemberWriter memberWriter = new X834MemberWriter(context);
-    for (int i = 0; i < members.size(); i++) {
-      try {
-        bodySegments.addAll(memberWriter.toSegments(members.get(i)));
-      } catch (ValidationException e) {
-        errors.add(new GenerationError(Phase.RENDER, "Member[" + i + "]", e.getMessage()));
-      }
-    }
-
+    assembleMembers(bodySegments, errors);
     bodySegments.addAll(additionalSegments);
 
     // SE01 = count of segments from ST through SE inclusive.
@@ -117,178 +186,199 @@ public class X834Document {
       errors.add(new GenerationError(Phase.RENDER, "Trailer", e.getMessage()));
     }
 
-    // Guarantee delimiter safety over the exact segment list about to be rendered, reading each
-    // segment's element values through the same accessor render() uses so this pass cannot drift
-    // from what is emitted (#160). Each offending value is collected as its own error.
-    errors.addAll(delimiterViolations(allSegments));
+    // Guarantee delimiter safety over the exact segment list about to be rendered (#160), and
+    // backstop it against what the standard says about each position it fills — the interchange's
+    // character set, the element's length bounds, and where the position is coded, membership of
+    // its code list (#188). One pass over the same accessor render() uses, so it cannot drift from
+    // what is emitted; each offending value is collected as its own error.
+    errors.addAll(new SegmentValidator(context).violations(allSegments));
 
-    // Backstop the same segment list against what the standard says about each position it fills:
-    // the interchange's character set, the element's length bounds, and — where the position is
-    // coded — membership of its code list (#188).
-    errors.addAll(specViolations(allSegments));
+    return allSegments;
+  }
 
-    if (!errors.isEmpty()) {
-      return new GenerationResult.Failure(errors);
+  /**
+   * Assembles this document as one transaction set of a larger interchange: ST through SE, numbered
+   * {@code controlNumber} in place of the context's transaction set control number, without the
+   * ISA/GS envelope and GE/IEA its own trailer would close it with. Every problem is added to
+   * {@code errors}, the segments only meaningful when it stayed empty; checking them against the
+   * interchange's delimiters is the caller's. Members are assembled one after another — an
+   * interchange spreads its transaction sets, not their members, across threads.
+   */
+  List<Segment> transactionSet(String controlNumber, List<GenerationError> errors) {
+    if (!buildErrors.isEmpty()) {
+      errors.addAll(buildErrors);
+      return List.of();
     }
 
-    StringBuilder document = new StringBuilder();
-    for (Segment segment : allSegments) {
-      segment.setContext(context);
-      document.append(segment.render());
+    List<Segment> segments = new ArrayList<>();
+    try {
+      segments.addAll(header.generateTransactionSetSegments(controlNumber));
+    } catch (ValidationException e) {
+      errors.add(new GenerationError(Phase.RENDER, "Header", e.getMessage()));
     }
+    assembleMembers(segments, errors);
+    segments.addAll(additionalSegments);
 
-    return new GenerationResult.Success(document.toString());
+    try {
+      // SE01 counts ST through SE inclusive: everything assembled here, plus SE itself.
+      segments.add(Trailer.transactionSetTrailer(segments.size() + 1, controlNumber));
+    } catch (ValidationException e) {
+      errors.add(new GenerationError(Phase.RENDER, "Trailer", e.getMessage()));
+    }
+    return segments;
+  }
+
+  /** Appends every member's segments in order, recording each one that fails to assemble. */
+  private void assembleMembers(List<Segment> segments, List<GenerationError> errors) {
+    X834MemberWriter memberWriter = new X834MemberWriter(context);
+    for (int i = 0; i < members.size(); i++) {
+      try {
+        segments.addAll(memberWriter.toSegments(members.get(i)));
+      } catch (ValidationException e) {
+        errors.add(new GenerationError(Phase.RENDER, "Member[" + i + "]", e.getMessage()));
+      }
+    }
   }
 
   /**
-   * Collects a {@link GenerationError} for every element value that contains a character X12
-   * reserves as a structural delimiter under the active {@link X834Context}.
-   *
-   * <p>X12 has no in-band escape mechanism (X12 RFI 2611), so a delimiter appearing inside an
-   * element value can only silently corrupt the interchange — {@code render()} would concatenate it
-   * verbatim, splitting one element or terminating a segment early. Rather than emit a malformed
-   * 834, every offending value across the document is reported (each as its own error, located by
-   * segment identifier) so the source data can be fixed in a single round-trip.
-   *
-   * <p>The pass inspects the same {@link Segment#getElementValues()} that {@code render()}
-   * concatenates, so it cannot miss or over-report what will actually be emitted. Note: no segment
-   * currently emits a composite (sub-element-delimited) element; if one is ever added, this guard
-   * must be taught to allow the sub-element separator inside that composite value.
-   *
-   * @param segments the full ordered segment list about to be rendered
-   * @return one {@link GenerationError} per offending element value, empty if all values are safe
+   * The parallel shape of {@link #assemble}: members are assembled, checked and rendered a chunk at
+   * a time on {@link #executor} while the header and trailer are handled here, and the results are
+   * merged in document order — member errors by member, then every delimiter violation, then every
+   * spec violation, as {@link SegmentValidator#violations} orders them over the whole document.
+   * Returns the rendered parts in order, meaningful only when {@code errors} stayed empty.
    */
-  private List<GenerationError> delimiterViolations(List<Segment> segments) {
-    Map<Character, String> reserved = new LinkedHashMap<>();
-    reserved.put(context.getElementSeparator(), "element separator");
-    reserved.put(context.getSegmentTerminator(), "segment terminator");
-    reserved.put(context.getSubElementSeparator(), "sub-element separator");
-    for (char terminatorChar : context.getLineTerminator().toCharArray()) {
-      reserved.putIfAbsent(terminatorChar, "line terminator");
+  private List<String> assembleInParallel(List<GenerationError> errors) {
+    if (!buildErrors.isEmpty()) {
+      errors.addAll(buildErrors);
+      return List.of();
     }
 
-    List<GenerationError> violations = new ArrayList<>();
-    for (Segment segment : segments) {
-      String[] values = segment.getElementValues();
-      if (values == null) {
-        continue;
-      }
-      for (int i = 0; i < values.length; i++) {
-        String value = values[i];
-        if (value == null) {
-          continue;
-        }
-        for (Map.Entry<Character, String> entry : reserved.entrySet()) {
-          int position = value.indexOf(entry.getKey());
-          if (position >= 0) {
-            violations.add(
-                new GenerationError(
-                    Phase.RENDER,
-                    segment.getSegmentIdentifier(),
-                    String.format(
-                        "element %02d (\"%s\") contains the %s '%c' at position %d",
-                        i + 1, value, entry.getValue(), entry.getKey(), position)));
-          }
-        }
+    SegmentValidator validator = new SegmentValidator(context);
+    List<CompletableFuture<MemberChunk>> pending = new ArrayList<>();
+    for (int from = 0; from < members.size(); from += MEMBERS_PER_CHUNK) {
+      int start = from;
+      int end = Math.min(from + MEMBERS_PER_CHUNK, members.size());
+      pending.add(CompletableFuture.supplyAsync(() -> chunk(start, end, validator), executor));
+    }
+
+    List<Segment> head = new ArrayList<>();
+    if (header != null) {
+      try {
+        head.addAll(header.generateSegments());
+      } catch (ValidationException e) {
+        errors.add(new GenerationError(Phase.RENDER, "Header", e.getMessage()));
       }
     }
-    return violations;
+
+    List<MemberChunk> chunks = new ArrayList<>(pending.size());
+    int bodySegmentCount = head.size() + additionalSegments.size();
+    for (CompletableFuture<MemberChunk> future : pending) {
+      MemberChunk chunk = join(future);
+      chunks.add(chunk);
+      errors.addAll(chunk.memberErrors());
+      bodySegmentCount += chunk.segmentCount();
+    }
+
+    // SE01 counts ST through SE: everything but ISA and GS, plus SE itself.
+    List<Segment> tail = new ArrayList<>(additionalSegments);
+    try {
+      Trailer trailer =
+          trailerBuilder.setNumberOfIncludedSegments(String.valueOf(bodySegmentCount - 1)).build();
+      tail.addAll(trailer.generateSegments());
+    } catch (ValidationException e) {
+      errors.add(new GenerationError(Phase.RENDER, "Trailer", e.getMessage()));
+    }
+
+    List<GenerationError> delimiterViolations = new ArrayList<>();
+    List<GenerationError> specViolations = new ArrayList<>();
+    List<GenerationError> tailDelimiterViolations = new ArrayList<>();
+    List<GenerationError> tailSpecViolations = new ArrayList<>();
+    validator.collect(head, delimiterViolations, specViolations);
+    validator.collect(tail, tailDelimiterViolations, tailSpecViolations);
+    for (MemberChunk chunk : chunks) {
+      delimiterViolations.addAll(chunk.delimiterViolations());
+    }
+    delimiterViolations.addAll(tailDelimiterViolations);
+    for (MemberChunk chunk : chunks) {
+      specViolations.addAll(chunk.specViolations());
+    }
+    specViolations.addAll(tailSpecViolations);
+    errors.addAll(delimiterViolations);
+    errors.addAll(specViolations);
+    if (!errors.isEmpty()) {
+      return List.of();
+    }
+
+    List<String> parts = new ArrayList<>(chunks.size() + 2);
+    parts.add(render(head));
+    for (MemberChunk chunk : chunks) {
+      parts.add(chunk.rendered());
+    }
+    parts.add(render(tail));
+    return parts;
   }
 
   /**
-   * Collects a {@link GenerationError} for every element value that contradicts what {@link
-   * X834Spec} publishes about the position it is being written into.
-   *
-   * <p>Three checks, all driven from the published {@link ElementSpec} rather than hand-written per
-   * segment, so a position is enforced because the standard describes it and not because its
-   * builder happened to take an enum:
-   *
-   * <ul>
-   *   <li><strong>Character set</strong> — every value must draw from the interchange's {@link
-   *       X834Context#getCharacterClass() character set}. Applies to every value, including the
-   *       positions this library publishes no spec for, since the set is the partner's agreement
-   *       about the whole interchange.
-   *   <li><strong>Length</strong> — the element's own bounds. A value that has been padded to width
-   *       (the fixed-width ISA elements) satisfies them by construction; one that overruns is
-   *       reported rather than silently truncated at render.
-   *   <li><strong>Code membership</strong> — for a coded position, strictly, via {@link
-   *       ElementSpec#permits}. This is the only enforcement the raw-string positions (DMG03, HD03,
-   *       HD05, NM101) have ever had.
-   * </ul>
-   *
-   * <p>This is a backstop, not a front line: a caller that pre-checks its data per member and holds
-   * the bad record never reaches here. What it guarantees is that a non-conformant 834 is never
-   * emitted silently — the last possible moment to notice, which is exactly where a guarantee
-   * belongs.
-   *
-   * <p>A position the library publishes no spec for is character-set checked and otherwise skipped;
-   * see {@link X834Spec} for what is unpublished and why.
-   *
-   * @param segments the full ordered segment list about to be rendered
-   * @return one {@link GenerationError} per offending element value, empty if every value conforms
+   * Assembles, checks and — when nothing in it failed — renders members {@code [from, to)}. Runs on
+   * the executor: it touches only its own members and segments, and a writer of its own.
    */
-  private List<GenerationError> specViolations(List<Segment> segments) {
-    CharacterClass characterClass = context.getCharacterClass();
-    List<GenerationError> violations = new ArrayList<>();
+  private MemberChunk chunk(int from, int to, SegmentValidator validator) {
+    X834MemberWriter memberWriter = new X834MemberWriter(context);
+    List<GenerationError> memberErrors = new ArrayList<>();
+    List<Segment> segments = new ArrayList<>();
+    for (int i = from; i < to; i++) {
+      try {
+        segments.addAll(memberWriter.toSegments(members.get(i)));
+      } catch (ValidationException e) {
+        memberErrors.add(new GenerationError(Phase.RENDER, "Member[" + i + "]", e.getMessage()));
+      }
+    }
+    List<GenerationError> delimiterViolations = new ArrayList<>();
+    List<GenerationError> specViolations = new ArrayList<>();
+    validator.collect(segments, delimiterViolations, specViolations);
+    boolean clean =
+        memberErrors.isEmpty() && delimiterViolations.isEmpty() && specViolations.isEmpty();
+    return new MemberChunk(
+        segments.size(),
+        memberErrors,
+        delimiterViolations,
+        specViolations,
+        clean ? render(segments) : "");
+  }
+
+  private String render(List<Segment> segments) {
+    StringBuilder rendered = new StringBuilder();
     for (Segment segment : segments) {
-      String[] values = segment.getElementValues();
-      if (values == null) {
-        continue;
+      segment.setContext(context);
+      segment.render(rendered);
+    }
+    return rendered.toString();
+  }
+
+  /**
+   * A chunk's result, rethrowing an unchecked failure on the executor as the sequential path would.
+   */
+  private static MemberChunk join(CompletableFuture<MemberChunk> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
       }
-      for (int i = 0; i < values.length; i++) {
-        String value = values[i];
-        if (value == null || value.isEmpty()) {
-          continue;
-        }
-        int ordinal = i + 1;
-        characterClass
-            .firstViolation(value)
-            .ifPresent(
-                position ->
-                    violations.add(
-                        error(
-                            segment,
-                            ordinal,
-                            value,
-                            "contains '%c' at position %d, which the %s character set does not permit"
-                                .formatted(value.charAt(position), position, characterClass))));
-
-        Optional<ElementSpec> published =
-            X834Spec.atSegment(segment.getSegmentIdentifier(), ordinal);
-        if (published.isEmpty()) {
-          continue;
-        }
-        ElementSpec spec = published.get();
-        if (value.length() < spec.minLength() || value.length() > spec.maxLength()) {
-          violations.add(
-              error(
-                  segment,
-                  ordinal,
-                  value,
-                  "is %d characters, outside element %s's %d/%d"
-                      .formatted(
-                          value.length(), spec.elementId(), spec.minLength(), spec.maxLength())));
-        }
-        if (spec.isCoded() && !spec.permits(List.of(value)).ok()) {
-          violations.add(
-              error(
-                  segment,
-                  ordinal,
-                  value,
-                  "is not a code element %s permits".formatted(spec.elementId())));
-        }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
       }
+      throw e;
     }
-    return violations;
   }
 
-  /** One violation, located by segment and element the way the delimiter pass locates its own. */
-  private static GenerationError error(Segment segment, int ordinal, String value, String problem) {
-    return new GenerationError(
-        Phase.RENDER,
-        segment.getSegmentIdentifier(),
-        "element %02d (\"%s\") %s".formatted(ordinal, value, problem));
-  }
+  /** One chunk of members: how many segments it holds, what went wrong, and its rendered text. */
+  private record MemberChunk(
+      int segmentCount,
+      List<GenerationError> memberErrors,
+      List<GenerationError> delimiterViolations,
+      List<GenerationError> specViolations,
+      String rendered) {}
 
   /** Builder class for constructing an X834Document */
   public static class Builder {
@@ -297,6 +387,7 @@ public class X834Document {
     private final List<Member> members = new ArrayList<>();
     private final List<Segment> additionalSegments = new ArrayList<>();
     private final List<GenerationError> buildErrors = new ArrayList<>();
+    private Executor executor;
 
     private final X834Context context;
 
@@ -381,6 +472,35 @@ public class X834Document {
       return this;
     }
 
+    /**
+     * Renders members concurrently on the common {@link ForkJoinPool}; see {@link
+     * #withParallelRendering(Executor)}.
+     *
+     * @return This builder instance
+     */
+    public Builder withParallelRendering() {
+      return withParallelRendering(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Renders members concurrently on {@code executor}, a few hundred at a time, instead of one
+     * after another. The output and the errors reported are identical to the sequential path's;
+     * only the wall-clock time differs. Worth it for documents of thousands of members — a
+     * virtual-thread executor or a dedicated pool keeps the work off the common pool. Members must
+     * not be modified while the document is generated.
+     *
+     * @param executor The executor the member chunks run on
+     * @return This builder instance
+     * @throws IllegalArgumentException if executor is null
+     */
+    public Builder withParallelRendering(Executor executor) {
+      if (executor == null) {
+        throw new IllegalArgumentException("Executor cannot be null");
+      }
+      this.executor = executor;
+      return this;
+    }
+
     /**
      * Builds the final X834Document, capturing every build-time (structure/configuration) problem
      * as a {@link Phase#BUILD} {@link GenerationError}. Each component validates independently so a
@@ -0,0 +1,378 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834;
+
+import com.fastChickensHR.edi.x834.GenerationError.Phase;
+import com.fastChickensHR.edi.x834.exception.ValidationException;
+import com.fastChickensHR.edi.x834.header.Header;
+import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+/**
+ * Packs many 834 transaction sets into one interchange: a single ISA/IEA envelope around one or
+ * more functional groups (GS/GE), each holding one or more transaction sets (ST/SE). A nightly run
+ * for hundreds of employer groups then reaches the carrier as one file rather than hundreds.
+ *
+ * <p>Each transaction set is an {@link X834Document}, built as it would be on its own, and
+ * contributes its header (ST through the payer {@code N1}) and its members. The envelope belongs to
+ * the interchange: its {@link X834Context} supplies the ISA and GS values and the delimiters every
+ * segment is rendered and checked with. The interchange also numbers and counts everything itself —
+ * ISA13/IEA02 from the context; GS06/GE02 from the context's group control number, counting up by
+ * one per group; ST02/SE02 as {@code 0001}, {@code 0002}, … within each group; and SE01, GE01 and
+ * IEA01 from what is actually written. The control numbers in the documents' own contexts and
+ * trailers are not used.
+ *
+ * <pre>{@code
+ * X834Interchange interchange =
+ *     new X834Interchange.Builder(context)
+ *         .addGroup(List.of(acmeDocument, globexDocument))
+ *         .addGroup(List.of(initechDocument))
+ *         .build();
+ * List<GenerationError> errors = interchange.writeInterchange(writer);
+ * }</pre>
+ *
+ * <p>{@link #writeInterchange(Appendable)} streams: each transaction set is assembled, checked and
+ * appended in turn, so memory is bounded by one set — or the few sets rendering ahead, with {@link
+ * Builder#withParallelRendering(Executor)} — however large the interchange. As with {@link
+ * X834StreamWriter}, the first error stops all further output while later sets are still checked,
+ * so every reason is reported at once and a non-empty result means the output must be discarded.
+ * {@link #generateInterchange()} returns the whole interchange or every error, as {@link
+ * X834Document#generateDocument()} does.
+ *
+ * <p>Errors inside a transaction set are located by their set: a problem in the second set of the
+ * first group reads {@code Group[0].Set[1].Member[3]}, or {@code Group[0].Set[1].HD} for a value an
+ * {@code HD} segment cannot carry.
+ */
+public final class X834Interchange {
+  /** Transaction sets rendered ahead of the writer, at most, when they render in parallel. */
+  private static final int SETS_IN_FLIGHT = 16;
+
+  private final X834Context context;
+  private final List<List<X834Document>> groups;
+  private final List<GenerationError> buildErrors;
+  private final Executor executor;
+  private final SegmentValidator validator;
+
+  private X834Interchange(Builder builder) {
+    this.context = builder.context;
+    this.groups = List.copyOf(builder.groups);
+    this.buildErrors = List.copyOf(builder.buildErrors);
+    this.executor = builder.executor;
+    this.validator = new SegmentValidator(context);
+  }
+
+  /**
+   * Generates the complete interchange, or reports why it could not be produced.
+   *
+   * @return a {@link GenerationResult.Success} with the formatted interchange, or a {@link
+   *     GenerationResult.Failure} listing every {@link GenerationError}
+   */
+  public GenerationResult generateInterchange() {
+    StringBuilder interchange = new StringBuilder();
+    List<GenerationError> errors;
+    try {
+      errors = writeInterchange(interchange);
+    } catch (IOException e) {
+      // Appending to a StringBuilder cannot fail.
+      throw new UncheckedIOException(e);
+    }
+    return errors.isEmpty()
+        ? new GenerationResult.Success(interchange.toString())
+        : new GenerationResult.Failure(errors);
+  }
+
+  /**
+   * Writes the interchange into {@code out} a transaction set at a time, and reports every problem
+   * found. Build-time problems are reported before anything is written; after that, output stops at
+   * the first problem, so a non-empty result means what reached {@code out} is not a valid
+   * interchange. {@code out} is neither flushed nor closed.
+   *
+   * @param out the sink receiving the interchange
+   * @return every {@link GenerationError}, or an empty list when the whole interchange was written
+   * @throws IOException if appending to {@code out} fails
+   */
+  public List<GenerationError> writeInterchange(Appendable out) throws IOException {
+    if (!buildErrors.isEmpty()) {
+      return buildErrors;
+    }
+    Output output = new Output(out);
+    Iterator<Supplier<RenderedSet>> sets = transactionSets().iterator();
+    Deque<CompletableFuture<RenderedSet>> ahead = new ArrayDeque<>();
+
+    output.envelope("Interchange", () -> Header.interchangeControlHeader(context));
+    for (int g = 0; g < groups.size(); g++) {
+      String location = "Group[" + g + "]";
+      String groupControlNumber = groupControlNumber(g);
+      int setCount = groups.get(g).size();
+      output.envelope(location, () -> Header.functionalGroupHeader(context, groupControlNumber));
+      for (int s = 0; s < setCount; s++) {
+        output.set(next(sets, ahead));
+      }
+      output.envelope(location, () -> Trailer.functionalGroupTrailer(setCount, groupControlNumber));
+    }
+    output.envelope(
+        "Interchange",
+        () ->
+            Trailer.interchangeControlTrailer(
+                groups.size(), context.getInterchangeControlNumber()));
+    return List.copyOf(output.errors);
+  }
+
+  /** Every transaction set's rendering, in interchange order, to be run on demand. */
+  private List<Supplier<RenderedSet>> transactionSets() {
+    List<Supplier<RenderedSet>> sets = new ArrayList<>();
+    for (int g = 0; g < groups.size(); g++) {
+      List<X834Document> group = groups.get(g);
+      for (int s = 0; s < group.size(); s++) {
+        X834Document document = group.get(s);
+        String location = "Group[" + g + "].Set[" + s + "]";
+        String controlNumber = String.format("%04d", s + 1);
+        sets.add(() -> render(document, location, controlNumber));
+      }
+    }
+    return sets;
+  }
+
+  /**
+   * The next transaction set: rendered here when sequential, otherwise taken from the front of the
+   * sets rendering ahead on the executor, which are first topped back up.
+   */
+  private RenderedSet next(
+      Iterator<Supplier<RenderedSet>> sets, Deque<CompletableFuture<RenderedSet>> ahead) {
+    if (executor == null) {
+      return sets.next().get();
+    }
+    while (ahead.size() < SETS_IN_FLIGHT && sets.hasNext()) {
+      ahead.add(CompletableFuture.supplyAsync(sets.next(), executor));
+    }
+    return join(ahead.removeFirst());
+  }
+
+  /**
+   * Assembles, checks and — when nothing in it failed — renders one transaction set. Runs on the
+   * executor when rendering in parallel: it touches only its own document and segments.
+   */
+  private RenderedSet render(X834Document document, String location, String controlNumber) {
+    List<GenerationError> found = new ArrayList<>();
+    List<Segment> segments = document.transactionSet(controlNumber, found);
+    found.addAll(validator.violations(segments));
+    if (!found.isEmpty()) {
+      List<GenerationError> located = new ArrayList<>(found.size());
+      for (GenerationError error : found) {
+        located.add(
+            new GenerationError(error.phase(), location + "." + error.location(), error.message()));
+      }
+      return new RenderedSet(located, "");
+    }
+    StringBuilder rendered = new StringBuilder();
+    for (Segment segment : segments) {
+      segment.setContext(context);
+      segment.render(rendered);
+    }
+    return new RenderedSet(List.of(), rendered.toString());
+  }
+
+  /** GS06 of group {@code index}: the context's group control number, counted up. */
+  private String groupControlNumber(int index) {
+    return String.valueOf(Long.parseLong(context.getGroupControlNumber()) + index);
+  }
+
+  /**
+   * A set's result, rethrowing an unchecked failure on the executor as the sequential path would.
+   */
+  private static RenderedSet join(CompletableFuture<RenderedSet> future) {
+    try {
+      return future.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (e.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  /** One transaction set: what went wrong in it, or its rendered text. */
+  private record RenderedSet(List<GenerationError> errors, String rendered) {}
+
+  /** The sink, written to until the first error and then only checked. */
+  private final class Output {
+    private final Appendable out;
+    private final List<GenerationError> errors = new ArrayList<>();
+
+    Output(Appendable out) {
+      this.out = out;
+    }
+
+    /** Builds, checks and writes one envelope segment. */
+    void envelope(String location, EnvelopeSegment segment) throws IOException {
+      Segment built;
+      try {
+        built = segment.build();
+      } catch (ValidationException e) {
+        errors.add(new GenerationError(Phase.RENDER, location, e.getMessage()));
+        return;
+      }
+      errors.addAll(validator.violations(List.of(built)));
+      if (errors.isEmpty()) {
+        built.setContext(context);
+        built.render(out);
+      }
+    }
+
+    /** Writes a rendered transaction set, or records why it could not be. */
+    void set(RenderedSet set) throws IOException {
+      errors.addAll(set.errors());
+      if (errors.isEmpty()) {
+        out.append(set.rendered());
+      }
+    }
+  }
+
+  /** Builds an envelope segment, which may fail with a {@link ValidationException}. */
+  @FunctionalInterface
+  private interface EnvelopeSegment {
+    Segment build() throws ValidationException;
+  }
+
+  /** Builder for an {@link X834Interchange}. */
+  public static class Builder {
+    /** GS06 is at most nine digits. */
+    private static final long MAX_GROUP_CONTROL_NUMBER = 999_999_999L;
+
+    private final X834Context context;
+    private final List<List<X834Document>> groups = new ArrayList<>();
+    private final List<GenerationError> buildErrors = new ArrayList<>();
+    private Executor executor;
+
+    /**
+     * Creates a Builder for an interchange whose envelope {@code context} describes: sender,
+     * receiver, date, delimiters, the interchange control number and the first group's control
+     * number.
+     *
+     * @param context the interchange's context
+     * @throws IllegalArgumentException if context is null
+     */
+    public Builder(X834Context context) {
+      if (context == null) {
+        throw new IllegalArgumentException("Context cannot be null");
+      }
+      this.context = context;
+    }
+
+    /**
+     * Adds a functional group holding {@code transactionSets}, one ST/SE each, in order.
+     *
+     * @param transactionSets the documents to write as the group's transaction sets
+     * @return This builder instance
+     * @throws IllegalArgumentException if the list or any document in it is null
+     */
+    public Builder addGroup(List<X834Document> transactionSets) {
+      if (transactionSets == null) {
+        throw new IllegalArgumentException("Transaction sets cannot be null");
+      }
+      for (X834Document transactionSet : transactionSets) {
+        if (transactionSet == null) {
+          throw new IllegalArgumentException("Transaction set cannot be null");
+        }
+      }
+      groups.add(List.copyOf(transactionSets));
+      return this;
+    }
+
+    /**
+     * Renders transaction sets concurrently on the common {@link ForkJoinPool}; see {@link
+     * #withParallelRendering(Executor)}.
+     *
+     * @return This builder instance
+     */
+    public Builder withParallelRendering() {
+      return withParallelRendering(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Renders transaction sets concurrently on {@code executor}, a bounded number ahead of the one
+     * being written, instead of one after another. The output and the errors reported are identical
+     * to the sequential path's. Documents must not be modified while the interchange is written.
+     *
+     * @param executor The executor the transaction sets render on
+     * @return This builder instance
+     * @throws IllegalArgumentException if executor is null
+     */
+    public Builder withParallelRendering(Executor executor) {
+      if (executor == null) {
+        throw new IllegalArgumentException("Executor cannot be null");
+      }
+      this.executor = executor;
+      return this;
+    }
+
+    /**
+     * Builds the interchange, capturing every problem with its envelope as a {@link Phase#BUILD}
+     * {@link GenerationError} reported when it is written. Problems inside a transaction set are
+     * reported, located by set, as each is written.
+     *
+     * @return The configured X834Interchange
+     */
+    public X834Interchange build() {
+      try {
+        context.validate();
+      } catch (ValidationException e) {
+        buildErrors.add(new GenerationError(Phase.BUILD, "Context", e.getMessage()));
+      }
+      String groupControlNumber = context.getGroupControlNumber();
+      if (groupControlNumber != null && !groupControlNumber.isEmpty()) {
+        if (!groupControlNumber.matches("\\d{1,9}")) {
+          buildErrors.add(
+              new GenerationError(
+                  Phase.BUILD,
+                  "Context",
+                  "Group Control Number must be 1-9 numeric digits to number an interchange's"
+                      + " groups"));
+        } else if (Long.parseLong(groupControlNumber) + groups.size() - 1
+            > MAX_GROUP_CONTROL_NUMBER) {
+          buildErrors.add(
+              new GenerationError(
+                  Phase.BUILD,
+                  "Context",
+                  "Group Control Number "
+                      + groupControlNumber
+                      + " leaves too few numbers for "
+                      + groups.size()
+                      + " groups"));
+        }
+      }
+      if (groups.isEmpty()) {
+        buildErrors.add(
+            new GenerationError(
+                Phase.BUILD, "Groups", "At least one functional group is required"));
+      }
+      for (int g = 0; g < groups.size(); g++) {
+        if (groups.get(g).isEmpty()) {
+          buildErrors.add(
+              new GenerationError(
+                  Phase.BUILD, "Group[" + g + "]", "At least one transaction set is required"));
+        }
+      }
+      return new X834Interchange(this);
+    }
+  }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834;
+
+import com.fastChickensHR.edi.x834.GenerationError.Phase;
+import com.fastChickensHR.edi.x834.exception.ValidationException;
+import com.fastChickensHR.edi.x834.header.Header;
+import com.fastChickensHR.edi.x834.loop2000.Member;
+import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes an EDI 834 a member at a time, for enrollments too large to hold as one {@link
+ * X834Document}. The header segments (ISA through the sponsor and payer {@code N1}s) are written
+ * ahead of the first member; each {@link #write(Member) written} member is rendered, checked and
+ * appended immediately, and only a running segment count is kept; {@link #finish()} writes SE, GE
+ * and IEA with that count. Memory is bounded by one member, whatever the enrollment's size.
+ *
+ * <p>The checks are the ones {@link X834Document} applies — each component's build-time validation,
+ * each member's assembly, delimiter safety and conformance to the published spec — and {@link
+ * #finish()} returns the {@link GenerationError}s {@link X834Document#generateDocument()} would for
+ * the same members, in the same order, never throwing them. Build errors come alone: once any
+ * component fails validation, later members are only validated, and whatever rendering already
+ * found is dropped. Otherwise come the assembly errors, then every delimiter violation, then every
+ * spec violation. What streaming cannot do is take back what it has already written: the first
+ * error stops all further output, but everything before it has reached the sink. A non-empty result
+ * means the output is not a valid 834 and must be discarded.
+ *
+ * <pre>{@code
+ * X834StreamWriter stream =
+ *     new X834StreamWriter(context, header, new Trailer.Builder(context), writer);
+ * for (Member member : enrollment) {
+ *   stream.write(member);
+ * }
+ * List<GenerationError> errors = stream.finish();
+ * }</pre>
+ *
+ * <p>A writer produces one document and is not thread-safe.
+ */
+public final class X834StreamWriter {
+  private final X834Context context;
+  private final Header header;
+  private final Trailer.Builder trailerBuilder;
+  private final Appendable out;
+  private final SegmentValidator validator;
+  private final X834MemberWriter memberWriter;
+
+  /** Build-time validation failures; any one of them makes them the only errors reported. */
+  private final List<GenerationError> buildErrors = new ArrayList<>();
+
+  /** How many of {@link #buildErrors} say a required component is missing; they lead the list. */
+  private final int missingComponents;
+
+  /** Header, member and trailer assembly failures. */
+  private final List<GenerationError> renderErrors = new ArrayList<>();
+
+  private final List<GenerationError> delimiterViolations = new ArrayList<>();
+  private final List<GenerationError> specViolations = new ArrayList<>();
+  private final boolean buildFailed;
+  private List<GenerationError> result;
+  private boolean started;
+  private boolean finished;
+  private int memberCount;
+
+  /** Segments written (or that would have been) from ST onward; SE01 is this plus SE itself. */
+  private long transactionSegmentCount;
+
+  /**
+   * Prepares a writer and runs the build-time checks {@link X834Document.Builder#build()} runs on
+   * the context, header and trailer. Nothing is written until the first member (or {@link
+   * #finish()}).
+   *
+   * @param context the interchange's context; its delimiters and control numbers govern the output
+   * @param header the completely configured header
+   * @param trailerBuilder the trailer builder; its segment count is computed by the writer
+   * @param out the sink receiving the 834 — neither flushed nor closed by the writer
+   * @throws IllegalArgumentException if {@code context} or {@code out} is null
+   */
+  public X834StreamWriter(
+      X834Context context, Header header, Trailer.Builder trailerBuilder, Appendable out) {
+    if (context == null) {
+      throw new IllegalArgumentException("Context cannot be null");
+    }
+    if (out == null) {
+      throw new IllegalArgumentException("Output cannot be null");
+    }
+    this.context = context;
+    this.header = header;
+    this.trailerBuilder = trailerBuilder;
+    this.out = out;
+    this.validator = new SegmentValidator(context);
+    this.memberWriter = new X834MemberWriter(context);
+
+    if (header == null) {
+      buildErrors.add(new GenerationError(Phase.BUILD, "Header", "Header is required"));
+    }
+    if (trailerBuilder == null) {
+      buildErrors.add(new GenerationError(Phase.BUILD, "Trailer", "Trailer is required"));
+    }
+    this.missingComponents = buildErrors.size();
+    validate("Context", context::validate);
+    if (header != null) {
+      validate("Header", header::validate);
+    }
+    if (trailerBuilder != null) {
+      validate("Trailer", () -> trailerBuilder.build().validate());
+    }
+    this.buildFailed = !buildErrors.isEmpty();
+  }
+
+  /**
+   * Validates, renders and appends one member and its dependents, writing the header first if this
+   * is the first member. Problems are recorded for {@link #finish()}, not thrown; once any has been
+   * recorded the member is still checked but nothing more is written, and once a build error has
+   * been recorded it is only validated.
+   *
+   * @param member the member to write, located in errors as {@code Member[i]} by write order
+   * @throws IOException if appending to the sink fails
+   * @throws IllegalStateException if the writer has already been finished
+   */
+  public void write(Member member) throws IOException {
+    if (finished) {
+      throw new IllegalStateException("the 834 has already been finished");
+    }
+    String location = "Member[" + memberCount++ + "]";
+    start();
+    if (!validate(location, member::validate) || !buildErrors.isEmpty()) {
+      return;
+    }
+    try {
+      emit(memberWriter.toSegments(member));
+    } catch (ValidationException e) {
+      renderErrors.add(new GenerationError(Phase.RENDER, location, e.getMessage()));
+    }
+  }
+
+  /**
+   * Completes the document: writes SE (with the counted segments), GE and IEA, and reports every
+   * problem recorded along the way. Calling it again returns the same result without writing.
+   *
+   * @return every {@link GenerationError}, or an empty list when a complete, valid 834 was written
+   * @throws IOException if appending to the sink fails
+   */
+  public List<GenerationError> finish() throws IOException {
+    if (finished) {
+      return result;
+    }
+    finished = true;
+    if (memberCount == 0) {
+      buildErrors.add(
+          missingComponents,
+          new GenerationError(Phase.BUILD, "Members", "At least one member is required"));
+    }
+    start();
+    if (!buildErrors.isEmpty()) {
+      result = List.copyOf(buildErrors);
+      return result;
+    }
+    try {
+      Trailer trailer =
+          trailerBuilder
+              .setNumberOfIncludedSegments(String.valueOf(transactionSegmentCount + 1))
+              .build();
+      emit(trailer.generateSegments());
+    } catch (ValidationException e) {
+      renderErrors.add(new GenerationError(Phase.RENDER, "Trailer", e.getMessage()));
+    }
+    List<GenerationError> errors = new ArrayList<>(renderErrors);
+    errors.addAll(delimiterViolations);
+    errors.addAll(specViolations);
+    result = List.copyOf(errors);
+    return result;
+  }
+
+  /** Writes the header ahead of the first member, once, unless the build already failed. */
+  private void start() throws IOException {
+    if (started) {
+      return;
+    }
+    started = true;
+    if (buildFailed) {
+      return;
+    }
+    try {
+      List<Segment> segments = header.generateSegments();
+      emit(segments);
+      // ISA and GS sit outside the ST/SE envelope that SE01 counts.
+      transactionSegmentCount -= 2;
+    } catch (ValidationException e) {
+      renderErrors.add(new GenerationError(Phase.RENDER, "Header", e.getMessage()));
+    }
+  }
+
+  /** Checks, counts and — while nothing has failed — renders the segments into the sink. */
+  private void emit(List<Segment> segments) throws IOException {
+    validator.collect(segments, delimiterViolations, specViolations);
+    transactionSegmentCount += segments.size();
+    if (failed()) {
+      return;
+    }
+    for (Segment segment : segments) {
+      segment.setContext(context);
+      segment.render(out);
+    }
+  }
+
+  /** Runs one component's validation, recording a failure as a build-phase error. */
+  private boolean validate(String location, ValidatingStep step) {
+    try {
+      step.run();
+      return true;
+    } catch (ValidationException e) {
+      buildErrors.add(new GenerationError(Phase.BUILD, location, e.getMessage()));
+      return false;
+    }
+  }
+
+  /** Whether any problem has been recorded, which stops all further output. */
+  private boolean failed() {
+    return !buildErrors.isEmpty()
+        || !renderErrors.isEmpty()
+        || !delimiterViolations.isEmpty()
+        || !specViolations.isEmpty();
+  }
+
+  /** A validation call that may fail with a {@link ValidationException}. */
+  @FunctionalInterface
+  private interface ValidatingStep {
+    void run() throws ValidationException;
+  }
+}
@@ -9,14 +9,25 @@ package com.fastChickensHR.edi.x834.dates;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
 
 /**
  * Utility class for handling EDI date and time formats. Internal: consumers format through {@link
  * DateFormat#format} and {@link TimeFormat#format}.
+ *
+ * <p>Every pattern is compiled once, when the class loads, rather than on each call: a document
+ * formats a date for every DTP, DMG, BGN, GS and ISA it renders. The all-digit {@code yyyyMMdd} and
+ * {@code HHmm} shapes — the ones nearly every segment uses — skip the formatter entirely and write
+ * their digits straight into a {@code char[]}.
  */
 final class DateFormatter {
   private DateFormatter() {}
 
+  private static final Map<DateFormat, DateTimeFormatter> DATE_FORMATTERS = dateFormatters();
+  private static final Map<TimeFormat, DateTimeFormatter> TIME_FORMATTERS = timeFormatters();
+
   /**
    * Format a date in the specified EDI format.
    *
@@ -27,91 +38,15 @@ final class DateFormatter {
   static String formatDate(DateFormat format, LocalDateTime date) {
     switch (format) {
       case D8:
-        return date.format(DateTimeFormatter.ofPattern("yyyyMMdd"));
-      case CC:
-        return date.format(DateTimeFormatter.ofPattern("yy"));
-      case CD:
-        return date.format(DateTimeFormatter.ofPattern("MMMM")); // Full month name
-      case CM:
-      case MM:
-        return date.format(DateTimeFormatter.ofPattern("MM")); // Month number
-      case CQ:
-        return String.valueOf((date.getMonthValue() - 1) / 3 + 1); // Quarter (1-4)
-      case CY:
-        return date.format(DateTimeFormatter.ofPattern("yyyy")); // Four-digit year
-      case D6:
-        return date.format(DateTimeFormatter.ofPattern("yyMMdd")); // Six-digit date
-      case DA:
-        return date.format(DateTimeFormatter.ofPattern("dd")); // Day of month
-      case DB:
-        return date.format(DateTimeFormatter.ofPattern("ddMMM")); // Day and abbreviated month
-      case DD:
-        return date.format(DateTimeFormatter.ofPattern("dd")); // Day of month
-      case DDT:
-        return date.format(DateTimeFormatter.ofPattern("dd'T'HHmm")); // Day + time
-      case DT:
-        return date.format(DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss")); // ISO-like date+time
       case DTD:
-        return date.format(DateTimeFormatter.ofPattern("yyyyMMdd")); // Date in yyyyMMdd format
-      case DTS:
-        return date.format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss")); // Date-time stamp
-      case EH:
-        return date.format(DateTimeFormatter.ofPattern("HH")); // Hour (24-hour format)
+        return yearMonthDay(date);
       case KA:
-        return date.format(DateTimeFormatter.ofPattern("HHmm")); // Time in HHMM format
-      case MCY:
-        return date.format(DateTimeFormatter.ofPattern("MMMM yyyy")); // Month name and year
-      case MD:
-        return date.format(DateTimeFormatter.ofPattern("MMdd")); // Month and day
-      case RD:
-        return date.format(DateTimeFormatter.ofPattern("MM/dd/yyyy")); // MM/DD/YYYY format
-      case RD2:
-        return date.format(DateTimeFormatter.ofPattern("MM-dd-yyyy")); // MM-DD-YYYY format
-      case RD4:
-        return date.format(DateTimeFormatter.ofPattern("MM.dd.yyyy")); // MM.DD.YYYY format
-      case RD5:
-        return date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")); // YYYY-MM-DD format
-      case RD6:
-        return date.format(DateTimeFormatter.ofPattern("yyyy/MM/dd")); // YYYY/MM/DD format
-      case RD8:
-        return date.format(DateTimeFormatter.ofPattern("yyyy.MM.dd")); // YYYY.MM.DD format
-      case RDM:
-        return date.format(DateTimeFormatter.ofPattern("dd/MM/yyyy")); // DD/MM/YYYY format
-      case RDT:
-        return date.format(
-            DateTimeFormatter.ofPattern("MM/dd/yyyy HH:mm:ss")); // MM/DD/YYYY HH:MM:SS
-      case RMD:
-        return date.format(DateTimeFormatter.ofPattern("M/d/yyyy")); // M/D/YYYY (no leading zeros)
-      case RMY:
-        return date.format(DateTimeFormatter.ofPattern("MMM yyyy")); // Month abbreviation and year
-      case RTM:
-        return date.format(DateTimeFormatter.ofPattern("HH:mm:ss")); // Time with colons
-      case RTS:
-        return date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss")); // ISO 8601
-      case TC:
-        return date.format(DateTimeFormatter.ofPattern("HH")); // Hour component
-      case TM:
-        return date.format(DateTimeFormatter.ofPattern("mm")); // Minute component
       case TQ:
-        return date.format(DateTimeFormatter.ofPattern("HHmm")); // HHMM time format
-      case TR:
-        return date.format(DateTimeFormatter.ofPattern("HH:mm")); // HH:MM time format
-      case TS:
-        return date.format(DateTimeFormatter.ofPattern("ss")); // Second component
-      case TT:
-        return date.format(DateTimeFormatter.ofPattern("HHmmss")); // HHMMSS time format
-      case TU:
-        return date.format(DateTimeFormatter.ofPattern("HH:mm:ss")); // HH:MM:SS time format
-      case UN:
-        return date.format(DateTimeFormatter.ofPattern("u")); // Day of week (1=Monday, 7=Sunday)
-      case YM:
-        return date.format(DateTimeFormatter.ofPattern("yyyyMM")); // Year and month
-      case YMM:
-        return date.format(DateTimeFormatter.ofPattern("yyyy MMM")); // Year and month abbreviation
-      case YY:
-        return date.format(DateTimeFormatter.ofPattern("yy")); // Two-digit year
+        return hourMinute(date);
+      case CQ:
+        return String.valueOf((date.getMonthValue() - 1) / 3 + 1); // Quarter (1-4)
       default:
-        throw new IllegalArgumentException("Unsupported date format: " + format);
+        return date.format(localized(DATE_FORMATTERS.get(format)));
     }
   }
 
@@ -123,13 +58,107 @@ final class DateFormatter {
    * @return A string formatted according to the specified format
    */
   static String formatTime(TimeFormat format, LocalDateTime time) {
-    switch (format) {
-      case TIME:
-        return time.format(DateTimeFormatter.ofPattern("HHmm"));
-      case TIME_WITH_SECONDS:
-        return time.format(DateTimeFormatter.ofPattern("HHmmss"));
-      default:
-        throw new IllegalArgumentException("Unsupported time format: " + format);
+    if (format == TimeFormat.TIME) {
+      return hourMinute(time);
+    }
+    return time.format(TIME_FORMATTERS.get(format));
+  }
+
+  /** The pattern each date format renders through; {@code null} for one computed by hand. */
+  private static String datePattern(DateFormat format) {
+    return switch (format) {
+      case D8, DTD -> "yyyyMMdd";
+      case CC, YY -> "yy"; // Two-digit year
+      case CD -> "MMMM"; // Full month name
+      case CM, MM -> "MM"; // Month number
+      case CQ -> null; // Quarter (1-4), computed in formatDate
+      case CY -> "yyyy"; // Four-digit year
+      case D6 -> "yyMMdd"; // Six-digit date
+      case DA, DD -> "dd"; // Day of month
+      case DB -> "ddMMM"; // Day and abbreviated month
+      case DDT -> "dd'T'HHmm"; // Day + time
+      case DT -> "yyyyMMdd'T'HHmmss"; // ISO-like date+time
+      case DTS -> "yyyyMMddHHmmss"; // Date-time stamp
+      case EH, TC -> "HH"; // Hour (24-hour format)
+      case KA, TQ -> "HHmm"; // Time in HHMM format
+      case MCY -> "MMMM yyyy"; // Month name and year
+      case MD -> "MMdd"; // Month and day
+      case RD -> "MM/dd/yyyy"; // MM/DD/YYYY format
+      case RD2 -> "MM-dd-yyyy"; // MM-DD-YYYY format
+      case RD4 -> "MM.dd.yyyy"; // MM.DD.YYYY format
+      case RD5 -> "yyyy-MM-dd"; // YYYY-MM-DD format
+      case RD6 -> "yyyy/MM/dd"; // YYYY/MM/DD format
+      case RD8 -> "yyyy.MM.dd"; // YYYY.MM.DD format
+      case RDM -> "dd/MM/yyyy"; // DD/MM/YYYY format
+      case RDT -> "MM/dd/yyyy HH:mm:ss"; // MM/DD/YYYY HH:MM:SS
+      case RMD -> "M/d/yyyy"; // M/D/YYYY (no leading zeros)
+      case RMY -> "MMM yyyy"; // Month abbreviation and year
+      case RTM, TU -> "HH:mm:ss"; // Time with colons
+      case RTS -> "yyyy-MM-dd'T'HH:mm:ss"; // ISO 8601
+      case TM -> "mm"; // Minute component
+      case TR -> "HH:mm"; // HH:MM time format
+      case TS -> "ss"; // Second component
+      case TT -> "HHmmss"; // HHMMSS time format
+      case UN -> "u"; // Day of week (1=Monday, 7=Sunday)
+      case YM -> "yyyyMM"; // Year and month
+      case YMM -> "yyyy MMM"; // Year and month abbreviation
+    };
+  }
+
+  private static Map<DateFormat, DateTimeFormatter> dateFormatters() {
+    Map<DateFormat, DateTimeFormatter> formatters = new EnumMap<>(DateFormat.class);
+    for (DateFormat format : DateFormat.values()) {
+      String pattern = datePattern(format);
+      if (pattern != null) {
+        formatters.put(format, DateTimeFormatter.ofPattern(pattern));
+      }
+    }
+    return formatters;
+  }
+
+  private static Map<TimeFormat, DateTimeFormatter> timeFormatters() {
+    Map<TimeFormat, DateTimeFormatter> formatters = new EnumMap<>(TimeFormat.class);
+    formatters.put(TimeFormat.TIME, DateTimeFormatter.ofPattern("HHmm"));
+    formatters.put(TimeFormat.TIME_WITH_SECONDS, DateTimeFormatter.ofPattern("HHmmss"));
+    return formatters;
+  }
+
+  /**
+   * The cached formatter in the current default format locale, as {@code ofPattern} would have
+   * built it on this call — month names follow a locale change made after the class loaded. {@code
+   * withLocale} hands back the same instance while the locale is unchanged.
+   */
+  private static DateTimeFormatter localized(DateTimeFormatter formatter) {
+    return formatter.withLocale(Locale.getDefault(Locale.Category.FORMAT));
+  }
+
+  /**
+   * {@code yyyyMMdd} without a formatter. Years outside 1–9999, which {@code yyyy} renders with a
+   * sign or as a year-of-era, go through the cached formatter so the output cannot differ.
+   */
+  private static String yearMonthDay(LocalDateTime date) {
+    int year = date.getYear();
+    if (year < 1 || year > 9999) {
+      return date.format(DATE_FORMATTERS.get(DateFormat.D8));
     }
+    char[] digits = new char[8];
+    twoDigits(digits, 0, year / 100);
+    twoDigits(digits, 2, year % 100);
+    twoDigits(digits, 4, date.getMonthValue());
+    twoDigits(digits, 6, date.getDayOfMonth());
+    return new String(digits);
+  }
+
+  /** {@code HHmm} without a formatter. */
+  private static String hourMinute(LocalDateTime time) {
+    char[] digits = new char[4];
+    twoDigits(digits, 0, time.getHour());
+    twoDigits(digits, 2, time.getMinute());
+    return new String(digits);
+  }
+
+  private static void twoDigits(char[] into, int at, int value) {
+    into[at] = (char) ('0' + value / 10);
+    into[at + 1] = (char) ('0' + value % 10);
   }
 }
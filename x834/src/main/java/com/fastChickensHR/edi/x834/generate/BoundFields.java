@@ -0,0 +1,391 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.generate;
+
+import com.fastChickensHR.edi.core.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One Record's fields, dispatched once each onto the slot their {@link X834Location} name binds to,
+ * for {@link X834FileGenerator} to read back without a lookup per property.
+ *
+ * <p>A name is resolved to its binding — a {@link Property}, a {@link Group} occurrence and field,
+ * a {@code per.}/{@code ref.} qualifier, or nothing — the first time it is seen, and the binding is
+ * cached, so a file whose Records share their location names parses each name once rather than once
+ * per Record. Binding preserves what the generator has always promised: omitted fields are skipped,
+ * a repeated name keeps its last value (blank included, so a trailing blank still clears it),
+ * {@code per.} channels keep the order their names first appear, every {@code ref.} field is kept
+ * in Record order, and any name under a group's prefix opens that occurrence, in ascending index
+ * order with the un-indexed form first.
+ */
+final class BoundFields {
+  /** How many distinct names the binding cache holds; further names are resolved on each use. */
+  private static final int CACHE_LIMIT = 4096;
+
+  private static final Map<String, Binding> BINDINGS = new ConcurrentHashMap<>();
+  private static final Map<String, Property> PROPERTIES = properties();
+  private static final Binding UNBOUND = new Binding(Kind.NONE, null, null, 0, 0, null);
+
+  private final String[] properties = new String[Property.values().length];
+
+  private Map<Group, TreeMap<Integer, String[]>> groups;
+  private Map<String, String> communications;
+  private List<Field> refs;
+
+  private BoundFields() {}
+
+  /**
+   * Dispatches {@code fields} onto their slots.
+   *
+   * @param fields a Record's (or the file's) fields, in order
+   * @return the bound fields
+   */
+  static BoundFields bind(List<Field> fields) {
+    BoundFields bound = new BoundFields();
+    for (Field field : fields) {
+      if (!field.isOmitted()) {
+        bound.accept(field);
+      }
+    }
+    return bound;
+  }
+
+  /**
+   * The last value bound to {@code property}, when present and non-blank.
+   *
+   * @param property the property to read
+   * @return the value, or {@code null}
+   */
+  String get(Property property) {
+    return usable(properties[property.ordinal()]);
+  }
+
+  /**
+   * The occurrences of {@code group}, in ascending index order.
+   *
+   * @param group the indexed group to read
+   * @return each occurrence's field values, read with {@link #get(Group, String[], String)}
+   */
+  Collection<String[]> occurrences(Group group) {
+    TreeMap<Integer, String[]> occurrences = groups == null ? null : groups.get(group);
+    return occurrences == null ? List.of() : occurrences.values();
+  }
+
+  /**
+   * The last value one occurrence bound to {@code field}, when present and non-blank.
+   *
+   * @param group the occurrence's group
+   * @param occurrence one of {@link #occurrences(Group)}
+   * @param field the un-indexed {@link X834Location} constant naming the field
+   * @return the value, or {@code null}
+   */
+  static String get(Group group, String[] occurrence, String field) {
+    return usable(occurrence[group.field(field)]);
+  }
+
+  /**
+   * The {@code per.<qualifier>} values, keyed by qualifier in first-appearance order; blanks kept.
+   *
+   * @return the communication channels
+   */
+  Map<String, String> communications() {
+    return communications == null ? Map.of() : communications;
+  }
+
+  /**
+   * Every {@code ref.<qualifier>} field, in Record order; blanks kept.
+   *
+   * @return the REF extension fields
+   */
+  List<Field> refs() {
+    return refs == null ? List.of() : refs;
+  }
+
+  private void accept(Field field) {
+    Binding binding = binding(field.location().name());
+    switch (binding.kind()) {
+      case PROPERTY -> properties[binding.property().ordinal()] = field.value();
+      case GROUP -> {
+        if (groups == null) {
+          groups = new EnumMap<>(Group.class);
+        }
+        String[] occurrence =
+            groups
+                .computeIfAbsent(binding.group(), g -> new TreeMap<>())
+                .computeIfAbsent(binding.index(), k -> new String[binding.group().size()]);
+        if (binding.field() >= 0) {
+          occurrence[binding.field()] = field.value();
+        }
+      }
+      case COMMUNICATION -> {
+        if (communications == null) {
+          communications = new LinkedHashMap<>();
+        }
+        communications.put(binding.qualifier(), field.value());
+      }
+      case REF -> {
+        if (refs == null) {
+          refs = new ArrayList<>();
+        }
+        refs.add(field);
+      }
+      case NONE -> {
+        /* a name the 834 vocabulary does not read */
+      }
+    }
+  }
+
+  private static String usable(String value) {
+    return value == null || value.isBlank() ? null : value;
+  }
+
+  private static Binding binding(String name) {
+    Binding binding = BINDINGS.get(name);
+    if (binding == null) {
+      binding = resolve(name);
+      if (BINDINGS.size() < CACHE_LIMIT) {
+        BINDINGS.putIfAbsent(name, binding);
+      }
+    }
+    return binding;
+  }
+
+  /** Works out what {@code name} binds to; the only place a name is taken apart. */
+  private static Binding resolve(String name) {
+    Property property = PROPERTIES.get(name);
+    if (property != null) {
+      return new Binding(Kind.PROPERTY, property, null, 0, 0, null);
+    }
+    if (name.startsWith(X834Location.COMMUNICATION_PREFIX)) {
+      return new Binding(
+          Kind.COMMUNICATION,
+          null,
+          null,
+          0,
+          0,
+          name.substring(X834Location.COMMUNICATION_PREFIX.length()));
+    }
+    if (name.startsWith(X834Location.REF_EXTENSION_PREFIX)) {
+      return new Binding(Kind.REF, null, null, 0, 0, null);
+    }
+    for (Group group : Group.values()) {
+      if (name.startsWith(group.prefix)) {
+        // <prefix><i>.<suffix> groups under <i>; anything else under the prefix is the implicit,
+        // un-indexed occurrence, ordered ahead of the numbered ones.
+        String rest = name.substring(group.prefix.length());
+        int dot = rest.indexOf('.');
+        int index = -1;
+        String suffix = rest;
+        if (dot > 0 && rest.substring(0, dot).chars().allMatch(Character::isDigit)) {
+          index = Integer.parseInt(rest.substring(0, dot));
+          suffix = rest.substring(dot + 1);
+        }
+        return new Binding(Kind.GROUP, null, group, index, group.suffix(suffix), null);
+      }
+    }
+    return UNBOUND;
+  }
+
+  private static Map<String, Property> properties() {
+    Map<String, Property> byName = new HashMap<>();
+    for (Property property : Property.values()) {
+      byName.put(property.location, property);
+    }
+    return byName;
+  }
+
+  /** What a location name binds to. */
+  private enum Kind {
+    PROPERTY,
+    GROUP,
+    COMMUNICATION,
+    REF,
+    NONE
+  }
+
+  /**
+   * A resolved location name.
+   *
+   * @param kind what it binds to
+   * @param property the property, for {@link Kind#PROPERTY}
+   * @param group the group, for {@link Kind#GROUP}
+   * @param index the occurrence index, {@code -1} for the un-indexed form
+   * @param field the field's position within the group, {@code -1} for a name it does not read
+   * @param qualifier the channel qualifier, for {@link Kind#COMMUNICATION}
+   */
+  private record Binding(
+      Kind kind, Property property, Group group, int index, int field, String qualifier) {}
+
+  /** The single-valued locations the generator reads, each a slot of its own. */
+  enum Property {
+    SENDER_ID(X834Location.SENDER_ID),
+    RECEIVER_ID(X834Location.RECEIVER_ID),
+    SENDER_ID_QUALIFIER(X834Location.SENDER_ID_QUALIFIER),
+    RECEIVER_ID_QUALIFIER(X834Location.RECEIVER_ID_QUALIFIER),
+    APPLICATION_SENDER_CODE(X834Location.APPLICATION_SENDER_CODE),
+    APPLICATION_RECEIVER_CODE(X834Location.APPLICATION_RECEIVER_CODE),
+    INTERCHANGE_CONTROL_NUMBER(X834Location.INTERCHANGE_CONTROL_NUMBER),
+    GROUP_CONTROL_NUMBER(X834Location.GROUP_CONTROL_NUMBER),
+    TRANSACTION_SET_CONTROL_NUMBER(X834Location.TRANSACTION_SET_CONTROL_NUMBER),
+    DOCUMENT_DATE(X834Location.DOCUMENT_DATE),
+    ACKNOWLEDGMENT_REQUESTED(X834Location.ACKNOWLEDGMENT_REQUESTED),
+    TRANSACTION_SET_ID(X834Location.TRANSACTION_SET_ID),
+    REFERENCE_IDENTIFICATION(X834Location.REFERENCE_IDENTIFICATION),
+    MASTER_POLICY_NUMBER(X834Location.MASTER_POLICY_NUMBER),
+    PLAN_SPONSOR_NAME(X834Location.PLAN_SPONSOR_NAME),
+    PAYER_NAME(X834Location.PAYER_NAME),
+    MEMBER_INDICATOR(X834Location.MEMBER_INDICATOR),
+    RELATIONSHIP_CODE(X834Location.RELATIONSHIP_CODE),
+    MAINTENANCE_TYPE_CODE(X834Location.MAINTENANCE_TYPE_CODE),
+    MAINTENANCE_REASON_CODE(X834Location.MAINTENANCE_REASON_CODE),
+    EMPLOYMENT_STATUS_CODE(X834Location.EMPLOYMENT_STATUS_CODE),
+    POLICY_NUMBER(X834Location.POLICY_NUMBER),
+    MEMBER_ID(X834Location.MEMBER_ID),
+    MEMBER_ID_QUALIFIER(X834Location.MEMBER_ID_QUALIFIER),
+    SUBSCRIBER_NUMBER(X834Location.SUBSCRIBER_NUMBER),
+    ENROLLMENT_DATE(X834Location.ENROLLMENT_DATE),
+    COVERAGE_START_DATE(X834Location.COVERAGE_START_DATE),
+    COVERAGE_END_DATE(X834Location.COVERAGE_END_DATE),
+    LAST_NAME(X834Location.LAST_NAME),
+    FIRST_NAME(X834Location.FIRST_NAME),
+    MIDDLE_NAME(X834Location.MIDDLE_NAME),
+    NAME_ID_QUALIFIER(X834Location.NAME_ID_QUALIFIER),
+    NAME_ID(X834Location.NAME_ID),
+    BIRTH_DATE(X834Location.BIRTH_DATE),
+    GENDER(X834Location.GENDER),
+    ADDRESS_LINE_1(X834Location.ADDRESS_LINE_1),
+    ADDRESS_LINE_2(X834Location.ADDRESS_LINE_2),
+    CITY(X834Location.CITY),
+    STATE(X834Location.STATE),
+    ZIP_CODE(X834Location.ZIP_CODE),
+    ICM_FREQUENCY(X834Location.ICM_FREQUENCY),
+    ICM_AMOUNT(X834Location.ICM_AMOUNT),
+    ICM_HOURS(X834Location.ICM_HOURS),
+    ICM_LOCATION_IDENTIFIER(X834Location.ICM_LOCATION_IDENTIFIER),
+    ICM_SALARY_GRADE(X834Location.ICM_SALARY_GRADE),
+    ICM_CURRENCY_CODE(X834Location.ICM_CURRENCY_CODE),
+    HLH_HEALTH_RELATED_CODE(X834Location.HLH_HEALTH_RELATED_CODE),
+    HLH_HEIGHT(X834Location.HLH_HEIGHT),
+    HLH_CURRENT_WEIGHT(X834Location.HLH_CURRENT_WEIGHT),
+    HLH_PREVIOUS_WEIGHT(X834Location.HLH_PREVIOUS_WEIGHT),
+    HLH_DESCRIPTION(X834Location.HLH_DESCRIPTION),
+    MAILING_ADDRESS_LINE_1(X834Location.MAILING_ADDRESS_LINE_1),
+    MAILING_ADDRESS_LINE_2(X834Location.MAILING_ADDRESS_LINE_2),
+    MAILING_CITY(X834Location.MAILING_CITY),
+    MAILING_STATE(X834Location.MAILING_STATE),
+    MAILING_ZIP_CODE(X834Location.MAILING_ZIP_CODE);
+
+    private final String location;
+
+    Property(String location) {
+      this.location = location;
+    }
+  }
+
+  /**
+   * The repeating loops addressed as {@code <prefix><i>.<field>}, each with the fields an
+   * occurrence reads, named by their un-indexed {@link X834Location} constants.
+   */
+  enum Group {
+    LANGUAGE(
+        X834Location.LUI_PREFIX,
+        X834Location.LUI_CODE_QUALIFIER,
+        X834Location.LUI_CODE,
+        X834Location.LUI_DESCRIPTION),
+    PROVIDER(
+        X834Location.PROVIDER_PREFIX,
+        X834Location.PROVIDER_LAST_NAME,
+        X834Location.PROVIDER_FIRST_NAME,
+        X834Location.PROVIDER_MIDDLE_NAME,
+        X834Location.PROVIDER_ID_QUALIFIER,
+        X834Location.PROVIDER_ID,
+        X834Location.PROVIDER_CHANGE_ACTION,
+        X834Location.PROVIDER_CHANGE_DATE,
+        X834Location.PROVIDER_CHANGE_REASON),
+    COORDINATION_OF_BENEFITS(
+        X834Location.COB_PREFIX,
+        X834Location.COB_PAYER_RESPONSIBILITY,
+        X834Location.COB_POLICY_IDENTIFIER,
+        X834Location.COB_BENEFITS_COORDINATION,
+        X834Location.COB_GROUP_NUMBER_QUALIFIER,
+        X834Location.COB_GROUP_NUMBER,
+        X834Location.COB_BEGIN_DATE,
+        X834Location.COB_END_DATE,
+        X834Location.COB_RELATED_ENTITY_NAME),
+    DISABILITY(
+        X834Location.DISABILITY_PREFIX,
+        X834Location.DISABILITY_TYPE,
+        X834Location.DISABILITY_QUANTITY,
+        X834Location.DISABILITY_OCCUPATION_CODE,
+        X834Location.DISABILITY_WORK_INTENSITY_CODE,
+        X834Location.DISABILITY_PRODUCT_OPTION_CODE,
+        X834Location.DISABILITY_MONETARY_AMOUNT,
+        X834Location.DISABILITY_START_DATE,
+        X834Location.DISABILITY_END_DATE),
+    CATEGORY(
+        X834Location.CATEGORY_PREFIX,
+        X834Location.CATEGORY_NAME,
+        X834Location.CATEGORY_VALUE,
+        X834Location.CATEGORY_REFERENCE_QUALIFIER,
+        X834Location.CATEGORY_DATE,
+        X834Location.CATEGORY_DATE_QUALIFIER),
+    HEALTH_COVERAGE(
+        X834Location.HD_PREFIX,
+        X834Location.HD_MAINTENANCE_TYPE_CODE,
+        X834Location.HD_INSURANCE_LINE_CODE,
+        X834Location.HD_PLAN_COVERAGE_DESCRIPTION,
+        X834Location.HD_COVERAGE_LEVEL_CODE,
+        X834Location.HD_BENEFIT_BEGIN_DATE,
+        X834Location.HD_BENEFIT_END_DATE);
+
+    private final String prefix;
+    private final String[] fields;
+    private final String[] suffixes;
+
+    Group(String prefix, String... fields) {
+      this.prefix = prefix;
+      this.fields = fields;
+      this.suffixes = new String[fields.length];
+      for (int i = 0; i < fields.length; i++) {
+        suffixes[i] = fields[i].substring(prefix.length());
+      }
+    }
+
+    private int size() {
+      return fields.length;
+    }
+
+    /** The position of a field named by its constant; constants compare by reference first. */
+    private int field(String field) {
+      for (int i = 0; i < fields.length; i++) {
+        if (fields[i].equals(field)) {
+          return i;
+        }
+      }
+      throw new IllegalArgumentException(field + " is not a " + name() + " field");
+    }
+
+    /** The position of the field a name's suffix reads, or -1 for a suffix the group ignores. */
+    private int suffix(String suffix) {
+      for (int i = 0; i < suffixes.length; i++) {
+        if (suffixes[i].equals(suffix)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+  }
+}
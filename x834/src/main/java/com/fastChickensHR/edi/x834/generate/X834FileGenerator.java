@@ -7,6 +7,8 @@
  */
 package com.fastChickensHR.edi.x834.generate;
 
+import com.fastChickensHR.edi.core.Compression;
+import com.fastChickensHR.edi.core.CompressionCodec;
 import com.fastChickensHR.edi.core.Field;
 import com.fastChickensHR.edi.core.FileContent;
 import com.fastChickensHR.edi.core.FileGenerator;
@@ -15,8 +17,10 @@ import com.fastChickensHR.edi.x834.GenerationError;
 import com.fastChickensHR.edi.x834.GenerationResult;
 import com.fastChickensHR.edi.x834.RefSegment;
 import com.fastChickensHR.edi.x834.Segment;
+import com.fastChickensHR.edi.x834.X12ByteWriter;
 import com.fastChickensHR.edi.x834.X834Context;
 import com.fastChickensHR.edi.x834.X834Document;
+import com.fastChickensHR.edi.x834.X834StreamWriter;
 import com.fastChickensHR.edi.x834.data.ActionCode;
 import com.fastChickensHR.edi.x834.data.CommunicationNumberQualifier;
 import com.fastChickensHR.edi.x834.data.CoordinationOfBenefitsCode;
@@ -26,6 +30,8 @@ import com.fastChickensHR.edi.x834.data.HealthRelatedCode;
 import com.fastChickensHR.edi.x834.data.IdentificationCodeQualifier;
 import com.fastChickensHR.edi.x834.data.PayerResponsibilitySequenceCode;
 import com.fastChickensHR.edi.x834.exception.ValidationException;
+import com.fastChickensHR.edi.x834.generate.BoundFields.Group;
+import com.fastChickensHR.edi.x834.generate.BoundFields.Property;
 import com.fastChickensHR.edi.x834.header.Header;
 import com.fastChickensHR.edi.x834.loop2000.Address;
 import com.fastChickensHR.edi.x834.loop2000.AddressType;
@@ -48,10 +54,17 @@ import com.fastChickensHR.edi.x834.loop2000.loop2310.Provider;
 import com.fastChickensHR.edi.x834.loop2000.loop2320.CoordinationOfBenefits;
 import com.fastChickensHR.edi.x834.loop2000.loop2700.ReportingCategory;
 import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -87,8 +100,88 @@ public final class X834FileGenerator implements FileGenerator {
 
   @Override
   public String generate(FileContent file) {
+    // The FileGenerator seam returns a String, so a failed result surfaces as the seam's
+    // unchecked exception — but carrying every reason, not swallowing them (#123).
+    return switch (document(file).generateDocument()) {
+      case GenerationResult.Success success -> success.document();
+      case GenerationResult.Failure failure -> throw failed(failure.errors());
+    };
+  }
+
+  /**
+   * Streams the 834 into {@code out} a Record at a time through an {@link X834StreamWriter}: each
+   * Record's member is built, checked and written before the next is interpreted, so memory is
+   * bounded by one member rather than the file. Failures are reported exactly as {@link
+   * #generate(FileContent)} reports them — every reason in one exception — but only once the whole
+   * file has been checked, by which point {@code out} holds the output up to the first problem; it
+   * is not a valid 834 and must be discarded.
+   */
+  @Override
+  public void generate(FileContent file, Writer out) throws IOException {
+    stream(file, out);
+  }
+
+  /**
+   * Writes the 834 to {@code target} as {@link #generate(FileContent, Writer)} streams it, but as
+   * ASCII bytes through an {@link X12ByteWriter}: straight into a {@link FileChannel}, or into the
+   * compressing stream when the file's extension names a {@link CompressionCodec}. The bytes are
+   * the UTF-8 ones the default writes, since X12 text is 7-bit, without a charset encoder between
+   * them.
+   */
+  @Override
+  public void generate(FileContent file, Path target) throws IOException {
+    WritableByteChannel channel =
+        Compression.forExtension(target) == null
+            ? FileChannel.open(
+                target,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)
+            : Channels.newChannel(Compression.newOutputStream(target));
+    try (channel;
+        X12ByteWriter out = new X12ByteWriter(channel)) {
+      stream(file, out);
+    }
+  }
+
+  /**
+   * Writes the 834 to {@code out} as {@link #generate(FileContent, Path)} does, compressed with
+   * {@code codec}; {@code out} is flushed but not closed.
+   */
+  @Override
+  public void generate(FileContent file, OutputStream out, CompressionCodec codec)
+      throws IOException {
+    try (OutputStream compressed = Compression.compressing(out, codec);
+        X12ByteWriter bytes = new X12ByteWriter(Channels.newChannel(compressed))) {
+      stream(file, bytes);
+    }
+  }
+
+  /** Builds and writes the 834 a Record at a time, throwing every error once the file is done. */
+  private void stream(FileContent file, Appendable out) throws IOException {
+    List<GenerationError> errors;
     try {
-      Map<String, String> fileLoc = byLocation(file.fileFields());
+      BoundFields fileLoc = BoundFields.bind(file.fileFields());
+      X834Context context = buildContext(fileLoc);
+      X834StreamWriter stream =
+          new X834StreamWriter(
+              context, buildHeader(fileLoc, context), new Trailer.Builder(context), out);
+      for (Record record : file.records()) {
+        stream.write(member(record));
+      }
+      errors = stream.finish();
+    } catch (ValidationException e) {
+      throw new IllegalStateException("Failed to generate 834: " + e.getMessage(), e);
+    }
+    if (!errors.isEmpty()) {
+      throw failed(errors);
+    }
+  }
+
+  /** Interprets the file's locations onto the library's builders, ready to generate. */
+  private X834Document document(FileContent file) {
+    try {
+      BoundFields fileLoc = BoundFields.bind(file.fileFields());
       X834Context context = buildContext(fileLoc);
       Header header = buildHeader(fileLoc, context);
 
@@ -98,71 +191,75 @@ public final class X834FileGenerator implements FileGenerator {
               .withTrailer(new Trailer.Builder(context));
 
       for (Record record : file.records()) {
-        Member member = buildMember(record);
-        // This Record's REF extensions then its HD (Loop 2300) coverages attach to the
-        // member, so they are emitted inside that member's own loop rather than after
-        // every member.
-        for (Segment ref : refExtensions(record.fields())) {
-          member.addSegment(ref);
-        }
-        for (HealthCoverage coverage : healthCoverage(record.fields())) {
-          member.addHealthCoverage(coverage);
-        }
-        document.addMember(member);
+        document.addMember(member(record));
       }
-
-      // The FileGenerator seam returns a String, so a failed result surfaces as the seam's
-      // unchecked exception — but carrying every reason, not swallowing them (#123).
-      return switch (document.build().generateDocument()) {
-        case GenerationResult.Success success -> success.document();
-        case GenerationResult.Failure failure ->
-            throw new IllegalStateException(
-                "Failed to generate 834:\n  - "
-                    + failure.errors().stream()
-                        .map(GenerationError::formatted)
-                        .collect(Collectors.joining("\n  - ")));
-      };
+      return document.build();
     } catch (ValidationException e) {
       throw new IllegalStateException("Failed to generate 834: " + e.getMessage(), e);
     }
   }
 
-  private X834Context buildContext(Map<String, String> file) {
+  /**
+   * The Record's subscriber member with its dependents, REF extensions and HD (Loop 2300) coverages
+   * attached, so they are emitted inside that member's own loop rather than after every member.
+   */
+  private Member member(Record record) throws ValidationException {
+    BoundFields fields = BoundFields.bind(record.fields());
+    Member member = buildMember(fields, record);
+    for (Segment ref : refExtensions(fields)) {
+      member.addSegment(ref);
+    }
+    for (HealthCoverage coverage : healthCoverage(fields)) {
+      member.addHealthCoverage(coverage);
+    }
+    return member;
+  }
+
+  /** The seam's flattened failure: one exception whose message lists every error. */
+  private static IllegalStateException failed(List<GenerationError> errors) {
+    return new IllegalStateException(
+        "Failed to generate 834:\n  - "
+            + errors.stream()
+                .map(GenerationError::formatted)
+                .collect(Collectors.joining("\n  - ")));
+  }
+
+  private X834Context buildContext(BoundFields file) {
     X834Context context = new X834Context();
-    apply(file, X834Location.SENDER_ID, context::setSenderID);
-    apply(file, X834Location.RECEIVER_ID, context::setReceiverID);
-    apply(file, X834Location.SENDER_ID_QUALIFIER, context::setSenderIdQualifier);
-    apply(file, X834Location.RECEIVER_ID_QUALIFIER, context::setReceiverIdQualifier);
-    apply(file, X834Location.APPLICATION_SENDER_CODE, context::setApplicationSenderCode);
-    apply(file, X834Location.APPLICATION_RECEIVER_CODE, context::setApplicationReceiverCode);
-    apply(file, X834Location.INTERCHANGE_CONTROL_NUMBER, context::setInterchangeControlNumber);
-    apply(file, X834Location.GROUP_CONTROL_NUMBER, context::setGroupControlNumber);
-    apply(
-        file, X834Location.TRANSACTION_SET_CONTROL_NUMBER, context::setTransactionSetControlNumber);
-    apply(file, X834Location.DOCUMENT_DATE, v -> context.setDocumentDate(parseDateTime(v)));
-    apply(file, X834Location.ACKNOWLEDGMENT_REQUESTED, context::setAcknowledgmentRequested);
+    apply(file, Property.SENDER_ID, context::setSenderID);
+    apply(file, Property.RECEIVER_ID, context::setReceiverID);
+    apply(file, Property.SENDER_ID_QUALIFIER, context::setSenderIdQualifier);
+    apply(file, Property.RECEIVER_ID_QUALIFIER, context::setReceiverIdQualifier);
+    apply(file, Property.APPLICATION_SENDER_CODE, context::setApplicationSenderCode);
+    apply(file, Property.APPLICATION_RECEIVER_CODE, context::setApplicationReceiverCode);
+    apply(file, Property.INTERCHANGE_CONTROL_NUMBER, context::setInterchangeControlNumber);
+    apply(file, Property.GROUP_CONTROL_NUMBER, context::setGroupControlNumber);
+    apply(file, Property.TRANSACTION_SET_CONTROL_NUMBER, context::setTransactionSetControlNumber);
+    apply(file, Property.DOCUMENT_DATE, v -> context.setDocumentDate(parseDateTime(v)));
+    apply(file, Property.ACKNOWLEDGMENT_REQUESTED, context::setAcknowledgmentRequested);
     return context;
   }
 
-  private Header buildHeader(Map<String, String> file, X834Context context) {
+  private Header buildHeader(BoundFields file, X834Context context) {
     Header.Builder header = new Header.Builder(context);
-    apply(file, X834Location.TRANSACTION_SET_ID, header::setTransactionSetIdentifierCode);
-    apply(file, X834Location.REFERENCE_IDENTIFICATION, header::setReferenceIdentification);
-    apply(file, X834Location.MASTER_POLICY_NUMBER, header::setMasterPolicyNumber);
-    apply(file, X834Location.PLAN_SPONSOR_NAME, header::setPlanSponsorName);
-    apply(file, X834Location.PAYER_NAME, header::setPayerName);
+    apply(file, Property.TRANSACTION_SET_ID, header::setTransactionSetIdentifierCode);
+    apply(file, Property.REFERENCE_IDENTIFICATION, header::setReferenceIdentification);
+    apply(file, Property.MASTER_POLICY_NUMBER, header::setMasterPolicyNumber);
+    apply(file, Property.PLAN_SPONSOR_NAME, header::setPlanSponsorName);
+    apply(file, Property.PAYER_NAME, header::setPayerName);
     return header.build();
   }
 
   /**
-   * Build the subscriber {@link Member} for a Record, attaching each child Record as a dependent.
+   * Build the subscriber {@link Member} for a Record from its bound {@code fields}, attaching each
+   * child Record as a dependent.
    */
-  private Member buildMember(Record record) {
+  private Member buildMember(BoundFields fields, Record record) {
     Member member = new Member();
-    populate(member, byLocation(record.fields()));
+    populate(member, fields);
     for (Record child : record.children()) {
       DependentMember dependent = new DependentMember();
-      populate(dependent, byLocation(child.fields()));
+      populate(dependent, BoundFields.bind(child.fields()));
       dependent.setPrimaryMember(member);
       member.addDependent(dependent);
     }
@@ -170,50 +267,49 @@ public final class X834FileGenerator implements FileGenerator {
   }
 
   /** Set the wire-relevant fields shared by subscriber and dependent members. */
-  private void populate(BaseMember member, Map<String, String> loc) {
+  private void populate(BaseMember member, BoundFields loc) {
     apply(
         loc,
-        X834Location.MEMBER_INDICATOR,
+        Property.MEMBER_INDICATOR,
         v -> member.setMemberIndicator(MemberIndicator.fromString(v)));
     apply(
         loc,
-        X834Location.RELATIONSHIP_CODE,
+        Property.RELATIONSHIP_CODE,
         v -> member.setRelationshipCode(IndividualRelationshipCode.fromString(v)));
     apply(
         loc,
-        X834Location.MAINTENANCE_TYPE_CODE,
+        Property.MAINTENANCE_TYPE_CODE,
         v -> member.setMaintenanceTypeCode(MaintenanceTypeCode.fromString(v)));
     apply(
         loc,
-        X834Location.MAINTENANCE_REASON_CODE,
+        Property.MAINTENANCE_REASON_CODE,
         v -> member.setMaintenanceReasonCode(MaintenanceReasonCode.fromString(v)));
     apply(
         loc,
-        X834Location.EMPLOYMENT_STATUS_CODE,
+        Property.EMPLOYMENT_STATUS_CODE,
         v -> member.setEmploymentStatusCode(EmploymentStatusCode.fromString(v)));
-    apply(loc, X834Location.POLICY_NUMBER, member::setPolicyNumber);
-    apply(loc, X834Location.MEMBER_ID, member::setMemberId);
-    apply(loc, X834Location.MEMBER_ID_QUALIFIER, member::setMemberIdQualifier);
-    apply(loc, X834Location.SUBSCRIBER_NUMBER, member::setSubscriberNumber);
-    apply(loc, X834Location.ENROLLMENT_DATE, v -> member.setEnrollmentDate(parseDateTime(v)));
-    apply(
-        loc, X834Location.COVERAGE_START_DATE, v -> member.setCoverageStartDate(parseDateTime(v)));
-    apply(loc, X834Location.COVERAGE_END_DATE, v -> member.setCoverageEndDate(parseDateTime(v)));
+    apply(loc, Property.POLICY_NUMBER, member::setPolicyNumber);
+    apply(loc, Property.MEMBER_ID, member::setMemberId);
+    apply(loc, Property.MEMBER_ID_QUALIFIER, member::setMemberIdQualifier);
+    apply(loc, Property.SUBSCRIBER_NUMBER, member::setSubscriberNumber);
+    apply(loc, Property.ENROLLMENT_DATE, v -> member.setEnrollmentDate(parseDateTime(v)));
+    apply(loc, Property.COVERAGE_START_DATE, v -> member.setCoverageStartDate(parseDateTime(v)));
+    apply(loc, Property.COVERAGE_END_DATE, v -> member.setCoverageEndDate(parseDateTime(v)));
 
     // Loop 2100A name / demographics / residence address. The writer emits the
     // matching NM1/DMG/N3/N4 only when these are present, so absent fields change nothing.
-    apply(loc, X834Location.LAST_NAME, member::setLastName);
-    apply(loc, X834Location.FIRST_NAME, member::setFirstName);
-    apply(loc, X834Location.MIDDLE_NAME, member::setMiddleName);
-    apply(loc, X834Location.NAME_ID_QUALIFIER, member::setNameIdQualifier);
-    apply(loc, X834Location.NAME_ID, member::setNameId);
-    apply(loc, X834Location.BIRTH_DATE, v -> member.setBirthDate(parseDateTime(v)));
-    apply(loc, X834Location.GENDER, v -> member.setGender(GenderCode.fromString(v)));
-    apply(loc, X834Location.ADDRESS_LINE_1, member::setAddressLine1);
-    apply(loc, X834Location.ADDRESS_LINE_2, member::setAddressLine2);
-    apply(loc, X834Location.CITY, member::setCity);
-    apply(loc, X834Location.STATE, member::setState);
-    apply(loc, X834Location.ZIP_CODE, member::setZipCode);
+    apply(loc, Property.LAST_NAME, member::setLastName);
+    apply(loc, Property.FIRST_NAME, member::setFirstName);
+    apply(loc, Property.MIDDLE_NAME, member::setMiddleName);
+    apply(loc, Property.NAME_ID_QUALIFIER, member::setNameIdQualifier);
+    apply(loc, Property.NAME_ID, member::setNameId);
+    apply(loc, Property.BIRTH_DATE, v -> member.setBirthDate(parseDateTime(v)));
+    apply(loc, Property.GENDER, v -> member.setGender(GenderCode.fromString(v)));
+    apply(loc, Property.ADDRESS_LINE_1, member::setAddressLine1);
+    apply(loc, Property.ADDRESS_LINE_2, member::setAddressLine2);
+    apply(loc, Property.CITY, member::setCity);
+    apply(loc, Property.STATE, member::setState);
+    apply(loc, Property.ZIP_CODE, member::setZipCode);
 
     // Loop 2100A PER / ICM / HLH / LUI. Each is built only from the keys actually present, and
     // the writer emits the matching segment only when the member carries one, so a Record with
@@ -238,17 +334,15 @@ public final class X834FileGenerator implements FileGenerator {
    * lists them. The qualifier is the location's own suffix, so a member cannot carry two of a
    * channel — the same property {@code "ref.<qualifier>"} has.
    */
-  private static List<MemberCommunication> communications(Map<String, String> loc) {
+  private static List<MemberCommunication> communications(BoundFields loc) {
     List<MemberCommunication> channels = new ArrayList<>();
-    for (Map.Entry<String, String> entry : loc.entrySet()) {
-      if (!entry.getKey().startsWith(X834Location.COMMUNICATION_PREFIX)
-          || entry.getValue().isBlank()) {
+    for (Map.Entry<String, String> entry : loc.communications().entrySet()) {
+      if (entry.getValue().isBlank()) {
         continue;
       }
-      String qualifier = entry.getKey().substring(X834Location.COMMUNICATION_PREFIX.length());
       channels.add(
           new MemberCommunication(
-              CommunicationNumberQualifier.fromString(qualifier), entry.getValue()));
+              CommunicationNumberQualifier.fromString(entry.getKey()), entry.getValue()));
     }
     return channels;
   }
@@ -261,32 +355,31 @@ public final class X834FileGenerator implements FileGenerator {
    * Kansas department-number case — fails loudly when written instead of silently losing the
    * department number it did supply.
    */
-  private static Optional<Income> income(Map<String, String> loc) {
+  private static Optional<Income> income(BoundFields loc) {
     Income income = new Income();
     boolean any = false;
-    any |=
-        set(loc, X834Location.ICM_FREQUENCY, v -> income.setFrequency(FrequencyCode.fromString(v)));
-    any |= set(loc, X834Location.ICM_AMOUNT, income::setAmount);
-    any |= set(loc, X834Location.ICM_HOURS, income::setHours);
-    any |= set(loc, X834Location.ICM_LOCATION_IDENTIFIER, income::setLocationIdentifier);
-    any |= set(loc, X834Location.ICM_SALARY_GRADE, income::setSalaryGrade);
-    any |= set(loc, X834Location.ICM_CURRENCY_CODE, income::setCurrencyCode);
+    any |= set(loc, Property.ICM_FREQUENCY, v -> income.setFrequency(FrequencyCode.fromString(v)));
+    any |= set(loc, Property.ICM_AMOUNT, income::setAmount);
+    any |= set(loc, Property.ICM_HOURS, income::setHours);
+    any |= set(loc, Property.ICM_LOCATION_IDENTIFIER, income::setLocationIdentifier);
+    any |= set(loc, Property.ICM_SALARY_GRADE, income::setSalaryGrade);
+    any |= set(loc, Property.ICM_CURRENCY_CODE, income::setCurrencyCode);
     return any ? Optional.of(income) : Optional.empty();
   }
 
   /** Loop 2100A HLH, built when any {@code hlh.} field is present. */
-  private static Optional<HealthInformation> healthInformation(Map<String, String> loc) {
+  private static Optional<HealthInformation> healthInformation(BoundFields loc) {
     HealthInformation health = new HealthInformation();
     boolean any = false;
     any |=
         set(
             loc,
-            X834Location.HLH_HEALTH_RELATED_CODE,
+            Property.HLH_HEALTH_RELATED_CODE,
             v -> health.setHealthRelatedCode(HealthRelatedCode.fromString(v)));
-    any |= set(loc, X834Location.HLH_HEIGHT, health::setHeight);
-    any |= set(loc, X834Location.HLH_CURRENT_WEIGHT, health::setCurrentWeight);
-    any |= set(loc, X834Location.HLH_PREVIOUS_WEIGHT, health::setPreviousWeight);
-    any |= set(loc, X834Location.HLH_DESCRIPTION, health::setDescription);
+    any |= set(loc, Property.HLH_HEIGHT, health::setHeight);
+    any |= set(loc, Property.HLH_CURRENT_WEIGHT, health::setCurrentWeight);
+    any |= set(loc, Property.HLH_PREVIOUS_WEIGHT, health::setPreviousWeight);
+    any |= set(loc, Property.HLH_DESCRIPTION, health::setDescription);
     return any ? Optional.of(health) : Optional.empty();
   }
 
@@ -295,16 +388,17 @@ public final class X834FileGenerator implements FileGenerator {
    * un-indexed {@code lui.} fields forming a single implicit language — mirroring how {@link
    * X834Location#hd(int, String)} groups coverages.
    */
-  private static List<Language> languages(Map<String, String> loc) {
+  private static List<Language> languages(BoundFields loc) {
     List<Language> languages = new ArrayList<>();
-    for (Map<String, String> group : groupsByIndex(loc, X834Location.LUI_PREFIX).values()) {
+    for (String[] group : loc.occurrences(Group.LANGUAGE)) {
       Language language = new Language();
       set(
+          Group.LANGUAGE,
           group,
-          "codeQualifier",
+          X834Location.LUI_CODE_QUALIFIER,
           v -> language.setCodeQualifier(IdentificationCodeQualifier.fromString(v)));
-      set(group, "code", language::setCode);
-      set(group, "description", language::setDescription);
+      set(Group.LANGUAGE, group, X834Location.LUI_CODE, language::setCode);
+      set(Group.LANGUAGE, group, X834Location.LUI_DESCRIPTION, language::setDescription);
       languages.add(language);
     }
     return languages;
@@ -317,23 +411,34 @@ public final class X834FileGenerator implements FileGenerator {
    * than quietly repaired — the writer rejects each, which is the honest answer to a half-stated
    * change.
    */
-  private static List<Provider> providers(Map<String, String> loc) {
+  private static List<Provider> providers(BoundFields loc) {
     List<Provider> providers = new ArrayList<>();
-    for (Map<String, String> group : groupsByIndex(loc, X834Location.PROVIDER_PREFIX).values()) {
+    Group g = Group.PROVIDER;
+    for (String[] group : loc.occurrences(g)) {
       Provider provider = new Provider();
-      set(group, "lastName", provider::setLastName);
-      set(group, "firstName", provider::setFirstName);
-      set(group, "middleName", provider::setMiddleName);
+      set(g, group, X834Location.PROVIDER_LAST_NAME, provider::setLastName);
+      set(g, group, X834Location.PROVIDER_FIRST_NAME, provider::setFirstName);
+      set(g, group, X834Location.PROVIDER_MIDDLE_NAME, provider::setMiddleName);
       set(
+          g,
           group,
-          "idQualifier",
+          X834Location.PROVIDER_ID_QUALIFIER,
           v -> provider.setIdentifierQualifier(IdentificationCodeQualifier.fromString(v)));
-      set(group, "id", provider::setIdentifier);
-      set(group, "changeAction", v -> provider.setChangeAction(ActionCode.fromString(v)));
-      set(group, "changeDate", v -> provider.setChangeDate(parseDateTime(v)));
+      set(g, group, X834Location.PROVIDER_ID, provider::setIdentifier);
+      set(
+          g,
+          group,
+          X834Location.PROVIDER_CHANGE_ACTION,
+          v -> provider.setChangeAction(ActionCode.fromString(v)));
+      set(
+          g,
+          group,
+          X834Location.PROVIDER_CHANGE_DATE,
+          v -> provider.setChangeDate(parseDateTime(v)));
       set(
+          g,
           group,
-          "changeReason",
+          X834Location.PROVIDER_CHANGE_REASON,
           v -> provider.setChangeReason(MaintenanceReasonCode.fromString(v)));
       providers.add(provider);
     }
@@ -341,43 +446,55 @@ public final class X834FileGenerator implements FileGenerator {
   }
 
   /** Loops 2320/2330: one other plan per {@code cob.<i>.} group, in ascending index order. */
-  private static List<CoordinationOfBenefits> coordinationOfBenefits(Map<String, String> loc) {
+  private static List<CoordinationOfBenefits> coordinationOfBenefits(BoundFields loc) {
     List<CoordinationOfBenefits> others = new ArrayList<>();
-    for (Map<String, String> group : groupsByIndex(loc, X834Location.COB_PREFIX).values()) {
+    Group g = Group.COORDINATION_OF_BENEFITS;
+    for (String[] group : loc.occurrences(g)) {
       CoordinationOfBenefits cob = new CoordinationOfBenefits();
       set(
+          g,
           group,
-          "payerResponsibility",
+          X834Location.COB_PAYER_RESPONSIBILITY,
           v -> cob.setPayerResponsibility(PayerResponsibilitySequenceCode.fromString(v)));
-      set(group, "policyIdentifier", cob::setPolicyIdentifier);
+      set(g, group, X834Location.COB_POLICY_IDENTIFIER, cob::setPolicyIdentifier);
       set(
+          g,
           group,
-          "benefitsCoordination",
+          X834Location.COB_BENEFITS_COORDINATION,
           v -> cob.setBenefitsCoordination(CoordinationOfBenefitsCode.fromString(v)));
       // Left at its 6P default unless the caller names another qualifier.
-      set(group, "groupNumberQualifier", cob::setGroupNumberQualifier);
-      set(group, "groupNumber", cob::setGroupNumber);
-      set(group, "beginDate", v -> cob.setBeginDate(parseDateTime(v)));
-      set(group, "endDate", v -> cob.setEndDate(parseDateTime(v)));
-      set(group, "relatedEntityName", cob::setRelatedEntityName);
+      set(g, group, X834Location.COB_GROUP_NUMBER_QUALIFIER, cob::setGroupNumberQualifier);
+      set(g, group, X834Location.COB_GROUP_NUMBER, cob::setGroupNumber);
+      set(g, group, X834Location.COB_BEGIN_DATE, v -> cob.setBeginDate(parseDateTime(v)));
+      set(g, group, X834Location.COB_END_DATE, v -> cob.setEndDate(parseDateTime(v)));
+      set(g, group, X834Location.COB_RELATED_ENTITY_NAME, cob::setRelatedEntityName);
       others.add(cob);
     }
     return others;
   }
 
   /** Loop 2200: one disability per {@code disability.<i>.} group, in ascending index order. */
-  private static List<Disability> disabilities(Map<String, String> loc) {
+  private static List<Disability> disabilities(BoundFields loc) {
     List<Disability> disabilities = new ArrayList<>();
-    for (Map<String, String> group : groupsByIndex(loc, X834Location.DISABILITY_PREFIX).values()) {
+    Group g = Group.DISABILITY;
+    for (String[] group : loc.occurrences(g)) {
       Disability disability = new Disability();
-      set(group, "type", v -> disability.setType(DisabilityTypeCode.fromString(v)));
-      set(group, "quantity", disability::setQuantity);
-      set(group, "occupationCode", disability::setOccupationCode);
-      set(group, "workIntensityCode", disability::setWorkIntensityCode);
-      set(group, "productOptionCode", disability::setProductOptionCode);
-      set(group, "monetaryAmount", disability::setMonetaryAmount);
-      set(group, "startDate", v -> disability.setStartDate(parseDateTime(v)));
-      set(group, "endDate", v -> disability.setEndDate(parseDateTime(v)));
+      set(
+          g,
+          group,
+          X834Location.DISABILITY_TYPE,
+          v -> disability.setType(DisabilityTypeCode.fromString(v)));
+      set(g, group, X834Location.DISABILITY_QUANTITY, disability::setQuantity);
+      set(g, group, X834Location.DISABILITY_OCCUPATION_CODE, disability::setOccupationCode);
+      set(g, group, X834Location.DISABILITY_WORK_INTENSITY_CODE, disability::setWorkIntensityCode);
+      set(g, group, X834Location.DISABILITY_PRODUCT_OPTION_CODE, disability::setProductOptionCode);
+      set(g, group, X834Location.DISABILITY_MONETARY_AMOUNT, disability::setMonetaryAmount);
+      set(
+          g,
+          group,
+          X834Location.DISABILITY_START_DATE,
+          v -> disability.setStartDate(parseDateTime(v)));
+      set(g, group, X834Location.DISABILITY_END_DATE, v -> disability.setEndDate(parseDateTime(v)));
       disabilities.add(disability);
     }
     return disabilities;
@@ -388,77 +505,40 @@ public final class X834FileGenerator implements FileGenerator {
    * order. The writer wraps them in a single {@code LS*2700} … {@code LE*2700} block and assigns
    * the {@code LX} numbers, so nothing here addresses those positions directly.
    */
-  private static List<ReportingCategory> reportingCategories(Map<String, String> loc) {
+  private static List<ReportingCategory> reportingCategories(BoundFields loc) {
     List<ReportingCategory> categories = new ArrayList<>();
-    for (Map<String, String> group : groupsByIndex(loc, X834Location.CATEGORY_PREFIX).values()) {
+    Group g = Group.CATEGORY;
+    for (String[] group : loc.occurrences(g)) {
       ReportingCategory category = new ReportingCategory();
-      set(group, "name", category::setName);
-      set(group, "value", category::setValue);
+      set(g, group, X834Location.CATEGORY_NAME, category::setName);
+      set(g, group, X834Location.CATEGORY_VALUE, category::setValue);
       // Left at its ZZ default unless the caller names another qualifier.
-      set(group, "referenceQualifier", category::setReferenceQualifier);
-      set(group, "date", v -> category.setDate(parseDateTime(v)));
-      set(group, "dateQualifier", category::setDateQualifier);
+      set(g, group, X834Location.CATEGORY_REFERENCE_QUALIFIER, category::setReferenceQualifier);
+      set(g, group, X834Location.CATEGORY_DATE, v -> category.setDate(parseDateTime(v)));
+      set(g, group, X834Location.CATEGORY_DATE_QUALIFIER, category::setDateQualifier);
       categories.add(category);
     }
     return categories;
   }
 
-  /**
-   * Groups {@code <prefix><i>.<suffix>} keys by {@code <i>}, keyed by suffix. Un-indexed {@code
-   * <prefix><suffix>} keys form one group ordered ahead of the numbered ones, so a caller that
-   * never indexes behaves as though it had used index zero.
-   */
-  private static Map<Integer, Map<String, String>> groupsByIndex(
-      Map<String, String> loc, String prefix) {
-    Map<Integer, Map<String, String>> groups = new java.util.TreeMap<>();
-    for (Map.Entry<String, String> entry : loc.entrySet()) {
-      if (!entry.getKey().startsWith(prefix)) {
-        continue;
-      }
-      String rest = entry.getKey().substring(prefix.length());
-      int dot = rest.indexOf('.');
-      int index = -1;
-      String suffix = rest;
-      if (dot > 0 && rest.substring(0, dot).chars().allMatch(Character::isDigit)) {
-        index = Integer.parseInt(rest.substring(0, dot));
-        suffix = rest.substring(dot + 1);
-      }
-      groups.computeIfAbsent(index, k -> new LinkedHashMap<>()).put(suffix, entry.getValue());
-    }
-    return groups;
-  }
-
-  /** Like {@link #apply}, but reports whether the key carried a usable value. */
-  private static boolean set(Map<String, String> source, String key, Consumer<String> setter) {
-    String value = source.get(key);
-    if (value == null || value.isBlank()) {
-      return false;
-    }
-    setter.accept(value);
-    return true;
-  }
-
   /** Build the member's {@link AddressType#MAILING} address from the {@code mailing*} fields. */
-  private static Optional<Address> mailingAddress(Map<String, String> loc) {
+  private static Optional<Address> mailingAddress(BoundFields loc) {
     Address mailing = new Address();
     mailing.setType(AddressType.MAILING);
-    apply(loc, X834Location.MAILING_ADDRESS_LINE_1, mailing::setLine1);
-    apply(loc, X834Location.MAILING_ADDRESS_LINE_2, mailing::setLine2);
-    apply(loc, X834Location.MAILING_CITY, mailing::setCity);
-    apply(loc, X834Location.MAILING_STATE, mailing::setState);
-    apply(loc, X834Location.MAILING_ZIP_CODE, mailing::setZipCode);
+    apply(loc, Property.MAILING_ADDRESS_LINE_1, mailing::setLine1);
+    apply(loc, Property.MAILING_ADDRESS_LINE_2, mailing::setLine2);
+    apply(loc, Property.MAILING_CITY, mailing::setCity);
+    apply(loc, Property.MAILING_STATE, mailing::setState);
+    apply(loc, Property.MAILING_ZIP_CODE, mailing::setZipCode);
     return mailing.hasStreet() ? Optional.of(mailing) : Optional.empty();
   }
 
   /** Custom REF extensions: any {@code "ref.<qualifier>"} field becomes a {@code REF} segment. */
-  private List<Segment> refExtensions(List<Field> fields) throws ValidationException {
-    List<Segment> refs = new java.util.ArrayList<>();
-    for (Field field : fields) {
-      String location = field.location().name();
-      if (field.isOmitted() || !location.startsWith(X834Location.REF_EXTENSION_PREFIX)) {
-        continue;
-      }
-      String qualifier = location.substring(X834Location.REF_EXTENSION_PREFIX.length());
+  private List<Segment> refExtensions(BoundFields fields) throws ValidationException {
+    List<Segment> refs = new ArrayList<>();
+    for (Field field : fields.refs()) {
+      String qualifier =
+          field.location().name().substring(X834Location.REF_EXTENSION_PREFIX.length());
       refs.add(
           new RefSegment.Builder()
               .setReferenceIdentificationQualifier(qualifier)
@@ -476,73 +556,48 @@ public final class X834FileGenerator implements FileGenerator {
    * the member writer). Un-indexed {@code "hd.<suffix>"} fields form a single implicit group (the
    * legacy single-coverage shape), so existing callers are byte-identical.
    */
-  private List<HealthCoverage> healthCoverage(List<Field> fields) {
-    List<HealthCoverage> coverages = new java.util.ArrayList<>();
-    for (Map<String, String> group : hdGroupsByIndex(fields).values()) {
+  private List<HealthCoverage> healthCoverage(BoundFields fields) {
+    List<HealthCoverage> coverages = new ArrayList<>();
+    for (String[] group : fields.occurrences(Group.HEALTH_COVERAGE)) {
       coverages.add(oneHealthCoverage(group));
     }
     return coverages;
   }
 
   /** Read one coverage group into a {@link HealthCoverage} value object. */
-  private HealthCoverage oneHealthCoverage(Map<String, String> loc) {
+  private HealthCoverage oneHealthCoverage(String[] group) {
     HealthCoverage coverage = new HealthCoverage();
+    Group g = Group.HEALTH_COVERAGE;
     // The 220A1 HD segment carries only HD01/HD03/HD04/HD05. HD02 and HD06+ are Not Used —
     // employment status, in particular, belongs on INS08, never HD.
-    apply(loc, X834Location.HD_MAINTENANCE_TYPE_CODE, coverage::setMaintenanceTypeCode);
-    apply(loc, X834Location.HD_INSURANCE_LINE_CODE, coverage::setInsuranceLineCode);
-    apply(loc, X834Location.HD_PLAN_COVERAGE_DESCRIPTION, coverage::setPlanCoverageDescription);
-    apply(loc, X834Location.HD_COVERAGE_LEVEL_CODE, coverage::setCoverageLevelCode);
-    apply(loc, X834Location.HD_BENEFIT_BEGIN_DATE, v -> coverage.setStartDate(parseDateTime(v)));
-    apply(loc, X834Location.HD_BENEFIT_END_DATE, v -> coverage.setEndDate(parseDateTime(v)));
+    set(g, group, X834Location.HD_MAINTENANCE_TYPE_CODE, coverage::setMaintenanceTypeCode);
+    set(g, group, X834Location.HD_INSURANCE_LINE_CODE, coverage::setInsuranceLineCode);
+    set(g, group, X834Location.HD_PLAN_COVERAGE_DESCRIPTION, coverage::setPlanCoverageDescription);
+    set(g, group, X834Location.HD_COVERAGE_LEVEL_CODE, coverage::setCoverageLevelCode);
+    set(g, group, X834Location.HD_BENEFIT_BEGIN_DATE, v -> coverage.setStartDate(parseDateTime(v)));
+    set(g, group, X834Location.HD_BENEFIT_END_DATE, v -> coverage.setEndDate(parseDateTime(v)));
     return coverage;
   }
 
-  /**
-   * Group a Record's HD fields by coverage-loop index, each group keyed by the canonical un-indexed
-   * {@code "hd.<suffix>"} name so {@link #oneHealthCoverage} reads it with the same {@code HD_*}
-   * constants. Un-indexed {@code "hd.<suffix>"} fields collapse into one implicit group (sentinel
-   * key {@code -1}); indexed {@code "hd.<i>.<suffix>"} fields group by {@code <i>}. Insertion order
-   * is preserved and the map is sorted so groups emit in ascending index order. Walks the raw field
-   * list (not the deduped map) so repeated HD groups survive, mirroring {@link #refExtensions}.
-   */
-  private static Map<Integer, Map<String, String>> hdGroupsByIndex(List<Field> fields) {
-    Map<Integer, Map<String, String>> groups = new java.util.TreeMap<>();
-    for (Field field : fields) {
-      String name = field.location().name();
-      if (field.isOmitted() || !name.startsWith(X834Location.HD_PREFIX)) {
-        continue;
-      }
-      String rest = name.substring(X834Location.HD_PREFIX.length());
-      int dot = rest.indexOf('.');
-      int index = -1;
-      String suffix = rest;
-      if (dot > 0 && rest.substring(0, dot).chars().allMatch(Character::isDigit)) {
-        index = Integer.parseInt(rest.substring(0, dot));
-        suffix = rest.substring(dot + 1);
-      }
-      groups
-          .computeIfAbsent(index, k -> new LinkedHashMap<>())
-          .put(X834Location.HD_PREFIX + suffix, field.value());
-    }
-    return groups;
+  /** Invoke {@code setter} with the bound {@code property} when present and non-blank. */
+  private static void apply(BoundFields source, Property property, Consumer<String> setter) {
+    set(source, property, setter);
   }
 
-  /** Index a Record's non-omitted fields by their location (a built-in location is unique). */
-  private static Map<String, String> byLocation(List<Field> fields) {
-    Map<String, String> map = new LinkedHashMap<>();
-    for (Field field : fields) {
-      if (!field.isOmitted()) {
-        map.put(field.location().name(), field.value());
-      }
+  /** Like {@link #apply}, but reports whether the property carried a usable value. */
+  private static boolean set(BoundFields source, Property property, Consumer<String> setter) {
+    String value = source.get(property);
+    if (value == null) {
+      return false;
     }
-    return map;
+    setter.accept(value);
+    return true;
   }
 
-  /** Invoke {@code setter} with the value at {@code key} when present and non-blank. */
-  private static void apply(Map<String, String> source, String key, Consumer<String> setter) {
-    String value = source.get(key);
-    if (value != null && !value.isBlank()) {
+  /** Invoke {@code setter} with one group occurrence's {@code field} when present and non-blank. */
+  private static void set(Group group, String[] occurrence, String field, Consumer<String> setter) {
+    String value = BoundFields.get(group, occurrence, field);
+    if (value != null) {
       setter.accept(value);
     }
   }
@@ -0,0 +1,52 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.generate;
+
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.FileParser;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.Reader;
+import java.io.StringReader;
+
+/**
+ * The X12 834 implementation of the {@link FileParser} seam, and the dual of {@link
+ * X834FileGenerator}: reads an enrollment file back into the same {@link X834Location} fields the
+ * generator consumes. The envelope and header ({@code ISA}, {@code GS}, {@code ST}, {@code BGN},
+ * the 1000 loops) become {@link RecordLevel#FILE} fields; each subscriber's 2000 loop becomes a
+ * {@link Record}, with the dependents that follow it ({@code INS01 = N}) as its children.
+ *
+ * <p>Within a member the 2100A/2100C, 2200, 2300, 2310, 2320 and 2700 loops are read into their
+ * indexed groups — the nth {@code HD} into {@link X834Location#hd(int, String) hd.n.*}, and so on,
+ * from zero — and {@code CCYYMMDD} dates into the ISO dates the generator accepts, so a file the
+ * generator wrote parses back to fields that regenerate it. {@code REF}s past the member's
+ * identifiers come back as {@code ref.<qualifier>} extensions. Segments outside that vocabulary are
+ * skipped; the parser never throws on content. Delimiters are taken from the interchange's {@code
+ * ISA} envelope, defaulting to {@code *} (element) and {@code ~} (segment).
+ */
+public final class X834FileParser implements FileParser {
+
+  /** Creates a parser; the parser is stateless and reusable across files. */
+  public X834FileParser() {}
+
+  @Override
+  public FileContent parse(String raw) {
+    return read(new StringReader(raw == null ? "" : raw)).readAll();
+  }
+
+  /**
+   * Streams the file a subscriber at a time: segments are scanned from {@code in} as records are
+   * asked for, so memory is bounded by the largest subscriber loop rather than the file. The
+   * envelope and header fields are available up front.
+   */
+  @Override
+  public RecordReader read(Reader in) {
+    return new X834RecordReader(in);
+  }
+}
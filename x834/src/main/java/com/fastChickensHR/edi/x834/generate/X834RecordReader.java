@@ -0,0 +1,534 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.generate;
+
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import com.fastChickensHR.edi.x12.X12Tokenizer;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The streaming reader behind {@link X834FileParser}: scans segments from the source one at a time
+ * and yields a {@link Record} per subscriber once the next subscriber's {@code INS} (or the {@code
+ * SE}) shows its loop is complete. Delimiters come from the {@code ISA}; the reader then reads
+ * ahead to the first {@code INS}, so the envelope and header fields are in {@link #fileFields()} as
+ * soon as it is constructed.
+ *
+ * <p>Segments come from an {@link X12Tokenizer}, so a {@code String} is only created for an element
+ * the 834 vocabulary surfaces; the positions the parser skips cost nothing beyond the scan.
+ */
+final class X834RecordReader implements RecordReader {
+  /** The segment ids the reader acts on; anything else is scanned past without allocating. */
+  private static final String[] SEGMENT_IDS = {
+    "ISA", "GS", "ST", "BGN", "REF", "N1", "INS", "DTP", "NM1", "PER", "N3", "N4", "DMG", "ICM",
+    "HLH", "LUI", "DSB", "HD", "LX", "PLA", "COB", "LS", "LE", "SE"
+  };
+
+  /** The default subscriber identifier qualifier a {@code REF*0F} carries. */
+  private static final String SUBSCRIBER_NUMBER_QUALIFIER = "0F";
+
+  private final X12Tokenizer tokenizer;
+
+  private final List<Field> fileFields = new ArrayList<>();
+  private Member subscriber;
+  private Member dependent;
+  private Record next;
+
+  X834RecordReader(Reader in) {
+    this.tokenizer = X12Tokenizer.of(in);
+    next = advance();
+  }
+
+  @Override
+  public List<Field> fileFields() {
+    return List.copyOf(fileFields);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = advance();
+    }
+    return next != null;
+  }
+
+  @Override
+  public Record next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Record record = next;
+    next = null;
+    return record;
+  }
+
+  @Override
+  public void close() throws IOException {
+    tokenizer.close();
+  }
+
+  /** Reads segments until one completes a subscriber's record, or the source runs out. */
+  private Record advance() {
+    while (tokenizer.next()) {
+      String id = tokenizer.segmentIdAmong(SEGMENT_IDS);
+      if (id == null) {
+        continue;
+      }
+      if (id.equals("INS")) {
+        Record completed = startMember();
+        if (completed != null) {
+          return completed;
+        }
+      } else if (id.equals("SE")) {
+        Record completed = finishSubscriber();
+        if (completed != null) {
+          return completed;
+        }
+      } else if (subscriber == null && dependent == null) {
+        header(id);
+      } else {
+        (dependent != null ? dependent : subscriber).segment(id);
+      }
+    }
+    return finishSubscriber();
+  }
+
+  /** The envelope and header segments ahead of the first {@code INS}. */
+  private void header(String id) {
+    switch (id) {
+      case "ISA" -> {
+        file(X834Location.SENDER_ID_QUALIFIER, element(5));
+        file(X834Location.SENDER_ID, element(6));
+        file(X834Location.RECEIVER_ID_QUALIFIER, element(7));
+        file(X834Location.RECEIVER_ID, element(8));
+        file(X834Location.INTERCHANGE_CONTROL_NUMBER, element(13));
+        file(X834Location.ACKNOWLEDGMENT_REQUESTED, element(14));
+      }
+      case "GS" -> {
+        file(X834Location.APPLICATION_SENDER_CODE, element(2));
+        file(X834Location.APPLICATION_RECEIVER_CODE, element(3));
+        file(X834Location.DOCUMENT_DATE, isoDateTime(element(4), element(5)));
+        file(X834Location.GROUP_CONTROL_NUMBER, element(6));
+      }
+      case "ST" -> {
+        file(X834Location.TRANSACTION_SET_ID, element(1));
+        file(X834Location.TRANSACTION_SET_CONTROL_NUMBER, element(2));
+      }
+      case "BGN" -> file(X834Location.REFERENCE_IDENTIFICATION, element(2));
+      case "REF" -> {
+        if (elementIs(1, "38")) {
+          file(X834Location.MASTER_POLICY_NUMBER, element(2));
+        }
+      }
+      case "N1" -> {
+        if (elementIs(1, "P5")) {
+          file(X834Location.PLAN_SPONSOR_NAME, element(2));
+        } else if (elementIs(1, "IN")) {
+          file(X834Location.PAYER_NAME, element(2));
+        }
+      }
+      default -> {
+        /* the header DTP*007 repeats the GS date; nothing else here maps to a location */
+      }
+    }
+  }
+
+  /**
+   * Opens a member loop at an {@code INS}: {@code INS01 = Y} starts a subscriber, completing the
+   * previous one, and {@code N} a dependent of the subscriber in progress. Returns the completed
+   * subscriber's record, if this {@code INS} completed one.
+   */
+  private Record startMember() {
+    Record completed = null;
+    closeDependent();
+    if (subscriber == null || !elementIs(1, "N")) {
+      completed = finishSubscriber();
+      subscriber = new Member(RecordLevel.RECORD);
+      subscriber.ins();
+    } else {
+      dependent = new Member(RecordLevel.SUBRECORD);
+      dependent.ins();
+    }
+    return completed;
+  }
+
+  private void closeDependent() {
+    if (dependent != null) {
+      subscriber.children.add(Record.of(dependent.fields));
+      dependent = null;
+    }
+  }
+
+  private Record finishSubscriber() {
+    if (subscriber == null) {
+      return null;
+    }
+    closeDependent();
+    Record record = new Record(subscriber.fields, subscriber.children);
+    subscriber = null;
+    return record;
+  }
+
+  private void file(String location, String value) {
+    if (value != null) {
+      fileFields.add(new Field(Location.of(RecordLevel.FILE, location), value));
+    }
+  }
+
+  /** Where in a member's loops the segments being read belong. */
+  private enum Loop {
+    MEMBER,
+    NAME,
+    MAILING,
+    OTHER_NAME,
+    DISABILITY,
+    COVERAGE,
+    PROVIDER,
+    COORDINATION,
+    CATEGORY
+  }
+
+  /** One member loop — a subscriber's or a dependent's — and the fields read from it so far. */
+  private final class Member {
+    private final RecordLevel level;
+    private final List<Field> fields = new ArrayList<>();
+    private final List<Record> children = new ArrayList<>();
+    private Loop loop = Loop.MEMBER;
+    private boolean inCategoryBlock;
+    private boolean identifiersClosed;
+    private int subscriberNumberAt = -1;
+    private boolean memberIdSeen;
+    private int language = -1;
+    private int disability = -1;
+    private int coverage = -1;
+    private int provider = -1;
+    private int coordination = -1;
+    private int category = -1;
+
+    private Member(RecordLevel level) {
+      this.level = level;
+    }
+
+    private void ins() {
+      add(X834Location.MEMBER_INDICATOR, element(1));
+      add(X834Location.RELATIONSHIP_CODE, element(2));
+      add(X834Location.MAINTENANCE_TYPE_CODE, element(3));
+      add(X834Location.MAINTENANCE_REASON_CODE, element(4));
+      add(X834Location.EMPLOYMENT_STATUS_CODE, element(8));
+    }
+
+    private void segment(String id) {
+      switch (id) {
+        case "REF" -> ref();
+        case "DTP" -> dtp();
+        case "NM1" -> nm1();
+        case "PER" -> {
+          for (int pair = 3; pair + 1 < tokenizer.elementCount(); pair += 2) {
+            String qualifier = element(pair);
+            if (qualifier != null) {
+              add(X834Location.COMMUNICATION_PREFIX + qualifier, element(pair + 1));
+            }
+          }
+        }
+        case "N3" -> {
+          if (loop == Loop.NAME) {
+            add(X834Location.ADDRESS_LINE_1, element(1));
+            add(X834Location.ADDRESS_LINE_2, element(2));
+          } else if (loop == Loop.MAILING) {
+            add(X834Location.MAILING_ADDRESS_LINE_1, element(1));
+            add(X834Location.MAILING_ADDRESS_LINE_2, element(2));
+          }
+        }
+        case "N4" -> {
+          if (loop == Loop.NAME) {
+            add(X834Location.CITY, element(1));
+            add(X834Location.STATE, element(2));
+            add(X834Location.ZIP_CODE, element(3));
+          } else if (loop == Loop.MAILING) {
+            add(X834Location.MAILING_CITY, element(1));
+            add(X834Location.MAILING_STATE, element(2));
+            add(X834Location.MAILING_ZIP_CODE, element(3));
+          }
+        }
+        case "DMG" -> {
+          add(X834Location.BIRTH_DATE, elementIs(1, "D8") ? isoDate(element(2)) : element(2));
+          add(X834Location.GENDER, element(3));
+        }
+        case "ICM" -> {
+          add(X834Location.ICM_FREQUENCY, element(1));
+          add(X834Location.ICM_AMOUNT, element(2));
+          add(X834Location.ICM_HOURS, element(3));
+          add(X834Location.ICM_LOCATION_IDENTIFIER, element(4));
+          add(X834Location.ICM_SALARY_GRADE, element(5));
+          add(X834Location.ICM_CURRENCY_CODE, element(6));
+        }
+        case "HLH" -> {
+          add(X834Location.HLH_HEALTH_RELATED_CODE, element(1));
+          add(X834Location.HLH_HEIGHT, element(2));
+          add(X834Location.HLH_CURRENT_WEIGHT, element(3));
+          add(X834Location.HLH_PREVIOUS_WEIGHT, element(4));
+          add(X834Location.HLH_DESCRIPTION, element(5));
+        }
+        case "LUI" -> {
+          language++;
+          add(X834Location.lui(language, X834Location.LUI_CODE_QUALIFIER), element(1));
+          add(X834Location.lui(language, X834Location.LUI_CODE), element(2));
+          add(X834Location.lui(language, X834Location.LUI_DESCRIPTION), element(3));
+        }
+        case "DSB" -> {
+          enter(Loop.DISABILITY);
+          disability++;
+          add(X834Location.disability(disability, X834Location.DISABILITY_TYPE), element(1));
+          add(X834Location.disability(disability, X834Location.DISABILITY_QUANTITY), element(2));
+          add(
+              X834Location.disability(disability, X834Location.DISABILITY_OCCUPATION_CODE),
+              element(3));
+          add(
+              X834Location.disability(disability, X834Location.DISABILITY_WORK_INTENSITY_CODE),
+              element(4));
+          add(
+              X834Location.disability(disability, X834Location.DISABILITY_PRODUCT_OPTION_CODE),
+              element(5));
+          add(
+              X834Location.disability(disability, X834Location.DISABILITY_MONETARY_AMOUNT),
+              element(6));
+        }
+        case "HD" -> {
+          enter(Loop.COVERAGE);
+          coverage++;
+          add(X834Location.hd(coverage, X834Location.HD_MAINTENANCE_TYPE_CODE), element(1));
+          add(X834Location.hd(coverage, X834Location.HD_INSURANCE_LINE_CODE), element(3));
+          add(X834Location.hd(coverage, X834Location.HD_PLAN_COVERAGE_DESCRIPTION), element(4));
+          add(X834Location.hd(coverage, X834Location.HD_COVERAGE_LEVEL_CODE), element(5));
+        }
+        case "LX" -> {
+          if (inCategoryBlock) {
+            enter(Loop.CATEGORY);
+            category++;
+          } else {
+            enter(Loop.PROVIDER);
+            provider++;
+          }
+        }
+        case "PLA" -> {
+          if (loop == Loop.PROVIDER) {
+            add(X834Location.provider(provider, X834Location.PROVIDER_CHANGE_ACTION), element(1));
+            add(
+                X834Location.provider(provider, X834Location.PROVIDER_CHANGE_DATE),
+                isoDate(element(3)));
+            add(X834Location.provider(provider, X834Location.PROVIDER_CHANGE_REASON), element(5));
+          }
+        }
+        case "COB" -> {
+          enter(Loop.COORDINATION);
+          coordination++;
+          add(X834Location.cob(coordination, X834Location.COB_PAYER_RESPONSIBILITY), element(1));
+          add(X834Location.cob(coordination, X834Location.COB_POLICY_IDENTIFIER), element(2));
+          add(X834Location.cob(coordination, X834Location.COB_BENEFITS_COORDINATION), element(3));
+        }
+        case "LS" -> inCategoryBlock = true;
+        case "LE" -> inCategoryBlock = false;
+        case "N1" -> {
+          if (loop == Loop.CATEGORY) {
+            add(X834Location.category(category, X834Location.CATEGORY_NAME), element(2));
+          }
+        }
+        default -> {
+          /* envelope segments never reach a member */
+        }
+      }
+    }
+
+    /**
+     * A {@code REF}. Ahead of any other segment in the member's loop it is one of the 2000
+     * identifiers — {@code 1L} the policy number, {@code 0F} the subscriber number, anything else
+     * the member identifier — which the writer emits in that order; inside a 2320 or 2750 loop it
+     * belongs to that loop; anywhere else it is a custom extension ({@code ref.<qualifier>}).
+     */
+    private void ref() {
+      String qualifier = element(1);
+      String value = element(2);
+      if (qualifier == null) {
+        return;
+      }
+      if (loop == Loop.COORDINATION) {
+        add(X834Location.cob(coordination, X834Location.COB_GROUP_NUMBER_QUALIFIER), qualifier);
+        add(X834Location.cob(coordination, X834Location.COB_GROUP_NUMBER), value);
+      } else if (loop == Loop.CATEGORY) {
+        add(X834Location.category(category, X834Location.CATEGORY_REFERENCE_QUALIFIER), qualifier);
+        add(X834Location.category(category, X834Location.CATEGORY_VALUE), value);
+      } else if (!identifiersClosed && identifier(qualifier, value)) {
+        return;
+      } else {
+        add(X834Location.REF_EXTENSION_PREFIX + qualifier, value);
+      }
+    }
+
+    /** Reads a 2000 identifier {@code REF}; {@code false} when it can only be an extension. */
+    private boolean identifier(String qualifier, String value) {
+      if (qualifier.equals("1L")) {
+        add(X834Location.POLICY_NUMBER, value);
+        return true;
+      }
+      if (qualifier.equals(SUBSCRIBER_NUMBER_QUALIFIER)) {
+        if (subscriberNumberAt < 0) {
+          subscriberNumberAt = fields.size();
+          add(X834Location.SUBSCRIBER_NUMBER, value);
+          return true;
+        }
+        if (!memberIdSeen) {
+          // Two 0F identifiers: the writer emits the member identifier before the subscriber
+          // number, so the first was the member identifier under the subscriber qualifier.
+          Field first = fields.get(subscriberNumberAt);
+          fields.set(subscriberNumberAt, field(X834Location.MEMBER_ID, first.value()));
+          add(X834Location.MEMBER_ID_QUALIFIER, qualifier);
+          memberIdSeen = true;
+          subscriberNumberAt = fields.size();
+          add(X834Location.SUBSCRIBER_NUMBER, value);
+          return true;
+        }
+        return false;
+      }
+      if (memberIdSeen || subscriberNumberAt >= 0) {
+        return false;
+      }
+      add(X834Location.MEMBER_ID, value);
+      add(X834Location.MEMBER_ID_QUALIFIER, qualifier);
+      memberIdSeen = true;
+      return true;
+    }
+
+    private void dtp() {
+      String qualifier = element(1);
+      String date = elementIs(2, "D8") ? isoDate(element(3)) : element(3);
+      if (qualifier == null) {
+        return;
+      }
+      switch (loop) {
+        case MEMBER -> {
+          identifiersClosed = true;
+          switch (qualifier) {
+            case "300" -> add(X834Location.ENROLLMENT_DATE, date);
+            case "356" -> add(X834Location.COVERAGE_START_DATE, date);
+            case "357" -> add(X834Location.COVERAGE_END_DATE, date);
+            default -> {
+              /* a member-level date the vocabulary has no location for */
+            }
+          }
+        }
+        case DISABILITY -> {
+          if (qualifier.equals("360")) {
+            add(X834Location.disability(disability, X834Location.DISABILITY_START_DATE), date);
+          } else if (qualifier.equals("361")) {
+            add(X834Location.disability(disability, X834Location.DISABILITY_END_DATE), date);
+          }
+        }
+        case COVERAGE -> {
+          if (qualifier.equals("348")) {
+            add(X834Location.hd(coverage, X834Location.HD_BENEFIT_BEGIN_DATE), date);
+          } else if (qualifier.equals("349")) {
+            add(X834Location.hd(coverage, X834Location.HD_BENEFIT_END_DATE), date);
+          }
+        }
+        case COORDINATION -> {
+          if (qualifier.equals("344")) {
+            add(X834Location.cob(coordination, X834Location.COB_BEGIN_DATE), date);
+          } else if (qualifier.equals("345")) {
+            add(X834Location.cob(coordination, X834Location.COB_END_DATE), date);
+          }
+        }
+        case CATEGORY -> {
+          add(X834Location.category(category, X834Location.CATEGORY_DATE_QUALIFIER), qualifier);
+          add(X834Location.category(category, X834Location.CATEGORY_DATE), date);
+        }
+        default -> {
+          /* 2100 and 2310 loops carry no DTP the vocabulary maps */
+        }
+      }
+    }
+
+    /**
+     * An {@code NM1}: inside a 2310 loop it names the provider and inside a 2320 loop the other
+     * plan (2330); otherwise NM101 says which 2100 loop it opens.
+     */
+    private void nm1() {
+      if (loop == Loop.PROVIDER) {
+        add(X834Location.provider(provider, X834Location.PROVIDER_LAST_NAME), element(3));
+        add(X834Location.provider(provider, X834Location.PROVIDER_FIRST_NAME), element(4));
+        add(X834Location.provider(provider, X834Location.PROVIDER_MIDDLE_NAME), element(5));
+        add(X834Location.provider(provider, X834Location.PROVIDER_ID_QUALIFIER), element(8));
+        add(X834Location.provider(provider, X834Location.PROVIDER_ID), element(9));
+      } else if (loop == Loop.COORDINATION) {
+        add(X834Location.cob(coordination, X834Location.COB_RELATED_ENTITY_NAME), element(3));
+      } else if (elementIs(1, "IL") || elementIs(1, "74")) {
+        enter(Loop.NAME);
+        add(X834Location.LAST_NAME, element(3));
+        add(X834Location.FIRST_NAME, element(4));
+        add(X834Location.MIDDLE_NAME, element(5));
+        add(X834Location.NAME_ID_QUALIFIER, element(8));
+        add(X834Location.NAME_ID, element(9));
+      } else if (elementIs(1, "31")) {
+        enter(Loop.MAILING);
+      } else {
+        enter(Loop.OTHER_NAME);
+      }
+    }
+
+    private void enter(Loop next) {
+      loop = next;
+      identifiersClosed = true;
+    }
+
+    private void add(String location, String value) {
+      if (value != null) {
+        fields.add(field(location, value));
+      }
+    }
+
+    private Field field(String location, String value) {
+      return new Field(Location.of(level, location), value);
+    }
+  }
+
+  /** A {@code CCYYMMDD} date as the ISO {@code yyyy-MM-dd} the generator reads; else unchanged. */
+  private static String isoDate(String d8) {
+    if (d8 == null || d8.length() != 8 || !d8.chars().allMatch(Character::isDigit)) {
+      return d8;
+    }
+    return d8.substring(0, 4) + "-" + d8.substring(4, 6) + "-" + d8.substring(6);
+  }
+
+  /** The GS date and {@code HHMM[SS]} time as an ISO date, with the time only when not midnight. */
+  private static String isoDateTime(String d8, String time) {
+    String date = isoDate(d8);
+    if (date == null
+        || date.equals(d8)
+        || time == null
+        || time.length() < 4
+        || !time.chars().allMatch(Character::isDigit)
+        || time.startsWith("0000")) {
+      return date;
+    }
+    return date + "T" + time.substring(0, 2) + ":" + time.substring(2, 4);
+  }
+
+  private String element(int i) {
+    return tokenizer.element(i);
+  }
+
+  private boolean elementIs(int i, String value) {
+    return tokenizer.elementEquals(i, value);
+  }
+}
@@ -10,6 +10,8 @@
  * The String-seam entry point: {@link com.fastChickensHR.edi.x834.generate.X834FileGenerator}
  * builds an 834 from a flat key/value map whose keys are the frozen {@link
  * com.fastChickensHR.edi.x834.generate.X834Location} literals. Structured callers drive {@link
- * com.fastChickensHR.edi.x834.X834Document} directly instead.
+ * com.fastChickensHR.edi.x834.X834Document} directly instead. {@link
+ * com.fastChickensHR.edi.x834.generate.X834FileParser} is the inbound dual, reading an 834 back
+ * into the same keys.
  */
 package com.fastChickensHR.edi.x834.generate;
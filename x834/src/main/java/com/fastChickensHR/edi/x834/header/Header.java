@@ -66,9 +66,29 @@ public class Header {
     List<Segment> segments = new ArrayList<>();
     segments.add(new InterchangeControlHeader.Builder(context).build());
     segments.add(new FunctionalGroupHeader.Builder(context).build());
+    segments.addAll(generateTransactionSetSegments(context.getTransactionSetControlNumber()));
+    return segments;
+  }
+
+  /**
+   * Generates the transaction set's own header segments — ST through the payer {@code N1}, without
+   * the ISA and GS that open the envelope around it — for an interchange that batches several
+   * transaction sets into one envelope.
+   *
+   * @param transactionSetControlNumber the set's control number (ST02), unique within its group
+   * @return List of segments in the correct order
+   * @throws ValidationException if the transaction set identifier code is missing, or a header
+   *     segment builder rejects its inputs
+   */
+  public List<Segment> generateTransactionSetSegments(String transactionSetControlNumber)
+      throws ValidationException {
+    validate();
+
+    List<Segment> segments = new ArrayList<>();
     segments.add(
         new TransactionSetHeader.Builder(context)
             .setTransactionSetIdentifierCode(transactionSetIdentifierCode)
+            .setTransactionSetControlNumber(transactionSetControlNumber)
             .build());
     segments.add(
         new BeginningSegment.Builder(context)
@@ -83,6 +103,34 @@ public class Header {
     return segments;
   }
 
+  /**
+   * Generates the interchange control header (ISA) {@code context} describes, for an interchange
+   * assembled from several transaction sets.
+   *
+   * @param context the interchange's context
+   * @return the ISA segment
+   * @throws ValidationException if the context's values do not make a valid ISA
+   */
+  public static Segment interchangeControlHeader(X834Context context) throws ValidationException {
+    return new InterchangeControlHeader.Builder(context).build();
+  }
+
+  /**
+   * Generates a functional group header (GS) from {@code context}, numbered {@code
+   * groupControlNumber} rather than by the context, for an interchange holding several groups.
+   *
+   * @param context the interchange's context
+   * @param groupControlNumber the group's control number (GS06)
+   * @return the GS segment
+   * @throws ValidationException if the values do not make a valid GS
+   */
+  public static Segment functionalGroupHeader(X834Context context, String groupControlNumber)
+      throws ValidationException {
+    return new FunctionalGroupHeader.Builder(context)
+        .setGroupControlNumber(groupControlNumber)
+        .build();
+  }
+
   private Payer.Builder createDefaultPayerBuilder() {
     Payer.Builder builder = new Payer.Builder();
     if (payerName != null) {
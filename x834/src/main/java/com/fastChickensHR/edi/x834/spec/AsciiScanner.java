@@ -0,0 +1,20 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.spec;
+
+/** How {@link AsciiSet#firstOutside} walks a value; one is chosen for the JVM at startup. */
+interface AsciiScanner {
+  /** The most sixteen-bit lanes a vector scan may use, and so the length of the words table. */
+  int MAX_LANES = 32;
+
+  /**
+   * The index of the first character of {@code value}, at or after {@code from}, that {@code set}
+   * does not contain, or -1. The arguments are already checked.
+   */
+  int firstOutside(CharSequence value, int from, AsciiSet set);
+}
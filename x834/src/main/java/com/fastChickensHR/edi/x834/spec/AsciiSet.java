@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.spec;
+
+/**
+ * An immutable set of ASCII characters, held as a 128-bit table, that finds the first character of
+ * a value outside it. {@link CharacterClass} keeps its members in one, so checking a value against
+ * a character set is one scan of it.
+ *
+ * <p>The scan is picked once, when this class is initialized. If the JVM was started with {@code
+ * --add-modules jdk.incubator.vector}, values long enough to fill a vector are checked a vector of
+ * characters at a time; otherwise, and for short values, each character costs one bit test. Either
+ * way the answer is the same.
+ */
+final class AsciiSet {
+  private static final String VECTOR_MODULE = "jdk.incubator.vector";
+  private static final String VECTOR_SCANNER =
+      "com.fastChickensHR.edi.x834.spec.VectorAsciiScanner";
+
+  /** The scan every set uses, chosen once for the JVM. */
+  private static final AsciiScanner SCANNER = select();
+
+  /** Bit {@code c} set: ASCII {@code c} is a member (0-63). */
+  private final long low;
+
+  /** Bit {@code c - 64} set: ASCII {@code c} is a member. */
+  private final long high;
+
+  /**
+   * The table as sixteen-bit words, word {@code k} holding characters {@code 16k} to {@code 16k +
+   * 15}, repeated to fill the widest vector a scan may use.
+   */
+  private final short[] words;
+
+  private AsciiSet(long low, long high) {
+    this.low = low;
+    this.high = high;
+    this.words = new short[AsciiScanner.MAX_LANES];
+    for (int k = 0; k < words.length; k++) {
+      int word = k % 8;
+      long half = word < 4 ? low : high;
+      words[k] = (short) (half >>> (16 * (word % 4)));
+    }
+  }
+
+  /**
+   * The set of the characters of {@code members}; a repeated character counts once.
+   *
+   * @param members the characters to include
+   * @return the set of those characters
+   * @throws IllegalArgumentException if {@code members} is null or holds a character outside 7-bit
+   *     ASCII
+   */
+  static AsciiSet of(CharSequence members) {
+    if (members == null) {
+      throw new IllegalArgumentException("Members cannot be null");
+    }
+    long low = 0;
+    long high = 0;
+    for (int i = 0; i < members.length(); i++) {
+      char c = members.charAt(i);
+      if (c >= 128) {
+        throw new IllegalArgumentException(
+            "Members must be ASCII, got '%c' at position %d".formatted(c, i));
+      }
+      if (c < 64) {
+        low |= 1L << c;
+      } else {
+        high |= 1L << c;
+      }
+    }
+    return new AsciiSet(low, high);
+  }
+
+  /**
+   * Whether this set contains {@code c}.
+   *
+   * @param c the character to test
+   * @return true when {@code c} is a member
+   */
+  boolean contains(char c) {
+    return c < 128 && ((c < 64 ? low : high) >>> c & 1L) != 0;
+  }
+
+  /**
+   * The index of the first character of {@code value}, at or after {@code from}, that this set does
+   * not contain.
+   *
+   * @param value the text to scan
+   * @param from the index to start at
+   * @return the index of the first non-member, or -1 when every character from {@code from} on is a
+   *     member
+   * @throws IllegalArgumentException if {@code value} is null
+   * @throws IndexOutOfBoundsException if {@code from} is negative or beyond {@code value}'s length
+   */
+  int firstOutside(CharSequence value, int from) {
+    if (value == null) {
+      throw new IllegalArgumentException("Value cannot be null");
+    }
+    if (from < 0 || from > value.length()) {
+      throw new IndexOutOfBoundsException(
+          "from %d is outside a value of length %d".formatted(from, value.length()));
+    }
+    return SCANNER.firstOutside(value, from, this);
+  }
+
+  long low() {
+    return low;
+  }
+
+  long high() {
+    return high;
+  }
+
+  short[] words() {
+    return words;
+  }
+
+  /** The scan in use, for tests. */
+  static AsciiScanner scanner() {
+    return SCANNER;
+  }
+
+  /**
+   * The vector scan when the incubating Vector API is in the boot layer and fits this CPU, else the
+   * scalar one. The vector class is only loaded by name, so nothing links against the module when
+   * it is absent.
+   */
+  private static AsciiScanner select() {
+    if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+      return new ScalarAsciiScanner();
+    }
+    try {
+      return Class.forName(VECTOR_SCANNER)
+          .asSubclass(AsciiScanner.class)
+          .getDeclaredConstructor()
+          .newInstance();
+    } catch (ReflectiveOperationException | LinkageError e) {
+      return new ScalarAsciiScanner();
+    }
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof AsciiSet other && low == other.low && high == other.high;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(low) * 31 + Long.hashCode(high);
+  }
+}
@@ -7,7 +7,6 @@
  */
 package com.fastChickensHR.edi.x834.spec;
 
-import java.util.BitSet;
 import java.util.OptionalInt;
 
 /**
@@ -48,12 +47,11 @@ public enum CharacterClass {
   private static final String EXTENDED_ONLY_SPECIALS = "%~@[]_{}\\|<>^`#$";
 
   private final String characters;
-  private final BitSet members;
+  private final AsciiSet members;
 
   CharacterClass(String characters) {
     this.characters = characters;
-    this.members = new BitSet(128);
-    characters.chars().forEach(members::set);
+    this.members = AsciiSet.of(characters);
   }
 
   private static String basicMembers() {
@@ -89,6 +87,11 @@ public enum CharacterClass {
     return characters;
   }
 
+  /** This set's members as the table its scans run over. */
+  AsciiSet members() {
+    return members;
+  }
+
   /**
    * Whether this set contains {@code candidate}.
    *
@@ -96,7 +99,7 @@ public enum CharacterClass {
    * @return true when the character is a member of this set
    */
   public boolean permits(char candidate) {
-    return candidate < 128 && members.get(candidate);
+    return members.contains(candidate);
   }
 
   /**
@@ -121,12 +124,8 @@ public enum CharacterClass {
     if (value == null) {
       return OptionalInt.empty();
     }
-    for (int i = 0; i < value.length(); i++) {
-      if (!permits(value.charAt(i))) {
-        return OptionalInt.of(i);
-      }
-    }
-    return OptionalInt.empty();
+    int first = members.firstOutside(value, 0);
+    return first < 0 ? OptionalInt.empty() : OptionalInt.of(first);
   }
 
   /**
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.spec;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * An {@link ElementSpec}'s code list, immutable and in the standard's order, that also answers
+ * whether it holds a code without allocating. Most X12 codes are one to three ASCII characters:
+ * each of those is packed with its length into an {@code int}, and the packed codes are kept sorted
+ * for a binary search. The few longer codes sit in a hash set.
+ *
+ * <p>As a {@link List} it equals, and hashes like, any list of the same {@link CodeValue}s.
+ */
+final class CodeTable extends AbstractList<CodeValue> implements RandomAccess {
+  /** The longest code that is packed into an {@code int}. */
+  private static final int PACKED_LENGTH = 3;
+
+  private final List<CodeValue> codes;
+  private final int[] packed;
+  private final Set<String> unpacked;
+
+  private CodeTable(List<CodeValue> codes) {
+    this.codes = codes;
+    int[] keys = new int[codes.size()];
+    int count = 0;
+    Set<String> rest = new HashSet<>();
+    for (CodeValue value : codes) {
+      int key = pack(value.code());
+      if (key >= 0) {
+        keys[count++] = key;
+      } else {
+        rest.add(value.code());
+      }
+    }
+    this.packed = Arrays.copyOf(keys, count);
+    Arrays.sort(packed);
+    this.unpacked = Set.copyOf(rest);
+  }
+
+  /**
+   * Copies {@code codes} into a table, rejecting a null list or entry as {@link List#copyOf} does.
+   */
+  static CodeTable of(List<CodeValue> codes) {
+    return codes instanceof CodeTable table ? table : new CodeTable(List.copyOf(codes));
+  }
+
+  /** Whether {@code code} is verbatim one of the codes; {@code null} never is. */
+  boolean hasCode(String code) {
+    if (code == null) {
+      return false;
+    }
+    int key = pack(code);
+    return key >= 0 ? Arrays.binarySearch(packed, key) >= 0 : unpacked.contains(code);
+  }
+
+  /**
+   * {@code code}'s length followed by its characters at seven bits each, or -1 when it is empty,
+   * longer than {@value #PACKED_LENGTH} characters or not ASCII.
+   */
+  private static int pack(String code) {
+    int length = code.length();
+    if (length == 0 || length > PACKED_LENGTH) {
+      return -1;
+    }
+    int key = length;
+    for (int i = 0; i < length; i++) {
+      char c = code.charAt(i);
+      if (c >= 0x80) {
+        return -1;
+      }
+      key = key << 7 | c;
+    }
+    return key;
+  }
+
+  @Override
+  public CodeValue get(int index) {
+    return codes.get(index);
+  }
+
+  @Override
+  public int size() {
+    return codes.size();
+  }
+}
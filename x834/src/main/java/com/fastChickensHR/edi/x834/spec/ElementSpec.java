@@ -59,7 +59,10 @@ public record ElementSpec(
     int maxLength,
     List<CodeValue> codes) {
 
-  /** Validates the spec parts and defensively copies the code list. */
+  /**
+   * Validates the spec parts and defensively copies the code list into a table that answers {@link
+   * #permitsCode(String)}.
+   */
   public ElementSpec {
     if (position == null) {
       throw new IllegalArgumentException("Position cannot be null");
@@ -82,7 +85,7 @@ public record ElementSpec(
               + "/"
               + maxLength);
     }
-    codes = List.copyOf(codes);
+    codes = CodeTable.of(codes);
     if (!codes.isEmpty() && type != DataType.ID) {
       throw new IllegalArgumentException(
           "Only an ID element carries a code list, but " + position + " is " + type);
@@ -141,6 +144,39 @@ public record ElementSpec(
    *     answering "not permitted" would hide it
    */
   public SubsetResult permits(Collection<String> proposed) {
+    requireCoded();
+    if (proposed == null) {
+      throw new IllegalArgumentException("Proposed codes cannot be null");
+    }
+    List<String> unknown = new ArrayList<>();
+    for (String code : proposed) {
+      if (!permitsCode(code)) {
+        unknown.add(code == null ? "<null>" : code);
+      }
+    }
+    return new SubsetResult(position, unknown);
+  }
+
+  /**
+   * Whether the single value {@code code} is one of the codes permitted at this position — the
+   * check a validator runs on every coded element it renders. It answers from a table built with
+   * the spec, by a binary search over packed codes for the usual one-to-three-character code, and
+   * allocates nothing.
+   *
+   * <p>Comparison is verbatim and case-sensitive, as for {@link #permits(Collection)}; {@code null}
+   * and blank values are never codes.
+   *
+   * @param code the value to check
+   * @return true when {@code code} is a permitted code
+   * @throws IllegalStateException if this position is not coded, as for {@link
+   *     #permits(Collection)}
+   */
+  public boolean permitsCode(String code) {
+    requireCoded();
+    return ((CodeTable) codes).hasCode(code);
+  }
+
+  private void requireCoded() {
     if (!isCoded()) {
       throw new IllegalStateException(
           type == DataType.ID
@@ -157,16 +193,5 @@ public record ElementSpec(
                   + maxLength
                   + "), so it has no code list to check against");
     }
-    if (proposed == null) {
-      throw new IllegalArgumentException("Proposed codes cannot be null");
-    }
-    Set<String> permitted = codeSet();
-    List<String> unknown = new ArrayList<>();
-    for (String code : proposed) {
-      if (code == null || code.isBlank() || !permitted.contains(code)) {
-        unknown.add(code == null ? "<null>" : code);
-      }
-    }
-    return new SubsetResult(position, unknown);
   }
 }
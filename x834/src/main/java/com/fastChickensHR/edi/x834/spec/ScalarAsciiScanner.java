@@ -0,0 +1,31 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.spec;
+
+/**
+ * One bit test per character: the half of the table is picked by {@code c < 64}, and the shift
+ * takes {@code c}'s low six bits.
+ */
+final class ScalarAsciiScanner implements AsciiScanner {
+
+  @Override
+  public int firstOutside(CharSequence value, int from, AsciiSet set) {
+    return scan(value, from, set.low(), set.high());
+  }
+
+  static int scan(CharSequence value, int from, long low, long high) {
+    int length = value.length();
+    for (int i = from; i < length; i++) {
+      char c = value.charAt(i);
+      if (c >= 128 || ((c < 64 ? low : high) >>> c & 1L) == 0) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
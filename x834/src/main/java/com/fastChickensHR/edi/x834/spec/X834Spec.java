@@ -48,10 +48,12 @@ import com.fastChickensHR.edi.x834.loop2000.data.StudentStatusCode;
 import com.fastChickensHR.edi.x834.util.EdiCodeEnum;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 /**
  * The 834's published element metadata, addressable by {@link ElementPosition} — what the standard
@@ -110,6 +112,13 @@ public final class X834Spec {
 
   private static final Map<ElementPosition, ElementSpec> TABLE = table();
 
+  /**
+   * {@link #atSegment(String, int)}'s answers, resolved once from {@link #TABLE}: per segment
+   * identifier, the answer for each ordinal, indexed by the ordinal itself; {@code null} where no
+   * spec is agreed.
+   */
+  private static final Map<String, ElementSpec[]> BY_SEGMENT = bySegment();
+
   private X834Spec() {}
 
   /**
@@ -155,19 +164,42 @@ public final class X834Spec {
    *     disagree
    */
   public static Optional<ElementSpec> atSegment(String segment, int ordinal) {
-    List<ElementSpec> candidates =
-        TABLE.values().stream()
-            .filter(
-                spec ->
-                    spec.position().segment().equals(segment)
-                        && spec.position().ordinal() == ordinal)
-            .toList();
-    if (candidates.isEmpty()) {
+    ElementSpec[] answers = segment == null ? null : BY_SEGMENT.get(segment);
+    if (answers == null || ordinal < 0 || ordinal >= answers.length) {
       return Optional.empty();
     }
+    return Optional.ofNullable(answers[ordinal]);
+  }
+
+  /**
+   * Resolves every {@link #atSegment(String, int)} answer up front, so the renderer's per-element
+   * lookup is two constant-time reads rather than a scan of the table. Candidates for a slot are
+   * gathered in table order, so the answer is the first of them when they all agree.
+   */
+  private static Map<String, ElementSpec[]> bySegment() {
+    Map<String, TreeMap<Integer, List<ElementSpec>>> candidates = new HashMap<>();
+    for (ElementSpec spec : TABLE.values()) {
+      candidates
+          .computeIfAbsent(spec.position().segment(), segment -> new TreeMap<>())
+          .computeIfAbsent(spec.position().ordinal(), ordinal -> new ArrayList<>())
+          .add(spec);
+    }
+
+    Map<String, ElementSpec[]> index = new HashMap<>();
+    candidates.forEach(
+        (segment, byOrdinal) -> {
+          ElementSpec[] answers = new ElementSpec[byOrdinal.lastKey() + 1];
+          byOrdinal.forEach((ordinal, specs) -> answers[ordinal] = agreed(specs));
+          index.put(segment, answers);
+        });
+    return Collections.unmodifiableMap(index);
+  }
+
+  /** The first candidate when every candidate describes the same element, else {@code null}. */
+  private static ElementSpec agreed(List<ElementSpec> candidates) {
     ElementSpec first = candidates.getFirst();
     boolean agree = candidates.stream().allMatch(spec -> describes(spec, first));
-    return agree ? Optional.of(first) : Optional.empty();
+    return agree ? first : null;
   }
 
   /**
@@ -17,7 +17,8 @@
  * {@link com.fastChickensHR.edi.x834.spec.DataType}, length bounds, permitted codes). {@link
  * com.fastChickensHR.edi.x834.spec.ElementSpec#permits} answers the one question a consumer
  * narrowing the standard needs answered: is this proposed list of codes really a subset of what the
- * position permits?
+ * position permits? {@link com.fastChickensHR.edi.x834.spec.ElementSpec#permitsCode} answers the
+ * same question for one value without allocating, as the renderer asks it for every coded element.
  *
  * <p>Three properties make this package safe to build a ratchet on:
  *
@@ -21,7 +21,8 @@ import lombok.experimental.Accessors;
 @Getter
 class InterchangeControlTrailer extends IEASegment {
   /**
-   * Default IEA01 — number of functional groups in the interchange; always {@code "1"} for an 834.
+   * Default IEA01 — number of functional groups in the interchange: {@code "1"}, as for a single
+   * 834 document.
    */
   public static final String DEFAULT_NUMBER_OF_INCLUDED_GROUPS = "1";
 
@@ -91,6 +91,57 @@ public class Trailer {
     return segments;
   }
 
+  /**
+   * Generates a transaction set trailer (SE) on its own, for a transaction set batched into a
+   * larger interchange.
+   *
+   * @param segmentCount the segments in the transaction set, ST and SE included (SE01)
+   * @param transactionSetControlNumber the control number of the set's ST (SE02)
+   * @return the SE segment
+   * @throws ValidationException if either value is blank
+   */
+  public static Segment transactionSetTrailer(long segmentCount, String transactionSetControlNumber)
+      throws ValidationException {
+    return TransactionSetTrailer.builder()
+        .setTransactionSegmentCount(String.valueOf(segmentCount))
+        .setSetControlNumber(transactionSetControlNumber)
+        .build();
+  }
+
+  /**
+   * Generates a functional group trailer (GE) on its own, for an interchange holding several
+   * groups.
+   *
+   * @param transactionSetCount the transaction sets in the group (GE01)
+   * @param groupControlNumber the control number of the group's GS (GE02)
+   * @return the GE segment
+   * @throws ValidationException if either value is blank
+   */
+  public static Segment functionalGroupTrailer(int transactionSetCount, String groupControlNumber)
+      throws ValidationException {
+    return FunctionalGroupTrailer.builder()
+        .setNumberOfTransactionSets(String.valueOf(transactionSetCount))
+        .setGroupControlNumber(groupControlNumber)
+        .build();
+  }
+
+  /**
+   * Generates an interchange control trailer (IEA) on its own, for an interchange holding several
+   * groups.
+   *
+   * @param groupCount the functional groups in the interchange (IEA01)
+   * @param interchangeControlNumber the control number of the interchange's ISA (IEA02)
+   * @return the IEA segment
+   * @throws ValidationException if either value is blank
+   */
+  public static Segment interchangeControlTrailer(int groupCount, String interchangeControlNumber)
+      throws ValidationException {
+    return InterchangeControlTrailer.builder()
+        .setNumberOfIncludedGroups(String.valueOf(groupCount))
+        .setInterchangeControlNumber(interchangeControlNumber)
+        .build();
+  }
+
   /** Builder for the Trailer class */
   public static class Builder {
     /**
@@ -99,7 +150,10 @@ public class Trailer {
      */
     private static final String DEFAULT_NUMBER_OF_INCLUDED_SEGMENTS = "10";
 
-    /** Default GE01 — number of transaction sets in the functional group. */
+    /**
+     * Default GE01 — number of transaction sets in the functional group: one, as a single {@code
+     * X834Document} writes. {@code X834Interchange} counts the sets of a batched group instead.
+     */
     private static final String DEFAULT_NUMBER_OF_TRANSACTION_SETS = "1";
 
     @Getter private final X834Context context;
@@ -114,7 +168,7 @@ public class Trailer {
 
     /**
      * Creates a new Builder with the specified context. Control numbers (SE02, GE02, IEA02) are
-     * read from context automatically; GE01 and IEA01 are always 1 for an 834 document.
+     * read from context automatically; GE01 and IEA01 are 1, as for a single 834 document.
      *
      * @param context The 834 context to use for this trailer
      * @throws IllegalArgumentException if context is null
@@ -7,8 +7,9 @@
  */
 package com.fastChickensHR.edi.x834.util;
 
-import java.util.Collections;
+import java.lang.reflect.Array;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 
 /**
@@ -35,13 +36,49 @@ import java.util.Map;
  *       can never displace a constant's own name, code or description.
  * </ol>
  *
+ * <p>{@link #fromString} allocates nothing on a hit. A raw X12 code, spelled exactly as its
+ * constant carries it — the common case — is found by one hash lookup on the string as given. Any
+ * other ASCII input is folded a character at a time while it is hashed and compared against the
+ * normalized keys in place, with no normalized copy made. Only input containing non-ASCII
+ * characters is normalized into a new string first.
+ *
  * @param <T> the enum type this lookup resolves, which must carry X12 codes via {@link EdiCodeEnum}
  */
 public final class EdiEnumLookup<T extends Enum<T> & EdiCodeEnum> {
 
-  private final Class<T> enumClass;
+  /** What {@link #foldedHash} returns for input it cannot fold, which is normalized instead. */
+  private static final int NOT_ASCII = Integer.MIN_VALUE;
+
+  /** Marks the characters normalization strips from inside a key. */
+  private static final char SKIP = '\uffff';
+
+  /** Each ASCII character as normalization folds it: letters lowered, separators {@link #SKIP}. */
+  private static final char[] FOLD = new char[0x80];
+
+  static {
+    for (char c = 0; c < FOLD.length; c++) {
+      FOLD[c] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+    FOLD['_'] = SKIP;
+    FOLD[' '] = SKIP;
+    FOLD['-'] = SKIP;
+  }
+
   private final String enumName;
-  private final Map<String, T> lookupMap;
+
+  /** Each code, exactly as the constants carry it, to the constant its normalized key holds. */
+  private final Map<String, T> codes;
+
+  /** The longest code's length; longer input cannot be one and skips {@link #codes}. */
+  private final int longestCode;
+
+  /**
+   * The normalized keys in an open-addressed, linearly probed table whose size is a power of two,
+   * at most half full; {@code values[i]} is the constant {@code keys[i]} resolves to.
+   */
+  private final String[] keys;
+
+  private final T[] values;
 
   /**
    * Creates an EdiEnumLookup for the specified enum class with standard and additional mappings.
@@ -53,7 +90,6 @@ public final class EdiEnumLookup<T extends Enum<T> & EdiCodeEnum> {
    *     code would resolve to a constant carrying a different code
    */
   public EdiEnumLookup(Class<T> enumClass, String enumName, Map<String, T> additionalMappings) {
-    this.enumClass = enumClass;
     this.enumName = enumName;
 
     Map<String, T> map = new HashMap<>();
@@ -84,7 +120,36 @@ public final class EdiEnumLookup<T extends Enum<T> & EdiCodeEnum> {
       additionalMappings.forEach((key, value) -> map.putIfAbsent(normalizeText(key), value));
     }
 
-    this.lookupMap = Collections.unmodifiableMap(map);
+    int capacity = Integer.highestOneBit(Math.max(1, map.size()) * 4 - 1);
+    this.keys = new String[capacity];
+    this.values = newArray(enumClass, capacity);
+    map.forEach(
+        (key, value) -> {
+          int slot = spread(key.hashCode()) & (capacity - 1);
+          while (keys[slot] != null) {
+            slot = (slot + 1) & (capacity - 1);
+          }
+          keys[slot] = key;
+          values[slot] = value;
+        });
+
+    Map<String, T> exact = new HashMap<>();
+    int longest = 0;
+    for (T constant : enumClass.getEnumConstants()) {
+      String code = constant.getCode();
+      // A blank code stays rejected as blank input.
+      if (!code.trim().isEmpty()) {
+        exact.put(code, map.get(normalizeText(code)));
+        longest = Math.max(longest, code.length());
+      }
+    }
+    this.codes = Map.copyOf(exact);
+    this.longestCode = longest;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T[] newArray(Class<T> type, int length) {
+    return (T[]) Array.newInstance(type, length);
   }
 
   private String shadowed(T constant, String kind, String raw, String normalized, T existing) {
@@ -121,24 +186,100 @@ public final class EdiEnumLookup<T extends Enum<T> & EdiCodeEnum> {
    * @throws IllegalArgumentException if no match is found
    */
   public T fromString(String input) {
-    if (input == null || input.trim().isEmpty()) {
+    if (input == null) {
       throw new IllegalArgumentException("Input cannot be null or empty");
     }
+    T result = input.length() <= longestCode ? codes.get(input) : null;
+    if (result != null) {
+      return result;
+    }
 
-    String normalized = normalizeText(input);
-    T result = this.lookupMap.get(normalized);
+    // The bounds String.trim() would cut the input to.
+    int start = 0;
+    int end = input.length();
+    while (start < end && input.charAt(start) <= ' ') {
+      start++;
+    }
+    while (end > start && input.charAt(end - 1) <= ' ') {
+      end--;
+    }
+    if (start == end) {
+      throw new IllegalArgumentException("Input cannot be null or empty");
+    }
 
+    int hash = foldedHash(input, start, end);
+    if (hash != NOT_ASCII) {
+      result = find(hash, input, start, end);
+    } else {
+      String normalized = normalizeText(input);
+      result = find(normalized.hashCode(), normalized, 0, normalized.length());
+    }
     if (result == null) {
       throw new IllegalArgumentException("Invalid " + enumName + " value: " + input);
     }
     return result;
   }
 
+  /**
+   * The {@link String#hashCode} of {@code text[start, end)} folded — ASCII letters lowered, {@code
+   * _}, space and {@code -} skipped — which is the hash of the normalized key it would match; or
+   * {@link #NOT_ASCII} if it holds a character the fold does not cover.
+   */
+  private static int foldedHash(String text, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      char c = text.charAt(i);
+      if (c >= FOLD.length) {
+        return NOT_ASCII;
+      }
+      char folded = FOLD[c];
+      if (folded != SKIP) {
+        hash = 31 * hash + folded;
+      }
+    }
+    // A real hash that happens to equal the marker just takes the slow path.
+    return hash;
+  }
+
+  /** The constant whose normalized key {@code text[start, end)} folds to, or {@code null}. */
+  private T find(int hash, String text, int start, int end) {
+    int mask = keys.length - 1;
+    for (int slot = spread(hash) & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+      if (matches(keys[slot], text, start, end)) {
+        return values[slot];
+      }
+    }
+    return null;
+  }
+
+  private static boolean matches(String key, String text, int start, int end) {
+    int k = 0;
+    for (int i = start; i < end; i++) {
+      char folded = text.charAt(i);
+      if (folded < FOLD.length) {
+        folded = FOLD[folded];
+        if (folded == SKIP) {
+          continue;
+        }
+      }
+      if (k == key.length() || key.charAt(k++) != folded) {
+        return false;
+      }
+    }
+    return k == key.length();
+  }
+
+  /** Mixes a key's high bits into the low ones the table is indexed by. */
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
   /**
    * Normalizes text for comparison by trimming whitespace, converting to lowercase, and removing
-   * special characters.
+   * special characters. Registered keys are normalized this way; {@link #find} applies the same
+   * folding to ASCII input without building the string.
    */
   private static String normalizeText(String text) {
-    return text.trim().toLowerCase().replace("_", "").replace(" ", "").replace("-", "");
+    return text.trim().toLowerCase(Locale.ROOT).replace("_", "").replace(" ", "").replace("-", "");
   }
 }
@@ -11,6 +11,8 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import com.fastChickensHR.edi.x834.constants.ElementSeparator;
 import com.fastChickensHR.edi.x834.constants.SegmentTerminator;
+import java.io.IOException;
+import java.io.StringWriter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -119,4 +121,33 @@ class SegmentTest {
 
     assertThrows(IllegalStateException.class, segment::render);
   }
+
+  @Test
+  void rendersIntoACallersBufferExactlyWhatRenderReturns() throws IOException {
+    TestSegment first = new TestSegment("TST", new String[] {"E1", null, "E3", null});
+    TestSegment second = new TestSegment("TS2", new String[] {null});
+    first.setContext(context);
+    second.setContext(context);
+    StringBuilder buffer = new StringBuilder("ISA~\n");
+    StringWriter sink = new StringWriter();
+
+    first.render(buffer);
+    second.render(buffer);
+    first.render(sink);
+
+    assertEquals("ISA~\n" + first.render() + second.render(), buffer.toString());
+    assertEquals(first.render(), sink.toString());
+  }
+
+  @Test
+  void aSegmentThatCannotRenderWritesNothingToTheSink() {
+    TestSegment empty = new TestSegment("TST", new String[] {});
+    TestSegment contextless = new TestSegment("TST", new String[] {"E1"});
+    empty.setContext(context);
+    StringBuilder buffer = new StringBuilder();
+
+    assertThrows(IllegalStateException.class, () -> empty.render(buffer));
+    assertThrows(IllegalStateException.class, () -> contextless.render(buffer));
+    assertEquals("", buffer.toString());
+  }
 }
@@ -0,0 +1,193 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fastChickensHR.edi.x834.GenerationError.Phase;
+import com.fastChickensHR.edi.x834.spec.CharacterClass;
+import com.fastChickensHR.edi.x834.spec.ElementSpec;
+import com.fastChickensHR.edi.x834.spec.X834Spec;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class SegmentValidatorTest {
+
+  /** A segment carrying arbitrary element values, so any value can be put at any position. */
+  private static Segment segment(String identifier, String... values) {
+    return new Segment() {
+      @Override
+      public String getSegmentIdentifier() {
+        return identifier;
+      }
+
+      @Override
+      public String[] getElementValues() {
+        return values;
+      }
+    };
+  }
+
+  @Test
+  void reportsExactlyWhatTheSeparateDelimiterAndSpecPassesReported() {
+    // The fused pass must be a pure speed-up: same errors, same messages, same order as walking the
+    // segments once for delimiters and again for the spec. Random values drawn from clean letters,
+    // every delimiter, out-of-set and non-ASCII characters pin that across many shapes.
+    String pool = "AAAAbbbb0123 *~:>\n\r^%@éÅ\t";
+    Random random = new Random(834);
+    for (CharacterClass characterClass : CharacterClass.values()) {
+      X834Context context = new X834Context().setCharacterClass(characterClass);
+      for (int round = 0; round < 200; round++) {
+        List<Segment> segments = new ArrayList<>();
+        for (String identifier : List.of("NM1", "DMG", "INS", "ZZZ")) {
+          String[] values = new String[1 + random.nextInt(9)];
+          for (int i = 0; i < values.length; i++) {
+            int length = random.nextInt(5) - 1;
+            if (length < 0) {
+              continue;
+            }
+            StringBuilder value = new StringBuilder();
+            for (int c = 0; c < length; c++) {
+              value.append(pool.charAt(random.nextInt(pool.length())));
+            }
+            values[i] = value.toString();
+          }
+          segments.add(segment(identifier, values));
+        }
+
+        List<GenerationError> expected = new ArrayList<>(delimiterPass(context, segments));
+        expected.addAll(specPass(context, segments));
+        assertEquals(expected, new SegmentValidator(context).violations(segments));
+      }
+    }
+  }
+
+  @Test
+  void reportsEachDelimiterOnceAtItsFirstPosition() {
+    List<GenerationError> errors =
+        new SegmentValidator(new X834Context())
+            .violations(List.of(segment("ZZZ", "A*B*C~"), segment("ZZZ", (String[]) null)));
+
+    assertEquals(2, errors.size(), errors::toString);
+    assertEquals(
+        "element 01 (\"A*B*C~\") contains the element separator '*' at position 1",
+        errors.get(0).message());
+    assertEquals(
+        "element 01 (\"A*B*C~\") contains the segment terminator '~' at position 5",
+        errors.get(1).message());
+  }
+
+  @Test
+  void aCleanSegmentProducesNoErrors() {
+    assertTrue(
+        new SegmentValidator(new X834Context())
+            .violations(List.of(segment("NM1", "IL", "1", "DOE", "JANE")))
+            .isEmpty());
+  }
+
+  /** The delimiter pass as it was written before the passes were fused. */
+  private static List<GenerationError> delimiterPass(X834Context context, List<Segment> segments) {
+    Map<Character, String> reserved = new LinkedHashMap<>();
+    reserved.put(context.getElementSeparator(), "element separator");
+    reserved.put(context.getSegmentTerminator(), "segment terminator");
+    reserved.put(context.getSubElementSeparator(), "sub-element separator");
+    for (char terminatorChar : context.getLineTerminator().toCharArray()) {
+      reserved.putIfAbsent(terminatorChar, "line terminator");
+    }
+    List<GenerationError> violations = new ArrayList<>();
+    for (Segment segment : segments) {
+      String[] values = segment.getElementValues();
+      if (values == null) {
+        continue;
+      }
+      for (int i = 0; i < values.length; i++) {
+        String value = values[i];
+        if (value == null) {
+          continue;
+        }
+        for (Map.Entry<Character, String> entry : reserved.entrySet()) {
+          int position = value.indexOf(entry.getKey());
+          if (position >= 0) {
+            violations.add(
+                new GenerationError(
+                    Phase.RENDER,
+                    segment.getSegmentIdentifier(),
+                    String.format(
+                        "element %02d (\"%s\") contains the %s '%c' at position %d",
+                        i + 1, value, entry.getValue(), entry.getKey(), position)));
+          }
+        }
+      }
+    }
+    return violations;
+  }
+
+  /** The spec pass as it was written before the passes were fused. */
+  private static List<GenerationError> specPass(X834Context context, List<Segment> segments) {
+    CharacterClass characterClass = context.getCharacterClass();
+    List<GenerationError> violations = new ArrayList<>();
+    for (Segment segment : segments) {
+      String[] values = segment.getElementValues();
+      if (values == null) {
+        continue;
+      }
+      for (int i = 0; i < values.length; i++) {
+        String value = values[i];
+        if (value == null || value.isEmpty()) {
+          continue;
+        }
+        int ordinal = i + 1;
+        String prefix = "element %02d (\"%s\") ".formatted(ordinal, value);
+        characterClass
+            .firstViolation(value)
+            .ifPresent(
+                position ->
+                    violations.add(
+                        new GenerationError(
+                            Phase.RENDER,
+                            segment.getSegmentIdentifier(),
+                            prefix
+                                + "contains '%c' at position %d, which the %s character set does not permit"
+                                    .formatted(value.charAt(position), position, characterClass))));
+        Optional<ElementSpec> published =
+            X834Spec.atSegment(segment.getSegmentIdentifier(), ordinal);
+        if (published.isEmpty()) {
+          continue;
+        }
+        ElementSpec spec = published.get();
+        if (value.length() < spec.minLength() || value.length() > spec.maxLength()) {
+          violations.add(
+              new GenerationError(
+                  Phase.RENDER,
+                  segment.getSegmentIdentifier(),
+                  prefix
+                      + "is %d characters, outside element %s's %d/%d"
+                          .formatted(
+                              value.length(),
+                              spec.elementId(),
+                              spec.minLength(),
+                              spec.maxLength())));
+        }
+        if (spec.isCoded() && !spec.permits(List.of(value)).ok()) {
+          violations.add(
+              new GenerationError(
+                  Phase.RENDER,
+                  segment.getSegmentIdentifier(),
+                  prefix + "is not a code element %s permits".formatted(spec.elementId())));
+        }
+      }
+    }
+    return violations;
+  }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fastChickensHR.edi.x834.header.Header;
+import com.fastChickensHR.edi.x834.loop2000.Member;
+import com.fastChickensHR.edi.x834.loop2000.data.IndividualRelationshipCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MaintenanceTypeCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MemberIndicator;
+import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.charset.UnmappableCharacterException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class X12ByteWriterTest {
+
+  /** A channel taking at most {@code chunk} bytes a call, as a socket may. */
+  private static final class Recording implements WritableByteChannel {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final List<Integer> writes = new ArrayList<>();
+    private final int chunk;
+    private boolean failing;
+
+    Recording(int chunk) {
+      this.chunk = chunk;
+    }
+
+    @Override
+    public int write(ByteBuffer source) throws IOException {
+      if (failing) {
+        throw new IOException("disk full");
+      }
+      int length = Math.min(chunk, source.remaining());
+      for (int i = 0; i < length; i++) {
+        bytes.write(source.get());
+      }
+      writes.add(length);
+      return length;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return true;
+    }
+
+    @Override
+    public void close() {
+      throw new AssertionError("the writer must leave the channel open");
+    }
+
+    String text() {
+      return bytes.toString(StandardCharsets.US_ASCII);
+    }
+  }
+
+  @Test
+  void textLongerThanTheBufferIsDrainedInWholeBuffers() throws IOException {
+    Recording channel = new Recording(Integer.MAX_VALUE);
+    String segment = "INS*Y*18*030*XN*A*E**FT~\n";
+    StringBuilder expected = new StringBuilder();
+
+    try (X12ByteWriter out = new X12ByteWriter(channel)) {
+      while (expected.length() < 2 * X12ByteWriter.BUFFER_BYTES + 10) {
+        out.append(segment).append('!');
+        expected.append(segment).append('!');
+      }
+      assertEquals(List.of(X12ByteWriter.BUFFER_BYTES, X12ByteWriter.BUFFER_BYTES), channel.writes);
+    }
+
+    assertEquals(expected.toString(), channel.text());
+    assertEquals(3, channel.writes.size());
+  }
+
+  @Test
+  void aChannelTakingPartOfABufferIsWrittenUntilItHasTakenAll() throws IOException {
+    Recording channel = new Recording(1000);
+
+    try (X12ByteWriter out = new X12ByteWriter(channel)) {
+      out.append("ISA*00*", 0, 7).append("x".repeat(4321));
+      out.flush();
+      assertEquals(4328, channel.bytes.size());
+    }
+
+    assertEquals(List.of(1000, 1000, 1000, 1000, 328), channel.writes);
+  }
+
+  @Test
+  void aCharacterOutsideAsciiFailsTheAppendAfterWritingWhatPrecedesIt() throws IOException {
+    Recording channel = new Recording(Integer.MAX_VALUE);
+
+    try (X12ByteWriter out = new X12ByteWriter(channel)) {
+      assertThrows(UnmappableCharacterException.class, () -> out.append("NM1*IL*1*MÜLLER~"));
+      assertThrows(UnmappableCharacterException.class, () -> out.append('é'));
+      out.append('\u007f');
+    }
+
+    assertEquals("NM1*IL*1*M\u007f", channel.text());
+  }
+
+  @Test
+  void nullAppendsAsTheWordAndRangesAreChecked() throws IOException {
+    Recording channel = new Recording(Integer.MAX_VALUE);
+
+    try (X12ByteWriter out = new X12ByteWriter(channel)) {
+      out.append(null).append(null, 1, 3);
+      assertThrows(IndexOutOfBoundsException.class, () -> out.append("abc", 2, 1));
+      assertThrows(IndexOutOfBoundsException.class, () -> out.append("abc", 0, 4));
+    }
+
+    assertEquals("nullul", channel.text());
+  }
+
+  @Test
+  void aClosedWriterRejectsUseButClosesAgainQuietly() throws IOException {
+    X12ByteWriter out = new X12ByteWriter(new Recording(Integer.MAX_VALUE));
+    out.close();
+    out.close();
+
+    assertThrows(IllegalStateException.class, () -> out.append('A'));
+    assertThrows(IllegalStateException.class, () -> out.append("A"));
+    assertThrows(IllegalStateException.class, out::flush);
+    assertThrows(IllegalArgumentException.class, () -> new X12ByteWriter(null));
+  }
+
+  @Test
+  void aFailedDrainStillReleasesTheWriter() throws IOException {
+    Recording channel = new Recording(Integer.MAX_VALUE);
+    X12ByteWriter out = new X12ByteWriter(channel);
+    out.append("GE*1*1~");
+    channel.failing = true;
+
+    IOException e = assertThrows(IOException.class, out::close);
+
+    assertEquals("disk full", e.getMessage());
+    assertThrows(IllegalStateException.class, () -> out.append('A'));
+    assertTrue(channel.writes.isEmpty());
+  }
+
+  @Test
+  void aDocumentWrittenAsBytesMatchesItsText() throws Exception {
+    Recording channel = new Recording(Integer.MAX_VALUE);
+    X834Context context =
+        new X834Context()
+            .setSenderID("SENDER01")
+            .setReceiverID("RECEIVER1")
+            .setDocumentDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .setInterchangeControlNumber("000000001")
+            .setGroupControlNumber("1");
+    Member member = new Member();
+    member.setMaintenanceTypeCode(MaintenanceTypeCode.ADDITION);
+    member.setRelationshipCode(IndividualRelationshipCode.EMPLOYEE);
+    member.setMemberIndicator(MemberIndicator.INSURED);
+    X834Document document =
+        new X834Document.Builder(context)
+            .withHeader(
+                new Header.Builder(context)
+                    .setReferenceIdentification("TEST834")
+                    .setMasterPolicyNumber("TEST-POL-001")
+                    .setPlanSponsorName("TEST SPONSOR")
+                    .setPayerName("TEST PAYER"))
+            .withTrailer(new Trailer.Builder(context))
+            .addMember(member)
+            .build();
+
+    try (X12ByteWriter out = new X12ByteWriter(channel)) {
+      assertTrue(document.writeDocument(out).isEmpty());
+    }
+
+    GenerationResult.Success text = (GenerationResult.Success) document.generateDocument();
+    assertEquals(text.document(), channel.text());
+  }
+}
@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.fastChickensHR.edi.x834.GenerationError.Phase;
 import com.fastChickensHR.edi.x834.exception.ValidationException;
 import com.fastChickensHR.edi.x834.header.Header;
+import com.fastChickensHR.edi.x834.loop2000.DependentMember;
 import com.fastChickensHR.edi.x834.loop2000.Member;
 import com.fastChickensHR.edi.x834.loop2000.data.GenderCode;
 import com.fastChickensHR.edi.x834.loop2000.data.IndividualRelationshipCode;
@@ -20,8 +21,12 @@ import com.fastChickensHR.edi.x834.loop2000.data.MemberIndicator;
 import com.fastChickensHR.edi.x834.spec.CharacterClass;
 import com.fastChickensHR.edi.x834.testsupport.TestFixtures;
 import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -117,6 +122,39 @@ class X834DocumentTest {
     TestFixtures.assertMatchesGolden("golden/builder-three-minimal-members.834", output);
   }
 
+  @Test
+  void writeDocumentStreamsExactlyWhatGenerateDocumentReturns() throws IOException {
+    X834Document doc =
+        new X834Document.Builder(context)
+            .withHeader(buildHeader())
+            .withTrailer(new Trailer.Builder(context))
+            .addMember(buildMinimalMember())
+            .addMember(buildMinimalMember())
+            .build();
+
+    StringBuilder out = new StringBuilder();
+    List<GenerationError> errors = doc.writeDocument(out);
+
+    assertTrue(errors.isEmpty(), () -> "expected no errors, got: " + errors);
+    assertEquals(assertSuccess(doc.generateDocument()), out.toString());
+  }
+
+  @Test
+  void writeDocumentReportsEveryErrorAndWritesNothingOnFailure() throws IOException {
+    X834Document doc =
+        new X834Document.Builder(context)
+            .withHeader(buildHeaderWithSponsor("ACME*CORP~LLC"))
+            .withTrailer(new Trailer.Builder(context))
+            .addMember(buildMinimalMember())
+            .build();
+
+    StringBuilder out = new StringBuilder();
+    List<GenerationError> errors = doc.writeDocument(out);
+
+    assertEquals(assertFailure(doc.generateDocument()), errors);
+    assertEquals("", out.toString(), "a failed document writes nothing");
+  }
+
   @Test
   void missingTrailerFailsWithBuildErrorLocatedAtTrailer() {
     X834Document doc =
@@ -341,4 +379,115 @@ class X834DocumentTest {
     assertTrue(
         errors.stream().anyMatch(e -> e.message().contains("element 1068")), "the code violation");
   }
+
+  /** Enough members for several parallel chunks, named so every chunk's output is distinct. */
+  private List<Member> manyMembers(int count) {
+    List<Member> members = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Member member = buildMinimalMember();
+      member.setLastName("MEMBER" + i);
+      members.add(member);
+    }
+    return members;
+  }
+
+  @Test
+  void parallelRenderingProducesExactlyTheSequentialDocument() throws IOException {
+    List<Member> members = manyMembers(700);
+    X834Document sequential =
+        new X834Document.Builder(context)
+            .withHeader(buildHeader())
+            .withTrailer(new Trailer.Builder(context))
+            .withMembers(members)
+            .build();
+    X834Document parallel =
+        new X834Document.Builder(context)
+            .withHeader(buildHeader())
+            .withTrailer(new Trailer.Builder(context))
+            .withMembers(members)
+            .withParallelRendering()
+            .build();
+
+    String expected = assertSuccess(sequential.generateDocument());
+    StringBuilder out = new StringBuilder();
+
+    assertEquals(expected, assertSuccess(parallel.generateDocument()));
+    assertEquals(List.of(), parallel.writeDocument(out));
+    assertEquals(expected, out.toString());
+  }
+
+  @Test
+  void parallelRenderingReportsTheSequentialErrorsInTheSameOrder() throws IOException {
+    List<Member> members = manyMembers(700);
+    members.get(3).setLastName("DOE*JR");
+    members.get(300).setLastName("D".repeat(61));
+    members.get(650).setFirstName("ANN~MARIE");
+    X834Document sequential =
+        new X834Document.Builder(context)
+            .withHeader(buildHeaderWithSponsor("ACME*CORP"))
+            .withTrailer(new Trailer.Builder(context))
+            .withMembers(members)
+            .build();
+    StringBuilder out = new StringBuilder();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      X834Document parallel =
+          new X834Document.Builder(context)
+              .withHeader(buildHeaderWithSponsor("ACME*CORP"))
+              .withTrailer(new Trailer.Builder(context))
+              .withMembers(members)
+              .withParallelRendering(executor)
+              .build();
+
+      List<GenerationError> expected = assertFailure(sequential.generateDocument());
+      assertEquals(expected, assertFailure(parallel.generateDocument()));
+      assertEquals(expected, parallel.writeDocument(out));
+    }
+    assertEquals("", out.toString(), "a failed document writes nothing");
+  }
+
+  @Test
+  void parallelRenderingReportsBuildErrorsWithoutRendering() {
+    X834Document doc =
+        new X834Document.Builder(context)
+            .withHeader(buildHeader())
+            .addMember(buildMinimalMember())
+            .withParallelRendering(Runnable::run)
+            .build();
+
+    List<GenerationError> errors = assertFailure(doc.generateDocument());
+    assertEquals(
+        List.of(new GenerationError(Phase.BUILD, "Trailer", "Trailer is required")), errors);
+  }
+
+  @Test
+  void parallelRenderingRethrowsAnUncheckedFailureFromAChunk() {
+    Member broken =
+        new Member() {
+          @Override
+          public List<DependentMember> getDependents() {
+            throw new IllegalStateException("dependents unavailable");
+          }
+        };
+    broken.setMaintenanceTypeCode(MaintenanceTypeCode.ADDITION);
+    broken.setRelationshipCode(IndividualRelationshipCode.EMPLOYEE);
+    broken.setMemberIndicator(MemberIndicator.INSURED);
+    X834Document doc =
+        new X834Document.Builder(context)
+            .withHeader(buildHeader())
+            .withTrailer(new Trailer.Builder(context))
+            .addMember(broken)
+            .withParallelRendering()
+            .build();
+
+    IllegalStateException thrown = assertThrows(IllegalStateException.class, doc::generateDocument);
+    assertEquals("dependents unavailable", thrown.getMessage());
+  }
+
+  @Test
+  void parallelRenderingRequiresAnExecutor() {
+    X834Document.Builder builder = new X834Document.Builder(context);
+
+    assertThrows(IllegalArgumentException.class, () -> builder.withParallelRendering(null));
+  }
 }
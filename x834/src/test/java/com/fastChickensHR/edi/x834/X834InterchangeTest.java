@@ -0,0 +1,334 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import com.fastChickensHR.edi.x834.GenerationError.Phase;
+import com.fastChickensHR.edi.x834.header.Header;
+import com.fastChickensHR.edi.x834.loop2000.DependentMember;
+import com.fastChickensHR.edi.x834.loop2000.Member;
+import com.fastChickensHR.edi.x834.loop2000.data.IndividualRelationshipCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MaintenanceTypeCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MemberIndicator;
+import com.fastChickensHR.edi.x834.testsupport.TestFixtures;
+import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class X834InterchangeTest {
+
+  private final X834Context context = context("000000001", "1");
+
+  private static X834Context context(String interchangeControlNumber, String groupControlNumber) {
+    return new X834Context()
+        .setSenderID("SENDER01")
+        .setReceiverID("RECEIVER1")
+        .setDocumentDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+        .setInterchangeControlNumber(interchangeControlNumber)
+        .setGroupControlNumber(groupControlNumber);
+  }
+
+  private static Member member() {
+    Member member = new Member();
+    member.setMaintenanceTypeCode(MaintenanceTypeCode.ADDITION);
+    member.setRelationshipCode(IndividualRelationshipCode.EMPLOYEE);
+    member.setMemberIndicator(MemberIndicator.INSURED);
+    return member;
+  }
+
+  /** One employer group's enrollment, as it would be built to send on its own. */
+  private X834Document document(String sponsor, Member... members) {
+    return new X834Document.Builder(context)
+        .withHeader(
+            new Header.Builder(context)
+                .setReferenceIdentification("REF-" + sponsor.charAt(0))
+                .setMasterPolicyNumber("POL-1")
+                .setPlanSponsorName(sponsor)
+                .setPayerName("TEST PAYER")
+                .build())
+        .withTrailer(new Trailer.Builder(context))
+        .withMembers(Arrays.asList(members))
+        .build();
+  }
+
+  private List<X834Document> documents(int count) {
+    List<X834Document> documents = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      Member[] members = new Member[1 + i % 3];
+      Arrays.setAll(members, m -> member());
+      documents.add(document("SPONSOR " + i, members));
+    }
+    return documents;
+  }
+
+  private static String assertSuccess(GenerationResult result) {
+    if (result instanceof GenerationResult.Success success) {
+      return success.document();
+    }
+    return fail("expected successful generation, got: " + result);
+  }
+
+  private static List<GenerationError> assertFailure(GenerationResult result) {
+    if (result instanceof GenerationResult.Failure failure) {
+      return failure.errors();
+    }
+    return fail("expected failed generation, got: " + result);
+  }
+
+  @Test
+  void packsGroupsOfTransactionSetsIntoOneCountedAndNumberedInterchange() throws IOException {
+    X834Interchange interchange =
+        new X834Interchange.Builder(context)
+            .addGroup(List.of(document("ACME", member()), document("GLOBEX", member(), member())))
+            .addGroup(List.of(document("INITECH", member())))
+            .build();
+
+    String output = assertSuccess(interchange.generateInterchange());
+    StringBuilder streamed = new StringBuilder();
+
+    // The golden pins the envelope: one ISA/IEA (IEA01=2), GS06/GE02 counting 1 then 2, GE01 the
+    // sets in each group, ST02/SE02 restarting at 0001 per group and SE01 counting each set alone.
+    TestFixtures.assertMatchesGolden("golden/interchange-two-groups.834", output);
+    assertEquals(List.of(), interchange.writeInterchange(streamed));
+    assertEquals(output, streamed.toString());
+  }
+
+  @Test
+  void aSingleSetInterchangeIsExactlyTheDocumentOnItsOwn() {
+    X834Document document = document("ACME", member(), member());
+
+    X834Interchange interchange =
+        new X834Interchange.Builder(context).addGroup(List.of(document)).build();
+
+    assertEquals(
+        assertSuccess(document.generateDocument()),
+        assertSuccess(interchange.generateInterchange()));
+  }
+
+  @Test
+  void theDocumentsOwnControlNumbersAreReplacedByTheInterchanges() {
+    X834Context other = context("000000777", "55").setTransactionSetControlNumber("9999");
+    X834Document foreign =
+        new X834Document.Builder(other)
+            .withHeader(
+                new Header.Builder(other)
+                    .setReferenceIdentification("FOREIGN")
+                    .setMasterPolicyNumber("POL-2")
+                    .setPlanSponsorName("FOREIGN")
+                    .setPayerName("TEST PAYER"))
+            .withTrailer(new Trailer.Builder(other))
+            .addMember(member())
+            .build();
+
+    String output =
+        assertSuccess(
+            new X834Interchange.Builder(context("000000002", "41"))
+                .addGroup(List.of(document("ACME", member()), foreign))
+                .build()
+                .generateInterchange());
+
+    assertTrue(output.contains("*000000002*"), output);
+    assertTrue(output.contains("ST*834*0002*005010X220A1~"), output);
+    assertTrue(output.endsWith("SE*8*0002~\nGE*2*41~\nIEA*1*000000002~\n"), output);
+    assertTrue(!output.contains("9999") && !output.contains("000000777"), output);
+  }
+
+  @Test
+  void parallelRenderingWritesExactlyTheSequentialInterchange() throws IOException {
+    List<X834Document> first = documents(23);
+    List<X834Document> second = documents(19);
+    X834Interchange sequential =
+        new X834Interchange.Builder(context).addGroup(first).addGroup(second).build();
+    X834Interchange parallel =
+        new X834Interchange.Builder(context)
+            .addGroup(first)
+            .addGroup(second)
+            .withParallelRendering()
+            .build();
+
+    String expected = assertSuccess(sequential.generateInterchange());
+    StringBuilder out = new StringBuilder();
+
+    assertEquals(expected, assertSuccess(parallel.generateInterchange()));
+    assertEquals(List.of(), parallel.writeInterchange(out));
+    assertEquals(expected, out.toString());
+  }
+
+  @Test
+  void errorsAreLocatedBySetAndStopTheOutputWhileLaterSetsAreStillChecked() throws IOException {
+    Member badName = member();
+    badName.setLastName("DOE*JR");
+    Member tooLong = member();
+    tooLong.setLastName("D".repeat(61));
+    List<X834Document> group =
+        List.of(
+            document("ACME", member()),
+            document("GLOBEX", member(), badName),
+            document("INITECH", tooLong));
+    X834Interchange sequential = new X834Interchange.Builder(context).addGroup(group).build();
+    StringBuilder out = new StringBuilder();
+    StringBuilder parallelOut = new StringBuilder();
+
+    List<GenerationError> errors = sequential.writeInterchange(out);
+
+    assertEquals(2, errors.size(), errors::toString);
+    assertEquals("Group[0].Set[1].NM1", errors.get(0).location());
+    assertEquals("Group[0].Set[2].NM1", errors.get(1).location());
+    assertEquals(errors, assertFailure(sequential.generateInterchange()));
+    assertTrue(out.toString().endsWith("SE*8*0001~\n"), "the clean set before the error is out");
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      X834Interchange parallel =
+          new X834Interchange.Builder(context)
+              .addGroup(group)
+              .withParallelRendering(executor)
+              .build();
+      assertEquals(errors, parallel.writeInterchange(parallelOut));
+    }
+    assertEquals(out.toString(), parallelOut.toString());
+  }
+
+  @Test
+  void aSetsOwnBuildErrorsAreReportedWhereTheSetIs() {
+    X834Document headless =
+        new X834Document.Builder(context)
+            .withTrailer(new Trailer.Builder(context))
+            .addMember(member())
+            .build();
+
+    List<GenerationError> errors =
+        assertFailure(
+            new X834Interchange.Builder(context)
+                .addGroup(List.of(document("ACME", member())))
+                .addGroup(List.of(headless))
+                .build()
+                .generateInterchange());
+
+    assertEquals(
+        List.of(new GenerationError(Phase.BUILD, "Group[1].Set[0].Header", "Header is required")),
+        errors);
+  }
+
+  @Test
+  void anEnvelopeValueTheDelimitersForbidIsReportedAndNothingIsWritten() throws IOException {
+    X834Context unsafe = context("000000001", "1").setSenderID("SEND*ER");
+    X834Interchange interchange =
+        new X834Interchange.Builder(unsafe).addGroup(List.of(document("ACME", member()))).build();
+    StringBuilder out = new StringBuilder();
+
+    List<GenerationError> errors = interchange.writeInterchange(out);
+
+    assertEquals(List.of("ISA", "GS"), errors.stream().map(GenerationError::location).toList());
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  void anEnvelopeSegmentThatCannotBeBuiltIsReportedByWhereItWas() {
+    // ISA06 pads to its fixed width; the group's GS02 refuses a sender longer than 15.
+    X834Context overlong = context("000000001", "1").setSenderID("S".repeat(16));
+
+    List<GenerationError> errors =
+        assertFailure(
+            new X834Interchange.Builder(overlong)
+                .addGroup(List.of(document("ACME", member())))
+                .build()
+                .generateInterchange());
+
+    assertEquals("Group[0]", errors.get(0).location());
+    assertEquals(Phase.RENDER, errors.get(0).phase());
+  }
+
+  @Test
+  void envelopeProblemsAreBuildErrorsReportedBeforeAnythingIsWritten() throws IOException {
+    StringBuilder out = new StringBuilder();
+
+    List<GenerationError> errors =
+        new X834Interchange.Builder(context("12", "G1")).build().writeInterchange(out);
+
+    assertEquals(
+        List.of(
+            new GenerationError(
+                Phase.BUILD,
+                "Context",
+                "Interchange Control Number must be exactly 9 numeric digits"),
+            new GenerationError(
+                Phase.BUILD,
+                "Context",
+                "Group Control Number must be 1-9 numeric digits to number an interchange's"
+                    + " groups"),
+            new GenerationError(
+                Phase.BUILD, "Groups", "At least one functional group is required")),
+        errors);
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  void emptyGroupsAndExhaustedGroupNumbersAreBuildErrors() {
+    List<GenerationError> errors =
+        assertFailure(
+            new X834Interchange.Builder(context("000000001", "999999999"))
+                .addGroup(List.of(document("ACME", member())))
+                .addGroup(List.of())
+                .build()
+                .generateInterchange());
+
+    assertEquals(
+        List.of(
+            new GenerationError(
+                Phase.BUILD,
+                "Context",
+                "Group Control Number 999999999 leaves too few numbers for 2 groups"),
+            new GenerationError(
+                Phase.BUILD, "Group[1]", "At least one transaction set is required")),
+        errors);
+  }
+
+  @Test
+  void parallelRenderingRethrowsAnUncheckedFailureFromASet() {
+    Member broken =
+        new Member() {
+          @Override
+          public List<DependentMember> getDependents() {
+            throw new IllegalStateException("dependents unavailable");
+          }
+        };
+    broken.setMaintenanceTypeCode(MaintenanceTypeCode.ADDITION);
+    broken.setRelationshipCode(IndividualRelationshipCode.EMPLOYEE);
+    broken.setMemberIndicator(MemberIndicator.INSURED);
+    X834Interchange interchange =
+        new X834Interchange.Builder(context)
+            .addGroup(List.of(document("ACME", broken)))
+            .withParallelRendering()
+            .build();
+
+    IllegalStateException thrown =
+        assertThrows(IllegalStateException.class, interchange::generateInterchange);
+    assertEquals("dependents unavailable", thrown.getMessage());
+  }
+
+  @Test
+  void theBuilderRejectsMissingArguments() {
+    X834Interchange.Builder builder = new X834Interchange.Builder(context);
+    List<X834Document> withNull = new ArrayList<>();
+    withNull.add(null);
+
+    assertThrows(IllegalArgumentException.class, () -> new X834Interchange.Builder(null));
+    assertThrows(IllegalArgumentException.class, () -> builder.addGroup(null));
+    assertThrows(IllegalArgumentException.class, () -> builder.addGroup(withNull));
+    assertThrows(IllegalArgumentException.class, () -> builder.withParallelRendering(null));
+  }
+}
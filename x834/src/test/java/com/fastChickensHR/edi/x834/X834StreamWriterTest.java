@@ -0,0 +1,224 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fastChickensHR.edi.x834.GenerationError.Phase;
+import com.fastChickensHR.edi.x834.header.Header;
+import com.fastChickensHR.edi.x834.loop2000.Member;
+import com.fastChickensHR.edi.x834.loop2000.data.IndividualRelationshipCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MaintenanceTypeCode;
+import com.fastChickensHR.edi.x834.loop2000.data.MemberIndicator;
+import com.fastChickensHR.edi.x834.loop2000.loop2100A.Income;
+import com.fastChickensHR.edi.x834.testsupport.TestFixtures;
+import com.fastChickensHR.edi.x834.trailer.Trailer;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class X834StreamWriterTest {
+
+  private X834Context context;
+  private final StringBuilder out = new StringBuilder();
+
+  @BeforeEach
+  void setUp() {
+    context =
+        new X834Context()
+            .setSenderID("SENDER01")
+            .setReceiverID("RECEIVER1")
+            .setDocumentDate(LocalDateTime.of(2024, 1, 1, 0, 0))
+            .setInterchangeControlNumber("000000001")
+            .setGroupControlNumber("1");
+  }
+
+  private Header header(String planSponsorName) {
+    return new Header.Builder(context)
+        .setReferenceIdentification("TEST834")
+        .setMasterPolicyNumber("TEST-POL-001")
+        .setPlanSponsorName(planSponsorName)
+        .setPayerName("TEST PAYER")
+        .build();
+  }
+
+  private X834StreamWriter writer() {
+    return new X834StreamWriter(context, header("TEST SPONSOR"), new Trailer.Builder(context), out);
+  }
+
+  private static Member member() {
+    Member member = new Member();
+    member.setMaintenanceTypeCode(MaintenanceTypeCode.ADDITION);
+    member.setRelationshipCode(IndividualRelationshipCode.EMPLOYEE);
+    member.setMemberIndicator(MemberIndicator.INSURED);
+    return member;
+  }
+
+  private static Member memberNamed(String lastName) {
+    Member member = member();
+    member.setLastName(lastName);
+    return member;
+  }
+
+  @Test
+  void streamsTheSameDocumentTheBuilderPathProduces() throws IOException {
+    // SE01 is counted as members stream past, so it must land on the value the whole-document
+    // path computes from its segment list: the golden pins both.
+    X834StreamWriter stream = writer();
+    stream.write(member());
+    stream.write(member());
+    stream.write(member());
+
+    assertEquals(List.of(), stream.finish());
+    TestFixtures.assertMatchesGolden("golden/builder-three-minimal-members.834", out.toString());
+  }
+
+  @Test
+  void writesTheHeaderAndEachMemberAsSoonAsItIsWritten() throws IOException {
+    X834StreamWriter stream = writer();
+    stream.write(member());
+
+    assertTrue(out.toString().startsWith("ISA*"), out::toString);
+    assertTrue(out.toString().contains("INS*Y*20*001"), out::toString);
+    assertFalse(out.toString().contains("SE*"), "the trailer waits for finish()");
+  }
+
+  @Test
+  void stopsWritingAtTheFirstBadMemberButReportsEveryLaterOne() throws IOException {
+    X834StreamWriter stream = writer();
+    stream.write(memberNamed("FIRST"));
+    stream.write(memberNamed("BAD*ONE"));
+    stream.write(memberNamed("THIRD"));
+    stream.write(memberNamed("BAD~TWO"));
+
+    List<GenerationError> errors = stream.finish();
+
+    assertEquals(2, errors.size(), errors::toString);
+    assertTrue(errors.get(0).message().contains("element separator"), errors::toString);
+    assertTrue(errors.get(1).message().contains("segment terminator"), errors::toString);
+    assertTrue(out.toString().contains("FIRST"), out::toString);
+    assertFalse(out.toString().contains("THIRD"), "nothing is written after the first failure");
+    assertFalse(out.toString().contains("SE*"), "nor is the trailer");
+  }
+
+  @Test
+  void reportsAnInvalidMemberAsABuildErrorAtItsWriteIndex() throws IOException {
+    X834StreamWriter stream = writer();
+    stream.write(member());
+    stream.write(new Member());
+
+    List<GenerationError> errors = stream.finish();
+
+    assertEquals(1, errors.size(), errors::toString);
+    assertEquals(Phase.BUILD, errors.get(0).phase());
+    assertEquals("Member[1]", errors.get(0).location());
+  }
+
+  @Test
+  void aBuildErrorIsReportedAloneAsTheDocumentReportsIt() throws IOException {
+    X834StreamWriter stream = writer();
+    stream.write(memberNamed("BAD*ONE"));
+    stream.write(new Member());
+    stream.write(memberNamed("BAD~TWO"));
+
+    List<GenerationError> errors = stream.finish();
+
+    assertEquals(
+        List.of("Member[1]"), errors.stream().map(GenerationError::location).toList(), "" + errors);
+    assertEquals(Phase.BUILD, errors.get(0).phase());
+  }
+
+  @Test
+  void reportsAMemberThatCannotBeAssembledAsARenderError() throws IOException {
+    Member member = member();
+    Income income = new Income();
+    income.setLocationIdentifier("DEPT42");
+    member.setIncome(income);
+
+    X834StreamWriter stream = writer();
+    stream.write(member);
+
+    List<GenerationError> errors = stream.finish();
+    assertEquals(Phase.RENDER, errors.get(0).phase());
+    assertEquals("Member[0]", errors.get(0).location());
+  }
+
+  @Test
+  void aHeaderWithAnUnsafeValueFailsBeforeAnyMemberIsWritten() throws IOException {
+    X834StreamWriter stream =
+        new X834StreamWriter(context, header("ACME*CORP"), new Trailer.Builder(context), out);
+    stream.write(member());
+
+    List<GenerationError> errors = stream.finish();
+
+    assertTrue(errors.stream().anyMatch(e -> e.message().contains("ACME*CORP")), errors::toString);
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  void missingComponentsAreBuildErrorsAndNothingIsWritten() throws IOException {
+    X834StreamWriter stream = new X834StreamWriter(context, null, null, out);
+    stream.write(new Member());
+
+    List<GenerationError> errors = stream.finish();
+
+    assertEquals(
+        List.of("Header", "Trailer", "Member[0]"),
+        errors.stream().map(GenerationError::location).toList());
+    assertTrue(errors.stream().allMatch(e -> e.phase() == Phase.BUILD));
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  void anInvalidContextIsABuildError() throws IOException {
+    context.setInterchangeControlNumber("12");
+    X834StreamWriter stream = writer();
+    stream.write(member());
+
+    List<GenerationError> errors = stream.finish();
+
+    assertTrue(errors.stream().anyMatch(e -> e.location().equals("Context")), errors::toString);
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  void finishingWithoutMembersIsABuildError() throws IOException {
+    List<GenerationError> errors = writer().finish();
+
+    assertEquals("Members", errors.get(0).location());
+    assertEquals("", out.toString());
+  }
+
+  @Test
+  void finishIsIdempotentAndClosesTheWriterToMoreMembers() throws IOException {
+    X834StreamWriter stream = writer();
+    stream.write(member());
+    stream.finish();
+    String written = out.toString();
+
+    assertEquals(List.of(), stream.finish());
+    assertEquals(written, out.toString());
+    assertThrows(IllegalStateException.class, () -> stream.write(member()));
+  }
+
+  @Test
+  void rejectsANullContextOrSink() {
+    Header header = header("TEST SPONSOR");
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new X834StreamWriter(null, header, new Trailer.Builder(context), out));
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new X834StreamWriter(context, header, new Trailer.Builder(context), null));
+  }
+}
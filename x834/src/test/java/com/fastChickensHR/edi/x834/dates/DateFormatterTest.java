@@ -0,0 +1,63 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.dates;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
+import org.junit.jupiter.api.Test;
+
+class DateFormatterTest {
+
+  private static final List<LocalDateTime> DATES =
+      List.of(
+          LocalDateTime.of(2023, 11, 15, 14, 30, 5),
+          LocalDateTime.of(1, 1, 1, 0, 0),
+          LocalDateTime.of(999, 2, 3, 9, 7),
+          LocalDateTime.of(9999, 12, 31, 23, 59, 59),
+          LocalDateTime.of(10000, 1, 1, 0, 0),
+          LocalDateTime.of(0, 6, 30, 12, 0),
+          LocalDateTime.of(-44, 3, 15, 12, 0));
+
+  @Test
+  void theDigitFastPathsRenderExactlyWhatTheirPatternWould() {
+    DateTimeFormatter yearMonthDay = DateTimeFormatter.ofPattern("yyyyMMdd");
+    DateTimeFormatter hourMinute = DateTimeFormatter.ofPattern("HHmm");
+    for (LocalDateTime date : DATES) {
+      assertEquals(date.format(yearMonthDay), DateFormat.D8.format(date), date::toString);
+      assertEquals(date.format(yearMonthDay), DateFormat.DTD.format(date), date::toString);
+      assertEquals(date.format(hourMinute), DateFormat.KA.format(date), date::toString);
+      assertEquals(date.format(hourMinute), DateFormat.TQ.format(date), date::toString);
+      assertEquals(date.format(hourMinute), TimeFormat.TIME.format(date), date::toString);
+    }
+  }
+
+  @Test
+  void theCachedFormattersRenderWhatAFreshPatternWould() {
+    LocalDateTime date = DATES.get(0);
+    assertEquals("November 2023", DateFormat.MCY.format(date));
+    assertEquals("11/15/2023 14:30:05", DateFormat.RDT.format(date));
+    assertEquals("20231115T143005", DateFormat.DT.format(date));
+    assertEquals("4", DateFormat.CQ.format(date));
+    assertEquals("143005", TimeFormat.TIME_WITH_SECONDS.format(date));
+  }
+
+  @Test
+  void monthNamesFollowTheDefaultLocaleInEffectWhenFormatting() {
+    Locale original = Locale.getDefault(Locale.Category.FORMAT);
+    try {
+      Locale.setDefault(Locale.Category.FORMAT, Locale.FRANCE);
+      assertEquals("novembre", DateFormat.CD.format(DATES.get(0)));
+    } finally {
+      Locale.setDefault(Locale.Category.FORMAT, original);
+    }
+  }
+}
@@ -7,11 +7,13 @@
  */
 package com.fastChickensHR.edi.x834.generate;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fastChickensHR.edi.core.Compression;
 import com.fastChickensHR.edi.core.Direction;
 import com.fastChickensHR.edi.core.Field;
 import com.fastChickensHR.edi.core.FileContent;
@@ -19,8 +21,16 @@ import com.fastChickensHR.edi.core.Location;
 import com.fastChickensHR.edi.core.Record;
 import com.fastChickensHR.edi.core.RecordLevel;
 import com.fastChickensHR.edi.x834.testsupport.TestFixtures;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * End-to-end goldens for the {@link X834FileGenerator} seam: each test plans a realistic {@link
@@ -88,6 +98,131 @@ class X834FileGeneratorTest {
     TestFixtures.assertMatchesGolden("golden/subscriber-with-dependent.834", out);
   }
 
+  @Test
+  void streamsTheSame834IntoAWriter() throws IOException {
+    Record subscriber =
+        Record.of(
+            List.of(
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.SUBSCRIBER_NUMBER, "SUB1")));
+    FileContent file = new FileContent(Direction.OUTBOUND, envelope(), List.of(subscriber));
+
+    StringWriter out = new StringWriter();
+    generator.generate(file, out);
+
+    assertEquals(generator.generate(file), out.toString());
+  }
+
+  @Test
+  void writesTheSame834IntoACompressedFile(@TempDir Path dir) throws IOException {
+    Record subscriber =
+        Record.of(
+            List.of(
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.SUBSCRIBER_NUMBER, "SUB1")));
+    FileContent file = new FileContent(Direction.OUTBOUND, envelope(), List.of(subscriber));
+    Path archive = dir.resolve("enrollment.834.gz");
+
+    generator.generate(file, archive);
+
+    assertEquals(Compression.GZIP, Compression.detect(archive));
+    try (Reader in = Compression.newBufferedReader(archive, StandardCharsets.UTF_8)) {
+      StringWriter text = new StringWriter();
+      in.transferTo(text);
+      assertEquals(generator.generate(file), text.toString());
+    }
+  }
+
+  @Test
+  void writesTheSame834AsAsciiBytesIntoAPlainFileOrAStream(@TempDir Path dir) throws IOException {
+    Record subscriber =
+        Record.of(
+            List.of(
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.SUBSCRIBER_NUMBER, "SUB1")));
+    FileContent file = new FileContent(Direction.OUTBOUND, envelope(), List.of(subscriber));
+    byte[] expected = generator.generate(file).getBytes(StandardCharsets.US_ASCII);
+    Path plain = Files.writeString(dir.resolve("enrollment.834"), "x".repeat(100_000));
+
+    generator.generate(file, plain);
+    ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    generator.generate(file, stream, null);
+
+    assertArrayEquals(expected, Files.readAllBytes(plain));
+    assertArrayEquals(expected, stream.toByteArray());
+  }
+
+  @Test
+  void aFailedStreamedGenerationStillReportsEveryReason() {
+    Record subscriber =
+        Record.of(
+            List.of(
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.DISABILITY_START_DATE, "2026-03-01")));
+    StringWriter out = new StringWriter();
+
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                generator.generate(
+                    new FileContent(Direction.OUTBOUND, envelope(), List.of(subscriber)), out));
+
+    assertTrue(thrown.getMessage().contains("DSB01"), thrown.getMessage());
+    // The header streamed before the member was reached; nothing after the failure was written.
+    assertTrue(out.toString().startsWith("ISA*"), out::toString);
+    assertFalse(out.toString().contains("INS*"), out::toString);
+  }
+
+  @Test
+  void theStreamedOverloadsReportTheSameErrorsInTheSameOrderAsTheDocument() {
+    Record badDisability =
+        Record.of(
+            List.of(
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.DISABILITY_START_DATE, "2026-03-01")));
+    Record unsafeName = subscriberNamed("DOE*SMITH");
+    Record lowerCaseName = subscriberNamed("Doe");
+    Record invalid = Record.of(List.of(emp(X834Location.LAST_NAME, "DOE")));
+
+    // Render-phase errors only: every assembly error, then delimiters, then the spec, whatever
+    // member each came from. One member failing validation leaves build errors alone.
+    for (List<Record> records :
+        List.of(
+            List.of(lowerCaseName, unsafeName, badDisability),
+            List.of(badDisability, invalid, unsafeName))) {
+      FileContent file = new FileContent(Direction.OUTBOUND, envelope(), records);
+
+      String whole =
+          assertThrows(IllegalStateException.class, () -> generator.generate(file)).getMessage();
+      String streamed =
+          assertThrows(
+                  IllegalStateException.class, () -> generator.generate(file, new StringWriter()))
+              .getMessage();
+
+      assertEquals(whole, streamed);
+    }
+  }
+
+  private static Record subscriberNamed(String lastName) {
+    return Record.of(
+        List.of(
+            emp(X834Location.MEMBER_INDICATOR, "Y"),
+            emp(X834Location.RELATIONSHIP_CODE, "18"),
+            emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+            emp(X834Location.LAST_NAME, lastName)));
+  }
+
   @Test
   void eachSubscribersHdNestsInsideItsOwnLoopForMultiMemberFiles() {
     List<Field> envelope =
@@ -838,6 +973,77 @@ class X834FileGeneratorTest {
     assertTrue(thrown.getMessage().contains("DSB01"), thrown.getMessage());
   }
 
+  @Test
+  void aRepeatedLocationKeepsItsLastValueAndATrailingBlankClearsIt() {
+    Record canonical =
+        Record.of(
+            List.of(
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.LAST_NAME, "ROE"),
+                emp("per.TE", "5555550100")));
+    Record repeated =
+        Record.of(
+            List.of(
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.LAST_NAME, "DOE"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.FIRST_NAME, "JOHN"),
+                emp(X834Location.LAST_NAME, "ROE"),
+                emp(X834Location.FIRST_NAME, " "),
+                emp(X834Location.MIDDLE_NAME, null),
+                emp("per.TE", "5555550199"),
+                emp("per.EM", "DOE@EXAMPLE.COM"),
+                emp("per.TE", "5555550100"),
+                emp("per.EM", "")));
+
+    assertEquals(generate(canonical), generate(repeated));
+  }
+
+  @Test
+  void indexedGroupsEmitInIndexOrderWhateverOrderTheirFieldsArrive() {
+    Record ordered =
+        Record.of(
+            List.of(
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.HD_MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.HD_INSURANCE_LINE_CODE, "DEN"),
+                emp(X834Location.hd(1, X834Location.HD_MAINTENANCE_TYPE_CODE), "001"),
+                emp(X834Location.hd(1, X834Location.HD_INSURANCE_LINE_CODE), "HLT"),
+                emp(X834Location.hd(1, X834Location.HD_COVERAGE_LEVEL_CODE), "FAM"),
+                emp(X834Location.hd(2, X834Location.HD_MAINTENANCE_TYPE_CODE), "030"),
+                emp(X834Location.hd(2, X834Location.HD_INSURANCE_LINE_CODE), "VIS")));
+    Record shuffled =
+        Record.of(
+            List.of(
+                emp(X834Location.hd(2, X834Location.HD_INSURANCE_LINE_CODE), "VIS"),
+                emp(X834Location.hd(1, X834Location.HD_MAINTENANCE_TYPE_CODE), "001"),
+                emp(X834Location.HD_MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.hd(2, X834Location.HD_MAINTENANCE_TYPE_CODE), "030"),
+                emp(X834Location.MEMBER_INDICATOR, "Y"),
+                emp(X834Location.hd(1, X834Location.HD_COVERAGE_LEVEL_CODE), "FAM"),
+                emp(X834Location.RELATIONSHIP_CODE, "18"),
+                emp(X834Location.hd(1, X834Location.HD_INSURANCE_LINE_CODE), "HLT"),
+                emp(X834Location.MAINTENANCE_TYPE_CODE, "001"),
+                emp(X834Location.HD_INSURANCE_LINE_CODE, "DEN")));
+
+    String out = generate(ordered);
+
+    assertEquals(out, generate(shuffled));
+    assertTrue(
+        out.indexOf("HD*001**DEN") < out.indexOf("HD*001**HLT**FAM")
+            && out.indexOf("HD*001**HLT**FAM") < out.indexOf("HD*030**VIS"),
+        () -> "expected the un-indexed coverage first, then ascending indexes; got:\n" + out);
+  }
+
+  private String generate(Record subscriber) {
+    return generator.generate(new FileContent(Direction.OUTBOUND, envelope(), List.of(subscriber)));
+  }
+
   /** The envelope every member-level test shares. */
   private static List<Field> envelope() {
     return List.of(
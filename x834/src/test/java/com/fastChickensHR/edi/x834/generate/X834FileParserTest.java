@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.generate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fastChickensHR.edi.core.Direction;
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.FileContent;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import com.fastChickensHR.edi.x834.testsupport.TestFixtures;
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Inbound tests for the {@link X834FileParser} seam. The goldens the generator is pinned against
+ * double as parser fixtures: parsing one and generating from the result must reproduce it byte for
+ * byte, which checks every loop's fields land at the locations the generator reads them from.
+ */
+class X834FileParserTest {
+
+  private final X834FileParser parser = new X834FileParser();
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "acknowledgment-requested.834",
+        "application-party-codes.834",
+        "builder-single-minimal-member.834",
+        "builder-three-minimal-members.834",
+        "coverage-date-dtps.834",
+        "member-2100a-tail.834",
+        "member-2200-2700.834",
+        "member-2310-2320.834",
+        "member-full-demographics-address.834",
+        "member-ins-reason-and-employment-status.834",
+        "member-nm1-with-ssn.834",
+        "member-with-mailing-address.834",
+        "member-with-two-hd-loops.834",
+        "subscriber-with-dependent.834",
+        "two-subscribers-hd-nesting.834"
+      })
+  void aGeneratedGoldenParsesBackToFieldsThatRegenerateIt(String golden) {
+    String original = TestFixtures.load("golden/" + golden);
+
+    FileContent parsed = parser.parse(original);
+
+    assertEquals(Direction.INBOUND, parsed.direction());
+    assertEquals(original, new X834FileGenerator().generate(parsed));
+  }
+
+  @Test
+  void readsEnvelopeAndHeaderIntoFileFields() {
+    FileContent parsed = parser.parse(TestFixtures.load("golden/subscriber-with-dependent.834"));
+
+    assertEquals("SENDER123", file(parsed, X834Location.SENDER_ID));
+    assertEquals("30", file(parsed, X834Location.SENDER_ID_QUALIFIER));
+    assertEquals("2026-01-15", file(parsed, X834Location.DOCUMENT_DATE));
+    assertEquals("REFID001", file(parsed, X834Location.REFERENCE_IDENTIFICATION));
+    assertEquals("MP-100", file(parsed, X834Location.MASTER_POLICY_NUMBER));
+    assertEquals("BLUE CROSS", file(parsed, X834Location.PAYER_NAME));
+  }
+
+  @Test
+  void aDependentInsNestsUnderItsSubscriberAtTheSubrecordLevel() {
+    String raw =
+        "ISA*00*          *00*          *ZZ*S              *ZZ*R              *260115*1230*^*00501"
+            + "*000000001*0*T*:~GS*BE*S*R*20260115*1230*1*X*005010X220A1~ST*834*0001~"
+            + "INS*Y*18*021~REF*0F*E1~DTP*356*D8*20260201~"
+            + "INS*N*19*021~NM1*IL*1*DOE*JANE~DMG*D8*20100304*F~"
+            + "INS*Y*18*021~REF*0F*E2~SE*9*0001~GE*1*1~IEA*1*000000001~";
+
+    FileContent parsed = parser.parse(raw);
+
+    assertEquals("2026-01-15T12:30", file(parsed, X834Location.DOCUMENT_DATE));
+    assertEquals(2, parsed.records().size());
+    Record subscriber = parsed.records().get(0);
+    assertEquals("2026-02-01", value(subscriber, RecordLevel.RECORD, "coverageStartDate"));
+    assertEquals(1, subscriber.children().size());
+    Record dependent = subscriber.children().get(0);
+    assertEquals("N", value(dependent, RecordLevel.SUBRECORD, X834Location.MEMBER_INDICATOR));
+    assertEquals("JANE", value(dependent, RecordLevel.SUBRECORD, X834Location.FIRST_NAME));
+    assertEquals("2010-03-04", value(dependent, RecordLevel.SUBRECORD, X834Location.BIRTH_DATE));
+    assertEquals("E2", value(parsed.records().get(1), RecordLevel.RECORD, "subscriberNumber"));
+  }
+
+  @Test
+  void takesTheDelimitersFromTheIsaEnvelope() {
+    String raw =
+        "ISA|00|          |00|          |ZZ|S              |ZZ|R              |260115|0000|^|00501"
+            + "|000000001|0|T|:\nGS|BE|S|R|20260115|0000|1|X|005010X220A1\n"
+            + "INS|Y|18|021\nREF|ZZ|M1\nREF|0F|E1\nSE|4|0001\n";
+
+    FileContent parsed = parser.parse(raw);
+
+    Record member = parsed.records().get(0);
+    assertEquals("E1", value(member, RecordLevel.RECORD, X834Location.SUBSCRIBER_NUMBER));
+    assertEquals("M1", value(member, RecordLevel.RECORD, X834Location.MEMBER_ID));
+    assertEquals("ZZ", value(member, RecordLevel.RECORD, X834Location.MEMBER_ID_QUALIFIER));
+  }
+
+  @Test
+  void streamsOneSubscriberAtATimeWithTheHeaderUpFront() throws Exception {
+    String raw = TestFixtures.load("golden/builder-three-minimal-members.834");
+
+    try (RecordReader reader = parser.read(new StringReader(raw))) {
+      assertFalse(reader.fileFields().isEmpty());
+      int records = 0;
+      while (reader.hasNext()) {
+        reader.next();
+        records++;
+      }
+      assertEquals(3, records);
+      assertThrows(NoSuchElementException.class, reader::next);
+    }
+  }
+
+  @Test
+  void contentOutsideTheVocabularyIsSkippedRatherThanRejected() {
+    FileContent parsed = parser.parse("garbage~XYZ*1*2~INS*Y*18~NM1*36*2*EMPLOYER~N3*1 MAIN~");
+
+    assertTrue(parsed.fileFields().isEmpty());
+    Record member = parsed.records().get(0);
+    assertEquals(2, member.fields().size());
+    assertTrue(parser.parse(null).records().isEmpty());
+  }
+
+  private static String file(FileContent content, String name) {
+    return content.fileFields().stream()
+        .filter(f -> f.location().equals(new Location(RecordLevel.FILE, name)))
+        .map(Field::value)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  private static String value(Record record, RecordLevel level, String name) {
+    return record.fields().stream()
+        .filter(f -> f.location().equals(new Location(level, name)))
+        .map(Field::value)
+        .findFirst()
+        .orElseThrow();
+  }
+}
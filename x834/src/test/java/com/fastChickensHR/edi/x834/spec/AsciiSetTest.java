@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x834.spec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+class AsciiSetTest {
+
+  private static final AsciiSet DIGITS = AsciiSet.of("0123456789");
+
+  /** What every scan must answer: the first index from {@code from} the set does not contain. */
+  private static int reference(AsciiSet set, CharSequence value, int from) {
+    for (int i = from; i < value.length(); i++) {
+      if (!set.contains(value.charAt(i))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * The scalar scan, and the vector one when this JVM adds its module and its vectors can hold the
+   * table — as {@link AsciiSet} itself decides.
+   */
+  private static List<AsciiScanner> scanners() {
+    List<AsciiScanner> scanners = new ArrayList<>();
+    scanners.add(new ScalarAsciiScanner());
+    if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+      try {
+        scanners.add(new VectorAsciiScanner());
+      } catch (UnsupportedOperationException e) {
+        // Too few lanes on this platform: AsciiSet falls back to the scalar scan too.
+      }
+    }
+    return scanners;
+  }
+
+  @Test
+  void membershipCoversBothHalvesOfTheTableAndNothingBeyondIt() {
+    AsciiSet set = AsciiSet.of("\u0000?@\u007f");
+
+    assertTrue(set.contains('\u0000'));
+    assertTrue(set.contains('?'));
+    assertTrue(set.contains('@'));
+    assertTrue(set.contains('\u007f'));
+    assertFalse(set.contains('A'));
+    assertFalse(set.contains('>'));
+    assertFalse(set.contains('\u0080'));
+    assertFalse(set.contains('À'), "the shift must not wrap a non-ASCII char onto '@'");
+  }
+
+  @Test
+  void setsOfTheSameCharactersAreEqual() {
+    assertEquals(AsciiSet.of("ABC"), AsciiSet.of("CBAA"));
+    assertEquals(AsciiSet.of("ABC").hashCode(), AsciiSet.of("CBAA").hashCode());
+    assertNotEquals(AsciiSet.of("ABC"), AsciiSet.of("AB"));
+    assertEquals(CharacterClass.BASIC.members(), AsciiSet.of(CharacterClass.BASIC.getCharacters()));
+  }
+
+  @Test
+  void badArgumentsAreRejected() {
+    assertThrows(IllegalArgumentException.class, () -> AsciiSet.of("NAÏVE"));
+    assertThrows(IllegalArgumentException.class, () -> AsciiSet.of(null));
+    assertThrows(IllegalArgumentException.class, () -> DIGITS.firstOutside(null, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> DIGITS.firstOutside("123", -1));
+    assertThrows(IndexOutOfBoundsException.class, () -> DIGITS.firstOutside("123", 4));
+    assertEquals(-1, DIGITS.firstOutside("123", 3));
+  }
+
+  @Test
+  void theVectorScanIsChosenWhenTheJvmAddsItsModule() {
+    assumeTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+
+    assertInstanceOf(VectorAsciiScanner.class, AsciiSet.scanner());
+  }
+
+  @Test
+  void everyScanFindsTheFirstOutsiderAtEveryLengthAndOffset() {
+    // Lengths past two 32-lane vectors put the outsider in a first vector, a later one and the
+    // scalar tail, and offsets misalign the vectors against the value.
+    String clean = "JOHN Q PUBLIC 1234 MAIN ST, APT 5-B; SPRINGFIELD (IL)/62701 ".repeat(3);
+    AsciiSet basic = CharacterClass.BASIC.members();
+    for (AsciiScanner scanner : scanners()) {
+      for (int length = 0; length <= 100; length++) {
+        String value = clean.substring(0, length);
+        for (int from = 0; from <= Math.min(length, 9); from++) {
+          assertEquals(-1, scanner.firstOutside(value, from, basic), scanner + " " + value);
+          for (int at = from; at < length; at++) {
+            for (char outsider : new char[] {'a', '@', '\t', 'É', 'Ā', '￿'}) {
+              String dirty = value.substring(0, at) + outsider + value.substring(at + 1);
+              assertEquals(at, scanner.firstOutside(dirty, from, basic), scanner + " " + dirty);
+            }
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  void everyScanAgreesWithTheReferenceOnRandomText() {
+    Random random = new Random(834);
+    AsciiSet[] sets = {
+      CharacterClass.BASIC.members(),
+      AsciiSet.of(CharacterClass.EXTENDED.getCharacters().replaceAll("[*~:^]", "")),
+      AsciiSet.of(""),
+      AsciiSet.of(CharacterClass.EXTENDED.getCharacters() + "\u0000\u007f\t")
+    };
+    for (int trial = 0; trial < 2000; trial++) {
+      AsciiSet set = sets[trial % sets.length];
+      char[] chars = new char[random.nextInt(120)];
+      for (int i = 0; i < chars.length; i++) {
+        // Mostly printable ASCII, so that runs of members are long enough to fill vectors.
+        int pick = random.nextInt(100);
+        chars[i] = (char) (pick < 97 ? 32 + random.nextInt(95) : random.nextInt(0x10000));
+      }
+      String value = new String(chars);
+      int from = chars.length == 0 ? 0 : random.nextInt(chars.length);
+      for (AsciiScanner scanner : scanners()) {
+        assertEquals(reference(set, value, from), scanner.firstOutside(value, from, set), value);
+        assertEquals(
+            reference(set, value, from),
+            scanner.firstOutside(CharBuffer.wrap(value), from, set),
+            value);
+      }
+    }
+  }
+}
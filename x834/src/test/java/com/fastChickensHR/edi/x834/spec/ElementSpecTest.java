@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import com.fastChickensHR.edi.x834.loop2000.data.MaintenanceTypeCode;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import org.junit.jupiter.api.Test;
 
 class ElementSpecTest {
@@ -100,6 +101,54 @@ class ElementSpecTest {
     assertTrue(thrown.getMessage().contains("does not publish"), thrown.getMessage());
   }
 
+  @Test
+  void theSingleValueCheckAgreesWithTheSubsetCheckAtEveryCodedPosition() {
+    for (ElementSpec spec : X834Spec.all()) {
+      if (!spec.isCoded()) {
+        assertThrows(IllegalStateException.class, () -> spec.permitsCode("AC"));
+        continue;
+      }
+      for (CodeValue value : spec.codes()) {
+        String code = value.code();
+        for (String candidate :
+            List.of(
+                code, code.toLowerCase(Locale.ROOT), code + "X", code.substring(1), " " + code)) {
+          assertEquals(
+              spec.permits(List.of(candidate)).ok(),
+              spec.permitsCode(candidate),
+              spec.position() + " '" + candidate + "'");
+        }
+        assertTrue(spec.permitsCode(code), spec.position() + " " + code);
+      }
+    }
+  }
+
+  @Test
+  void codesOfAnyLengthOrAlphabetAreMembers() {
+    List<CodeValue> codes =
+        List.of(
+            new CodeValue("A", "One"),
+            new CodeValue("AB", "Two"),
+            new CodeValue("ABC", "Three"),
+            new CodeValue("005010X220A1", "Version"),
+            new CodeValue("É", "Accented"));
+    ElementSpec spec =
+        new ElementSpec(
+            ElementPosition.parse("HEADER GS08"), "480", "Version", DataType.ID, 1, 12, codes);
+
+    for (CodeValue value : codes) {
+      assertTrue(spec.permitsCode(value.code()), value.code());
+    }
+    for (String stranger : Arrays.asList("B", "ABD", "ABCD", "005010X220A2", "e", "", "  ", null)) {
+      assertFalse(spec.permitsCode(stranger), String.valueOf(stranger));
+    }
+    assertEquals(codes, spec.codes());
+    assertEquals(codes.hashCode(), spec.codes().hashCode());
+    assertEquals(
+        spec, new ElementSpec(spec.position(), "480", "Version", DataType.ID, 1, 12, spec.codes()));
+    assertThrows(UnsupportedOperationException.class, () -> spec.codes().add(codes.getFirst()));
+  }
+
   @Test
   void codeSetKeepsTheStandardsOrder() {
     List<String> codes = List.copyOf(X834Spec.at("2000 INS03").orElseThrow().codeSet());
@@ -20,6 +20,7 @@ import com.fastChickensHR.edi.x834.util.EdiCodeEnum;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -355,11 +356,48 @@ class X834SpecTest {
     assertEquals(1, medicarePlan.position().component());
   }
 
+  @Test
+  void atSegmentsPrecomputedIndexAnswersWhatAScanOfTheTableWould() {
+    // The index is resolved once at class init; every slot, published or not, must still answer
+    // exactly what filtering the table for that segment and ordinal and checking agreement gives.
+    Set<String> segments = new LinkedHashSet<>();
+    X834Spec.all().forEach(spec -> segments.add(spec.position().segment()));
+    segments.add("AMT");
+
+    for (String segment : segments) {
+      for (int ordinal = -1; ordinal <= 100; ordinal++) {
+        int slot = ordinal;
+        List<ElementSpec> candidates =
+            X834Spec.all().stream()
+                .filter(
+                    spec ->
+                        spec.position().segment().equals(segment)
+                            && spec.position().ordinal() == slot)
+                .toList();
+        Optional<ElementSpec> expected =
+            candidates.isEmpty()
+                    || candidates.stream()
+                        .anyMatch(
+                            spec ->
+                                !spec.elementId().equals(candidates.getFirst().elementId())
+                                    || spec.position().component()
+                                        != candidates.getFirst().position().component()
+                                    || !spec.codes().equals(candidates.getFirst().codes()))
+                ? Optional.empty()
+                : Optional.of(candidates.getFirst());
+
+        assertEquals(expected, X834Spec.atSegment(segment, ordinal), segment + ordinal);
+      }
+    }
+  }
+
   @Test
   void atSegmentIsEmptyForAnythingUnpublished() {
     assertTrue(X834Spec.atSegment("AMT", 1).isEmpty(), "a segment nothing emits");
     assertTrue(X834Spec.atSegment("HD", 2).isEmpty(), "a position Not Used in the 220A1");
     assertTrue(X834Spec.atSegment("INS", 99).isEmpty(), "an ordinal past the segment");
+    assertTrue(X834Spec.atSegment("INS", -1).isEmpty(), "a negative ordinal");
+    assertTrue(X834Spec.atSegment(null, 1).isEmpty(), "no segment at all");
   }
 
   @Test
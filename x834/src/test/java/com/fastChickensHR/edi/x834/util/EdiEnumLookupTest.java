@@ -113,6 +113,28 @@ class EdiEnumLookupTest {
     assertTrue(thrown.getMessage().contains("unreachable"), thrown.getMessage());
   }
 
+  /**
+   * Input not spelled exactly as registered is folded in place; it must resolve exactly as the
+   * normalized string would, and a key that is only a prefix or extension of the input must not.
+   */
+  @Test
+  void foldedInputResolvesAsItsNormalizedFormWould() {
+    EdiEnumLookup<Purpose> lookup =
+        new EdiEnumLookup<>(Purpose.class, "Purpose", Map.of("Statüs Check", Purpose.STATUS));
+
+    assertEquals(Purpose.STATUS_UPDATE, lookup.fromString(" \tstatus-UPDATE\n"));
+    assertEquals(Purpose.STATUS_UPDATE, lookup.fromString("Status_ Update"));
+    assertEquals(Purpose.STATUS_UPDATE, lookup.fromString("su"));
+    assertEquals(Purpose.EMPLOYMENT_STOP, lookup.fromString("EMPLOYMENT-END"));
+    assertEquals(Purpose.STATUS, lookup.fromString(" STATÜS CHECK "));
+    assertEquals(Purpose.STATUS, lookup.fromString("Statüs Check"));
+
+    assertThrows(IllegalArgumentException.class, () -> lookup.fromString("STATUSX"));
+    assertThrows(IllegalArgumentException.class, () -> lookup.fromString("statu"));
+    assertThrows(IllegalArgumentException.class, () -> lookup.fromString("s\ttatus"));
+    assertThrows(IllegalArgumentException.class, () -> lookup.fromString("STATÜS"));
+  }
+
   /** Unknown, null and blank input are rejected rather than silently defaulted. */
   @Test
   void rejectsUnknownInput() {
@@ -7,15 +7,13 @@
  */
 package com.fastChickensHR.edi.x999;
 
-import com.fastChickensHR.edi.core.Direction;
 import com.fastChickensHR.edi.core.Field;
 import com.fastChickensHR.edi.core.FileContent;
 import com.fastChickensHR.edi.core.FileParser;
-import com.fastChickensHR.edi.core.Location;
 import com.fastChickensHR.edi.core.Record;
-import com.fastChickensHR.edi.core.RecordLevel;
-import java.util.ArrayList;
-import java.util.List;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.Reader;
+import java.io.StringReader;
 
 /**
  * The X12 999 / 997 implementation of the {@link FileParser} seam: reads a functional
@@ -36,86 +34,19 @@ public final class X999FileParser implements FileParser {
   /** Creates a parser; the parser is stateless and reusable across files. */
   public X999FileParser() {}
 
-  private static final char DEFAULT_ELEMENT_SEPARATOR = '*';
-  private static final char DEFAULT_SEGMENT_TERMINATOR = '~';
-  private static final int ISA_LENGTH = 106;
-
   @Override
   public FileContent parse(String raw) {
-    if (raw == null || raw.isBlank()) {
-      return new FileContent(Direction.INBOUND, List.of(), List.of());
-    }
-
-    char elementSeparator = DEFAULT_ELEMENT_SEPARATOR;
-    char segmentTerminator = DEFAULT_SEGMENT_TERMINATOR;
-    if (raw.startsWith("ISA") && raw.length() >= ISA_LENGTH) {
-      elementSeparator = raw.charAt(3);
-      segmentTerminator = raw.charAt(ISA_LENGTH - 1);
-    }
-
-    List<Field> fileFields = new ArrayList<>();
-    List<Record> records = new ArrayList<>();
-    String pendingTransactionSetControlNumber = null;
-
-    for (String rawSegment :
-        raw.split(java.util.regex.Pattern.quote(String.valueOf(segmentTerminator)))) {
-      String segment = rawSegment.strip();
-      if (segment.isEmpty()) {
-        continue;
-      }
-      String[] e =
-          segment.split(java.util.regex.Pattern.quote(String.valueOf(elementSeparator)), -1);
-      switch (e[0]) {
-        case "ISA" ->
-            addField(fileFields, RecordLevel.FILE, X999.INTERCHANGE_CONTROL_NUMBER, at(e, 13));
-        case "TA1" -> {
-          addField(
-              fileFields, RecordLevel.FILE, X999.ACKNOWLEDGED_INTERCHANGE_CONTROL_NUMBER, at(e, 1));
-          addField(fileFields, RecordLevel.FILE, X999.INTERCHANGE_ACK_STATUS, at(e, 4));
-        }
-        case "AK1" -> {
-          addField(fileFields, RecordLevel.FILE, X999.FUNCTIONAL_ID_CODE, at(e, 1));
-          addField(fileFields, RecordLevel.FILE, X999.GROUP_CONTROL_NUMBER, at(e, 2));
-        }
-        case "AK2" -> pendingTransactionSetControlNumber = at(e, 2);
-        case "AK5", "IK5" -> {
-          List<Field> fields = new ArrayList<>();
-          addField(
-              fields,
-              RecordLevel.RECORD,
-              X999.TRANSACTION_SET_CONTROL_NUMBER,
-              pendingTransactionSetControlNumber);
-          addField(fields, RecordLevel.RECORD, X999.TRANSACTION_SET_STATUS, at(e, 1));
-          if (!fields.isEmpty()) {
-            records.add(Record.of(fields));
-          }
-          pendingTransactionSetControlNumber = null;
-        }
-        case "AK9" -> addField(fileFields, RecordLevel.FILE, X999.GROUP_STATUS, at(e, 1));
-        default -> {
-          /* other segments (GS/ST/AK3/AK4/IK3/IK4/SE/GE/IEA) carry no field we surface */
-        }
-      }
-    }
-
-    return new FileContent(Direction.INBOUND, fileFields, records);
+    return read(new StringReader(raw == null ? "" : raw)).readAll();
   }
 
   /**
-   * The element at index {@code i}, trimmed; null when absent or blank (absence, not a blank
-   * value).
+   * Streams the acknowledgment a transaction set at a time: segments are scanned from {@code in} as
+   * records are asked for. The envelope and group ({@code AK1}) fields are available up front; the
+   * group status ({@code AK9}), which follows the transaction sets, joins {@link
+   * RecordReader#fileFields()} once the last record has been read.
    */
-  private static String at(String[] elements, int i) {
-    if (i >= elements.length) {
-      return null;
-    }
-    String value = elements[i].strip();
-    return value.isEmpty() ? null : value;
-  }
-
-  private static void addField(List<Field> into, RecordLevel level, String location, String value) {
-    if (value != null) {
-      into.add(new Field(new Location(level, location), value));
-    }
+  @Override
+  public RecordReader read(Reader in) {
+    return new X999RecordReader(in);
   }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright (C) 2025 FastChickensHR <contact@fastchickenshr.com>
+ *
+ * This file is part of the FastChickensHR project.
+ *
+ * For license information see the LICENSE file in the root of this project.
+ */
+package com.fastChickensHR.edi.x999;
+
+import com.fastChickensHR.edi.core.Field;
+import com.fastChickensHR.edi.core.Location;
+import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordLevel;
+import com.fastChickensHR.edi.core.RecordReader;
+import com.fastChickensHR.edi.x12.X12Tokenizer;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * The streaming reader behind {@link X999FileParser}: scans segments from the source one at a time
+ * and yields a {@link Record} per acknowledged transaction set as its {@code AK5}/{@code IK5} is
+ * reached. Segments come from an {@link X12Tokenizer}, which takes the delimiters from the {@code
+ * ISA} before anything else; the reader then reads ahead to the first transaction set, so the
+ * envelope and {@code AK1} fields are in {@link #fileFields()} as soon as it is constructed and
+ * {@code AK9} joins them when it is reached. Only the handful of elements surfaced as fields become
+ * strings; the error-detail segments in between are scanned and dropped in place.
+ */
+final class X999RecordReader implements RecordReader {
+  /** The segment ids the reader acts on; anything else is scanned past without allocating. */
+  private static final String[] SEGMENT_IDS = {"ISA", "TA1", "AK1", "AK2", "AK5", "IK5", "AK9"};
+
+  private final X12Tokenizer tokenizer;
+
+  private final List<Field> fileFields = new ArrayList<>();
+  private String pendingTransactionSetControlNumber;
+  private Record next;
+
+  X999RecordReader(Reader in) {
+    this.tokenizer = X12Tokenizer.of(in);
+    next = advance();
+  }
+
+  @Override
+  public List<Field> fileFields() {
+    return List.copyOf(fileFields);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null) {
+      next = advance();
+    }
+    return next != null;
+  }
+
+  @Override
+  public Record next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    Record record = next;
+    next = null;
+    return record;
+  }
+
+  @Override
+  public void close() throws IOException {
+    tokenizer.close();
+  }
+
+  /** Reads segments until one completes a transaction set's record, or the source runs out. */
+  private Record advance() {
+    while (tokenizer.next()) {
+      // Other segments (GS/ST/AK3/AK4/IK3/IK4/SE/GE/IEA) carry no field we surface.
+      String id = tokenizer.segmentIdAmong(SEGMENT_IDS);
+      switch (id == null ? "" : id) {
+        case "ISA" ->
+            addField(
+                fileFields,
+                RecordLevel.FILE,
+                X999.INTERCHANGE_CONTROL_NUMBER,
+                tokenizer.element(13));
+        case "TA1" -> {
+          addField(
+              fileFields,
+              RecordLevel.FILE,
+              X999.ACKNOWLEDGED_INTERCHANGE_CONTROL_NUMBER,
+              tokenizer.element(1));
+          addField(fileFields, RecordLevel.FILE, X999.INTERCHANGE_ACK_STATUS, tokenizer.element(4));
+        }
+        case "AK1" -> {
+          addField(fileFields, RecordLevel.FILE, X999.FUNCTIONAL_ID_CODE, tokenizer.element(1));
+          addField(fileFields, RecordLevel.FILE, X999.GROUP_CONTROL_NUMBER, tokenizer.element(2));
+        }
+        case "AK2" -> pendingTransactionSetControlNumber = tokenizer.element(2);
+        case "AK5", "IK5" -> {
+          List<Field> fields = new ArrayList<>();
+          addField(
+              fields,
+              RecordLevel.RECORD,
+              X999.TRANSACTION_SET_CONTROL_NUMBER,
+              pendingTransactionSetControlNumber);
+          addField(fields, RecordLevel.RECORD, X999.TRANSACTION_SET_STATUS, tokenizer.element(1));
+          pendingTransactionSetControlNumber = null;
+          if (!fields.isEmpty()) {
+            return Record.of(fields);
+          }
+        }
+        case "AK9" ->
+            addField(fileFields, RecordLevel.FILE, X999.GROUP_STATUS, tokenizer.element(1));
+        default -> {
+          /* not one of SEGMENT_IDS */
+        }
+      }
+    }
+    return null;
+  }
+
+  private static void addField(List<Field> into, RecordLevel level, String location, String value) {
+    if (value != null) {
+      into.add(new Field(Location.of(level, location), value));
+    }
+  }
+}
@@ -8,15 +8,28 @@
 package com.fastChickensHR.edi.x999;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.fastChickensHR.edi.core.Compression;
 import com.fastChickensHR.edi.core.Direction;
 import com.fastChickensHR.edi.core.Field;
 import com.fastChickensHR.edi.core.FileContent;
 import com.fastChickensHR.edi.core.Record;
+import com.fastChickensHR.edi.core.RecordReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.List;
+import java.util.NoSuchElementException;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class X999FileParserTest {
 
@@ -198,6 +211,69 @@ class X999FileParserTest {
     assertEquals("R", rec(out.records().get(0), X999.TRANSACTION_SET_STATUS));
   }
 
+  @Test
+  void streamsTransactionSetsWithTheGroupFieldsUpFrontAndTheVerdictLast() throws IOException {
+    String ack =
+        ISA + "AK1*BE*000000042~" + "AK2*834*0001~IK5*A~" + "AK2*834*0002~IK5*R~" + "AK9*P*2*2*1~";
+
+    try (RecordReader reader = parser.read(new StringReader(ack))) {
+      assertEquals("000000042", valueAt(reader.fileFields(), X999.GROUP_CONTROL_NUMBER));
+      assertNull(valueAt(reader.fileFields(), X999.GROUP_STATUS));
+
+      assertEquals("0001", rec(reader.next(), X999.TRANSACTION_SET_CONTROL_NUMBER));
+      assertEquals("R", rec(reader.next(), X999.TRANSACTION_SET_STATUS));
+      assertFalse(reader.hasNext());
+      assertThrows(NoSuchElementException.class, reader::next);
+
+      assertEquals("P", valueAt(reader.fileFields(), X999.GROUP_STATUS));
+    }
+  }
+
+  @Test
+  void streamsAnAcknowledgmentLargerThanOneReadBuffer() {
+    StringBuilder ack = new StringBuilder(ISA_PIPE_CARET).append("AK1|BE|42^");
+    for (int i = 1; i <= 2000; i++) {
+      ack.append("AK2|834|").append(i).append("^IK5|A^\n");
+    }
+    ack.append("AK9|A|2000|2000|2000^");
+
+    List<Record> records = parser.read(new StringReader(ack.toString())).stream().toList();
+
+    assertEquals(2000, records.size());
+    assertEquals("2000", rec(records.get(1999), X999.TRANSACTION_SET_CONTROL_NUMBER));
+  }
+
+  @Test
+  void readsAGzippedAcknowledgmentFile(@TempDir Path dir) throws IOException {
+    String ack = ISA + "AK1*BE*000000042~AK2*834*0001~IK5*A~AK9*A*1*1*1~";
+    Path file = dir.resolve("ack.999.gz");
+    try (Writer out = Compression.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+      out.write(ack);
+    }
+
+    try (RecordReader reader = parser.read(file)) {
+      assertEquals(parser.parse(ack), reader.readAll());
+    }
+  }
+
+  @Test
+  void aFailedReadSurfacesAsAnUncheckedIoException() {
+    Reader broken =
+        new Reader() {
+          @Override
+          public int read(char[] buffer, int offset, int length) throws IOException {
+            throw new IOException("connection reset");
+          }
+
+          @Override
+          public void close() {}
+        };
+
+    UncheckedIOException thrown =
+        assertThrows(UncheckedIOException.class, () -> parser.read(broken));
+    assertEquals("connection reset", thrown.getCause().getMessage());
+  }
+
   private static String file(FileContent fc, String location) {
     return valueAt(fc.fileFields(), location);
   }